@@ -2,9 +2,10 @@ package com.kirini.controller;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.UUID;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
@@ -13,21 +14,45 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import javax.servlet.http.Part;
 
+import com.kirini.dao.BoardDAO;
+import com.kirini.dao.BoardFileDAO;
+import com.kirini.dao.BoardPageDAO;
+import com.kirini.dao.DictionaryDAO;
 import com.kirini.dto.BoardDTO;
+import com.kirini.dto.BoardFileDTO;
+import com.kirini.dto.BoardPageDTO;
+import com.kirini.dto.BoardSummaryDTO;
 import com.kirini.dto.CommentDTO;
+import com.kirini.dto.CursorPageDTO;
 import com.kirini.dto.UserDTO;
 import com.kirini.service.BoardService;
 import com.kirini.service.CommentService;
+import com.kirini.util.BlobStore;
+import com.kirini.util.BoardSearchIndex;
+import com.kirini.util.EntityType;
 import com.kirini.util.FileUploadUtil;
+import com.kirini.util.GlossaryLinker;
+import com.kirini.util.HandlerMapping;
+import com.kirini.util.HttpMethod;
+import com.kirini.util.LikeStore;
+import com.kirini.util.ListingCountCache;
+import com.kirini.util.RouteMatch;
+import com.kirini.util.ThumbnailGenerator;
+import com.kirini.util.UniqueViewStore;
 
 /**
  * 게시판 관련 요청을 처리하는 컨트롤러
  * 게시글 목록 조회, 작성, 수정, 삭제 등 담당
+ * 처리 메서드는 registerRoutes()에서 URL과 HTTP 메서드별 라우트로 등록한다.
  */
 public class BoardController extends HttpServlet implements Controller {
     private static final long serialVersionUID = 1L;
     private BoardService boardService;
     private CommentService commentService;
+    private BoardDAO boardDAO = new BoardDAO();
+    private BoardFileDAO boardFileDAO = new BoardFileDAO();
+    private BoardPageDAO boardPageDAO = new BoardPageDAO();
+    private DictionaryDAO dictionaryDAO = new DictionaryDAO();
     
     public BoardController() {
         this.boardService = new BoardService();
@@ -45,394 +70,700 @@ public class BoardController extends HttpServlet implements Controller {
         }
     }
     
+    /**
+     * 게시판 라우트 등록 (애플리케이션 시작 시 HandlerMappingListener에서 호출)
+     * 기존 URL(/board/view?id=1)과 경로 변수 URL(/board/1)을 함께 등록한다.
+     * @param handlerMapping 핸들러 매핑 객체
+     */
+    public void registerRoutes(HandlerMapping handlerMapping) {
+        RouteHandler list = this::list;
+        RouteHandler view = this::view;
+        RouteHandler writeForm = this::writeForm;
+        RouteHandler editForm = this::editForm;
+        RouteHandler write = this::write;
+        RouteHandler edit = this::edit;
+        RouteHandler delete = this::delete;
+        RouteHandler writeComment = this::writeComment;
+        RouteHandler deleteComment = this::deleteComment;
+        RouteHandler like = this::like;
+        RouteHandler unlike = this::unlike;
+        
+        handlerMapping.addRoute(HttpMethod.GET, "/board", list);
+        handlerMapping.addRoute(HttpMethod.GET, "/board/view", view);
+        handlerMapping.addRoute(HttpMethod.GET, "/board/{id:int}", view);
+        handlerMapping.addRoute(HttpMethod.GET, "/board/write", writeForm);
+        handlerMapping.addRoute(HttpMethod.GET, "/board/edit", editForm);
+        handlerMapping.addRoute(HttpMethod.GET, "/board/{id:int}/edit", editForm);
+        
+        handlerMapping.addRoute(HttpMethod.POST, "/board/write", write);
+        handlerMapping.addRoute(HttpMethod.POST, "/board/edit", edit);
+        handlerMapping.addRoute(HttpMethod.POST, "/board/{id:int}/edit", edit);
+        handlerMapping.addRoute(HttpMethod.POST, "/board/delete", delete);
+        handlerMapping.addRoute(HttpMethod.POST, "/board/{id:int}/delete", delete);
+        handlerMapping.addRoute(HttpMethod.POST, "/board/comment/write", writeComment);
+        handlerMapping.addRoute(HttpMethod.POST, "/board/comment/delete", deleteComment);
+        handlerMapping.addRoute(HttpMethod.POST, "/board/like", like);
+        handlerMapping.addRoute(HttpMethod.POST, "/board/{id:int}/like", like);
+        handlerMapping.addRoute(HttpMethod.POST, "/board/unlike", unlike);
+        handlerMapping.addRoute(HttpMethod.POST, "/board/{id:int}/unlike", unlike);
+    }
+    
     @Override
     public void doGet(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
+        // 라우트를 거치지 않고 직접 호출된 경우 (기존 URL 형식만 처리)
         String path = request.getPathInfo();
         
         if (path == null || path.equals("/")) {
-            // 게시판 메인 페이지 (게시글 목록)
-            String boardType = request.getParameter("type");
-            if (boardType == null || boardType.isEmpty()) {
-                boardType = "free"; // 기본값은 자유게시판
-            }
-            
-            int page = 1;
-            try {
-                String pageStr = request.getParameter("page");
-                if (pageStr != null && !pageStr.isEmpty()) {
-                    page = Integer.parseInt(pageStr);
-                }
-            } catch (NumberFormatException e) {
-                // 페이지 파라미터가 숫자가 아닌 경우 기본값 유지
-                page = 1;
+            list(request, response);
+        } else if (path.equals("/view")) {
+            view(request, response);
+        } else if (path.equals("/write")) {
+            writeForm(request, response);
+        } else if (path.equals("/edit")) {
+            editForm(request, response);
+        }
+    }
+    
+    @Override
+    public void doPost(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        // 라우트를 거치지 않고 직접 호출된 경우 (기존 URL 형식만 처리)
+        String path = request.getPathInfo();
+        
+        if (path == null) {
+            return;
+        }
+        
+        if (path.equals("/write")) {
+            write(request, response);
+        } else if (path.equals("/edit")) {
+            edit(request, response);
+        } else if (path.equals("/delete")) {
+            delete(request, response);
+        } else if (path.equals("/comment/write")) {
+            writeComment(request, response);
+        } else if (path.equals("/comment/delete")) {
+            deleteComment(request, response);
+        } else if (path.equals("/like")) {
+            like(request, response);
+        } else if (path.equals("/unlike")) {
+            unlike(request, response);
+        }
+    }
+    
+    /**
+     * 게시글 목록 조회 (검색, 커서 페이징 포함)
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void list(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        String boardType = request.getParameter("type");
+        if (boardType == null || boardType.isEmpty()) {
+            boardType = "free"; // 기본값은 자유게시판
+        }
+        
+        int page = 1;
+        try {
+            String pageStr = request.getParameter("page");
+            if (pageStr != null && !pageStr.isEmpty()) {
+                page = Integer.parseInt(pageStr);
             }
-            
-            // 검색 기능
-            String searchType = request.getParameter("searchType");
-            String keyword = request.getParameter("keyword");
-            
-            List<BoardDTO> boardList = null;
-            int totalCount = 0;
-            
+        } catch (NumberFormatException e) {
+            // 페이지 파라미터가 숫자가 아닌 경우 기본값 유지
+            page = 1;
+        }
+        
+        // 검색 기능
+        String searchType = request.getParameter("searchType");
+        String keyword = request.getParameter("keyword");
+        
+        // 커서 페이징 ("더 보기" 방식): OFFSET 없이 다음 페이지 조회
+        String cursor = request.getParameter("cursor");
+        if (cursor != null) {
+            CursorPageDTO<BoardSummaryDTO> cursorPage;
             if (searchType != null && keyword != null && !keyword.isEmpty()) {
-                // 검색 조건이 있는 경우
-                boardList = boardService.searchBoards(boardType, searchType, keyword, page);
-                totalCount = boardService.getTotalSearchCount(boardType, searchType, keyword);
+                cursorPage = boardDAO.searchBoardsAfter(boardType, searchType, keyword, cursor);
             } else {
-                // 검색 조건이 없는 경우
-                boardList = boardService.getBoardsByType(boardType, page);
-                totalCount = boardService.getTotalCount(boardType);
+                cursorPage = boardDAO.getBoardsByTypeAfter(boardType, cursor);
             }
             
-            int totalPages = (int) Math.ceil(totalCount / 10.0); // 페이지당 10개 게시글
-            
-            request.setAttribute("boardList", boardList);
-            request.setAttribute("currentPage", page);
-            request.setAttribute("totalPages", totalPages);
+            request.setAttribute("boardList", cursorPage.getItems());
+            setLikedIds(request, cursorPage.getItems());
+            request.setAttribute("nextCursor", cursorPage.getNextCursor());
             request.setAttribute("boardType", boardType);
             request.setAttribute("searchType", searchType);
             request.setAttribute("keyword", keyword);
             
             request.getRequestDispatcher("/pages/board.jsp").forward(request, response);
-        } else if (path.equals("/view")) {
-            // 게시글 상세 조회
-            int boardId = Integer.parseInt(request.getParameter("id"));
-            
-            // 조회수 증가
-            boardService.increaseViewCount(boardId);
-            
-            // 게시글 정보 가져오기
-            BoardDTO board = boardService.getBoardById(boardId);
-            
-            // 댓글 목록 가져오기
-            List<CommentDTO> commentList = commentService.getCommentsByBoardId(boardId);
-            
-            request.setAttribute("board", board);
-            request.setAttribute("commentList", commentList);
-            request.getRequestDispatcher("/pages/board_view.jsp").forward(request, response);
-        } else if (path.equals("/write")) {
-            // 게시글 작성 페이지
-            // 로그인 체크
-            HttpSession session = request.getSession();
-            UserDTO user = (UserDTO) session.getAttribute("user");
-            
-            if (user == null) {
-                response.sendRedirect(request.getContextPath() + "/user/login");
-                return;
-            }
-            
-            String boardType = request.getParameter("type");
-            if (boardType == null || boardType.isEmpty()) {
-                boardType = "free"; // 기본값은 자유게시판
-            }
-            
+            return;
+        }
+        
+        List<BoardSummaryDTO> boardList = null;
+        int totalCount = 0;
+        boolean totalCountCapped = false;
+        
+        if (searchType != null && keyword != null && !keyword.isEmpty() && BoardSearchIndex.getInstance().isReady()) {
+            // 검색 조건이 있는 경우 - 메모리 색인으로 ID 목록과 전체 건수를 한 번에 조회
+            BoardSearchIndex.SearchResult result = BoardSearchIndex.getInstance().search(boardType, searchType, keyword, page, 10);
+            boardList = boardDAO.getBoardsByIds(result.getBoardIds());
+            totalCount = result.getTotalCount();
+        } else if (searchType != null && keyword != null && !keyword.isEmpty()) {
+            // 검색 조건이 있는 경우 (색인 준비 전)
+            boardList = boardService.searchBoards(boardType, searchType, keyword, page);
+            totalCount = boardService.getTotalSearchCount(boardType, searchType, keyword);
+            totalCountCapped = ListingCountCache.isCapped(totalCount);
+        } else {
+            // 검색 조건이 없는 경우
+            boardList = boardService.getBoardsByType(boardType, page);
+            totalCount = boardService.getTotalCount(boardType);
+        }
+        
+        int totalPages = (int) Math.ceil(totalCount / 10.0); // 페이지당 10개 게시글
+        
+        request.setAttribute("boardList", boardList);
+        setLikedIds(request, boardList);
+        request.setAttribute("currentPage", page);
+        request.setAttribute("totalPages", totalPages);
+        request.setAttribute("totalCountCapped", totalCountCapped); // true면 "1000+"로 표시
+        request.setAttribute("boardType", boardType);
+        request.setAttribute("searchType", searchType);
+        request.setAttribute("keyword", keyword);
+        
+        request.getRequestDispatcher("/pages/board.jsp").forward(request, response);
+    }
+    
+    /**
+     * 게시글 상세 조회
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void view(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        int boardId = getBoardId(request, "id");
+        
+        // 조회수 증가
+        boardService.increaseViewCount(boardId);
+        
+        // 게시글, 댓글 목록, 첨부 파일 목록을 한 번에 가져오기
+        BoardPageDTO boardPage = boardPageDAO.getBoardPage(boardId);
+        BoardDTO board = boardPage.getBoard();
+        
+        // 본문의 용어사전 용어에 링크 추가 (수정되지 않은 글은 캐싱된 위치 사용)
+        if (board != null) {
+            // 순 방문자 수 (같은 방문자의 재조회는 한 번만 셈, 존재하는 게시글만 기록)
+            request.setAttribute("uniqueViewCount", UniqueViewStore.getInstance().recordView(EntityType.BOARD, boardId,
+                    UniqueViewStore.visitorKey(request)));
+            
+            request.setAttribute("linkedContent", GlossaryLinker.getInstance().link(dictionaryDAO.getSnapshot(),
+                    GlossaryLinker.Source.BOARD, board.getBoardId(), board.getModifiedDate(), board.getContent(),
+                    request.getContextPath()));
+        }
+        
+        request.setAttribute("board", board);
+        request.setAttribute("commentList", boardPage.getCommentList());
+        request.setAttribute("fileList", boardPage.getFileList());
+        request.getRequestDispatcher("/pages/board_view.jsp").forward(request, response);
+    }
+    
+    /**
+     * 게시글 작성 페이지
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void writeForm(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        // 로그인 체크
+        HttpSession session = request.getSession();
+        UserDTO user = (UserDTO) session.getAttribute("user");
+        
+        if (user == null) {
+            response.sendRedirect(request.getContextPath() + "/user/login");
+            return;
+        }
+        
+        String boardType = request.getParameter("type");
+        if (boardType == null || boardType.isEmpty()) {
+            boardType = "free"; // 기본값은 자유게시판
+        }
+        
+        request.setAttribute("boardType", boardType);
+        request.getRequestDispatcher("/pages/board_write.jsp").forward(request, response);
+    }
+    
+    /**
+     * 게시글 수정 페이지
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void editForm(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        int boardId = getBoardId(request, "id");
+        
+        // 로그인 체크
+        HttpSession session = request.getSession();
+        UserDTO user = (UserDTO) session.getAttribute("user");
+        
+        if (user == null) {
+            response.sendRedirect(request.getContextPath() + "/user/login");
+            return;
+        }
+        
+        // 게시글 정보 가져오기
+        BoardDTO board = boardService.getBoardById(boardId);
+        
+        // 작성자 체크
+        if (board.getUserId() != user.getUserId() && !"ADMIN".equals(user.getRole())) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "수정 권한이 없습니다.");
+            return;
+        }
+        
+        request.setAttribute("board", board);
+        request.getRequestDispatcher("/pages/board_edit.jsp").forward(request, response);
+    }
+    
+    /**
+     * 게시글 작성 처리
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void write(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        request.setCharacterEncoding("UTF-8"); // 한글 처리
+        
+        // 로그인 체크
+        HttpSession session = request.getSession();
+        UserDTO user = (UserDTO) session.getAttribute("user");
+        
+        if (user == null) {
+            response.sendRedirect(request.getContextPath() + "/user/login");
+            return;
+        }
+        
+        String boardType = request.getParameter("boardType");
+        String title = request.getParameter("title");
+        String content = request.getParameter("content");
+        
+        if (title == null || title.trim().isEmpty() || content == null || content.trim().isEmpty()) {
+            request.setAttribute("error", "제목과 내용을 모두 입력해주세요.");
             request.setAttribute("boardType", boardType);
             request.getRequestDispatcher("/pages/board_write.jsp").forward(request, response);
-        } else if (path.equals("/edit")) {
-            // 게시글 수정 페이지
-            int boardId = Integer.parseInt(request.getParameter("id"));
-            
-            // 로그인 체크
-            HttpSession session = request.getSession();
-            UserDTO user = (UserDTO) session.getAttribute("user");
-            
-            if (user == null) {
-                response.sendRedirect(request.getContextPath() + "/user/login");
-                return;
+            return;
+        }
+        
+        // 파일 업로드 처리 (같은 내용의 파일은 저장소에 한 번만 저장)
+        String fileName = null;
+        String filePath = null;
+        BlobStore.Blob blob = null;
+        
+        Part filePart = request.getPart("file");
+        if (filePart != null && filePart.getSize() > 0) {
+            fileName = FileUploadUtil.getFileName(filePart);
+            blob = BlobStore.getInstance().store(filePart);
+            filePath = blob.getSavedFilePath();
+        }
+        
+        // 게시글 DTO 생성
+        BoardDTO board = new BoardDTO();
+        board.setTitle(title);
+        board.setContent(content);
+        board.setUserId(user.getUserId());
+        board.setUserNickname(user.getNickname());
+        board.setBoardType(boardType);
+        board.setCreatedDate(new Date());
+        board.setFileName(fileName);
+        board.setFilePath(filePath);
+        
+        // 게시글 저장
+        int boardId = boardService.insertBoard(board);
+        
+        // 저장 성공 시 첨부 파일 참조 등록 후 상세 페이지로 이동
+        if (boardId > 0) {
+            if (blob != null) {
+                insertBoardFile(boardId, fileName, filePart, blob);
             }
-            
-            // 게시글 정보 가져오기
-            BoardDTO board = boardService.getBoardById(boardId);
-            
-            // 작성자 체크
-            if (board.getUserId() != user.getUserId() && !"ADMIN".equals(user.getRole())) {
-                response.sendError(HttpServletResponse.SC_FORBIDDEN, "수정 권한이 없습니다.");
-                return;
+            response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId);
+        } else {
+            request.setAttribute("error", "게시글 저장 중 오류가 발생했습니다.");
+            request.setAttribute("boardType", boardType);
+            request.getRequestDispatcher("/pages/board_write.jsp").forward(request, response);
+        }
+    }
+    
+    /**
+     * 게시글 수정 처리
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void edit(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        request.setCharacterEncoding("UTF-8"); // 한글 처리
+        
+        int boardId = getBoardId(request, "boardId");
+        
+        // 로그인 체크
+        HttpSession session = request.getSession();
+        UserDTO user = (UserDTO) session.getAttribute("user");
+        
+        if (user == null) {
+            response.sendRedirect(request.getContextPath() + "/user/login");
+            return;
+        }
+        
+        // 게시글 정보 가져오기
+        BoardDTO board = boardService.getBoardById(boardId);
+        
+        // 작성자 체크
+        if (board.getUserId() != user.getUserId() && !"ADMIN".equals(user.getRole())) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "수정 권한이 없습니다.");
+            return;
+        }
+        
+        String title = request.getParameter("title");
+        String content = request.getParameter("content");
+        
+        if (title == null || title.trim().isEmpty() || content == null || content.trim().isEmpty()) {
+            request.setAttribute("error", "제목과 내용을 모두 입력해주세요.");
+            request.setAttribute("board", board);
+            request.getRequestDispatcher("/pages/board_edit.jsp").forward(request, response);
+            return;
+        }
+        
+        // 파일 업로드 처리
+        String oldFilePath = board.getFilePath();
+        String fileName = board.getFileName();
+        String filePath = oldFilePath;
+        BlobStore.Blob blob = null;
+        
+        Part filePart = request.getPart("file");
+        if (filePart != null && filePart.getSize() > 0) {
+            fileName = FileUploadUtil.getFileName(filePart);
+            blob = BlobStore.getInstance().store(filePart);
+            filePath = blob.getSavedFilePath();
+        }
+        
+        // 게시글 수정
+        board.setTitle(title);
+        board.setContent(content);
+        board.setModifiedDate(new Date());
+        board.setFileName(fileName);
+        board.setFilePath(filePath);
+        
+        boolean success = boardService.updateBoard(board);
+        
+        // 수정 성공 시 기존 첨부 파일 참조를 새 파일로 교체 후 상세 페이지로 이동
+        if (success) {
+            if (blob != null) {
+                boardFileDAO.deleteAllBoardFiles(boardId);
+                deleteLegacyFile(oldFilePath);
+                insertBoardFile(boardId, fileName, filePart, blob);
             }
-            
+            response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId);
+        } else {
+            request.setAttribute("error", "게시글 수정 중 오류가 발생했습니다.");
             request.setAttribute("board", board);
             request.getRequestDispatcher("/pages/board_edit.jsp").forward(request, response);
         }
     }
     
-    @Override
-    public void doPost(HttpServletRequest request, HttpServletResponse response) 
+    /**
+     * 게시글 삭제 처리
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void delete(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
         request.setCharacterEncoding("UTF-8"); // 한글 처리
-        String path = request.getPathInfo();
         
-        if (path.equals("/write")) {
-            // 게시글 작성 처리
-            // 로그인 체크
-            HttpSession session = request.getSession();
-            UserDTO user = (UserDTO) session.getAttribute("user");
-            
-            if (user == null) {
-                response.sendRedirect(request.getContextPath() + "/user/login");
-                return;
-            }
-            
-            String boardType = request.getParameter("boardType");
-            String title = request.getParameter("title");
-            String content = request.getParameter("content");
-            
-            if (title == null || title.trim().isEmpty() || content == null || content.trim().isEmpty()) {
-                request.setAttribute("error", "제목과 내용을 모두 입력해주세요.");
-                request.setAttribute("boardType", boardType);
-                request.getRequestDispatcher("/pages/board_write.jsp").forward(request, response);
-                return;
-            }
-            
-            // 파일 업로드 처리
-            String fileName = null;
-            String filePath = null;
-            
-            Part filePart = request.getPart("file");
-            if (filePart != null && filePart.getSize() > 0) {
-                String uploadDir = getServletContext().getRealPath("/uploads");
-                
-                // 디렉토리가 없으면 생성
-                File uploadDirFile = new File(uploadDir);
-                if (!uploadDirFile.exists()) {
-                    uploadDirFile.mkdirs();
-                }
-                
-                // 파일명 중복 방지를 위한 UUID 사용
-                String originalFileName = FileUploadUtil.getFileName(filePart);
-                fileName = originalFileName;
-                String uuid = UUID.randomUUID().toString();
-                filePath = "uploads/" + uuid + "_" + fileName;
-                
-                // 파일 저장
-                filePart.write(uploadDir + File.separator + uuid + "_" + fileName);
-            }
-            
-            // 게시글 DTO 생성
-            BoardDTO board = new BoardDTO();
-            board.setTitle(title);
-            board.setContent(content);
-            board.setUserId(user.getUserId());
-            board.setUserNickname(user.getNickname());
-            board.setBoardType(boardType);
-            board.setCreatedDate(new Date());
-            board.setFileName(fileName);
-            board.setFilePath(filePath);
-            
-            // 게시글 저장
-            int boardId = boardService.insertBoard(board);
-            
-            // 저장 성공 시 상세 페이지로 이동
-            if (boardId > 0) {
-                response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId);
-            } else {
-                request.setAttribute("error", "게시글 저장 중 오류가 발생했습니다.");
-                request.setAttribute("boardType", boardType);
-                request.getRequestDispatcher("/pages/board_write.jsp").forward(request, response);
-            }
-        } else if (path.equals("/edit")) {
-            // 게시글 수정 처리
-            int boardId = Integer.parseInt(request.getParameter("boardId"));
-            
-            // 로그인 체크
-            HttpSession session = request.getSession();
-            UserDTO user = (UserDTO) session.getAttribute("user");
-            
-            if (user == null) {
-                response.sendRedirect(request.getContextPath() + "/user/login");
-                return;
-            }
-            
-            // 게시글 정보 가져오기
-            BoardDTO board = boardService.getBoardById(boardId);
-            
-            // 작성자 체크
-            if (board.getUserId() != user.getUserId() && !"ADMIN".equals(user.getRole())) {
-                response.sendError(HttpServletResponse.SC_FORBIDDEN, "수정 권한이 없습니다.");
-                return;
-            }
-            
-            String title = request.getParameter("title");
-            String content = request.getParameter("content");
-            
-            if (title == null || title.trim().isEmpty() || content == null || content.trim().isEmpty()) {
-                request.setAttribute("error", "제목과 내용을 모두 입력해주세요.");
-                request.setAttribute("board", board);
-                request.getRequestDispatcher("/pages/board_edit.jsp").forward(request, response);
-                return;
-            }
-            
-            // 파일 업로드 처리
-            String fileName = board.getFileName();
-            String filePath = board.getFilePath();
-            
-            Part filePart = request.getPart("file");
-            if (filePart != null && filePart.getSize() > 0) {
-                // 기존 파일이 있으면 삭제
-                if (filePath != null) {
-                    File oldFile = new File(getServletContext().getRealPath("/" + filePath));
-                    if (oldFile.exists()) {
-                        oldFile.delete();
-                    }
-                }
-                
-                String uploadDir = getServletContext().getRealPath("/uploads");
-                
-                // 디렉토리가 없으면 생성
-                File uploadDirFile = new File(uploadDir);
-                if (!uploadDirFile.exists()) {
-                    uploadDirFile.mkdirs();
-                }
-                
-                // 파일명 중복 방지를 위한 UUID 사용
-                String originalFileName = FileUploadUtil.getFileName(filePart);
-                fileName = originalFileName;
-                String uuid = UUID.randomUUID().toString();
-                filePath = "uploads/" + uuid + "_" + fileName;
-                
-                // 파일 저장
-                filePart.write(uploadDir + File.separator + uuid + "_" + fileName);
-            }
-            
-            // 게시글 수정
-            board.setTitle(title);
-            board.setContent(content);
-            board.setModifiedDate(new Date());
-            board.setFileName(fileName);
-            board.setFilePath(filePath);
-            
-            boolean success = boardService.updateBoard(board);
-            
-            // 수정 성공 시 상세 페이지로 이동
-            if (success) {
-                response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId);
-            } else {
-                request.setAttribute("error", "게시글 수정 중 오류가 발생했습니다.");
-                request.setAttribute("board", board);
-                request.getRequestDispatcher("/pages/board_edit.jsp").forward(request, response);
-            }
-        } else if (path.equals("/delete")) {
-            // 게시글 삭제 처리
-            int boardId = Integer.parseInt(request.getParameter("id"));
-            
-            // 로그인 체크
-            HttpSession session = request.getSession();
-            UserDTO user = (UserDTO) session.getAttribute("user");
-            
-            if (user == null) {
-                response.sendRedirect(request.getContextPath() + "/user/login");
-                return;
-            }
-            
-            // 게시글 정보 가져오기
-            BoardDTO board = boardService.getBoardById(boardId);
-            
-            // 작성자 체크
-            if (board.getUserId() != user.getUserId() && !"ADMIN".equals(user.getRole())) {
-                response.sendError(HttpServletResponse.SC_FORBIDDEN, "삭제 권한이 없습니다.");
-                return;
-            }
-            
-            // 첨부 파일 삭제
-            if (board.getFilePath() != null) {
-                File file = new File(getServletContext().getRealPath("/" + board.getFilePath()));
-                if (file.exists()) {
-                    file.delete();
-                }
-            }
-            
-            // 게시글 삭제
-            boolean success = boardService.deleteBoard(boardId);
-            
-            // 삭제 후 목록으로 이동
-            if (success) {
-                response.sendRedirect(request.getContextPath() + "/board?type=" + board.getBoardType());
-            } else {
-                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "게시글 삭제 중 오류가 발생했습니다.");
-            }
-        } else if (path.equals("/comment/write")) {
-            // 댓글 작성 처리
-            int boardId = Integer.parseInt(request.getParameter("boardId"));
-            String content = request.getParameter("content");
-            int parentCommentId = 0;
-            
-            try {
-                String parentIdStr = request.getParameter("parentCommentId");
-                if (parentIdStr != null && !parentIdStr.isEmpty()) {
-                    parentCommentId = Integer.parseInt(parentIdStr);
-                }
-            } catch (NumberFormatException e) {
-                parentCommentId = 0;
-            }
-            
-            // 로그인 체크
-            HttpSession session = request.getSession();
-            UserDTO user = (UserDTO) session.getAttribute("user");
-            
-            if (user == null) {
-                response.sendRedirect(request.getContextPath() + "/user/login");
-                return;
-            }
-            
-            if (content == null || content.trim().isEmpty()) {
-                response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId + "&error=empty_comment");
-                return;
-            }
-            
-            // 댓글 DTO 생성
-            CommentDTO comment = new CommentDTO();
-            comment.setBoardId(boardId);
-            comment.setUserId(user.getUserId());
-            comment.setUserNickname(user.getNickname());
-            comment.setContent(content);
-            comment.setCreatedDate(new Date());
-            comment.setParentCommentId(parentCommentId);
-            
-            // 댓글 저장
-            boolean success = commentService.insertComment(comment);
-            
-            // 저장 후 게시글 상세 페이지로 이동
-            if (success) {
-                // 게시글 댓글 수 증가
-                boardService.increaseCommentCount(boardId);
-                response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId);
-            } else {
-                response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId + "&error=comment_fail");
-            }
-        } else if (path.equals("/comment/delete")) {
-            // 댓글 삭제 처리
-            int commentId = Integer.parseInt(request.getParameter("commentId"));
-            int boardId = Integer.parseInt(request.getParameter("boardId"));
-            
-            // 로그인 체크
-            HttpSession session = request.getSession();
-            UserDTO user = (UserDTO) session.getAttribute("user");
-            
-            if (user == null) {
-                response.sendRedirect(request.getContextPath() + "/user/login");
-                return;
-            }
-            
-            // 댓글 정보 가져오기
-            CommentDTO comment = commentService.getCommentById(commentId);
-            
-            // 작성자 체크
-            if (comment.getUserId() != user.getUserId() && !"ADMIN".equals(user.getRole())) {
-                response.sendError(HttpServletResponse.SC_FORBIDDEN, "삭제 권한이 없습니다.");
-                return;
+        int boardId = getBoardId(request, "id");
+        
+        // 로그인 체크
+        HttpSession session = request.getSession();
+        UserDTO user = (UserDTO) session.getAttribute("user");
+        
+        if (user == null) {
+            response.sendRedirect(request.getContextPath() + "/user/login");
+            return;
+        }
+        
+        // 게시글 정보 가져오기
+        BoardDTO board = boardService.getBoardById(boardId);
+        
+        // 작성자 체크
+        if (board.getUserId() != user.getUserId() && !"ADMIN".equals(user.getRole())) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "삭제 권한이 없습니다.");
+            return;
+        }
+        
+        // 게시글 삭제
+        boolean success = boardService.deleteBoard(boardId);
+        
+        // 삭제 후 첨부 파일 참조 해제 및 목록으로 이동
+        if (success) {
+            boardFileDAO.deleteAllBoardFiles(boardId);
+            deleteLegacyFile(board.getFilePath());
+            response.sendRedirect(request.getContextPath() + "/board?type=" + board.getBoardType());
+        } else {
+            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "게시글 삭제 중 오류가 발생했습니다.");
+        }
+    }
+    
+    /**
+     * 댓글 작성 처리
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void writeComment(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        request.setCharacterEncoding("UTF-8"); // 한글 처리
+        
+        int boardId = Integer.parseInt(request.getParameter("boardId"));
+        String content = request.getParameter("content");
+        int parentCommentId = 0;
+        
+        try {
+            String parentIdStr = request.getParameter("parentCommentId");
+            if (parentIdStr != null && !parentIdStr.isEmpty()) {
+                parentCommentId = Integer.parseInt(parentIdStr);
             }
-            
-            // 댓글 삭제
-            boolean success = commentService.deleteComment(commentId);
-            
-            // 삭제 후 게시글 상세 페이지로 이동
-            if (success) {
-                // 게시글 댓글 수 감소
-                boardService.decreaseCommentCount(boardId);
-                response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId);
-            } else {
-                response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId + "&error=delete_fail");
+        } catch (NumberFormatException e) {
+            parentCommentId = 0;
+        }
+        
+        // 로그인 체크
+        HttpSession session = request.getSession();
+        UserDTO user = (UserDTO) session.getAttribute("user");
+        
+        if (user == null) {
+            response.sendRedirect(request.getContextPath() + "/user/login");
+            return;
+        }
+        
+        if (content == null || content.trim().isEmpty()) {
+            response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId + "&error=empty_comment");
+            return;
+        }
+        
+        // 댓글 DTO 생성
+        CommentDTO comment = new CommentDTO();
+        comment.setBoardId(boardId);
+        comment.setUserId(user.getUserId());
+        comment.setUserNickname(user.getNickname());
+        comment.setContent(content);
+        comment.setCreatedDate(new Date());
+        comment.setParentCommentId(parentCommentId);
+        
+        // 댓글 저장
+        boolean success = commentService.insertComment(comment);
+        
+        // 저장 후 게시글 상세 페이지로 이동
+        if (success) {
+            // 게시글 댓글 수 증가
+            boardService.increaseCommentCount(boardId);
+            response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId);
+        } else {
+            response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId + "&error=comment_fail");
+        }
+    }
+    
+    /**
+     * 댓글 삭제 처리
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void deleteComment(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        request.setCharacterEncoding("UTF-8"); // 한글 처리
+        
+        int commentId = Integer.parseInt(request.getParameter("commentId"));
+        int boardId = Integer.parseInt(request.getParameter("boardId"));
+        
+        // 로그인 체크
+        HttpSession session = request.getSession();
+        UserDTO user = (UserDTO) session.getAttribute("user");
+        
+        if (user == null) {
+            response.sendRedirect(request.getContextPath() + "/user/login");
+            return;
+        }
+        
+        // 댓글 정보 가져오기
+        CommentDTO comment = commentService.getCommentById(commentId);
+        
+        // 작성자 체크
+        if (comment.getUserId() != user.getUserId() && !"ADMIN".equals(user.getRole())) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "삭제 권한이 없습니다.");
+            return;
+        }
+        
+        // 댓글 삭제
+        boolean success = commentService.deleteComment(commentId);
+        
+        // 삭제 후 게시글 상세 페이지로 이동
+        if (success) {
+            // 게시글 댓글 수 감소
+            boardService.decreaseCommentCount(boardId);
+            response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId);
+        } else {
+            response.sendRedirect(request.getContextPath() + "/board/view?id=" + boardId + "&error=delete_fail");
+        }
+    }
+    
+    /**
+     * 첨부 파일 참조 등록 (board_files에 행을 추가해야 저장소 파일이 참조 중인 것으로 집계됨)
+     * @param boardId 게시글 번호
+     * @param fileName 원본 파일명
+     * @param filePart 업로드된 파일의 Part 객체
+     * @param blob 저장소에 저장된 파일
+     */
+    private void insertBoardFile(int boardId, String fileName, Part filePart, BlobStore.Blob blob) {
+        BoardFileDTO boardFile = new BoardFileDTO();
+        boardFile.setBoardId(boardId);
+        boardFile.setOriginalFileName(fileName);
+        boardFile.setSavedFilePath(blob.getSavedFilePath());
+        boardFile.setFileSize(blob.getSize());
+        boardFile.setFileType(filePart.getContentType());
+        boardFile.setUploadDate(new Date());
+        boardFile.setContentHash(blob.getHash());
+        
+        if (boardFileDAO.insertBoardFile(boardFile) > 0) {
+            // 이미지 파일은 썸네일 생성 작업 등록 (완료 시 썸네일 경로 기록)
+            String savedFilePath = blob.getSavedFilePath();
+            ThumbnailGenerator.getInstance().submit(savedFilePath, fileName,
+                    thumbnailPath -> boardFileDAO.updateThumbnailPath(savedFilePath, thumbnailPath));
+        }
+    }
+    
+    /**
+     * 이전 방식(uploads/UUID_파일명)으로 저장된 첨부 파일 삭제
+     * 저장소 파일은 board_files 참조 해제 시 정리되므로 여기서 지우지 않는다.
+     * @param filePath 게시글에 저장된 파일 경로
+     */
+    private void deleteLegacyFile(String filePath) {
+        if (filePath == null || BlobStore.isBlobPath(filePath)) {
+            return;
+        }
+        File file = new File(getServletContext().getRealPath("/" + filePath));
+        if (file.exists()) {
+            file.delete();
+        }
+    }
+    
+    /**
+     * 게시글 좋아요 처리 (이미 누른 경우 그대로 유지)
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void like(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        writeLike(request, response, true);
+    }
+    
+    /**
+     * 게시글 좋아요 취소 처리 (누르지 않은 경우 그대로 유지)
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void unlike(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        writeLike(request, response, false);
+    }
+    
+    /**
+     * 좋아요/취소 후 현재 상태를 JSON으로 응답 ({"liked": true, "likeCount": 3})
+     * 같은 요청이 두 번 와도 결과가 같도록 토글이 아닌 지정한 상태로 맞춘다.
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param liked 좋아요 여부
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void writeLike(HttpServletRequest request, HttpServletResponse response, boolean liked) 
+            throws IOException {
+        int boardId = getBoardId(request, "id");
+        
+        // 로그인 체크
+        HttpSession session = request.getSession();
+        UserDTO user = (UserDTO) session.getAttribute("user");
+        
+        if (user == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그인이 필요합니다.");
+            return;
+        }
+        
+        if (liked) {
+            boardDAO.likeBoard(boardId, user.getUserId());
+        } else {
+            boardDAO.unlikeBoard(boardId, user.getUserId());
+        }
+        
+        BoardDTO board = boardDAO.getBoardById(boardId);
+        if (board == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "게시글을 찾을 수 없습니다.");
+            return;
+        }
+        
+        response.setContentType("application/json;charset=UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+        response.getWriter().write("{\"liked\": " + LikeStore.getInstance().hasLiked(EntityType.BOARD, boardId, user.getUserId())
+                + ", \"likeCount\": " + board.getLikeCount() + "}");
+    }
+    
+    /**
+     * 로그인한 사용자가 좋아요를 누른 게시글 ID 목록을 요청 속성으로 설정 ("likedIds")
+     * @param request HTTP 요청
+     * @param boardList 게시글 목록
+     */
+    private void setLikedIds(HttpServletRequest request, List<BoardSummaryDTO> boardList) {
+        UserDTO user = (UserDTO) request.getSession().getAttribute("user");
+        if (user == null || boardList == null) {
+            request.setAttribute("likedIds", Collections.emptySet());
+            return;
+        }
+        
+        List<Integer> boardIds = new ArrayList<>();
+        for (BoardSummaryDTO board : boardList) {
+            boardIds.add(board.getBoardId());
+        }
+        request.setAttribute("likedIds", LikeStore.getInstance().getLikedIds(EntityType.BOARD, user.getUserId(), boardIds));
+    }
+    
+    /**
+     * 게시글 번호 조회 (경로 변수 {id}가 있으면 우선 사용하고, 없으면 요청 파라미터 사용)
+     * @param request HTTP 요청 객체
+     * @param paramName 게시글 번호를 담은 요청 파라미터명
+     * @return 게시글 번호
+     */
+    private int getBoardId(HttpServletRequest request, String paramName) {
+        RouteMatch<?> match = RouteMatch.of(request);
+        if (match != null) {
+            int boardId = match.getIntParameter("id", -1);
+            if (boardId >= 0) {
+                return boardId;
             }
         }
+        return Integer.parseInt(request.getParameter(paramName));
     }
 }
\ No newline at end of file
@@ -0,0 +1,415 @@
+package com.kirini.controller;
+
+import java.io.IOException;
+import java.net.URLConnection;
+import java.util.Date;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.kirini.dao.BoardDAO;
+import com.kirini.dao.BoardFileDAO;
+import com.kirini.dto.BoardDTO;
+import com.kirini.dto.BoardFileDTO;
+import com.kirini.dto.UserDTO;
+import com.kirini.util.BlobStore;
+import com.kirini.util.ChunkedUploadManager;
+import com.kirini.util.ChunkedUploadManager.ChunkStatus;
+import com.kirini.util.ChunkedUploadManager.ChunkedUpload;
+import com.kirini.util.ConnectionContext;
+import com.kirini.util.FileConfigurationProperties;
+import com.kirini.util.HandlerMapping;
+import com.kirini.util.HttpMethod;
+import com.kirini.util.JsonUtil;
+import com.kirini.util.RouteMatch;
+import com.kirini.util.ThumbnailGenerator;
+
+/**
+ * 대용량 첨부 파일의 분할(이어받기) 업로드를 처리하는 서블릿
+ * 멀티파트 요청 대신 조각 단위로 받으므로 컨테이너 임시 디렉토리를 거치지 않고, 연결이 끊겨도 이어서 보낼 수 있다.
+ *
+ * - POST   /upload/chunked (boardId, fileName, fileSize)  세션 생성
+ * - GET    /upload/chunked/{uploadId}                     진행 상태 (이어받기 위치)
+ * - PUT    /upload/chunked/{uploadId}/{index}             조각 전송 (X-Chunk-SHA256 헤더 필수)
+ * - POST   /upload/chunked/{uploadId}/complete            완료 (첨부 파일 등록)
+ * - DELETE /upload/chunked/{uploadId}                     취소
+ *
+ * 세션은 게시글 작성자(또는 관리자)만 만들 수 있고, 이후 요청은 세션을 만든 사용자만 할 수 있다.
+ */
+@WebServlet("/upload/chunked/*")
+public class ChunkedUploadServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    
+    // 조각 내용의 SHA-256 체크섬 (16진수)
+    private static final String CHECKSUM_HEADER = "X-Chunk-SHA256";
+    
+    // 요청이 너무 많음 (HttpServletResponse에 상수 없음)
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    
+    private BoardDAO boardDAO = new BoardDAO();
+    private BoardFileDAO boardFileDAO = new BoardFileDAO();
+    
+    private ChunkedUploadManager uploadManager = ChunkedUploadManager.getInstance();
+    
+    /**
+     * 분할 업로드 라우트 등록 (애플리케이션 시작 시 HandlerMappingListener에서 호출)
+     * @param handlerMapping 핸들러 매핑 객체
+     */
+    public void registerRoutes(HandlerMapping handlerMapping) {
+        RouteHandler create = this::create;
+        RouteHandler status = this::status;
+        RouteHandler putChunk = this::putChunk;
+        RouteHandler complete = this::complete;
+        RouteHandler abort = this::abort;
+        
+        handlerMapping.addRoute(HttpMethod.POST, "/upload/chunked", create);
+        handlerMapping.addRoute(HttpMethod.GET, "/upload/chunked/{uploadId}", status);
+        handlerMapping.addRoute(HttpMethod.PUT, "/upload/chunked/{uploadId}/{index:int}", putChunk);
+        handlerMapping.addRoute(HttpMethod.POST, "/upload/chunked/{uploadId}/complete", complete);
+        handlerMapping.addRoute(HttpMethod.DELETE, "/upload/chunked/{uploadId}", abort);
+    }
+    
+    /**
+     * 요청 단위 커넥션 범위 안에서 요청 처리
+     * DispatcherServlet을 거치지 않고 직접 호출되는 경우에도 요청당 하나의 커넥션만 사용
+     * @see HttpServlet#service(HttpServletRequest request, HttpServletResponse response)
+     */
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        ConnectionContext.begin();
+        try {
+            super.service(request, response);
+        } finally {
+            ConnectionContext.end();
+        }
+    }
+    
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        // 라우트를 거치지 않고 직접 호출된 경우
+        String[] segments = getPathSegments(request);
+        if (segments.length == 1) {
+            status(request, response);
+        } else {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+    
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        String[] segments = getPathSegments(request);
+        if (segments.length == 0) {
+            create(request, response);
+        } else if (segments.length == 2 && segments[1].equals("complete")) {
+            complete(request, response);
+        } else {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+    
+    @Override
+    protected void doPut(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        String[] segments = getPathSegments(request);
+        if (segments.length == 2) {
+            putChunk(request, response);
+        } else {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+    
+    @Override
+    protected void doDelete(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        String[] segments = getPathSegments(request);
+        if (segments.length == 1) {
+            abort(request, response);
+        } else {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+    
+    /**
+     * 업로드 세션 생성
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void create(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        request.setCharacterEncoding("UTF-8");
+        
+        UserDTO user = getLoginUser(request, response);
+        if (user == null) {
+            return;
+        }
+        
+        int boardId;
+        long fileSize;
+        try {
+            boardId = Integer.parseInt(request.getParameter("boardId"));
+            fileSize = Long.parseLong(request.getParameter("fileSize"));
+        } catch (NumberFormatException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "올바른 게시글 ID와 파일 크기가 필요합니다.");
+            return;
+        }
+        
+        String fileName = request.getParameter("fileName");
+        if (fileName == null || fileName.isEmpty() || !FileConfigurationProperties.isAllowedFile(fileName)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "허용되지 않는 파일 타입입니다.");
+            return;
+        }
+        if (fileSize <= 0 || fileSize > FileConfigurationProperties.MAX_CHUNKED_FILE_SIZE) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "파일 크기가 허용 범위를 초과합니다.");
+            return;
+        }
+        
+        // 작성자 체크 (게시글 수정과 같은 기준)
+        BoardDTO board = boardDAO.getBoardById(boardId);
+        if (board == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "게시글을 찾을 수 없습니다.");
+            return;
+        }
+        if (board.getUserId() != user.getUserId() && !"ADMIN".equals(user.getRole())) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "첨부 권한이 없습니다.");
+            return;
+        }
+        
+        ChunkedUpload upload = uploadManager.create(user.getUserId(), boardId, fileName, fileSize);
+        if (upload == null) {
+            response.sendError(SC_TOO_MANY_REQUESTS, "진행 중인 업로드가 너무 많습니다. 기존 업로드를 완료하거나 취소해주세요.");
+            return;
+        }
+        
+        response.setStatus(HttpServletResponse.SC_CREATED);
+        writeStatus(response, upload);
+    }
+    
+    /**
+     * 진행 상태 조회 (연결이 끊긴 뒤 이어서 보낼 위치 확인)
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void status(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ChunkedUpload upload = getOwnUpload(request, response);
+        if (upload == null) {
+            return;
+        }
+        
+        writeStatus(response, upload);
+    }
+    
+    /**
+     * 조각 전송
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void putChunk(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ChunkedUpload upload = getOwnUpload(request, response);
+        if (upload == null) {
+            return;
+        }
+        String uploadId = upload.getUploadId();
+        
+        int index;
+        try {
+            index = Integer.parseInt(getPathVariable(request, "index", 1));
+        } catch (NumberFormatException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "올바른 조각 번호가 필요합니다.");
+            return;
+        }
+        
+        String checksum = request.getHeader(CHECKSUM_HEADER);
+        if (checksum == null || checksum.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, CHECKSUM_HEADER + " 헤더가 필요합니다.");
+            return;
+        }
+        
+        ChunkStatus result = uploadManager.writeChunk(uploadId, index, request.getInputStream(), checksum);
+        switch (result) {
+            case COMMITTED:
+            case ALREADY_COMMITTED:
+                writeStatus(response, uploadManager.get(uploadId));
+                break;
+            case IN_PROGRESS:
+                response.sendError(HttpServletResponse.SC_CONFLICT, "같은 조각을 처리하는 중입니다.");
+                break;
+            case LENGTH_MISMATCH:
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "조각 크기가 올바르지 않습니다.");
+                break;
+            case CHECKSUM_MISMATCH:
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "조각 체크섬이 일치하지 않습니다.");
+                break;
+            case OUT_OF_RANGE:
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "조각 번호가 범위를 벗어났습니다.");
+                break;
+            default:
+                response.sendError(HttpServletResponse.SC_NOT_FOUND, "업로드 세션이 없거나 만료되었습니다.");
+                break;
+        }
+    }
+    
+    /**
+     * 업로드 완료 (파일을 저장소로 옮기고 첨부 파일로 등록)
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void complete(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ChunkedUpload upload = getOwnUpload(request, response);
+        if (upload == null) {
+            return;
+        }
+        
+        BlobStore.Blob blob = uploadManager.complete(upload.getUploadId());
+        if (blob == null) {
+            response.sendError(HttpServletResponse.SC_CONFLICT, "아직 받지 않은 조각이 있습니다.");
+            return;
+        }
+        
+        String savedFilePath = blob.getSavedFilePath();
+        String fileName = upload.getOriginalFileName();
+        
+        // 파일 정보 DB 저장
+        BoardFileDTO boardFile = new BoardFileDTO();
+        boardFile.setBoardId(upload.getBoardId());
+        boardFile.setOriginalFileName(fileName);
+        boardFile.setSavedFilePath(savedFilePath);
+        boardFile.setFileSize(blob.getSize());
+        boardFile.setFileType(URLConnection.guessContentTypeFromName(fileName));
+        boardFile.setUploadDate(new Date());
+        boardFile.setDeleted(false);
+        boardFile.setContentHash(blob.getHash());
+        
+        int fileId = boardFileDAO.insertBoardFile(boardFile);
+        if (fileId <= 0) {
+            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "파일 정보 저장 중 오류가 발생했습니다.");
+            return;
+        }
+        
+        // 이미지 파일은 썸네일 생성 작업 등록 (완료 시 썸네일 경로 기록)
+        ThumbnailGenerator.getInstance().submit(savedFilePath, fileName,
+                thumbnailPath -> boardFileDAO.updateThumbnailPath(savedFilePath, thumbnailPath));
+        
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"fileId\": " + fileId + ", \"fileName\": " + JsonUtil.quote(fileName)
+                + ", \"filePath\": " + JsonUtil.quote(savedFilePath) + ", \"fileSize\": " + blob.getSize() + "}");
+    }
+    
+    /**
+     * 업로드 취소
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void abort(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ChunkedUpload upload = getOwnUpload(request, response);
+        if (upload == null) {
+            return;
+        }
+        
+        if (uploadManager.abort(upload.getUploadId())) {
+            response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+        } else {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "업로드 세션이 없거나 만료되었습니다.");
+        }
+    }
+    
+    /**
+     * 로그인 사용자 조회 (로그인하지 않았으면 401 응답)
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @return 로그인 사용자 (없으면 null)
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private UserDTO getLoginUser(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        UserDTO user = (UserDTO) request.getSession().getAttribute("user");
+        if (user == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        return user;
+    }
+    
+    /**
+     * 로그인 사용자가 만든 업로드 세션 조회 (없거나 다른 사용자의 세션이면 오류 응답)
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @return 업로드 세션 (오류 응답을 보냈으면 null)
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private ChunkedUpload getOwnUpload(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        UserDTO user = getLoginUser(request, response);
+        if (user == null) {
+            return null;
+        }
+        
+        ChunkedUpload upload = uploadManager.get(getPathVariable(request, "uploadId", 0));
+        if (upload == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "업로드 세션이 없거나 만료되었습니다.");
+            return null;
+        }
+        if (upload.getUserId() != user.getUserId()) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "접근 권한이 없습니다.");
+            return null;
+        }
+        return upload;
+    }
+    
+    /**
+     * 진행 상태를 JSON으로 출력
+     * @param response HTTP 응답 객체
+     * @param upload 업로드 세션
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    private void writeStatus(HttpServletResponse response, ChunkedUpload upload) throws IOException {
+        if (upload == null) {
+            // 응답 직전에 완료 또는 취소된 경우
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "업로드 세션이 없거나 만료되었습니다.");
+            return;
+        }
+        
+        response.setContentType("application/json;charset=UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+        response.getWriter().write("{\"uploadId\": " + JsonUtil.quote(upload.getUploadId())
+                + ", \"fileName\": " + JsonUtil.quote(upload.getOriginalFileName())
+                + ", \"fileSize\": " + upload.getFileSize()
+                + ", \"chunkSize\": " + upload.getChunkSize()
+                + ", \"chunkCount\": " + upload.getChunkCount()
+                + ", \"offset\": " + upload.getCommittedOffset()
+                + ", \"nextChunk\": " + upload.getNextChunk()
+                + ", \"receivedChunks\": " + upload.getReceivedCount() + "}");
+    }
+    
+    /**
+     * 경로 변수 조회 (라우트를 거친 경우 RouteMatch, 직접 호출된 경우 경로의 위치로 조회)
+     * @param request HTTP 요청 객체
+     * @param name 변수명
+     * @param position /upload/chunked 이후 경로에서의 위치
+     * @return 변수 값 (없으면 null)
+     */
+    private String getPathVariable(HttpServletRequest request, String name, int position) {
+        RouteMatch<?> match = RouteMatch.of(request);
+        if (match != null) {
+            return match.getParameter(name);
+        }
+        
+        String[] segments = getPathSegments(request);
+        return position < segments.length ? segments[position] : null;
+    }
+    
+    /**
+     * /upload/chunked 이후의 경로를 '/'로 나눈 목록 (직접 호출된 경우에만 사용)
+     */
+    private String[] getPathSegments(HttpServletRequest request) {
+        String path = request.getPathInfo();
+        if (path == null || path.equals("/")) {
+            return new String[0];
+        }
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        return path.split("/");
+    }
+}
\ No newline at end of file
@@ -15,10 +15,18 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import javax.servlet.http.Part;
 
+import com.kirini.dao.DictionaryDAO;
 import com.kirini.dto.DictionaryDTO;
 import com.kirini.dto.UserDTO;
 import com.kirini.service.DictionaryService;
+import com.kirini.util.EntityType;
+import com.kirini.util.FacetValueCache;
+import com.kirini.util.FacetValueCache.Facet;
 import com.kirini.util.FileUploadUtil;
+import com.kirini.util.JsonUtil;
+import com.kirini.util.ListingCountCache;
+import com.kirini.util.TermAutocomplete;
+import com.kirini.util.UniqueViewStore;
 
 /**
  * 키보드 용어사전 관련 요청을 처리하는 컨트롤러
@@ -32,11 +40,13 @@ import com.kirini.util.FileUploadUtil;
 public class DictionaryController extends HttpServlet {
     private static final long serialVersionUID = 1L;
     private DictionaryService dictionaryService;
+    private DictionaryDAO dictionaryDAO;
     
     @Override
     public void init() throws ServletException {
         super.init();
         dictionaryService = new DictionaryService();
+        dictionaryDAO = new DictionaryDAO();
     }
     
     @Override
@@ -64,11 +74,13 @@ public class DictionaryController extends HttpServlet {
             
             List<DictionaryDTO> termList = null;
             int totalCount = 0;
+            boolean totalCountCapped = false;
             
             if (searchType != null && keyword != null && !keyword.isEmpty()) {
                 // 검색 조건이 있는 경우
                 termList = dictionaryService.searchTerms(category, searchType, keyword, page);
                 totalCount = dictionaryService.getTotalSearchCount(category, searchType, keyword);
+                totalCountCapped = ListingCountCache.isCapped(totalCount);
             } else if (category != null && !category.isEmpty()) {
                 // 카테고리별 목록 조회
                 termList = dictionaryService.getTermsByCategory(category, page);
@@ -84,12 +96,13 @@ public class DictionaryController extends HttpServlet {
             request.setAttribute("termList", termList);
             request.setAttribute("currentPage", page);
             request.setAttribute("totalPages", totalPages);
+            request.setAttribute("totalCountCapped", totalCountCapped); // true면 "1000+"로 표시
             request.setAttribute("category", category);
             request.setAttribute("searchType", searchType);
             request.setAttribute("keyword", keyword);
             
             // 카테고리 목록도 함께 전달
-            List<String> categories = dictionaryService.getAllCategories();
+            List<String> categories = FacetValueCache.getInstance().getValues(Facet.DICTIONARY_CATEGORY);
             request.setAttribute("categories", categories);
             
             request.getRequestDispatcher("/pages/dictionary.jsp").forward(request, response);
@@ -103,6 +116,12 @@ public class DictionaryController extends HttpServlet {
             // 용어 정보 가져오기
             DictionaryDTO term = dictionaryService.getTermById(termId);
             
+            // 순 방문자 수 (같은 방문자의 재조회는 한 번만 셈, 존재하는 용어만 기록)
+            if (term != null) {
+                request.setAttribute("uniqueViewCount", UniqueViewStore.getInstance().recordView(EntityType.DICTIONARY, termId,
+                        UniqueViewStore.visitorKey(request)));
+            }
+            
             request.setAttribute("term", term);
             request.getRequestDispatcher("/pages/dictionary_view.jsp").forward(request, response);
         } else if (path.equals("/write")) {
@@ -117,7 +136,7 @@ public class DictionaryController extends HttpServlet {
             }
             
             // 카테고리 목록 가져오기
-            List<String> categories = dictionaryService.getAllCategories();
+            List<String> categories = FacetValueCache.getInstance().getValues(Facet.DICTIONARY_CATEGORY);
             request.setAttribute("categories", categories);
             
             request.getRequestDispatcher("/pages/dictionary_write.jsp").forward(request, response);
@@ -138,11 +157,42 @@ public class DictionaryController extends HttpServlet {
             DictionaryDTO term = dictionaryService.getTermById(termId);
             
             // 카테고리 목록 가져오기
-            List<String> categories = dictionaryService.getAllCategories();
+            List<String> categories = FacetValueCache.getInstance().getValues(Facet.DICTIONARY_CATEGORY);
             
             request.setAttribute("term", term);
             request.setAttribute("categories", categories);
             request.getRequestDispatcher("/pages/dictionary_edit.jsp").forward(request, response);
+        } else if (path.equals("/autocomplete")) {
+            // 용어 자동완성 (용어명 접두사 또는 초성, JSON 응답)
+            String query = request.getParameter("q");
+            
+            int limit = TermAutocomplete.TOP_K;
+            try {
+                String limitStr = request.getParameter("limit");
+                if (limitStr != null && !limitStr.isEmpty()) {
+                    limit = Integer.parseInt(limitStr);
+                }
+            } catch (NumberFormatException e) {
+                limit = TermAutocomplete.TOP_K;
+            }
+            
+            List<TermAutocomplete.Suggestion> suggestions = dictionaryDAO.autocomplete(query, limit);
+            
+            StringBuilder json = new StringBuilder("[");
+            for (TermAutocomplete.Suggestion suggestion : suggestions) {
+                if (json.length() > 1) {
+                    json.append(", ");
+                }
+                json.append("{\"id\": ").append(suggestion.getId())
+                    .append(", \"term\": ").append(JsonUtil.quote(suggestion.getTerm()))
+                    .append(", \"category\": ").append(JsonUtil.quote(suggestion.getCategory()))
+                    .append("}");
+            }
+            json.append("]");
+            
+            response.setContentType("application/json;charset=UTF-8");
+            response.setHeader("Cache-Control", "no-store");
+            response.getWriter().write(json.toString());
         }
     }
     
@@ -174,7 +224,7 @@ public class DictionaryController extends HttpServlet {
                 request.setAttribute("error", "모든 필드를 입력해주세요.");
                 
                 // 카테고리 목록 다시 가져오기
-                List<String> categories = dictionaryService.getAllCategories();
+                List<String> categories = FacetValueCache.getInstance().getValues(Facet.DICTIONARY_CATEGORY);
                 request.setAttribute("categories", categories);
                 
                 request.getRequestDispatcher("/pages/dictionary_write.jsp").forward(request, response);
@@ -221,7 +271,7 @@ public class DictionaryController extends HttpServlet {
                 request.setAttribute("error", "용어 저장 중 오류가 발생했습니다.");
                 
                 // 카테고리 목록 다시 가져오기
-                List<String> categories = dictionaryService.getAllCategories();
+                List<String> categories = FacetValueCache.getInstance().getValues(Facet.DICTIONARY_CATEGORY);
                 request.setAttribute("categories", categories);
                 
                 request.getRequestDispatcher("/pages/dictionary_write.jsp").forward(request, response);
@@ -254,7 +304,7 @@ public class DictionaryController extends HttpServlet {
                 request.setAttribute("term", termDTO);
                 
                 // 카테고리 목록 다시 가져오기
-                List<String> categories = dictionaryService.getAllCategories();
+                List<String> categories = FacetValueCache.getInstance().getValues(Facet.DICTIONARY_CATEGORY);
                 request.setAttribute("categories", categories);
                 
                 request.getRequestDispatcher("/pages/dictionary_edit.jsp").forward(request, response);
@@ -308,7 +358,7 @@ public class DictionaryController extends HttpServlet {
                 request.setAttribute("term", termDTO);
                 
                 // 카테고리 목록 다시 가져오기
-                List<String> categories = dictionaryService.getAllCategories();
+                List<String> categories = FacetValueCache.getInstance().getValues(Facet.DICTIONARY_CATEGORY);
                 request.setAttribute("categories", categories);
                 
                 request.getRequestDispatcher("/pages/dictionary_edit.jsp").forward(request, response);
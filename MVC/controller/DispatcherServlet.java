@@ -1,7 +1,7 @@
 package com.kirini.controller;
 
 import java.io.IOException;
-import java.lang.reflect.Method;
+import java.util.List;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.MultipartConfig;
@@ -10,11 +10,15 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import com.kirini.util.ConnectionContext;
 import com.kirini.util.HandlerMapping;
+import com.kirini.util.HttpMethod;
+import com.kirini.util.MetricsRegistry;
+import com.kirini.util.RouteMatch;
 
 /**
  * 모든 요청을 받아서 적절한 컨트롤러로 요청을 위임하는 프론트 컨트롤러
- * HandlerMapping을 통해 요청 URL에 해당하는 컨트롤러를 찾아 처리
+ * HandlerMapping을 통해 요청 URL과 HTTP 메서드에 해당하는 컨트롤러(처리 메서드)를 찾아 처리
  */
 @WebServlet("*.do")
 @MultipartConfig(
@@ -33,56 +37,87 @@ public class DispatcherServlet extends HttpServlet {
         String contextPath = request.getContextPath();
         String command = requestURI.substring(contextPath.length());
         
-        System.out.println("DispatcherServlet - 요청 URL: " + command);
+        // 라우트별 처리 시간 기록용 (일치하는 라우트가 없으면 "unmatched"로 기록)
+        long startTime = System.nanoTime();
+        String methodLabel = "OTHER";
+        String routeLabel = "unmatched";
+        boolean failed = false;
+        
+        // 요청 단위 커넥션 범위 시작 (실제 커넥션은 첫 DAO 호출 시 대여)
+        ConnectionContext.begin();
         
         try {
-            // URL에 맞는 컨트롤러 찾기
-            HandlerMapping handlerMapping = HandlerMapping.getInstance();
-            Object controller = handlerMapping.getHandler(command);
+            HttpMethod method = HttpMethod.resolve(request.getMethod());
+            if (method == null) {
+                response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED, "지원하지 않는 HTTP 메서드입니다.");
+                return;
+            }
+            methodLabel = method.name();
+            
+            // URL과 HTTP 메서드에 맞는 라우트 찾기 (*.do 확장자는 잘라내지 않고 검색 범위에서만 제외)
+            int end = command.endsWith(".do") ? command.length() - 3 : command.length();
+            RouteMatch<Object> match = HandlerMapping.getInstance().match(method, command, end);
             
-            if (controller == null) {
+            if (match == null) {
                 response.sendError(HttpServletResponse.SC_NOT_FOUND, "요청한 페이지를 찾을 수 없습니다.");
                 return;
             }
+            routeLabel = match.getPattern();
             
-            // HTTP 메서드에 따라 컨트롤러의 적절한 메서드 호출
-            String method = request.getMethod();
-            if ("GET".equalsIgnoreCase(method)) {
-                invokeMethod(controller, "doGet", request, response);
-            } else if ("POST".equalsIgnoreCase(method)) {
-                invokeMethod(controller, "doPost", request, response);
-            } else {
+            Object handler = match.getHandler();
+            if (handler == null) {
+                sendMethodNotAllowed(response, match.getAllowedMethods());
+                return;
+            }
+            
+            // 컨트롤러에서 경로 변수를 읽을 수 있도록 검색 결과 저장
+            request.setAttribute(RouteMatch.ATTRIBUTE, match);
+            
+            if (handler instanceof RouteHandler) {
+                // 컨트롤러가 직접 등록한 처리 메서드
+                ((RouteHandler) handler).handle(request, response);
+                return;
+            }
+            
+            // URL 패턴으로 등록한 컨트롤러 (시작 시 HandlerMappingListener에서 호출기로 감싸 둠)
+            HandlerInvoker invoker = (HandlerInvoker) handler;
+            if (!invoker.supports(method)) {
                 response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED, "지원하지 않는 HTTP 메서드입니다.");
+                return;
             }
             
+            invoker.invoke(method, request, response);
         } catch (Exception e) {
-            System.err.println("DispatcherServlet 오류: " + e.getMessage());
+            failed = true;
+            System.err.println("DispatcherServlet 오류 (" + command + "): " + e.getMessage());
             e.printStackTrace();
-            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
+            if (!response.isCommitted()) {
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
+            }
+        } finally {
+            // 요청에서 사용한 커넥션을 풀에 반환
+            ConnectionContext.end();
+            
+            MetricsRegistry.getInstance().recordRequest(methodLabel, routeLabel, System.nanoTime() - startTime,
+                    failed || response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
         }
     }
     
     /**
-     * 리플렉션을 사용하여 컨트롤러의 메서드 호출
-     * @param controller 컨트롤러 객체
-     * @param methodName 호출할 메서드 이름 (doGet 또는 doPost)
-     * @param request HTTP 요청 객체
+     * 405 응답 (처리할 수 있는 메서드를 Allow 헤더로 안내)
      * @param response HTTP 응답 객체
-     * @throws Exception 메서드 호출 중 발생한 예외
+     * @param allowedMethods 처리할 수 있는 HTTP 메서드 목록
+     * @throws IOException 입출력 처리 중 발생한 예외
      */
-    private void invokeMethod(Object controller, String methodName, 
-            HttpServletRequest request, HttpServletResponse response) throws Exception {
-        
-        try {
-            Method method = controller.getClass().getMethod(methodName, 
-                    HttpServletRequest.class, HttpServletResponse.class);
-            method.invoke(controller, request, response);
-        } catch (NoSuchMethodException e) {
-            System.err.println("컨트롤러에 " + methodName + " 메서드가 없습니다: " + controller.getClass().getName());
-            throw e;
-        } catch (Exception e) {
-            System.err.println("메서드 호출 중 오류 발생: " + e.getMessage());
-            throw e;
+    private void sendMethodNotAllowed(HttpServletResponse response, List<HttpMethod> allowedMethods) throws IOException {
+        StringBuilder allow = new StringBuilder();
+        for (HttpMethod allowed : allowedMethods) {
+            if (allow.length() > 0) {
+                allow.append(", ");
+            }
+            allow.append(allowed.name());
         }
+        response.setHeader("Allow", allow.toString());
+        response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED, "지원하지 않는 HTTP 메서드입니다.");
     }
 }
\ No newline at end of file
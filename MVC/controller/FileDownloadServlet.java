@@ -1,9 +1,6 @@
 package com.kirini.controller;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.URLEncoder;
 
@@ -15,10 +12,15 @@ import javax.servlet.http.HttpServletResponse;
 
 import com.kirini.dao.BoardFileDAO;
 import com.kirini.dto.BoardFileDTO;
+import com.kirini.util.ConnectionContext;
 import com.kirini.util.FileConfigurationProperties;
+import com.kirini.util.FileDownloadUtil;
+import com.kirini.util.FileUploadUtil;
+import com.kirini.util.ThumbnailGenerator;
 
 /**
  * 파일 다운로드를 처리하는 서블릿
+ * 이미지 파일은 thumb 파라미터(160, 480)로 썸네일을 요청할 수 있다.
  */
 @WebServlet("/download")
 public class FileDownloadServlet extends HttpServlet {
@@ -33,6 +35,21 @@ public class FileDownloadServlet extends HttpServlet {
         super();
     }
 
+    /**
+     * 요청 단위 커넥션 범위 안에서 요청 처리
+     * DispatcherServlet을 거치지 않고 직접 호출되는 경우에도 요청당 하나의 커넥션만 사용
+     * @see HttpServlet#service(HttpServletRequest request, HttpServletResponse response)
+     */
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        ConnectionContext.begin();
+        try {
+            super.service(request, response);
+        } finally {
+            ConnectionContext.end();
+        }
+    }
+    
     /**
      * @see HttpServlet#doGet(HttpServletRequest request, HttpServletResponse response)
      */
@@ -61,22 +78,27 @@ public class FileDownloadServlet extends HttpServlet {
             
             // 파일 존재 확인
             File downloadFile = new File(filePath);
-            if (!downloadFile.exists()) {
+            if (!downloadFile.isFile()) {
                 response.sendError(HttpServletResponse.SC_NOT_FOUND, "파일이 서버에 존재하지 않습니다.");
                 return;
             }
             
-            // MIME 타입 설정
-            String mimeType = getServletContext().getMimeType(filePath);
+            // 썸네일 요청 (thumb=160 또는 480)
+            String thumbParam = request.getParameter("thumb");
+            if (thumbParam != null && sendThumbnail(request, response, boardFile, thumbParam)) {
+                return;
+            }
+            
+            // MIME 타입 설정 (내용 해시로 저장된 파일은 확장자가 없으므로 원본 파일명 기준)
+            String mimeType = getServletContext().getMimeType(boardFile.getOriginalFileName());
+            if (mimeType == null) {
+                mimeType = boardFile.getFileType();
+            }
             if (mimeType == null) {
                 // 기본 MIME 타입 설정
                 mimeType = "application/octet-stream";
             }
             
-            // 다운로드 설정
-            response.setContentType(mimeType);
-            response.setContentLength((int) downloadFile.length());
-            
             // 파일 다운로드 헤더 설정
             String userAgent = request.getHeader("User-Agent");
             String encodedFileName = encodeFileName(userAgent, boardFile.getOriginalFileName());
@@ -89,29 +111,66 @@ public class FileDownloadServlet extends HttpServlet {
             response.setHeader("Pragma", "no-cache");
             response.setHeader("Expires", "0");
             
-            // 파일 전송
-            try (
-                BufferedInputStream bis = new BufferedInputStream(new FileInputStream(downloadFile));
-                BufferedOutputStream bos = new BufferedOutputStream(response.getOutputStream())
-            ) {
-                byte[] buffer = new byte[4096];
-                int bytesRead;
-                
-                while ((bytesRead = bis.read(buffer)) != -1) {
-                    bos.write(buffer, 0, bytesRead);
-                }
-                
-                bos.flush();
+            // 전송이 오래 걸릴 수 있으므로 요청 범위의 커넥션을 먼저 반환
+            ConnectionContext.releaseConnection();
+            
+            // 파일 전송 (Range 요청 시 206 부분 응답, sendfile 또는 FileChannel.transferTo 사용)
+            try {
+                FileDownloadUtil.sendFile(request, response, downloadFile, mimeType);
             } catch (IOException e) {
                 e.printStackTrace();
-                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "파일 다운로드 중 오류가 발생했습니다.");
+                if (!response.isCommitted()) {
+                    response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "파일 다운로드 중 오류가 발생했습니다.");
+                }
             }
             
         } catch (NumberFormatException e) {
-            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "올바른 파일 ID가 필요합니다.");
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "올바른 파일 ID와 썸네일 크기가 필요합니다.");
         }
     }
 
+    /**
+     * 이미지 첨부 파일의 썸네일 전송 (썸네일이 아직 없으면 이 자리에서 생성)
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param boardFile 첨부 파일 정보
+     * @param thumbParam 썸네일 크기 파라미터
+     * @return 응답 완료 여부 (false면 원본 파일 전송)
+     */
+    private boolean sendThumbnail(HttpServletRequest request, HttpServletResponse response, BoardFileDTO boardFile,
+            String thumbParam) throws IOException {
+        int size = Integer.parseInt(thumbParam);
+        if (!ThumbnailGenerator.isSupportedSize(size) || !FileUploadUtil.isImageFile(boardFile.getOriginalFileName())) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "썸네일을 제공하지 않는 파일 또는 크기입니다.");
+            return true;
+        }
+        
+        File thumbnail = ThumbnailGenerator.getInstance().getOrCreate(boardFile.getSavedFilePath(), size);
+        if (thumbnail == null) {
+            // 지원하지 않는 이미지 형식이거나 다른 요청이 생성 중이면 원본 전송
+            return false;
+        }
+        
+        // 업로드 시 작업 큐에 등록하지 못해 여기서 처음 생성한 경우 경로 기록
+        if (boardFile.getThumbnailPath() == null) {
+            boardFileDAO.updateThumbnailPath(boardFile.getSavedFilePath(),
+                    ThumbnailGenerator.getThumbnailPath(boardFile.getSavedFilePath(), ThumbnailGenerator.SMALL));
+        }
+        
+        // 썸네일은 원본이 바뀌지 않는 한 그대로이므로 브라우저 캐시 허용
+        response.setHeader("Cache-Control", "public, max-age=86400");
+        
+        try {
+            FileDownloadUtil.sendFile(request, response, thumbnail, "image/jpeg");
+        } catch (IOException e) {
+            e.printStackTrace();
+            if (!response.isCommitted()) {
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "썸네일 전송 중 오류가 발생했습니다.");
+            }
+        }
+        return true;
+    }
+    
     /**
      * 브라우저에 따른 파일명 인코딩 처리
      * @param userAgent 사용자 에이전트 문자열
@@ -14,8 +14,11 @@ import javax.servlet.http.Part;
 
 import com.kirini.dao.BoardFileDAO;
 import com.kirini.dto.BoardFileDTO;
+import com.kirini.util.BlobStore;
+import com.kirini.util.ConnectionContext;
 import com.kirini.util.FileConfigurationProperties;
 import com.kirini.util.FileUploadUtil;
+import com.kirini.util.ThumbnailGenerator;
 
 /**
  * 파일 업로드를 처리하는 서블릿
@@ -39,6 +42,21 @@ public class FileUploadServlet extends HttpServlet {
         super();
     }
 
+    /**
+     * 요청 단위 커넥션 범위 안에서 요청 처리
+     * DispatcherServlet을 거치지 않고 직접 호출되는 경우에도 요청당 하나의 커넥션만 사용
+     * @see HttpServlet#service(HttpServletRequest request, HttpServletResponse response)
+     */
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        ConnectionContext.begin();
+        try {
+            super.service(request, response);
+        } finally {
+            ConnectionContext.end();
+        }
+    }
+    
     /**
      * @see HttpServlet#doPost(HttpServletRequest request, HttpServletResponse response)
      */
@@ -51,15 +69,6 @@ public class FileUploadServlet extends HttpServlet {
             // 게시글 ID 가져오기
             int boardId = Integer.parseInt(request.getParameter("boardId"));
             
-            // 게시판 타입 가져오기 (news, free, anonymous 등)
-            String boardType = request.getParameter("boardType");
-            if (boardType == null || boardType.isEmpty()) {
-                boardType = "default"; // 기본 값 설정
-            }
-            
-            // 업로드 디렉토리 설정
-            String uploadDir = FileConfigurationProperties.getUploadDirByBoardType(boardType);
-            
             // 파일 파트 가져오기
             Collection<Part> parts = request.getParts();
             
@@ -98,27 +107,39 @@ public class FileUploadServlet extends HttpServlet {
                     continue;
                 }
                 
-                // 파일 업로드 처리
-                String savedFilePath = FileUploadUtil.uploadFile(part, uploadDir);
+                // 파일 업로드 처리 (같은 내용의 파일이 이미 있으면 새로 저장하지 않고 공유)
+                BlobStore.Blob blob = null;
+                try {
+                    blob = BlobStore.getInstance().store(part);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
                 
-                if (savedFilePath != null) {
+                if (blob != null) {
+                    String savedFilePath = blob.getSavedFilePath();
+                    
                     // 파일 정보 DB 저장
                     BoardFileDTO boardFile = new BoardFileDTO();
                     boardFile.setBoardId(boardId);
                     boardFile.setOriginalFileName(originalFileName);
                     boardFile.setSavedFilePath(savedFilePath);
-                    boardFile.setFileSize(part.getSize());
+                    boardFile.setFileSize(blob.getSize());
                     boardFile.setFileType(part.getContentType());
                     boardFile.setUploadDate(new Date());
                     boardFile.setDeleted(false);
+                    boardFile.setContentHash(blob.getHash());
                     
                     int fileId = boardFileDAO.insertBoardFile(boardFile);
                     
                     if (fileId > 0) {
+                        // 이미지 파일은 썸네일 생성 작업 등록 (완료 시 썸네일 경로 기록)
+                        ThumbnailGenerator.getInstance().submit(savedFilePath, originalFileName,
+                                thumbnailPath -> boardFileDAO.updateThumbnailPath(savedFilePath, thumbnailPath));
+                        
                         if (!isFirstFile) {
                             resultJson.append(",");
                         }
-                        resultJson.append("{\"fileId\": " + fileId + ", \"fileName\": \"" + originalFileName + "\", \"filePath\": \"" + savedFilePath + "\", \"fileSize\": " + part.getSize() + "}");
+                        resultJson.append("{\"fileId\": " + fileId + ", \"fileName\": \"" + originalFileName + "\", \"filePath\": \"" + savedFilePath + "\", \"fileSize\": " + blob.getSize() + "}");
                         isFirstFile = false;
                     }
                 }
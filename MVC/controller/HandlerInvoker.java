@@ -0,0 +1,170 @@
+package com.kirini.controller;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.kirini.util.HttpMethod;
+
+/**
+ * 핸들러(컨트롤러) 호출기
+ * 애플리케이션 시작 시 핸들러마다 한 번 생성하여, 요청마다 리플렉션으로 메서드를 찾지 않고 바로 호출한다.
+ * Controller 인터페이스 구현체는 인터페이스 메서드를 직접 호출하고,
+ * 그 외 서블릿(FileUploadServlet 등)은 doGet/doPost/doPut/doDelete를 MethodHandle로 미리 연결해 둔다.
+ */
+public abstract class HandlerInvoker {
+    
+    private static final MethodType HANDLER_TYPE =
+            MethodType.methodType(void.class, HttpServletRequest.class, HttpServletResponse.class);
+    
+    private static final String[] METHOD_NAMES = { "doGet", "doPost", "doPut", "doDelete" };
+    
+    /**
+     * 핸들러에 맞는 호출기 생성
+     * @param handler 핸들러 객체
+     * @return 호출기
+     * @throws IllegalArgumentException 처리할 수 있는 메서드가 하나도 없는 경우
+     */
+    public static HandlerInvoker of(Object handler) {
+        if (handler instanceof Controller) {
+            return new ControllerInvoker((Controller) handler);
+        }
+        return new MethodHandleInvoker(handler);
+    }
+    
+    /**
+     * 호출 대상 핸들러 객체
+     * @return 핸들러 객체
+     */
+    public abstract Object getHandler();
+    
+    /**
+     * HTTP 메서드 지원 여부
+     * @param method HTTP 메서드
+     * @return 지원 여부
+     */
+    public abstract boolean supports(HttpMethod method);
+    
+    /**
+     * 핸들러 호출
+     * @param method HTTP 메서드 (supports()로 지원 여부 확인 후 호출)
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    public abstract void invoke(HttpMethod method, HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException;
+    
+    /**
+     * Controller 인터페이스를 직접 호출하는 호출기 (GET, POST 지원)
+     */
+    private static final class ControllerInvoker extends HandlerInvoker {
+        private final Controller controller;
+        
+        ControllerInvoker(Controller controller) {
+            this.controller = controller;
+        }
+        
+        @Override
+        public Object getHandler() {
+            return controller;
+        }
+        
+        @Override
+        public boolean supports(HttpMethod method) {
+            return method == HttpMethod.GET || method == HttpMethod.POST;
+        }
+        
+        @Override
+        public void invoke(HttpMethod method, HttpServletRequest request, HttpServletResponse response)
+                throws ServletException, IOException {
+            if (method == HttpMethod.GET) {
+                controller.doGet(request, response);
+            } else {
+                controller.doPost(request, response);
+            }
+        }
+    }
+    
+    /**
+     * 서블릿의 doXxx 메서드를 MethodHandle로 호출하는 호출기
+     * HttpServlet 기본 구현(405 응답)은 연결하지 않으므로, 재정의한 메서드만 지원한다.
+     */
+    private static final class MethodHandleInvoker extends HandlerInvoker {
+        private final Object handler;
+        
+        // HttpMethod 순서(ordinal)별 MethodHandle (지원하지 않으면 null)
+        private final MethodHandle[] handles = new MethodHandle[HttpMethod.values().length];
+        
+        MethodHandleInvoker(Object handler) {
+            this.handler = handler;
+            
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            boolean found = false;
+            
+            for (HttpMethod method : HttpMethod.values()) {
+                Method target = findMethod(handler.getClass(), METHOD_NAMES[method.ordinal()]);
+                if (target == null) {
+                    continue;
+                }
+                
+                try {
+                    target.setAccessible(true);
+                    handles[method.ordinal()] = lookup.unreflect(target).bindTo(handler).asType(HANDLER_TYPE);
+                    found = true;
+                } catch (IllegalAccessException | RuntimeException e) {
+                    throw new IllegalArgumentException("핸들러 메서드를 연결할 수 없습니다: "
+                            + handler.getClass().getName() + "." + target.getName(), e);
+                }
+            }
+            
+            if (!found) {
+                throw new IllegalArgumentException("처리할 수 있는 메서드가 없는 핸들러입니다: " + handler.getClass().getName());
+            }
+        }
+        
+        /**
+         * 클래스 계층에서 (request, response)를 받는 메서드 검색 (HttpServlet 기본 구현 제외)
+         */
+        private static Method findMethod(Class<?> type, String name) {
+            for (Class<?> current = type; current != null && current != HttpServlet.class; current = current.getSuperclass()) {
+                try {
+                    return current.getDeclaredMethod(name, HttpServletRequest.class, HttpServletResponse.class);
+                } catch (NoSuchMethodException e) {
+                    // 상위 클래스에서 계속 검색
+                }
+            }
+            return null;
+        }
+        
+        @Override
+        public Object getHandler() {
+            return handler;
+        }
+        
+        @Override
+        public boolean supports(HttpMethod method) {
+            return handles[method.ordinal()] != null;
+        }
+        
+        @Override
+        public void invoke(HttpMethod method, HttpServletRequest request, HttpServletResponse response)
+                throws ServletException, IOException {
+            try {
+                handles[method.ordinal()].invokeExact(request, response);
+            } catch (ServletException | IOException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ServletException(e);
+            }
+        }
+    }
+}
\ No newline at end of file
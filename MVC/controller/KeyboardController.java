@@ -2,8 +2,11 @@ package com.kirini.controller;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import javax.servlet.ServletException;
@@ -15,10 +18,20 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import javax.servlet.http.Part;
 
+import com.kirini.dao.KeyboardDAO;
+import com.kirini.dto.CursorPageDTO;
+import com.kirini.dto.KeyboardCardDTO;
 import com.kirini.dto.KeyboardDTO;
 import com.kirini.dto.UserDTO;
 import com.kirini.service.KeyboardService;
+import com.kirini.util.EntityType;
+import com.kirini.util.FacetValueCache;
+import com.kirini.util.FacetValueCache.Facet;
 import com.kirini.util.FileUploadUtil;
+import com.kirini.util.KeyboardCatalogIndex;
+import com.kirini.util.LikeStore;
+import com.kirini.util.ListingCountCache;
+import com.kirini.util.UniqueViewStore;
 
 /**
  * 키보드 정보 관련 요청을 처리하는 컨트롤러
@@ -33,6 +46,7 @@ import com.kirini.util.FileUploadUtil;
 public class KeyboardController extends HttpServlet {
     private static final long serialVersionUID = 1L;
     private KeyboardService keyboardService;
+    private KeyboardDAO keyboardDAO = new KeyboardDAO();
     
     @Override
     public void init() throws ServletException {
@@ -82,21 +96,39 @@ public class KeyboardController extends HttpServlet {
                 // 숫자로 변환할 수 없는 경우 기본값 유지
             }
             
-            List<KeyboardDTO> keyboardList = keyboardService.searchKeyboards(
-                brand, switchType, size, connection, minPrice, maxPrice, keyword, sortBy, page);
-            
-            int totalCount = keyboardService.getTotalSearchCount(
-                brand, switchType, size, connection, minPrice, maxPrice, keyword);
-            
-            int totalPages = (int) Math.ceil(totalCount / 12.0); // 페이지당 12개 키보드
-            
-            // 브랜드, 스위치 타입, 사이즈, 연결 방식 목록 조회
-            List<String> brandList = keyboardService.getAllBrands();
-            List<String> switchTypeList = keyboardService.getAllSwitchTypes();
-            List<String> sizeList = keyboardService.getAllSizes();
-            List<String> connectionList = keyboardService.getAllConnectionTypes();
+            List<KeyboardCardDTO> keyboardList;
+            int totalPages = 0;
+            
+            // 필터 없이 최신순으로 넘겨보는 경우 커서 페이징 사용 ("더 보기" 방식)
+            String cursor = request.getParameter("cursor");
+            boolean noFilter = isEmpty(brand) && isEmpty(switchType) && isEmpty(size) && isEmpty(connection)
+                    && isEmpty(keyword) && isEmpty(sortBy) && minPrice == 0 && maxPrice == Integer.MAX_VALUE;
+            
+            if (cursor != null && noFilter) {
+                CursorPageDTO<KeyboardCardDTO> cursorPage = keyboardDAO.getAllKeyboardsAfter(cursor);
+                keyboardList = cursorPage.getItems();
+                request.setAttribute("nextCursor", cursorPage.getNextCursor());
+            } else if (KeyboardCatalogIndex.getInstance().isReady()) {
+                // 메모리 카탈로그 색인으로 필터 조합과 패싯별 건수를 한 번에 계산
+                KeyboardCatalogIndex.SearchResult result = KeyboardCatalogIndex.getInstance().search(
+                    brand, switchType, size, connection, minPrice, maxPrice, keyword, sortBy, page, 12);
+                
+                keyboardList = keyboardDAO.getKeyboardsByIds(result.getKeyboardIds());
+                totalPages = (int) Math.ceil(result.getTotalCount() / 12.0); // 페이지당 12개 키보드
+                request.setAttribute("facetCounts", result.getFacetCounts());
+            } else {
+                keyboardList = keyboardService.searchKeyboards(
+                    brand, switchType, size, connection, minPrice, maxPrice, keyword, sortBy, page);
+                
+                int totalCount = keyboardService.getTotalSearchCount(
+                    brand, switchType, size, connection, minPrice, maxPrice, keyword);
+                
+                totalPages = (int) Math.ceil(totalCount / 12.0); // 페이지당 12개 키보드
+                request.setAttribute("totalCountCapped", ListingCountCache.isCapped(totalCount)); // true면 "1000+"로 표시
+            }
             
             request.setAttribute("keyboardList", keyboardList);
+            setLikedIds(request, keyboardList);
             request.setAttribute("currentPage", page);
             request.setAttribute("totalPages", totalPages);
             request.setAttribute("brand", brand);
@@ -108,10 +140,8 @@ public class KeyboardController extends HttpServlet {
             request.setAttribute("keyword", keyword);
             request.setAttribute("sortBy", sortBy);
             
-            request.setAttribute("brandList", brandList);
-            request.setAttribute("switchTypeList", switchTypeList);
-            request.setAttribute("sizeList", sizeList);
-            request.setAttribute("connectionList", connectionList);
+            // 브랜드, 스위치 타입, 사이즈, 연결 방식 목록 (캐시에서 한 번에 조회)
+            setFacetAttributes(request);
             
             request.getRequestDispatcher("/pages/keyboard_info.jsp").forward(request, response);
         } else if (path.equals("/view")) {
@@ -119,8 +149,17 @@ public class KeyboardController extends HttpServlet {
             int keyboardId = Integer.parseInt(request.getParameter("id"));
             
             KeyboardDTO keyboard = keyboardService.getKeyboardById(keyboardId);
+            if (keyboard == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND, "키보드 정보를 찾을 수 없습니다.");
+                return;
+            }
+            
+            // 순 방문자 수 (같은 방문자의 재조회는 한 번만 셈)
+            long uniqueViewCount = UniqueViewStore.getInstance().recordView(EntityType.KEYBOARD, keyboardId,
+                    UniqueViewStore.visitorKey(request));
             
             request.setAttribute("keyboard", keyboard);
+            request.setAttribute("uniqueViewCount", uniqueViewCount);
             request.getRequestDispatcher("/pages/keyboard_view.jsp").forward(request, response);
         } else if (path.equals("/write")) {
             // 키보드 등록 페이지
@@ -133,16 +172,8 @@ public class KeyboardController extends HttpServlet {
                 return;
             }
             
-            // 브랜드, 스위치 타입, 사이즈, 연결 방식 목록 조회
-            List<String> brandList = keyboardService.getAllBrands();
-            List<String> switchTypeList = keyboardService.getAllSwitchTypes();
-            List<String> sizeList = keyboardService.getAllSizes();
-            List<String> connectionList = keyboardService.getAllConnectionTypes();
-            
-            request.setAttribute("brandList", brandList);
-            request.setAttribute("switchTypeList", switchTypeList);
-            request.setAttribute("sizeList", sizeList);
-            request.setAttribute("connectionList", connectionList);
+            // 브랜드, 스위치 타입, 사이즈, 연결 방식 목록 (캐시에서 한 번에 조회)
+            setFacetAttributes(request);
             
             request.getRequestDispatcher("/pages/keyboard_write.jsp").forward(request, response);
         } else if (path.equals("/edit")) {
@@ -160,17 +191,9 @@ public class KeyboardController extends HttpServlet {
             
             KeyboardDTO keyboard = keyboardService.getKeyboardById(keyboardId);
             
-            // 브랜드, 스위치 타입, 사이즈, 연결 방식 목록 조회
-            List<String> brandList = keyboardService.getAllBrands();
-            List<String> switchTypeList = keyboardService.getAllSwitchTypes();
-            List<String> sizeList = keyboardService.getAllSizes();
-            List<String> connectionList = keyboardService.getAllConnectionTypes();
-            
             request.setAttribute("keyboard", keyboard);
-            request.setAttribute("brandList", brandList);
-            request.setAttribute("switchTypeList", switchTypeList);
-            request.setAttribute("sizeList", sizeList);
-            request.setAttribute("connectionList", connectionList);
+            // 브랜드, 스위치 타입, 사이즈, 연결 방식 목록 (캐시에서 한 번에 조회)
+            setFacetAttributes(request);
             
             request.getRequestDispatcher("/pages/keyboard_edit.jsp").forward(request, response);
         }
@@ -402,6 +425,77 @@ public class KeyboardController extends HttpServlet {
             } else {
                 response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "키보드 정보 삭제 중 오류가 발생했습니다.");
             }
+        } else if (path.equals("/like") || path.equals("/unlike")) {
+            // 좋아요/취소 처리 (토글이 아닌 지정한 상태로 맞추므로 같은 요청이 두 번 와도 결과가 같음)
+            int keyboardId = Integer.parseInt(request.getParameter("id"));
+            boolean liked = path.equals("/like");
+            
+            // 로그인 체크
+            HttpSession session = request.getSession();
+            UserDTO user = (UserDTO) session.getAttribute("user");
+            
+            if (user == null) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그인이 필요합니다.");
+                return;
+            }
+            
+            if (liked) {
+                keyboardDAO.likeKeyboard(keyboardId, user.getUserId());
+            } else {
+                keyboardDAO.unlikeKeyboard(keyboardId, user.getUserId());
+            }
+            
+            KeyboardDTO keyboard = keyboardDAO.getKeyboardById(keyboardId);
+            if (keyboard == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND, "키보드 정보를 찾을 수 없습니다.");
+                return;
+            }
+            
+            response.setContentType("application/json;charset=UTF-8");
+            response.setHeader("Cache-Control", "no-store");
+            response.getWriter().write("{\"liked\": " + LikeStore.getInstance().hasLiked(EntityType.KEYBOARD, keyboardId, user.getUserId())
+                    + ", \"likeCount\": " + keyboard.getLikeCount() + "}");
+        }
+    }
+    
+    /**
+     * 빈 파라미터 여부 확인
+     * @param value 요청 파라미터 값
+     * @return null 또는 빈 문자열이면 true
+     */
+    private boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+    
+    /**
+     * 로그인한 사용자가 좋아요를 누른 키보드 ID 목록을 요청 속성으로 설정 ("likedIds")
+     * @param request HTTP 요청
+     * @param keyboardList 키보드 목록
+     */
+    private void setLikedIds(HttpServletRequest request, List<KeyboardCardDTO> keyboardList) {
+        UserDTO user = (UserDTO) request.getSession().getAttribute("user");
+        if (user == null || keyboardList == null) {
+            request.setAttribute("likedIds", Collections.emptySet());
+            return;
+        }
+        
+        List<Integer> keyboardIds = new ArrayList<>();
+        for (KeyboardCardDTO keyboard : keyboardList) {
+            keyboardIds.add(keyboard.getKeyboardId());
+        }
+        request.setAttribute("likedIds", LikeStore.getInstance().getLikedIds(EntityType.KEYBOARD, user.getUserId(), keyboardIds));
+    }
+    
+    /**
+     * 브랜드, 스위치 타입, 사이즈, 연결 방식 목록을 요청 속성으로 설정
+     * @param request HTTP 요청
+     */
+    private void setFacetAttributes(HttpServletRequest request) {
+        Map<String, List<String>> facets = FacetValueCache.getInstance().getFacets(
+            Facet.KEYBOARD_BRAND, Facet.KEYBOARD_SWITCH_TYPE, Facet.KEYBOARD_LAYOUT, Facet.KEYBOARD_CONNECTIVITY);
+        
+        for (Map.Entry<String, List<String>> entry : facets.entrySet()) {
+            request.setAttribute(entry.getKey(), entry.getValue());
         }
     }
 }
\ No newline at end of file
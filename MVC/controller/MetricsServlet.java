@@ -0,0 +1,59 @@
+package com.kirini.controller;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import com.kirini.dto.UserDTO;
+import com.kirini.util.MetricsRegistry;
+
+/**
+ * 라우트별 요청 처리 시간, DAO 메서드별 처리 시간을 Prometheus 텍스트 형식으로 출력하는 서블릿
+ * 서버 내부(localhost)의 수집기 또는 관리자만 조회할 수 있다.
+ */
+@WebServlet("/metrics")
+public class MetricsServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * @see HttpServlet#doGet(HttpServletRequest request, HttpServletResponse response)
+     */
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        if (!isAllowed(request)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "접근 권한이 없습니다.");
+            return;
+        }
+        
+        response.setContentType("text/plain; version=0.0.4; charset=UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+        
+        PrintWriter writer = response.getWriter();
+        MetricsRegistry.getInstance().writePrometheus(writer);
+    }
+    
+    /**
+     * 조회 가능 여부 (localhost 요청 또는 관리자)
+     * @param request HTTP 요청 객체
+     * @return 조회 가능 여부
+     */
+    private boolean isAllowed(HttpServletRequest request) {
+        try {
+            if (InetAddress.getByName(request.getRemoteAddr()).isLoopbackAddress()) {
+                return true;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        
+        HttpSession session = request.getSession(false);
+        UserDTO user = session != null ? (UserDTO) session.getAttribute("user") : null;
+        return user != null && "ADMIN".equals(user.getRole());
+    }
+}
\ No newline at end of file
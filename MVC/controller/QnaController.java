@@ -15,10 +15,12 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import javax.servlet.http.Part;
 
+import com.kirini.dao.DictionaryDAO;
 import com.kirini.dto.QnaDTO;
 import com.kirini.dto.UserDTO;
 import com.kirini.service.QnaService;
 import com.kirini.util.FileUploadUtil;
+import com.kirini.util.GlossaryLinker;
 
 /**
  * Q&A 관련 요청을 처리하는 컨트롤러
@@ -33,6 +35,7 @@ import com.kirini.util.FileUploadUtil;
 public class QnaController extends HttpServlet {
     private static final long serialVersionUID = 1L;
     private QnaService qnaService;
+    private DictionaryDAO dictionaryDAO = new DictionaryDAO();
     
     @Override
     public void init() throws ServletException {
@@ -111,6 +114,13 @@ public class QnaController extends HttpServlet {
             // 질문 정보 가져오기
             QnaDTO qna = qnaService.getQnaById(qnaId);
             
+            // 본문의 용어사전 용어에 링크 추가 (수정되지 않은 글은 캐싱된 위치 사용)
+            if (qna != null) {
+                request.setAttribute("linkedContent", GlossaryLinker.getInstance().link(dictionaryDAO.getSnapshot(),
+                        GlossaryLinker.Source.QNA, qna.getQnaId(), qna.getModifiedDate(), qna.getContent(),
+                        request.getContextPath()));
+            }
+            
             request.setAttribute("qna", qna);
             request.getRequestDispatcher("/pages/qna_view.jsp").forward(request, response);
         } else if (path.equals("/write")) {
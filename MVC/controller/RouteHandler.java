@@ -0,0 +1,26 @@
+package com.kirini.controller;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * HandlerMapping에 HTTP 메서드별 라우트로 등록하는 요청 처리 메서드
+ * 컨트롤러가 경로별 if/else 분기 대신 처리 메서드를 직접 등록할 때 사용 (예: boardController::view)
+ * 경로 변수는 RouteMatch.of(request)로 조회한다.
+ */
+@FunctionalInterface
+public interface RouteHandler {
+    /**
+     * 요청 처리
+     * 
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @throws ServletException 서블릿 처리 중 발생한 예외
+     * @throws IOException 입출력 처리 중 발생한 예외
+     */
+    void handle(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException;
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.kirini.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.kirini.dao.BoardFileDAO;
+import com.kirini.dto.BoardFileDTO;
+import com.kirini.util.ConnectionContext;
+import com.kirini.util.FileConfigurationProperties;
+
+/**
+ * 게시글의 모든 첨부 파일을 하나의 ZIP으로 내려받는 서블릿
+ * 임시 파일 없이 ZipOutputStream으로 응답에 바로 쓰며, 파일 하나씩 고정 크기 버퍼로 복사하므로
+ * 전체 크기와 관계없이 메모리 사용량이 일정하다.
+ * 이미 압축된 형식(jpg, png, zip, 7z 등)은 다시 압축하지 않고 STORED로 저장한다.
+ */
+@WebServlet("/download/zip")
+public class ZipDownloadServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    
+    // 다시 압축해도 크기가 줄지 않는 확장자
+    private static final Set<String> STORED_EXTENSIONS = new HashSet<>(Arrays.asList(
+            "jpg", "jpeg", "png", "gif", "webp", "zip", "7z", "rar", "docx", "xlsx", "pptx"));
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private BoardFileDAO boardFileDAO = new BoardFileDAO();
+    
+    /**
+     * @see HttpServlet#doGet(HttpServletRequest request, HttpServletResponse response)
+     */
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        int boardId;
+        try {
+            boardId = Integer.parseInt(request.getParameter("boardId"));
+        } catch (NumberFormatException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "올바른 게시글 ID가 필요합니다.");
+            return;
+        }
+        
+        List<BoardFileDTO> boardFiles = boardFileDAO.getBoardFilesByBoardId(boardId);
+        if (boardFiles.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "첨부 파일이 없습니다.");
+            return;
+        }
+        
+        // 전송이 오래 걸릴 수 있으므로 요청 범위의 커넥션을 먼저 반환
+        ConnectionContext.releaseConnection();
+        
+        response.setContentType("application/zip");
+        response.setHeader("Content-Disposition", "attachment; filename=\"board_" + boardId + "_files.zip\"");
+        response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
+        
+        byte[] buffer = new byte[BUFFER_SIZE];
+        Set<String> entryNames = new HashSet<>();
+        
+        try (ZipOutputStream zip = new ZipOutputStream(response.getOutputStream())) {
+            for (BoardFileDTO boardFile : boardFiles) {
+                File file = new File(FileConfigurationProperties.UPLOAD_BASE_DIR + File.separator + boardFile.getSavedFilePath());
+                if (!file.isFile()) {
+                    // 서버에 없는 파일은 건너뜀
+                    continue;
+                }
+                
+                ZipEntry entry = new ZipEntry(uniqueEntryName(boardFile.getOriginalFileName(), entryNames));
+                if (boardFile.getUploadDate() != null) {
+                    entry.setTime(boardFile.getUploadDate().getTime());
+                }
+                
+                if (isStored(entry.getName())) {
+                    // STORED 항목은 헤더에 CRC와 크기가 먼저 필요하므로 한 번 더 읽어 계산
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(file.length());
+                    entry.setCompressedSize(file.length());
+                    entry.setCrc(crc32(file, buffer));
+                } else {
+                    entry.setMethod(ZipEntry.DEFLATED);
+                }
+                
+                zip.putNextEntry(entry);
+                try (InputStream in = Files.newInputStream(file.toPath())) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        zip.write(buffer, 0, read);
+                    }
+                }
+                zip.closeEntry();
+            }
+        } catch (IOException e) {
+            // 대부분 클라이언트가 다운로드를 취소한 경우 (응답이 이미 시작되어 오류 페이지를 보낼 수 없음)
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * ZIP 안에서 겹치지 않는 항목명 생성 (같은 이름이 있으면 "이름 (1).확장자" 형식)
+     * 경로 구분자는 제거하여 압축 해제 시 다른 디렉토리에 파일이 생기지 않도록 한다.
+     * @param originalFileName 원본 파일명
+     * @param entryNames 이미 사용한 항목명
+     * @return 항목명
+     */
+    private String uniqueEntryName(String originalFileName, Set<String> entryNames) {
+        String name = originalFileName == null ? "" : originalFileName.replace('\\', '_').replace('/', '_');
+        if (name.isEmpty() || name.equals(".") || name.equals("..")) {
+            name = "file";
+        }
+        
+        String baseName = name;
+        String extension = "";
+        int dot = name.lastIndexOf('.');
+        if (dot > 0) {
+            baseName = name.substring(0, dot);
+            extension = name.substring(dot);
+        }
+        
+        String candidate = name;
+        for (int i = 1; !entryNames.add(candidate.toLowerCase()); i++) {
+            candidate = baseName + " (" + i + ")" + extension;
+        }
+        return candidate;
+    }
+    
+    /**
+     * 이미 압축된 형식인지 확인
+     * @param fileName 파일명
+     * @return STORED로 저장할지 여부
+     */
+    private boolean isStored(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 && STORED_EXTENSIONS.contains(fileName.substring(dot + 1).toLowerCase());
+    }
+    
+    /**
+     * 파일의 CRC-32 계산
+     * @param file 파일
+     * @param buffer 읽기 버퍼
+     * @return CRC-32 값
+     * @throws IOException 파일 읽기 실패 시 예외 발생
+     */
+    private long crc32(File file, byte[] buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+}
\ No newline at end of file
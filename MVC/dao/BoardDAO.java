@@ -6,16 +6,41 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.kirini.dto.BoardDTO;
+import com.kirini.dto.BoardSummaryDTO;
+import com.kirini.dto.CursorPageDTO;
+import com.kirini.util.BoardCache;
+import com.kirini.util.BoardSearchIndex;
 import com.kirini.util.DBConnectionUtil;
+import com.kirini.util.EntityType;
+import com.kirini.util.ExcerptUtil;
+import com.kirini.util.LikeStore;
+import com.kirini.util.ListingCountCache;
+import com.kirini.util.ListingCountCache.Listing;
+import com.kirini.util.PageCursor;
+import com.kirini.util.ViewCountBuffer;
 
 /**
  * 게시글 정보에 관한 데이터베이스 접근을 담당하는 DAO
+ * 목록 조회는 본문(content) 대신 작성/수정 시 저장하는 요약(content_excerpt)만 읽는다.
+ *
+ * 필요한 스키마 변경:
+ *   ALTER TABLE boards ADD COLUMN content_excerpt VARCHAR(110) NULL;
+ * 기존 행의 요약은 시작 시 ExcerptBackfill이 ExcerptUtil로 채운다.
  */
 public class BoardDAO {
     
+    // 목록 조회용 컬럼 (본문 제외)
+    private static final String SUMMARY_COLUMNS = "board_id, title, content_excerpt, user_id, user_nickname, board_type, " +
+                                                  "view_count, like_count, comment_count, created_date, modified_date, file_name";
+    
+    // 커서 페이징 시 한 페이지에 조회할 게시글 수
+    private static final int CURSOR_PAGE_SIZE = 10;
+    
     /**
      * 게시글 등록
      * @param board 게시글 정보
@@ -29,18 +54,19 @@ public class BoardDAO {
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "INSERT INTO boards (title, content, user_id, user_nickname, board_type, created_date, file_name, file_path) " +
-                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+            String sql = "INSERT INTO boards (title, content, content_excerpt, user_id, user_nickname, board_type, created_date, file_name, file_path) " +
+                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
             
             pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
             pstmt.setString(1, board.getTitle());
             pstmt.setString(2, board.getContent());
-            pstmt.setInt(3, board.getUserId());
-            pstmt.setString(4, board.getUserNickname());
-            pstmt.setString(5, board.getBoardType());
-            pstmt.setTimestamp(6, new java.sql.Timestamp(board.getCreatedDate().getTime()));
-            pstmt.setString(7, board.getFileName());
-            pstmt.setString(8, board.getFilePath());
+            pstmt.setString(3, ExcerptUtil.excerpt(board.getContent()));
+            pstmt.setInt(4, board.getUserId());
+            pstmt.setString(5, board.getUserNickname());
+            pstmt.setString(6, board.getBoardType());
+            pstmt.setTimestamp(7, new java.sql.Timestamp(board.getCreatedDate().getTime()));
+            pstmt.setString(8, board.getFileName());
+            pstmt.setString(9, board.getFilePath());
             
             int result = pstmt.executeUpdate();
             
@@ -56,6 +82,13 @@ public class BoardDAO {
             DBConnectionUtil.close(rs, pstmt, conn);
         }
         
+        // 검색 색인, 목록 건수 반영
+        if (boardId > 0) {
+            ListingCountCache.getInstance().increment(Listing.BOARD, board.getBoardType());
+            BoardSearchIndex.getInstance().index(boardId, board.getBoardType(), board.getTitle(),
+                    board.getContent(), board.getUserNickname(), board.getCreatedDate());
+        }
+        
         return boardId;
     }
     
@@ -69,24 +102,33 @@ public class BoardDAO {
         PreparedStatement pstmt = null;
         int result = 0;
         
+        // 수정이 끝날 때까지 캐시된 게시글을 내주지 않음
+        BoardCache.getInstance().beginWrite(board.getBoardId());
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "UPDATE boards SET title = ?, content = ?, modified_date = ?, file_name = ?, file_path = ? " +
+            String sql = "UPDATE boards SET title = ?, content = ?, content_excerpt = ?, modified_date = ?, file_name = ?, file_path = ? " +
                          "WHERE board_id = ?";
             
             pstmt = conn.prepareStatement(sql);
             pstmt.setString(1, board.getTitle());
             pstmt.setString(2, board.getContent());
-            pstmt.setTimestamp(3, new java.sql.Timestamp(board.getModifiedDate().getTime()));
-            pstmt.setString(4, board.getFileName());
-            pstmt.setString(5, board.getFilePath());
-            pstmt.setInt(6, board.getBoardId());
+            pstmt.setString(3, ExcerptUtil.excerpt(board.getContent()));
+            pstmt.setTimestamp(4, new java.sql.Timestamp(board.getModifiedDate().getTime()));
+            pstmt.setString(5, board.getFileName());
+            pstmt.setString(6, board.getFilePath());
+            pstmt.setInt(7, board.getBoardId());
             
             result = pstmt.executeUpdate();
         } catch (SQLException e) {
             e.printStackTrace();
         } finally {
             DBConnectionUtil.close(null, pstmt, conn);
+            BoardCache.getInstance().endWrite(board.getBoardId());
+        }
+        
+        // 검색 색인 반영
+        if (result > 0) {
+            BoardSearchIndex.getInstance().update(board.getBoardId(), board.getTitle(), board.getContent());
         }
         
         return result > 0;
@@ -101,10 +143,16 @@ public class BoardDAO {
         Connection conn = null;
         PreparedStatement pstmt = null;
         int result = 0;
+        String boardType = null;
         
+        // 삭제가 끝날 때까지 캐시된 게시글을 내주지 않고, 끝나면 캐시에서 제거
+        BoardCache.getInstance().beginWrite(boardId);
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "UPDATE boards SET is_deleted = TRUE WHERE board_id = ?";
+            boardType = getBoardType(conn, boardId);
+            
+            // 이미 삭제된 게시글은 건수에서 다시 빼지 않도록 삭제되지 않은 행만 변경
+            String sql = "UPDATE boards SET is_deleted = TRUE WHERE board_id = ? AND is_deleted = FALSE";
             
             pstmt = conn.prepareStatement(sql);
             pstmt.setInt(1, boardId);
@@ -114,18 +162,34 @@ public class BoardDAO {
             e.printStackTrace();
         } finally {
             DBConnectionUtil.close(null, pstmt, conn);
+            BoardCache.getInstance().endWrite(boardId);
+        }
+        
+        // 검색 색인에서 제거, 목록 건수 반영
+        if (result > 0) {
+            ListingCountCache.getInstance().decrement(Listing.BOARD, boardType);
+            BoardSearchIndex.getInstance().remove(boardId);
         }
         
         return result > 0;
     }
     
     /**
-     * ID로 게시글 조회
+     * ID로 게시글 조회 (자주 조회되는 게시글은 BoardCache에서 반환)
      * @param boardId 게시글 ID
      * @return 게시글 정보
      */
     public BoardDTO getBoardById(int boardId) {
-        BoardDTO board = null;
+        BoardCache cache = BoardCache.getInstance();
+        BoardDTO board = cache.get(boardId);
+        if (board != null) {
+            // 아직 DB에 반영되지 않은 조회수 증가분 포함
+            board.setViewCount(board.getViewCount() + ViewCountBuffer.getInstance().getPendingDelta(EntityType.BOARD, boardId));
+            return board;
+        }
+        
+        // DB를 읽는 동안 수정/삭제되면 캐시에 저장하지 않도록 읽기 전 버전을 받아 둠
+        long stamp = cache.stamp(boardId);
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
@@ -140,21 +204,7 @@ public class BoardDAO {
             rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                board = new BoardDTO();
-                board.setBoardId(rs.getInt("board_id"));
-                board.setTitle(rs.getString("title"));
-                board.setContent(rs.getString("content"));
-                board.setUserId(rs.getInt("user_id"));
-                board.setUserNickname(rs.getString("user_nickname"));
-                board.setBoardType(rs.getString("board_type"));
-                board.setViewCount(rs.getInt("view_count"));
-                board.setLikeCount(rs.getInt("like_count"));
-                board.setCommentCount(rs.getInt("comment_count"));
-                board.setCreatedDate(rs.getTimestamp("created_date"));
-                board.setModifiedDate(rs.getTimestamp("modified_date"));
-                board.setDeleted(rs.getBoolean("is_deleted"));
-                board.setFileName(rs.getString("file_name"));
-                board.setFilePath(rs.getString("file_path"));
+                board = mapBoard(rs);
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -162,6 +212,12 @@ public class BoardDAO {
             DBConnectionUtil.close(rs, pstmt, conn);
         }
         
+        if (board != null) {
+            cache.put(board, stamp);
+            // 아직 DB에 반영되지 않은 조회수 증가분 포함
+            board.setViewCount(board.getViewCount() + ViewCountBuffer.getInstance().getPendingDelta(EntityType.BOARD, boardId));
+        }
+        
         return board;
     }
     
@@ -171,15 +227,15 @@ public class BoardDAO {
      * @param page 페이지 번호 (1부터 시작)
      * @return 게시글 목록
      */
-    public List<BoardDTO> getBoardsByType(String boardType, int page) {
-        List<BoardDTO> boardList = new ArrayList<>();
+    public List<BoardSummaryDTO> getBoardsByType(String boardType, int page) {
+        List<BoardSummaryDTO> boardList = new ArrayList<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT * FROM boards WHERE board_type = ? AND is_deleted = FALSE " +
+            String sql = "SELECT " + SUMMARY_COLUMNS + " FROM boards WHERE board_type = ? AND is_deleted = FALSE " +
                          "ORDER BY created_date DESC LIMIT 10 OFFSET ?";
             
             pstmt = conn.prepareStatement(sql);
@@ -189,23 +245,7 @@ public class BoardDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                BoardDTO board = new BoardDTO();
-                board.setBoardId(rs.getInt("board_id"));
-                board.setTitle(rs.getString("title"));
-                board.setContent(rs.getString("content"));
-                board.setUserId(rs.getInt("user_id"));
-                board.setUserNickname(rs.getString("user_nickname"));
-                board.setBoardType(rs.getString("board_type"));
-                board.setViewCount(rs.getInt("view_count"));
-                board.setLikeCount(rs.getInt("like_count"));
-                board.setCommentCount(rs.getInt("comment_count"));
-                board.setCreatedDate(rs.getTimestamp("created_date"));
-                board.setModifiedDate(rs.getTimestamp("modified_date"));
-                board.setDeleted(rs.getBoolean("is_deleted"));
-                board.setFileName(rs.getString("file_name"));
-                board.setFilePath(rs.getString("file_path"));
-                
-                boardList.add(board);
+                boardList.add(mapBoardSummary(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -222,30 +262,8 @@ public class BoardDAO {
      * @return 게시글 수
      */
     public int getTotalCount(String boardType) {
-        int count = 0;
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT COUNT(*) FROM boards WHERE board_type = ? AND is_deleted = FALSE";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, boardType);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                count = rs.getInt(1);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return count;
+        // 요청마다 COUNT(*)를 실행하지 않고 캐시된 건수 사용
+        return ListingCountCache.getInstance().getCount(Listing.BOARD, boardType);
     }
     
     /**
@@ -256,8 +274,8 @@ public class BoardDAO {
      * @param page 페이지 번호 (1부터 시작)
      * @return 검색 결과 게시글 목록
      */
-    public List<BoardDTO> searchBoards(String boardType, String searchType, String keyword, int page) {
-        List<BoardDTO> boardList = new ArrayList<>();
+    public List<BoardSummaryDTO> searchBoards(String boardType, String searchType, String keyword, int page) {
+        List<BoardSummaryDTO> boardList = new ArrayList<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
@@ -265,7 +283,7 @@ public class BoardDAO {
         try {
             conn = DBConnectionUtil.getConnection();
             StringBuilder sqlBuilder = new StringBuilder();
-            sqlBuilder.append("SELECT * FROM boards WHERE board_type = ? AND is_deleted = FALSE");
+            sqlBuilder.append("SELECT ").append(SUMMARY_COLUMNS).append(" FROM boards WHERE board_type = ? AND is_deleted = FALSE");
             
             if ("title".equals(searchType)) {
                 sqlBuilder.append(" AND title LIKE ?");
@@ -296,23 +314,7 @@ public class BoardDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                BoardDTO board = new BoardDTO();
-                board.setBoardId(rs.getInt("board_id"));
-                board.setTitle(rs.getString("title"));
-                board.setContent(rs.getString("content"));
-                board.setUserId(rs.getInt("user_id"));
-                board.setUserNickname(rs.getString("user_nickname"));
-                board.setBoardType(rs.getString("board_type"));
-                board.setViewCount(rs.getInt("view_count"));
-                board.setLikeCount(rs.getInt("like_count"));
-                board.setCommentCount(rs.getInt("comment_count"));
-                board.setCreatedDate(rs.getTimestamp("created_date"));
-                board.setModifiedDate(rs.getTimestamp("modified_date"));
-                board.setDeleted(rs.getBoolean("is_deleted"));
-                board.setFileName(rs.getString("file_name"));
-                board.setFilePath(rs.getString("file_path"));
-                
-                boardList.add(board);
+                boardList.add(mapBoardSummary(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -325,10 +327,11 @@ public class BoardDAO {
     
     /**
      * 검색 결과 전체 게시글 수 조회
+     * 일치하는 행을 끝까지 세지 않고 ListingCountCache.SEARCH_COUNT_CAP + 1건에서 멈춘다.
      * @param boardType 게시판 타입 (news, free, anonymous)
      * @param searchType 검색 타입 (title, content, user)
      * @param keyword 검색어
-     * @return 검색 결과 게시글 수
+     * @return 검색 결과 게시글 수 (상한을 넘으면 SEARCH_COUNT_CAP + 1)
      */
     public int getTotalSearchCount(String boardType, String searchType, String keyword) {
         int count = 0;
@@ -339,7 +342,7 @@ public class BoardDAO {
         try {
             conn = DBConnectionUtil.getConnection();
             StringBuilder sqlBuilder = new StringBuilder();
-            sqlBuilder.append("SELECT COUNT(*) FROM boards WHERE board_type = ? AND is_deleted = FALSE");
+            sqlBuilder.append("SELECT COUNT(*) FROM (SELECT 1 FROM boards WHERE board_type = ? AND is_deleted = FALSE");
             
             if ("title".equals(searchType)) {
                 sqlBuilder.append(" AND title LIKE ?");
@@ -351,6 +354,8 @@ public class BoardDAO {
                 sqlBuilder.append(" AND (title LIKE ? OR content LIKE ?)");
             }
             
+            sqlBuilder.append(" LIMIT ").append(ListingCountCache.SEARCH_COUNT_CAP + 1).append(") matched");
+            
             String sql = sqlBuilder.toString();
             pstmt = conn.prepareStatement(sql);
             
@@ -379,42 +384,29 @@ public class BoardDAO {
     }
     
     /**
-     * 게시글 조회수 증가
+     * 조회수 증가
+     * 매 조회마다 UPDATE를 실행하지 않고 ViewCountBuffer에 모았다가 주기적으로 일괄 반영
      * @param boardId 게시글 ID
-     * @return 업데이트 성공 여부
+     * @return 항상 true (버퍼에 기록)
      */
     public boolean increaseViewCount(int boardId) {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        int result = 0;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "UPDATE boards SET view_count = view_count + 1 WHERE board_id = ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, boardId);
-            
-            result = pstmt.executeUpdate();
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(null, pstmt, conn);
-        }
-        
-        return result > 0;
+        ViewCountBuffer.getInstance().increment(EntityType.BOARD, boardId);
+        return true;
     }
     
     /**
      * 게시글 좋아요 수 증가
      * @param boardId 게시글 ID
      * @return 업데이트 성공 여부
+     * @deprecated likeBoard(int, int) 사용 (likes 테이블과 LikeStore를 거치지 않아 사용자별 중복을 막지 못함)
      */
+    @Deprecated
     public boolean increaseLikeCount(int boardId) {
         Connection conn = null;
         PreparedStatement pstmt = null;
         int result = 0;
         
+        BoardCache.getInstance().beginWrite(boardId);
         try {
             conn = DBConnectionUtil.getConnection();
             String sql = "UPDATE boards SET like_count = like_count + 1 WHERE board_id = ?";
@@ -427,6 +419,8 @@ public class BoardDAO {
             e.printStackTrace();
         } finally {
             DBConnectionUtil.close(null, pstmt, conn);
+            // 캐시된 게시글에도 같은 변경 적용
+            BoardCache.getInstance().endWrite(boardId, result > 0 ? b -> b.setLikeCount(b.getLikeCount() + 1) : null);
         }
         
         return result > 0;
@@ -436,12 +430,15 @@ public class BoardDAO {
      * 게시글 좋아요 수 감소
      * @param boardId 게시글 ID
      * @return 업데이트 성공 여부
+     * @deprecated unlikeBoard(int, int) 사용 (likes 테이블과 LikeStore를 거치지 않아 사용자별 중복을 막지 못함)
      */
+    @Deprecated
     public boolean decreaseLikeCount(int boardId) {
         Connection conn = null;
         PreparedStatement pstmt = null;
         int result = 0;
         
+        BoardCache.getInstance().beginWrite(boardId);
         try {
             conn = DBConnectionUtil.getConnection();
             String sql = "UPDATE boards SET like_count = GREATEST(like_count - 1, 0) WHERE board_id = ?";
@@ -454,11 +451,53 @@ public class BoardDAO {
             e.printStackTrace();
         } finally {
             DBConnectionUtil.close(null, pstmt, conn);
+            // 캐시된 게시글에도 같은 변경 적용
+            BoardCache.getInstance().endWrite(boardId, result > 0 ? b -> b.setLikeCount(Math.max(b.getLikeCount() - 1, 0)) : null);
         }
         
         return result > 0;
     }
     
+    /**
+     * 게시글 좋아요 (사용자당 한 번만 like_count에 반영)
+     * @param boardId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 새로 좋아요가 기록되었으면 true (이미 누른 경우 false)
+     */
+    public boolean likeBoard(int boardId, int userId) {
+        boolean changed = false;
+        
+        BoardCache.getInstance().beginWrite(boardId);
+        try {
+            changed = LikeStore.getInstance().like(EntityType.BOARD, boardId, userId);
+        } finally {
+            // 캐시된 게시글에도 같은 변경 적용
+            BoardCache.getInstance().endWrite(boardId, changed ? b -> b.setLikeCount(b.getLikeCount() + 1) : null);
+        }
+        
+        return changed;
+    }
+    
+    /**
+     * 게시글 좋아요 취소
+     * @param boardId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 좋아요가 취소되었으면 true (누르지 않은 경우 false)
+     */
+    public boolean unlikeBoard(int boardId, int userId) {
+        boolean changed = false;
+        
+        BoardCache.getInstance().beginWrite(boardId);
+        try {
+            changed = LikeStore.getInstance().unlike(EntityType.BOARD, boardId, userId);
+        } finally {
+            // 캐시된 게시글에도 같은 변경 적용
+            BoardCache.getInstance().endWrite(boardId, changed ? b -> b.setLikeCount(Math.max(b.getLikeCount() - 1, 0)) : null);
+        }
+        
+        return changed;
+    }
+    
     /**
      * 게시글 댓글 수 증가
      * @param boardId 게시글 ID
@@ -469,6 +508,7 @@ public class BoardDAO {
         PreparedStatement pstmt = null;
         int result = 0;
         
+        BoardCache.getInstance().beginWrite(boardId);
         try {
             conn = DBConnectionUtil.getConnection();
             String sql = "UPDATE boards SET comment_count = comment_count + 1 WHERE board_id = ?";
@@ -481,6 +521,8 @@ public class BoardDAO {
             e.printStackTrace();
         } finally {
             DBConnectionUtil.close(null, pstmt, conn);
+            // 캐시된 게시글에도 같은 변경 적용
+            BoardCache.getInstance().endWrite(boardId, result > 0 ? b -> b.setCommentCount(b.getCommentCount() + 1) : null);
         }
         
         return result > 0;
@@ -496,6 +538,7 @@ public class BoardDAO {
         PreparedStatement pstmt = null;
         int result = 0;
         
+        BoardCache.getInstance().beginWrite(boardId);
         try {
             conn = DBConnectionUtil.getConnection();
             String sql = "UPDATE boards SET comment_count = GREATEST(comment_count - 1, 0) WHERE board_id = ?";
@@ -508,6 +551,8 @@ public class BoardDAO {
             e.printStackTrace();
         } finally {
             DBConnectionUtil.close(null, pstmt, conn);
+            // 캐시된 게시글에도 같은 변경 적용
+            BoardCache.getInstance().endWrite(boardId, result > 0 ? b -> b.setCommentCount(Math.max(b.getCommentCount() - 1, 0)) : null);
         }
         
         return result > 0;
@@ -519,15 +564,15 @@ public class BoardDAO {
      * @param page 페이지 번호 (1부터 시작)
      * @return 게시글 목록
      */
-    public List<BoardDTO> getBoardsByUserId(int userId, int page) {
-        List<BoardDTO> boardList = new ArrayList<>();
+    public List<BoardSummaryDTO> getBoardsByUserId(int userId, int page) {
+        List<BoardSummaryDTO> boardList = new ArrayList<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT * FROM boards WHERE user_id = ? AND is_deleted = FALSE " +
+            String sql = "SELECT " + SUMMARY_COLUMNS + " FROM boards WHERE user_id = ? AND is_deleted = FALSE " +
                          "ORDER BY created_date DESC LIMIT 10 OFFSET ?";
             
             pstmt = conn.prepareStatement(sql);
@@ -537,23 +582,7 @@ public class BoardDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                BoardDTO board = new BoardDTO();
-                board.setBoardId(rs.getInt("board_id"));
-                board.setTitle(rs.getString("title"));
-                board.setContent(rs.getString("content"));
-                board.setUserId(rs.getInt("user_id"));
-                board.setUserNickname(rs.getString("user_nickname"));
-                board.setBoardType(rs.getString("board_type"));
-                board.setViewCount(rs.getInt("view_count"));
-                board.setLikeCount(rs.getInt("like_count"));
-                board.setCommentCount(rs.getInt("comment_count"));
-                board.setCreatedDate(rs.getTimestamp("created_date"));
-                board.setModifiedDate(rs.getTimestamp("modified_date"));
-                board.setDeleted(rs.getBoolean("is_deleted"));
-                board.setFileName(rs.getString("file_name"));
-                board.setFilePath(rs.getString("file_path"));
-                
-                boardList.add(board);
+                boardList.add(mapBoardSummary(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -595,4 +624,249 @@ public class BoardDAO {
         
         return count;
     }
+    
+    /**
+     * 게시판 타입별 게시글 목록 조회 (커서 페이징)
+     * OFFSET 없이 (created_date, board_id) 기준으로 이어서 조회하므로 뒤쪽 페이지도 첫 페이지와 같은 비용
+     * @param boardType 게시판 타입 (news, free, anonymous)
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @return 게시글 목록과 다음 커서
+     */
+    public CursorPageDTO<BoardSummaryDTO> getBoardsByTypeAfter(String boardType, String cursor) {
+        List<Object> params = new ArrayList<>();
+        params.add(boardType);
+        
+        return getBoardPageAfter("board_type = ?", params, cursor);
+    }
+    
+    /**
+     * 게시글 검색 (커서 페이징)
+     * @param boardType 게시판 타입 (news, free, anonymous)
+     * @param searchType 검색 타입 (title, content, user)
+     * @param keyword 검색어
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @return 검색 결과 게시글 목록과 다음 커서
+     */
+    public CursorPageDTO<BoardSummaryDTO> searchBoardsAfter(String boardType, String searchType, String keyword, String cursor) {
+        List<Object> params = new ArrayList<>();
+        params.add(boardType);
+        
+        String searchKeyword = "%" + keyword + "%";
+        String condition;
+        
+        if ("title".equals(searchType)) {
+            condition = "board_type = ? AND title LIKE ?";
+            params.add(searchKeyword);
+        } else if ("content".equals(searchType)) {
+            condition = "board_type = ? AND content LIKE ?";
+            params.add(searchKeyword);
+        } else if ("user".equals(searchType)) {
+            condition = "board_type = ? AND user_nickname LIKE ?";
+            params.add(searchKeyword);
+        } else {
+            condition = "board_type = ? AND (title LIKE ? OR content LIKE ?)";
+            params.add(searchKeyword);
+            params.add(searchKeyword);
+        }
+        
+        return getBoardPageAfter(condition, params, cursor);
+    }
+    
+    /**
+     * 사용자가 작성한 게시글 목록 조회 (커서 페이징)
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @return 게시글 목록과 다음 커서
+     */
+    public CursorPageDTO<BoardSummaryDTO> getBoardsByUserIdAfter(int userId, String cursor) {
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+        
+        return getBoardPageAfter("user_id = ?", params, cursor);
+    }
+    
+    /**
+     * 커서 이후의 게시글 한 페이지 조회
+     * 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회한다.
+     * @param condition 추가 WHERE 조건 (is_deleted 조건은 자동으로 포함)
+     * @param params 조건에 바인딩할 값 목록
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @return 게시글 목록과 다음 커서
+     */
+    private CursorPageDTO<BoardSummaryDTO> getBoardPageAfter(String condition, List<Object> params, String cursor) {
+        List<BoardSummaryDTO> boardList = new ArrayList<>();
+        String nextCursor = null;
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        java.sql.Timestamp cursorDate = pageCursor != null ? pageCursor.getTimestamp() : null;
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            StringBuilder sqlBuilder = new StringBuilder();
+            sqlBuilder.append("SELECT ").append(SUMMARY_COLUMNS).append(" FROM boards WHERE ").append(condition).append(" AND is_deleted = FALSE");
+            
+            if (cursorDate != null) {
+                sqlBuilder.append(" AND (created_date < ? OR (created_date = ? AND board_id < ?))");
+            }
+            
+            sqlBuilder.append(" ORDER BY created_date DESC, board_id DESC LIMIT ?");
+            
+            pstmt = conn.prepareStatement(sqlBuilder.toString());
+            
+            int index = 1;
+            for (Object param : params) {
+                pstmt.setObject(index++, param);
+            }
+            
+            if (cursorDate != null) {
+                pstmt.setTimestamp(index++, cursorDate);
+                pstmt.setTimestamp(index++, cursorDate);
+                pstmt.setInt(index++, pageCursor.getId());
+            }
+            
+            pstmt.setInt(index, CURSOR_PAGE_SIZE + 1);
+            
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                if (boardList.size() == CURSOR_PAGE_SIZE) {
+                    // 한 건이 더 있으면 다음 페이지 존재
+                    BoardSummaryDTO last = boardList.get(boardList.size() - 1);
+                    nextCursor = PageCursor.encode(last.getCreatedDate(), last.getBoardId());
+                    break;
+                }
+                
+                boardList.add(mapBoardSummary(rs));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DBConnectionUtil.close(rs, pstmt, conn);
+        }
+        
+        return new CursorPageDTO<>(boardList, nextCursor);
+    }
+    
+    /**
+     * ID 목록으로 게시글 조회 (검색 색인 결과 조회용)
+     * @param boardIds 게시글 ID 목록
+     * @return 게시글 목록 (boardIds 순서 유지, 삭제된 게시글 제외)
+     */
+    public List<BoardSummaryDTO> getBoardsByIds(List<Integer> boardIds) {
+        List<BoardSummaryDTO> boardList = new ArrayList<>();
+        if (boardIds == null || boardIds.isEmpty()) {
+            return boardList;
+        }
+        
+        Map<Integer, BoardSummaryDTO> boardMap = new HashMap<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            StringBuilder sqlBuilder = new StringBuilder();
+            sqlBuilder.append("SELECT ").append(SUMMARY_COLUMNS).append(" FROM boards WHERE is_deleted = FALSE AND board_id IN (");
+            for (int i = 0; i < boardIds.size(); i++) {
+                sqlBuilder.append(i == 0 ? "?" : ", ?");
+            }
+            sqlBuilder.append(")");
+            
+            pstmt = conn.prepareStatement(sqlBuilder.toString());
+            for (int i = 0; i < boardIds.size(); i++) {
+                pstmt.setInt(i + 1, boardIds.get(i));
+            }
+            
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                BoardSummaryDTO board = mapBoardSummary(rs);
+                boardMap.put(board.getBoardId(), board);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DBConnectionUtil.close(rs, pstmt, conn);
+        }
+        
+        for (Integer boardId : boardIds) {
+            BoardSummaryDTO board = boardMap.get(boardId);
+            if (board != null) {
+                boardList.add(board);
+            }
+        }
+        
+        return boardList;
+    }
+    
+    /**
+     * 게시판 타입 조회 (삭제 전 목록 건수 반영용)
+     * @param conn 사용 중인 커넥션
+     * @param boardId 게시글 ID
+     * @return 게시판 타입 (없거나 이미 삭제된 경우 null)
+     * @throws SQLException 조회 실패 시 예외 발생
+     */
+    private String getBoardType(Connection conn, int boardId) throws SQLException {
+        String sql = "SELECT board_type FROM boards WHERE board_id = ? AND is_deleted = FALSE";
+        
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, boardId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getString("board_type") : null;
+            }
+        }
+    }
+    
+    /**
+     * ResultSet의 현재 행을 BoardDTO로 변환 (boards 테이블 전체 컬럼)
+     * @param rs 조회 결과
+     * @return 게시글 정보
+     * @throws SQLException 컬럼 조회 실패 시 예외 발생
+     */
+    BoardDTO mapBoard(ResultSet rs) throws SQLException {
+        BoardDTO board = new BoardDTO();
+        board.setBoardId(rs.getInt("board_id"));
+        board.setTitle(rs.getString("title"));
+        board.setContent(rs.getString("content"));
+        board.setUserId(rs.getInt("user_id"));
+        board.setUserNickname(rs.getString("user_nickname"));
+        board.setBoardType(rs.getString("board_type"));
+        board.setViewCount(rs.getInt("view_count"));
+        board.setLikeCount(rs.getInt("like_count"));
+        board.setCommentCount(rs.getInt("comment_count"));
+        board.setCreatedDate(rs.getTimestamp("created_date"));
+        board.setModifiedDate(rs.getTimestamp("modified_date"));
+        board.setDeleted(rs.getBoolean("is_deleted"));
+        board.setFileName(rs.getString("file_name"));
+        board.setFilePath(rs.getString("file_path"));
+        return board;
+    }
+    
+    /**
+     * 조회 결과의 현재 행을 BoardSummaryDTO로 변환 (SUMMARY_COLUMNS로 조회한 결과)
+     * @param rs 조회 결과
+     * @return 게시글 요약 정보
+     * @throws SQLException 컬럼 조회 실패 시 예외 발생
+     */
+    private BoardSummaryDTO mapBoardSummary(ResultSet rs) throws SQLException {
+        BoardSummaryDTO board = new BoardSummaryDTO();
+        board.setBoardId(rs.getInt("board_id"));
+        board.setTitle(rs.getString("title"));
+        board.setExcerpt(rs.getString("content_excerpt"));
+        board.setUserId(rs.getInt("user_id"));
+        board.setUserNickname(rs.getString("user_nickname"));
+        board.setBoardType(rs.getString("board_type"));
+        board.setViewCount(rs.getInt("view_count"));
+        board.setLikeCount(rs.getInt("like_count"));
+        board.setCommentCount(rs.getInt("comment_count"));
+        board.setCreatedDate(rs.getTimestamp("created_date"));
+        board.setModifiedDate(rs.getTimestamp("modified_date"));
+        board.setFileName(rs.getString("file_name"));
+        
+        return board;
+    }
 }
\ No newline at end of file
@@ -6,13 +6,25 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.kirini.dto.BoardFileDTO;
+import com.kirini.util.BlobStore;
 import com.kirini.util.DBConnectionUtil;
 
 /**
  * 게시판 첨부 파일 정보에 관한 데이터베이스 접근을 담당하는 DAO
+ * 파일 내용은 BlobStore에 해시(content_hash)별로 한 번만 저장되며,
+ * 삭제되지 않은 board_files 행이 해당 파일의 참조가 된다. 마지막 참조가 삭제되면 파일도 정리한다.
+ *
+ * 필요한 스키마 변경:
+ *   ALTER TABLE board_files ADD COLUMN content_hash CHAR(64) NULL;
+ *   CREATE INDEX idx_board_files_content_hash ON board_files (content_hash, is_deleted);
+ *   ALTER TABLE board_files ADD COLUMN thumbnail_path VARCHAR(255) NULL;
+ *   CREATE INDEX idx_board_files_saved_file_path ON board_files (saved_file_path);
+ *   ALTER TABLE board_files ADD COLUMN deleted_date DATETIME NULL;
  */
 public class BoardFileDAO {
     
@@ -30,7 +42,7 @@ public class BoardFileDAO {
         try {
             conn = DBConnectionUtil.getConnection();
             String sql = "INSERT INTO board_files (board_id, original_file_name, saved_file_path, file_size, " +
-                         "file_type, upload_date, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?)";
+                         "file_type, upload_date, is_deleted, content_hash) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
             
             pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
             pstmt.setInt(1, boardFile.getBoardId());
@@ -40,6 +52,7 @@ public class BoardFileDAO {
             pstmt.setString(5, boardFile.getFileType());
             pstmt.setTimestamp(6, new java.sql.Timestamp(boardFile.getUploadDate().getTime()));
             pstmt.setBoolean(7, boardFile.isDeleted());
+            pstmt.setString(8, boardFile.getContentHash());
             
             int result = pstmt.executeUpdate();
             
@@ -79,15 +92,7 @@ public class BoardFileDAO {
             rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                boardFile = new BoardFileDTO();
-                boardFile.setFileId(rs.getInt("file_id"));
-                boardFile.setBoardId(rs.getInt("board_id"));
-                boardFile.setOriginalFileName(rs.getString("original_file_name"));
-                boardFile.setSavedFilePath(rs.getString("saved_file_path"));
-                boardFile.setFileSize(rs.getLong("file_size"));
-                boardFile.setFileType(rs.getString("file_type"));
-                boardFile.setUploadDate(rs.getTimestamp("upload_date"));
-                boardFile.setDeleted(rs.getBoolean("is_deleted"));
+                boardFile = mapBoardFile(rs);
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -119,17 +124,7 @@ public class BoardFileDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                BoardFileDTO boardFile = new BoardFileDTO();
-                boardFile.setFileId(rs.getInt("file_id"));
-                boardFile.setBoardId(rs.getInt("board_id"));
-                boardFile.setOriginalFileName(rs.getString("original_file_name"));
-                boardFile.setSavedFilePath(rs.getString("saved_file_path"));
-                boardFile.setFileSize(rs.getLong("file_size"));
-                boardFile.setFileType(rs.getString("file_type"));
-                boardFile.setUploadDate(rs.getTimestamp("upload_date"));
-                boardFile.setDeleted(rs.getBoolean("is_deleted"));
-                
-                boardFiles.add(boardFile);
+                boardFiles.add(mapBoardFile(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -142,6 +137,7 @@ public class BoardFileDAO {
     
     /**
      * 첨부 파일 삭제 (실제 삭제가 아닌 deleted 플래그 설정)
+     * 같은 내용을 참조하는 다른 첨부 파일이 없으면 저장된 파일도 정리
      * @param fileId 삭제할 파일 ID
      * @return 삭제 성공 여부
      */
@@ -152,12 +148,18 @@ public class BoardFileDAO {
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "UPDATE board_files SET is_deleted = true WHERE file_id = ?";
+            Set<String> contentHashes = getContentHashes(conn, "file_id", fileId);
+            
+            String sql = "UPDATE board_files SET is_deleted = true, deleted_date = NOW() WHERE file_id = ? AND is_deleted = false";
             
             pstmt = conn.prepareStatement(sql);
             pstmt.setInt(1, fileId);
             
             result = pstmt.executeUpdate();
+            
+            if (result > 0) {
+                releaseUnreferenced(conn, contentHashes);
+            }
         } catch (SQLException e) {
             e.printStackTrace();
         } finally {
@@ -169,6 +171,7 @@ public class BoardFileDAO {
     
     /**
      * 게시글의 모든 첨부 파일 삭제 (실제 삭제가 아닌 deleted 플래그 설정)
+     * 같은 내용을 참조하는 다른 첨부 파일이 없으면 저장된 파일도 정리
      * @param boardId 게시글 ID
      * @return 삭제 성공 여부
      */
@@ -179,12 +182,18 @@ public class BoardFileDAO {
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "UPDATE board_files SET is_deleted = true WHERE board_id = ?";
+            Set<String> contentHashes = getContentHashes(conn, "board_id", boardId);
+            
+            String sql = "UPDATE board_files SET is_deleted = true, deleted_date = NOW() WHERE board_id = ? AND is_deleted = false";
             
             pstmt = conn.prepareStatement(sql);
             pstmt.setInt(1, boardId);
             
             result = pstmt.executeUpdate();
+            
+            if (result > 0) {
+                releaseUnreferenced(conn, contentHashes);
+            }
         } catch (SQLException e) {
             e.printStackTrace();
         } finally {
@@ -194,6 +203,56 @@ public class BoardFileDAO {
         return result > 0;
     }
     
+    /**
+     * 목록용 썸네일 경로 기록 (같은 파일을 공유하는 모든 첨부 파일에 기록)
+     * @param savedFilePath 원본 저장 경로
+     * @param thumbnailPath 썸네일 경로
+     * @return 수정 성공 여부
+     */
+    public boolean updateThumbnailPath(String savedFilePath, String thumbnailPath) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        int result = 0;
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            String sql = "UPDATE board_files SET thumbnail_path = ? WHERE saved_file_path = ? AND thumbnail_path IS NULL";
+            
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, thumbnailPath);
+            pstmt.setString(2, savedFilePath);
+            
+            result = pstmt.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DBConnectionUtil.close(null, pstmt, conn);
+        }
+        
+        return result > 0;
+    }
+    
+    /**
+     * 같은 내용을 참조하는 첨부 파일 수 조회 (삭제되지 않은 행 기준)
+     * @param contentHash 파일 내용 해시
+     * @return 참조 수
+     */
+    public int countReferences(String contentHash) {
+        Connection conn = null;
+        int count = 0;
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            count = countReferences(conn, contentHash);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DBConnectionUtil.close(null, null, conn);
+        }
+        
+        return count;
+    }
+    
     /**
      * 이미지 파일 목록 조회 (게시글 ID 기준)
      * @param boardId 게시글 ID
@@ -219,17 +278,7 @@ public class BoardFileDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                BoardFileDTO boardFile = new BoardFileDTO();
-                boardFile.setFileId(rs.getInt("file_id"));
-                boardFile.setBoardId(rs.getInt("board_id"));
-                boardFile.setOriginalFileName(rs.getString("original_file_name"));
-                boardFile.setSavedFilePath(rs.getString("saved_file_path"));
-                boardFile.setFileSize(rs.getLong("file_size"));
-                boardFile.setFileType(rs.getString("file_type"));
-                boardFile.setUploadDate(rs.getTimestamp("upload_date"));
-                boardFile.setDeleted(rs.getBoolean("is_deleted"));
-                
-                imageFiles.add(boardFile);
+                imageFiles.add(mapBoardFile(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -271,4 +320,84 @@ public class BoardFileDAO {
         
         return count;
     }
+    
+    /**
+     * 삭제 대상 첨부 파일의 내용 해시 목록 조회
+     * @param conn 데이터베이스 연결
+     * @param column 조건 컬럼 (file_id 또는 board_id)
+     * @param id 조건 값
+     * @return 내용 해시 목록 (이전 방식으로 저장된 파일은 제외)
+     * @throws SQLException 조회 실패 시 예외 발생
+     */
+    private Set<String> getContentHashes(Connection conn, String column, int id) throws SQLException {
+        Set<String> contentHashes = new HashSet<>();
+        String sql = "SELECT content_hash FROM board_files WHERE " + column + " = ? AND is_deleted = false " +
+                     "AND content_hash IS NOT NULL";
+        
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    contentHashes.add(rs.getString("content_hash"));
+                }
+            }
+        }
+        
+        return contentHashes;
+    }
+    
+    /**
+     * 참조 수 조회
+     * @param conn 데이터베이스 연결
+     * @param contentHash 파일 내용 해시
+     * @return 참조 수
+     * @throws SQLException 조회 실패 시 예외 발생
+     */
+    private int countReferences(Connection conn, String contentHash) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM board_files WHERE content_hash = ? AND is_deleted = false";
+        
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, contentHash);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+    
+    /**
+     * 참조가 모두 삭제된 파일 정리
+     * @param conn 데이터베이스 연결
+     * @param contentHashes 삭제 처리한 첨부 파일의 내용 해시 목록
+     * @throws SQLException 조회 실패 시 예외 발생
+     */
+    private void releaseUnreferenced(Connection conn, Set<String> contentHashes) throws SQLException {
+        for (String contentHash : contentHashes) {
+            if (countReferences(conn, contentHash) == 0) {
+                BlobStore.getInstance().release(contentHash);
+            }
+        }
+    }
+    
+    /**
+     * ResultSet의 현재 행을 BoardFileDTO로 변환
+     * @param rs 조회 결과
+     * @return 첨부 파일 정보
+     * @throws SQLException 컬럼 조회 실패 시 예외 발생
+     */
+    BoardFileDTO mapBoardFile(ResultSet rs) throws SQLException {
+        BoardFileDTO boardFile = new BoardFileDTO();
+        boardFile.setFileId(rs.getInt("file_id"));
+        boardFile.setBoardId(rs.getInt("board_id"));
+        boardFile.setOriginalFileName(rs.getString("original_file_name"));
+        boardFile.setSavedFilePath(rs.getString("saved_file_path"));
+        boardFile.setFileSize(rs.getLong("file_size"));
+        boardFile.setFileType(rs.getString("file_type"));
+        boardFile.setUploadDate(rs.getTimestamp("upload_date"));
+        boardFile.setDeleted(rs.getBoolean("is_deleted"));
+        boardFile.setContentHash(rs.getString("content_hash"));
+        boardFile.setThumbnailPath(rs.getString("thumbnail_path"));
+        return boardFile;
+    }
 }
\ No newline at end of file
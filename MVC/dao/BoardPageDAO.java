@@ -0,0 +1,106 @@
+package com.kirini.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.kirini.dto.BoardDTO;
+import com.kirini.dto.BoardPageDTO;
+import com.kirini.util.BoardCache;
+import com.kirini.util.DBConnectionUtil;
+import com.kirini.util.EntityType;
+import com.kirini.util.ViewCountBuffer;
+
+/**
+ * 게시글 상세 화면 조회를 담당하는 DAO
+ * 게시글, 댓글 목록, 첨부 파일 목록을 커넥션 하나로 차례로 조회한다.
+ * 요청 범위(ConnectionContext)가 열려 있으면 그 커넥션을 그대로 쓰므로 풀 대여는 요청당 한 번이다.
+ * 게시글이 BoardCache에 있으면 게시글 쿼리는 빼고 댓글, 첨부 파일만 조회한다.
+ */
+public class BoardPageDAO {
+    
+    private static final String BOARD_SQL =
+            "SELECT * FROM boards WHERE board_id = ? AND is_deleted = FALSE";
+    
+    private static final String COMMENTS_SQL =
+            "SELECT * FROM comments WHERE board_id = ? AND is_deleted = FALSE " +
+            "ORDER BY IF(parent_comment_id = 0, comment_id, parent_comment_id), created_date";
+    
+    private static final String FILES_SQL =
+            "SELECT * FROM board_files WHERE board_id = ? AND is_deleted = false ORDER BY file_id";
+    
+    private BoardDAO boardDAO = new BoardDAO();
+    private CommentDAO commentDAO = new CommentDAO();
+    private BoardFileDAO boardFileDAO = new BoardFileDAO();
+    
+    /**
+     * 게시글 상세 화면 정보 조회
+     * @param boardId 게시글 ID
+     * @return 게시글, 댓글, 첨부 파일 정보 (게시글이 없으면 board가 null이고 목록은 비어 있음)
+     */
+    public BoardPageDTO getBoardPage(int boardId) {
+        BoardPageDTO page = new BoardPageDTO();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        BoardCache cache = BoardCache.getInstance();
+        BoardDTO cached = cache.get(boardId);
+        // DB를 읽는 동안 수정/삭제되면 캐시에 저장하지 않도록 읽기 전 버전을 받아 둠
+        long stamp = cache.stamp(boardId);
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            
+            // 1. 게시글
+            if (cached == null) {
+                pstmt = conn.prepareStatement(BOARD_SQL);
+                pstmt.setInt(1, boardId);
+                rs = pstmt.executeQuery();
+                if (rs.next()) {
+                    BoardDTO board = boardDAO.mapBoard(rs);
+                    cache.put(board, stamp);
+                    page.setBoard(board);
+                }
+                rs.close();
+                pstmt.close();
+            } else {
+                page.setBoard(cached);
+            }
+            
+            // 삭제되었거나 없는 게시글의 댓글, 파일은 조회하지 않음
+            if (page.getBoard() == null) {
+                return page;
+            }
+            
+            // 2. 댓글 목록
+            pstmt = conn.prepareStatement(COMMENTS_SQL);
+            pstmt.setInt(1, boardId);
+            rs = pstmt.executeQuery();
+            while (rs.next()) {
+                page.getCommentList().add(commentDAO.mapComment(rs));
+            }
+            rs.close();
+            pstmt.close();
+            
+            // 3. 첨부 파일 목록
+            pstmt = conn.prepareStatement(FILES_SQL);
+            pstmt.setInt(1, boardId);
+            rs = pstmt.executeQuery();
+            while (rs.next()) {
+                page.getFileList().add(boardFileDAO.mapBoardFile(rs));
+            }
+            
+            // 아직 DB에 반영되지 않은 조회수 증가분 포함
+            BoardDTO board = page.getBoard();
+            board.setViewCount(board.getViewCount() + ViewCountBuffer.getInstance().getPendingDelta(EntityType.BOARD, boardId));
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DBConnectionUtil.close(rs, pstmt, conn);
+        }
+        
+        return page;
+    }
+}
\ No newline at end of file
@@ -137,16 +137,7 @@ public class CommentDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                CommentDTO comment = new CommentDTO();
-                comment.setCommentId(rs.getInt("comment_id"));
-                comment.setBoardId(rs.getInt("board_id"));
-                comment.setUserId(rs.getInt("user_id"));
-                comment.setUserNickname(rs.getString("user_nickname"));
-                comment.setContent(rs.getString("content"));
-                comment.setCreatedDate(rs.getTimestamp("created_date"));
-                comment.setModifiedDate(rs.getTimestamp("modified_date"));
-                comment.setParentCommentId(rs.getInt("parent_comment_id"));
-                comment.setDeleted(rs.getBoolean("is_deleted"));
+                CommentDTO comment = mapComment(rs);
                 
                 commentList.add(comment);
             }
@@ -180,16 +171,7 @@ public class CommentDAO {
             rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                comment = new CommentDTO();
-                comment.setCommentId(rs.getInt("comment_id"));
-                comment.setBoardId(rs.getInt("board_id"));
-                comment.setUserId(rs.getInt("user_id"));
-                comment.setUserNickname(rs.getString("user_nickname"));
-                comment.setContent(rs.getString("content"));
-                comment.setCreatedDate(rs.getTimestamp("created_date"));
-                comment.setModifiedDate(rs.getTimestamp("modified_date"));
-                comment.setParentCommentId(rs.getInt("parent_comment_id"));
-                comment.setDeleted(rs.getBoolean("is_deleted"));
+                comment = mapComment(rs);
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -227,16 +209,7 @@ public class CommentDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                CommentDTO comment = new CommentDTO();
-                comment.setCommentId(rs.getInt("comment_id"));
-                comment.setBoardId(rs.getInt("board_id"));
-                comment.setUserId(rs.getInt("user_id"));
-                comment.setUserNickname(rs.getString("user_nickname"));
-                comment.setContent(rs.getString("content"));
-                comment.setCreatedDate(rs.getTimestamp("created_date"));
-                comment.setModifiedDate(rs.getTimestamp("modified_date"));
-                comment.setParentCommentId(rs.getInt("parent_comment_id"));
-                comment.setDeleted(rs.getBoolean("is_deleted"));
+                CommentDTO comment = mapComment(rs);
                 comment.setBoardTitle(rs.getString("board_title")); // 게시글 제목은 추가 정보로 포함
                 
                 commentList.add(comment);
@@ -281,4 +254,24 @@ public class CommentDAO {
         
         return count;
     }
+    
+    /**
+     * ResultSet의 현재 행을 CommentDTO로 변환 (comments 테이블 전체 컬럼)
+     * @param rs 조회 결과
+     * @return 댓글 정보
+     * @throws SQLException 컬럼 조회 실패 시 예외 발생
+     */
+    CommentDTO mapComment(ResultSet rs) throws SQLException {
+        CommentDTO comment = new CommentDTO();
+        comment.setCommentId(rs.getInt("comment_id"));
+        comment.setBoardId(rs.getInt("board_id"));
+        comment.setUserId(rs.getInt("user_id"));
+        comment.setUserNickname(rs.getString("user_nickname"));
+        comment.setContent(rs.getString("content"));
+        comment.setCreatedDate(rs.getTimestamp("created_date"));
+        comment.setModifiedDate(rs.getTimestamp("modified_date"));
+        comment.setParentId(rs.getInt("parent_comment_id"));
+        comment.setDeleted(rs.getBoolean("is_deleted"));
+        return comment;
+    }
 }
\ No newline at end of file
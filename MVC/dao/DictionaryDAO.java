@@ -6,16 +6,34 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import com.kirini.dto.CursorPageDTO;
 import com.kirini.dto.DictionaryDTO;
 import com.kirini.util.DBConnectionUtil;
+import com.kirini.util.DictionaryCache;
+import com.kirini.util.DictionarySnapshot;
+import com.kirini.util.EntityType;
+import com.kirini.util.FacetValueCache;
+import com.kirini.util.FacetValueCache.Facet;
+import com.kirini.util.ListingCountCache;
+import com.kirini.util.PageCursor;
+import com.kirini.util.TermAutocomplete;
+import com.kirini.util.ViewCountBuffer;
 
 /**
  * 키보드 용어사전 정보에 관한 데이터베이스 접근을 담당하는 DAO
+ * 용어사전은 작고 대부분 읽기 요청이므로 조회는 모두 DictionaryCache의 스냅샷에서 처리하고,
+ * DB는 처음 한 번 전체를 읽을 때와 등록/수정/삭제 시에만 사용한다.
  */
 public class DictionaryDAO {
     
+    private static final String SELECT_SQL = "SELECT d.*, u.nickname AS user_nickname " +
+                                             "FROM dictionary d " +
+                                             "LEFT JOIN users u ON d.user_id = u.user_id ";
+    
     /**
      * 새로운 용어 등록
      * @param dictionary 용어사전 정보
@@ -55,6 +73,12 @@ public class DictionaryDAO {
             DBConnectionUtil.close(rs, pstmt, conn);
         }
         
+        // 카테고리 목록, 용어사전 스냅샷 반영
+        if (dictionaryId > 0) {
+            FacetValueCache.getInstance().adjust(Facet.DICTIONARY_CATEGORY, null, dictionary.getCategory());
+            refreshCache(dictionaryId);
+        }
+        
         return dictionaryId;
     }
     
@@ -67,9 +91,12 @@ public class DictionaryDAO {
         Connection conn = null;
         PreparedStatement pstmt = null;
         int result = 0;
+        String oldCategory = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
+            oldCategory = getCategoryOf(conn, dictionary.getDictionaryId());
+            
             String sql = "UPDATE dictionary SET term = ?, definition = ?, category = ?, modified_date = ?, image_url = ? " +
                          "WHERE dictionary_id = ?";
             
@@ -88,6 +115,12 @@ public class DictionaryDAO {
             DBConnectionUtil.close(null, pstmt, conn);
         }
         
+        // 카테고리 목록, 용어사전 스냅샷 반영
+        if (result > 0) {
+            FacetValueCache.getInstance().adjust(Facet.DICTIONARY_CATEGORY, oldCategory, dictionary.getCategory());
+            refreshCache(dictionary.getDictionaryId());
+        }
+        
         return result > 0;
     }
     
@@ -100,9 +133,12 @@ public class DictionaryDAO {
         Connection conn = null;
         PreparedStatement pstmt = null;
         int result = 0;
+        String oldCategory = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
+            oldCategory = getCategoryOf(conn, dictionaryId);
+            
             String sql = "DELETE FROM dictionary WHERE dictionary_id = ?";
             
             pstmt = conn.prepareStatement(sql);
@@ -115,6 +151,12 @@ public class DictionaryDAO {
             DBConnectionUtil.close(null, pstmt, conn);
         }
         
+        // 카테고리 목록, 용어사전 스냅샷 반영
+        if (result > 0) {
+            FacetValueCache.getInstance().adjust(Facet.DICTIONARY_CATEGORY, oldCategory, null);
+            refreshCache(dictionaryId);
+        }
+        
         return result > 0;
     }
     
@@ -124,42 +166,14 @@ public class DictionaryDAO {
      * @return 용어사전 정보
      */
     public DictionaryDTO getDictionaryById(int dictionaryId) {
-        DictionaryDTO dictionary = null;
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT d.*, u.nickname AS user_nickname " +
-                         "FROM dictionary d " +
-                         "LEFT JOIN users u ON d.user_id = u.user_id " +
-                         "WHERE d.dictionary_id = ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, dictionaryId);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                dictionary = new DictionaryDTO();
-                dictionary.setDictionaryId(rs.getInt("dictionary_id"));
-                dictionary.setTerm(rs.getString("term"));
-                dictionary.setDefinition(rs.getString("definition"));
-                dictionary.setCategory(rs.getString("category"));
-                dictionary.setViewCount(rs.getInt("view_count"));
-                dictionary.setUserId(rs.getInt("user_id"));
-                dictionary.setUserNickname(rs.getString("user_nickname"));
-                dictionary.setCreatedDate(rs.getTimestamp("created_date"));
-                dictionary.setModifiedDate(rs.getTimestamp("modified_date"));
-                dictionary.setImageUrl(rs.getString("image_url"));
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
+        DictionarySnapshot.Entry entry = snapshot().getById(dictionaryId);
+        if (entry == null) {
+            return null;
         }
         
+        DictionaryDTO dictionary = copyOf(entry);
+        // 아직 DB에 반영되지 않은 조회수 증가분 포함
+        dictionary.setViewCount(dictionary.getViewCount() + ViewCountBuffer.getInstance().getPendingDelta(EntityType.DICTIONARY, dictionaryId));
         return dictionary;
     }
     
@@ -169,43 +183,8 @@ public class DictionaryDAO {
      * @return 용어사전 정보
      */
     public DictionaryDTO getDictionaryByTerm(String term) {
-        DictionaryDTO dictionary = null;
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT d.*, u.nickname AS user_nickname " +
-                         "FROM dictionary d " +
-                         "LEFT JOIN users u ON d.user_id = u.user_id " +
-                         "WHERE d.term = ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, term);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                dictionary = new DictionaryDTO();
-                dictionary.setDictionaryId(rs.getInt("dictionary_id"));
-                dictionary.setTerm(rs.getString("term"));
-                dictionary.setDefinition(rs.getString("definition"));
-                dictionary.setCategory(rs.getString("category"));
-                dictionary.setViewCount(rs.getInt("view_count"));
-                dictionary.setUserId(rs.getInt("user_id"));
-                dictionary.setUserNickname(rs.getString("user_nickname"));
-                dictionary.setCreatedDate(rs.getTimestamp("created_date"));
-                dictionary.setModifiedDate(rs.getTimestamp("modified_date"));
-                dictionary.setImageUrl(rs.getString("image_url"));
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return dictionary;
+        DictionarySnapshot.Entry entry = snapshot().getByTerm(term);
+        return entry != null ? copyOf(entry) : null;
     }
     
     /**
@@ -214,45 +193,31 @@ public class DictionaryDAO {
      * @return 용어사전 목록
      */
     public List<DictionaryDTO> getAllDictionary(int page) {
-        List<DictionaryDTO> dictionaryList = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
+        return copyOf(snapshot().list(null, (page - 1) * 20, 20)); // 20개씩 페이징
+    }
+    
+    /**
+     * 모든 용어 목록 조회 (커서 페이징)
+     * 기존 목록과 같은 용어명 순서를 유지하기 위해 (term, dictionary_id) 기준으로 이어서 조회
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @return 용어사전 목록과 다음 커서
+     */
+    public CursorPageDTO<DictionaryDTO> getAllDictionaryAfter(String cursor) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
         
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT d.*, u.nickname AS user_nickname " +
-                         "FROM dictionary d " +
-                         "LEFT JOIN users u ON d.user_id = u.user_id " +
-                         "ORDER BY d.term ASC LIMIT 20 OFFSET ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, (page - 1) * 20); // 20개씩 페이징
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                DictionaryDTO dictionary = new DictionaryDTO();
-                dictionary.setDictionaryId(rs.getInt("dictionary_id"));
-                dictionary.setTerm(rs.getString("term"));
-                dictionary.setDefinition(rs.getString("definition"));
-                dictionary.setCategory(rs.getString("category"));
-                dictionary.setViewCount(rs.getInt("view_count"));
-                dictionary.setUserId(rs.getInt("user_id"));
-                dictionary.setUserNickname(rs.getString("user_nickname"));
-                dictionary.setCreatedDate(rs.getTimestamp("created_date"));
-                dictionary.setModifiedDate(rs.getTimestamp("modified_date"));
-                dictionary.setImageUrl(rs.getString("image_url"));
-                
-                dictionaryList.add(dictionary);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
+        List<DictionarySnapshot.Entry> entries = pageCursor != null
+                ? snapshot().listAfter(pageCursor.getKey(), pageCursor.getId(), 21)
+                : snapshot().listAfter(null, 0, 21); // 20개 + 다음 페이지 확인용 1개
+        
+        String nextCursor = null;
+        if (entries.size() > 20) {
+            // 한 건이 더 있으면 다음 페이지 존재
+            entries = entries.subList(0, 20);
+            DictionarySnapshot.Entry last = entries.get(19);
+            nextCursor = PageCursor.encode(last.getDictionary().getTerm(), last.getId());
         }
         
-        return dictionaryList;
+        return new CursorPageDTO<>(copyOf(entries), nextCursor);
     }
     
     /**
@@ -262,47 +227,10 @@ public class DictionaryDAO {
      * @return 용어사전 목록
      */
     public List<DictionaryDTO> getDictionaryByCategory(String category, int page) {
-        List<DictionaryDTO> dictionaryList = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT d.*, u.nickname AS user_nickname " +
-                         "FROM dictionary d " +
-                         "LEFT JOIN users u ON d.user_id = u.user_id " +
-                         "WHERE d.category = ? " +
-                         "ORDER BY d.term ASC LIMIT 20 OFFSET ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, category);
-            pstmt.setInt(2, (page - 1) * 20); // 20개씩 페이징
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                DictionaryDTO dictionary = new DictionaryDTO();
-                dictionary.setDictionaryId(rs.getInt("dictionary_id"));
-                dictionary.setTerm(rs.getString("term"));
-                dictionary.setDefinition(rs.getString("definition"));
-                dictionary.setCategory(rs.getString("category"));
-                dictionary.setViewCount(rs.getInt("view_count"));
-                dictionary.setUserId(rs.getInt("user_id"));
-                dictionary.setUserNickname(rs.getString("user_nickname"));
-                dictionary.setCreatedDate(rs.getTimestamp("created_date"));
-                dictionary.setModifiedDate(rs.getTimestamp("modified_date"));
-                dictionary.setImageUrl(rs.getString("image_url"));
-                
-                dictionaryList.add(dictionary);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
+        if (category == null) {
+            return new ArrayList<>();
         }
-        
-        return dictionaryList;
+        return copyOf(snapshot().list(category, (page - 1) * 20, 20)); // 20개씩 페이징
     }
     
     /**
@@ -313,61 +241,7 @@ public class DictionaryDAO {
      * @return 검색 결과 용어사전 목록
      */
     public List<DictionaryDTO> searchDictionary(String keyword, String category, int page) {
-        List<DictionaryDTO> dictionaryList = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            StringBuilder sqlBuilder = new StringBuilder();
-            sqlBuilder.append("SELECT d.*, u.nickname AS user_nickname ");
-            sqlBuilder.append("FROM dictionary d ");
-            sqlBuilder.append("LEFT JOIN users u ON d.user_id = u.user_id ");
-            sqlBuilder.append("WHERE (d.term LIKE ? OR d.definition LIKE ?) ");
-            
-            if (category != null && !category.isEmpty()) {
-                sqlBuilder.append("AND d.category = ? ");
-            }
-            
-            sqlBuilder.append("ORDER BY d.term ASC LIMIT 20 OFFSET ?");
-            String sql = sqlBuilder.toString();
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, "%" + keyword + "%");
-            pstmt.setString(2, "%" + keyword + "%");
-            
-            if (category != null && !category.isEmpty()) {
-                pstmt.setString(3, category);
-                pstmt.setInt(4, (page - 1) * 20); // 20개씩 페이징
-            } else {
-                pstmt.setInt(3, (page - 1) * 20); // 20개씩 페이징
-            }
-            
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                DictionaryDTO dictionary = new DictionaryDTO();
-                dictionary.setDictionaryId(rs.getInt("dictionary_id"));
-                dictionary.setTerm(rs.getString("term"));
-                dictionary.setDefinition(rs.getString("definition"));
-                dictionary.setCategory(rs.getString("category"));
-                dictionary.setViewCount(rs.getInt("view_count"));
-                dictionary.setUserId(rs.getInt("user_id"));
-                dictionary.setUserNickname(rs.getString("user_nickname"));
-                dictionary.setCreatedDate(rs.getTimestamp("created_date"));
-                dictionary.setModifiedDate(rs.getTimestamp("modified_date"));
-                dictionary.setImageUrl(rs.getString("image_url"));
-                
-                dictionaryList.add(dictionary);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return dictionaryList;
+        return copyOf(snapshot().search(keyword, emptyToNull(category), (page - 1) * 20, 20)); // 20개씩 페이징
     }
     
     /**
@@ -375,28 +249,7 @@ public class DictionaryDAO {
      * @return 전체 용어 수
      */
     public int getTotalCount() {
-        int count = 0;
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT COUNT(*) FROM dictionary";
-            
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                count = rs.getInt(1);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return count;
+        return snapshot().size();
     }
     
     /**
@@ -405,129 +258,206 @@ public class DictionaryDAO {
      * @return 카테고리별 용어 수
      */
     public int getTotalCountByCategory(String category) {
-        int count = 0;
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT COUNT(*) FROM dictionary WHERE category = ?";
-            
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, category);
-            
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                count = rs.getInt(1);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return count;
+        return category != null ? snapshot().countByCategory(category) : 0;
     }
     
     /**
      * 검색 결과의 전체 용어 수 조회
+     * 다른 목록과 같이 ListingCountCache.SEARCH_COUNT_CAP + 1건에서 세기를 멈춘다.
      * @param keyword 검색 키워드
      * @param category 카테고리 (null이면 전체 카테고리 검색)
-     * @return 검색 결과 용어 수
+     * @return 검색 결과 용어 수 (상한을 넘으면 SEARCH_COUNT_CAP + 1)
      */
     public int getTotalSearchCount(String keyword, String category) {
-        int count = 0;
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
+        return snapshot().searchCount(keyword, emptyToNull(category), ListingCountCache.SEARCH_COUNT_CAP + 1);
+    }
+    
+    /**
+     * 용어 자동완성 후보 조회 (용어명 접두사 또는 한글 초성)
+     * @param query 입력 중인 문자열
+     * @param limit 최대 건수 (TermAutocomplete.TOP_K 이하)
+     * @return 조회수 순 후보 목록
+     */
+    public List<TermAutocomplete.Suggestion> autocomplete(String query, int limit) {
+        TermAutocomplete autocomplete = TermAutocomplete.getInstance();
+        if (!autocomplete.isLoaded()) {
+            autocomplete.load(this::snapshot);
+        }
+        return autocomplete.suggest(query, limit);
+    }
+    
+    /**
+     * 현재 용어사전 스냅샷 조회 (본문 용어 링크 등 전체 용어가 필요한 곳에서 사용)
+     * @return 스냅샷
+     */
+    public DictionarySnapshot getSnapshot() {
+        return snapshot();
+    }
+    
+    /**
+     * 모든 카테고리 목록 조회
+     * @return 카테고리 목록
+     */
+    public List<String> getAllCategories() {
+        // 요청마다 SELECT DISTINCT를 실행하지 않고 캐시된 목록 사용
+        return FacetValueCache.getInstance().getValues(Facet.DICTIONARY_CATEGORY);
+    }
+    
+    /**
+     * 조회수 증가
+     * 매 조회마다 UPDATE를 실행하지 않고 ViewCountBuffer에 모았다가 주기적으로 일괄 반영
+     * @param dictionaryId 용어사전 ID
+     * @return 항상 true (버퍼에 기록)
+     */
+    public boolean increaseViewCount(int dictionaryId) {
+        ViewCountBuffer.getInstance().increment(EntityType.DICTIONARY, dictionaryId);
+        return true;
+    }
+    
+    /**
+     * 용어의 기존 카테고리 조회 (수정/삭제 전 확인용)
+     * @param conn 사용 중인 커넥션
+     * @param dictionaryId 용어사전 ID
+     * @return 카테고리 (없으면 null)
+     * @throws SQLException 조회 실패 시 예외 발생
+     */
+    private String getCategoryOf(Connection conn, int dictionaryId) throws SQLException {
+        String sql = "SELECT category FROM dictionary WHERE dictionary_id = ?";
         
-        try {
-            conn = DBConnectionUtil.getConnection();
-            StringBuilder sqlBuilder = new StringBuilder();
-            sqlBuilder.append("SELECT COUNT(*) FROM dictionary WHERE (term LIKE ? OR definition LIKE ?) ");
-            
-            if (category != null && !category.isEmpty()) {
-                sqlBuilder.append("AND category = ?");
-            }
-            
-            String sql = sqlBuilder.toString();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, "%" + keyword + "%");
-            pstmt.setString(2, "%" + keyword + "%");
-            
-            if (category != null && !category.isEmpty()) {
-                pstmt.setString(3, category);
-            }
-            
-            rs = pstmt.executeQuery();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, dictionaryId);
             
-            if (rs.next()) {
-                count = rs.getInt(1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getString("category") : null;
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
         }
+    }
+    
+    /**
+     * 현재 용어사전 스냅샷 조회 (처음 한 번은 DB에서 전체를 읽음)
+     * @return 스냅샷
+     */
+    private DictionarySnapshot snapshot() {
+        return DictionaryCache.getInstance().getSnapshot(this::selectAllDictionary);
+    }
+    
+    /**
+     * 등록/수정/삭제한 용어를 DB에서 다시 읽어 스냅샷과 자동완성 색인에 반영 (커밋 후 호출)
+     * @param dictionaryId 용어사전 ID
+     */
+    private void refreshCache(int dictionaryId) {
+        DictionaryCache.getInstance().refresh(dictionaryId, () -> selectDictionary(dictionaryId));
         
-        return count;
+        DictionarySnapshot.Entry entry = snapshot().getById(dictionaryId);
+        if (entry != null) {
+            TermAutocomplete.getInstance().put(dictionaryId, entry.getDictionary());
+        } else {
+            TermAutocomplete.getInstance().remove(dictionaryId);
+        }
     }
     
     /**
-     * 모든 카테고리 목록 조회
-     * @return 카테고리 목록
+     * 전체 용어 조회 (스냅샷 생성용)
+     * @return 용어 ID -> 용어사전 정보
+     * @throws SQLException 조회 실패 시 예외 발생
      */
-    public List<String> getAllCategories() {
-        List<String> categories = new ArrayList<>();
+    private Map<Integer, DictionaryDTO> selectAllDictionary() throws SQLException {
+        Map<Integer, DictionaryDTO> dictionaries = new LinkedHashMap<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT DISTINCT category FROM dictionary ORDER BY category";
+            pstmt = conn.prepareStatement(SELECT_SQL);
             
-            pstmt = conn.prepareStatement(sql);
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                categories.add(rs.getString("category"));
+                dictionaries.put(rs.getInt("dictionary_id"), mapDictionary(rs));
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
         } finally {
             DBConnectionUtil.close(rs, pstmt, conn);
         }
         
-        return categories;
+        return dictionaries;
     }
     
     /**
-     * 조회수 증가
+     * 용어 하나 조회 (스냅샷 갱신용)
      * @param dictionaryId 용어사전 ID
-     * @return 업데이트 성공 여부
+     * @return 용어사전 정보 (없으면 null)
+     * @throws SQLException 조회 실패 시 예외 발생
      */
-    public boolean increaseViewCount(int dictionaryId) {
+    private DictionaryDTO selectDictionary(int dictionaryId) throws SQLException {
         Connection conn = null;
         PreparedStatement pstmt = null;
-        int result = 0;
+        ResultSet rs = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "UPDATE dictionary SET view_count = view_count + 1 WHERE dictionary_id = ?";
-            
-            pstmt = conn.prepareStatement(sql);
+            pstmt = conn.prepareStatement(SELECT_SQL + "WHERE d.dictionary_id = ?");
             pstmt.setInt(1, dictionaryId);
             
-            result = pstmt.executeUpdate();
-        } catch (SQLException e) {
-            e.printStackTrace();
+            rs = pstmt.executeQuery();
+            
+            return rs.next() ? mapDictionary(rs) : null;
         } finally {
-            DBConnectionUtil.close(null, pstmt, conn);
+            DBConnectionUtil.close(rs, pstmt, conn);
         }
-        
-        return result > 0;
+    }
+    
+    /**
+     * ResultSet의 현재 행을 DictionaryDTO로 변환
+     * @param rs 조회 결과
+     * @return 용어사전 정보
+     * @throws SQLException 컬럼 조회 실패 시 예외 발생
+     */
+    private DictionaryDTO mapDictionary(ResultSet rs) throws SQLException {
+        DictionaryDTO dictionary = new DictionaryDTO();
+        dictionary.setDictionaryId(rs.getInt("dictionary_id"));
+        dictionary.setTerm(rs.getString("term"));
+        dictionary.setDefinition(rs.getString("definition"));
+        dictionary.setCategory(rs.getString("category"));
+        dictionary.setViewCount(rs.getInt("view_count"));
+        dictionary.setUserId(rs.getInt("user_id"));
+        dictionary.setUserNickname(rs.getString("user_nickname"));
+        dictionary.setCreatedDate(rs.getTimestamp("created_date"));
+        dictionary.setModifiedDate(rs.getTimestamp("modified_date"));
+        dictionary.setImageUrl(rs.getString("image_url"));
+        return dictionary;
+    }
+    
+    /**
+     * 스냅샷 항목을 복사해 반환 (화면에서 수정해도 스냅샷은 바뀌지 않도록 함)
+     * @param entry 스냅샷 항목
+     * @return 용어사전 정보 (스냅샷 생성 후 DB에 반영된 조회수 포함)
+     */
+    private DictionaryDTO copyOf(DictionarySnapshot.Entry entry) {
+        DictionaryDTO source = entry.getDictionary();
+        DictionaryDTO dictionary = new DictionaryDTO();
+        dictionary.setDictionaryId(entry.getId());
+        dictionary.setTerm(source.getTerm());
+        dictionary.setDefinition(source.getDefinition());
+        dictionary.setCategory(source.getCategory());
+        dictionary.setViewCount(source.getViewCount() + DictionaryCache.getInstance().getFlushedViews(entry.getId()));
+        dictionary.setUserId(source.getUserId());
+        dictionary.setUserNickname(source.getUserNickname());
+        dictionary.setCreatedDate(source.getCreatedDate());
+        dictionary.setModifiedDate(source.getModifiedDate());
+        dictionary.setImageUrl(source.getImageUrl());
+        return dictionary;
+    }
+    
+    private List<DictionaryDTO> copyOf(List<DictionarySnapshot.Entry> entries) {
+        List<DictionaryDTO> dictionaryList = new ArrayList<>();
+        for (DictionarySnapshot.Entry entry : entries) {
+            dictionaryList.add(copyOf(entry));
+        }
+        return dictionaryList;
+    }
+    
+    private static String emptyToNull(String value) {
+        return value != null && !value.isEmpty() ? value : null;
     }
 }
\ No newline at end of file
@@ -6,16 +6,39 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import com.kirini.dto.CursorPageDTO;
+import com.kirini.dto.KeyboardCardDTO;
 import com.kirini.dto.KeyboardDTO;
 import com.kirini.util.DBConnectionUtil;
+import com.kirini.util.EntityType;
+import com.kirini.util.ExcerptUtil;
+import com.kirini.util.FacetValueCache;
+import com.kirini.util.FacetValueCache.Facet;
+import com.kirini.util.KeyboardCatalogIndex;
+import com.kirini.util.LikeStore;
+import com.kirini.util.ListingCountCache;
+import com.kirini.util.ListingCountCache.Listing;
+import com.kirini.util.PageCursor;
+import com.kirini.util.ViewCountBuffer;
 
 /**
  * 키보드 제품 정보에 관한 데이터베이스 접근을 담당하는 DAO
+ * 목록(카드) 조회는 상세 설명(description) 대신 등록/수정 시 저장하는 요약(description_excerpt)만 읽는다.
+ *
+ * 필요한 스키마 변경:
+ *   ALTER TABLE keyboards ADD COLUMN description_excerpt VARCHAR(110) NULL;
+ * 기존 행의 요약은 시작 시 ExcerptBackfill이 ExcerptUtil로 채운다.
  */
 public class KeyboardDAO {
     
+    // 목록(카드) 조회용 컬럼 (상세 설명 제외)
+    private static final String CARD_COLUMNS = "k.keyboard_id, k.name, k.brand, k.price, k.switch_type, k.layout, k.connectivity, " +
+                                               "k.description_excerpt, k.view_count, k.like_count, k.created_date, k.image_url";
+    
     /**
      * 새로운 키보드 정보 등록
      * @param keyboard 키보드 정보
@@ -30,9 +53,9 @@ public class KeyboardDAO {
         try {
             conn = DBConnectionUtil.getConnection();
             String sql = "INSERT INTO keyboards (name, brand, price, switch_type, layout, backlight, " +
-                        "connectivity, keycap_material, case_material, description, user_id, " +
+                        "connectivity, keycap_material, case_material, description, description_excerpt, user_id, " +
                         "created_date, image_url) " +
-                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
             
             pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
             pstmt.setString(1, keyboard.getName());
@@ -45,9 +68,10 @@ public class KeyboardDAO {
             pstmt.setString(8, keyboard.getKeycapMaterial());
             pstmt.setString(9, keyboard.getCaseMaterial());
             pstmt.setString(10, keyboard.getDescription());
-            pstmt.setInt(11, keyboard.getUserId());
-            pstmt.setTimestamp(12, new java.sql.Timestamp(keyboard.getCreatedDate().getTime()));
-            pstmt.setString(13, keyboard.getImageUrl());
+            pstmt.setString(11, ExcerptUtil.excerpt(keyboard.getDescription()));
+            pstmt.setInt(12, keyboard.getUserId());
+            pstmt.setTimestamp(13, new java.sql.Timestamp(keyboard.getCreatedDate().getTime()));
+            pstmt.setString(14, keyboard.getImageUrl());
             
             int result = pstmt.executeUpdate();
             
@@ -64,6 +88,15 @@ public class KeyboardDAO {
             DBConnectionUtil.close(rs, pstmt, conn);
         }
         
+        // 카탈로그 색인, 선택 목록 캐시 반영
+        if (keyboardId > 0) {
+            KeyboardCatalogIndex.getInstance().index(keyboardId, keyboard.getName(), keyboard.getBrand(),
+                    keyboard.getPrice(), keyboard.getSwitchType(), keyboard.getLayout(), keyboard.getConnectionType(),
+                    keyboard.getDescription(), keyboard.getRegisteredDate());
+            adjustFacets(null, facetValuesOf(keyboard));
+            ListingCountCache.getInstance().increment(Listing.KEYBOARD);
+        }
+        
         return keyboardId;
     }
     
@@ -76,12 +109,15 @@ public class KeyboardDAO {
         Connection conn = null;
         PreparedStatement pstmt = null;
         int result = 0;
+        String[] oldFacets = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
+            oldFacets = getFacetValues(conn, keyboard.getKeyboardId());
+            
             String sql = "UPDATE keyboards SET name = ?, brand = ?, price = ?, switch_type = ?, layout = ?, " +
                         "backlight = ?, connectivity = ?, keycap_material = ?, case_material = ?, description = ?, " +
-                        "modified_date = ?, image_url = ? " +
+                        "description_excerpt = ?, modified_date = ?, image_url = ? " +
                         "WHERE keyboard_id = ?";
             
             pstmt = conn.prepareStatement(sql);
@@ -95,9 +131,10 @@ public class KeyboardDAO {
             pstmt.setString(8, keyboard.getKeycapMaterial());
             pstmt.setString(9, keyboard.getCaseMaterial());
             pstmt.setString(10, keyboard.getDescription());
-            pstmt.setTimestamp(11, new java.sql.Timestamp(keyboard.getModifiedDate().getTime()));
-            pstmt.setString(12, keyboard.getImageUrl());
-            pstmt.setInt(13, keyboard.getKeyboardId());
+            pstmt.setString(11, ExcerptUtil.excerpt(keyboard.getDescription()));
+            pstmt.setTimestamp(12, new java.sql.Timestamp(keyboard.getModifiedDate().getTime()));
+            pstmt.setString(13, keyboard.getImageUrl());
+            pstmt.setInt(14, keyboard.getKeyboardId());
             
             result = pstmt.executeUpdate();
         } catch (SQLException e) {
@@ -106,6 +143,14 @@ public class KeyboardDAO {
             DBConnectionUtil.close(null, pstmt, conn);
         }
         
+        // 카탈로그 색인, 선택 목록 캐시 반영
+        if (result > 0) {
+            KeyboardCatalogIndex.getInstance().update(keyboard.getKeyboardId(), keyboard.getName(), keyboard.getBrand(),
+                    keyboard.getPrice(), keyboard.getSwitchType(), keyboard.getLayout(), keyboard.getConnectionType(),
+                    keyboard.getDescription());
+            adjustFacets(oldFacets, facetValuesOf(keyboard));
+        }
+        
         return result > 0;
     }
     
@@ -118,9 +163,12 @@ public class KeyboardDAO {
         Connection conn = null;
         PreparedStatement pstmt = null;
         int result = 0;
+        String[] oldFacets = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
+            oldFacets = getFacetValues(conn, keyboardId);
+            
             String sql = "DELETE FROM keyboards WHERE keyboard_id = ?";
             
             pstmt = conn.prepareStatement(sql);
@@ -133,6 +181,13 @@ public class KeyboardDAO {
             DBConnectionUtil.close(null, pstmt, conn);
         }
         
+        // 카탈로그 색인, 선택 목록 캐시에서 제거
+        if (result > 0) {
+            KeyboardCatalogIndex.getInstance().remove(keyboardId);
+            adjustFacets(oldFacets, null);
+            ListingCountCache.getInstance().decrement(Listing.KEYBOARD);
+        }
+        
         return result > 0;
     }
     
@@ -171,7 +226,8 @@ public class KeyboardDAO {
                 keyboard.setKeycapMaterial(rs.getString("keycap_material"));
                 keyboard.setCaseMaterial(rs.getString("case_material"));
                 keyboard.setDescription(rs.getString("description"));
-                keyboard.setViewCount(rs.getInt("view_count"));
+                // 아직 DB에 반영되지 않은 조회수 증가분 포함
+                keyboard.setViewCount(rs.getInt("view_count") + ViewCountBuffer.getInstance().getPendingDelta(EntityType.KEYBOARD, keyboardId));
                 keyboard.setLikeCount(rs.getInt("like_count"));
                 keyboard.setUserId(rs.getInt("user_id"));
                 keyboard.setUserNickname(rs.getString("user_nickname"));
@@ -193,15 +249,15 @@ public class KeyboardDAO {
      * @param page 페이지 번호 (1부터 시작)
      * @return 키보드 정보 목록
      */
-    public List<KeyboardDTO> getAllKeyboards(int page) {
-        List<KeyboardDTO> keyboardList = new ArrayList<>();
+    public List<KeyboardCardDTO> getAllKeyboards(int page) {
+        List<KeyboardCardDTO> keyboardList = new ArrayList<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT k.*, u.nickname AS user_nickname FROM keyboards k " +
+            String sql = "SELECT " + CARD_COLUMNS + ", u.nickname AS user_nickname FROM keyboards k " +
                         "LEFT JOIN users u ON k.user_id = u.user_id " +
                         "ORDER BY k.created_date DESC LIMIT 12 OFFSET ?";
             
@@ -211,27 +267,7 @@ public class KeyboardDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                KeyboardDTO keyboard = new KeyboardDTO();
-                keyboard.setKeyboardId(rs.getInt("keyboard_id"));
-                keyboard.setName(rs.getString("name"));
-                keyboard.setBrand(rs.getString("brand"));
-                keyboard.setPrice(rs.getInt("price"));
-                keyboard.setSwitchType(rs.getString("switch_type"));
-                keyboard.setLayout(rs.getString("layout"));
-                keyboard.setBacklight(rs.getString("backlight"));
-                keyboard.setConnectivity(rs.getString("connectivity"));
-                keyboard.setKeycapMaterial(rs.getString("keycap_material"));
-                keyboard.setCaseMaterial(rs.getString("case_material"));
-                keyboard.setDescription(rs.getString("description"));
-                keyboard.setViewCount(rs.getInt("view_count"));
-                keyboard.setLikeCount(rs.getInt("like_count"));
-                keyboard.setUserId(rs.getInt("user_id"));
-                keyboard.setUserNickname(rs.getString("user_nickname"));
-                keyboard.setCreatedDate(rs.getTimestamp("created_date"));
-                keyboard.setModifiedDate(rs.getTimestamp("modified_date"));
-                keyboard.setImageUrl(rs.getString("image_url"));
-                
-                keyboardList.add(keyboard);
+                keyboardList.add(mapKeyboardCard(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -242,21 +278,83 @@ public class KeyboardDAO {
         return keyboardList;
     }
     
+    /**
+     * 모든 키보드 정보 목록 조회 (커서 페이징)
+     * OFFSET 없이 (created_date, keyboard_id) 기준으로 이어서 조회하므로 뒤쪽 페이지도 첫 페이지와 같은 비용
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @return 키보드 정보 목록과 다음 커서
+     */
+    public CursorPageDTO<KeyboardCardDTO> getAllKeyboardsAfter(String cursor) {
+        List<KeyboardCardDTO> keyboardList = new ArrayList<>();
+        String nextCursor = null;
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        java.sql.Timestamp cursorDate = pageCursor != null ? pageCursor.getTimestamp() : null;
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            StringBuilder sqlBuilder = new StringBuilder();
+            sqlBuilder.append("SELECT ").append(CARD_COLUMNS).append(", u.nickname AS user_nickname FROM keyboards k ");
+            sqlBuilder.append("LEFT JOIN users u ON k.user_id = u.user_id ");
+            
+            if (cursorDate != null) {
+                sqlBuilder.append("WHERE (k.created_date < ? OR (k.created_date = ? AND k.keyboard_id < ?)) ");
+            }
+            
+            sqlBuilder.append("ORDER BY k.created_date DESC, k.keyboard_id DESC LIMIT 13"); // 12개 + 다음 페이지 확인용 1개
+            
+            pstmt = conn.prepareStatement(sqlBuilder.toString());
+            
+            if (cursorDate != null) {
+                pstmt.setTimestamp(1, cursorDate);
+                pstmt.setTimestamp(2, cursorDate);
+                pstmt.setInt(3, pageCursor.getId());
+            }
+            
+            rs = pstmt.executeQuery();
+            
+            java.sql.Timestamp lastCreatedDate = null;
+            int lastKeyboardId = 0;
+            
+            while (rs.next()) {
+                if (keyboardList.size() == 12) {
+                    // 한 건이 더 있으면 다음 페이지 존재
+                    nextCursor = PageCursor.encode(lastCreatedDate, lastKeyboardId);
+                    break;
+                }
+                
+                keyboardList.add(mapKeyboardCard(rs));
+                
+                lastCreatedDate = rs.getTimestamp("created_date");
+                lastKeyboardId = rs.getInt("keyboard_id");
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DBConnectionUtil.close(rs, pstmt, conn);
+        }
+        
+        return new CursorPageDTO<>(keyboardList, nextCursor);
+    }
+    
     /**
      * 브랜드별 키보드 목록 조회
      * @param brand 브랜드명
      * @param page 페이지 번호 (1부터 시작)
      * @return 키보드 정보 목록
      */
-    public List<KeyboardDTO> getKeyboardsByBrand(String brand, int page) {
-        List<KeyboardDTO> keyboardList = new ArrayList<>();
+    public List<KeyboardCardDTO> getKeyboardsByBrand(String brand, int page) {
+        List<KeyboardCardDTO> keyboardList = new ArrayList<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT k.*, u.nickname AS user_nickname FROM keyboards k " +
+            String sql = "SELECT " + CARD_COLUMNS + ", u.nickname AS user_nickname FROM keyboards k " +
                         "LEFT JOIN users u ON k.user_id = u.user_id " +
                         "WHERE k.brand = ? " +
                         "ORDER BY k.created_date DESC LIMIT 12 OFFSET ?";
@@ -268,27 +366,7 @@ public class KeyboardDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                KeyboardDTO keyboard = new KeyboardDTO();
-                keyboard.setKeyboardId(rs.getInt("keyboard_id"));
-                keyboard.setName(rs.getString("name"));
-                keyboard.setBrand(rs.getString("brand"));
-                keyboard.setPrice(rs.getInt("price"));
-                keyboard.setSwitchType(rs.getString("switch_type"));
-                keyboard.setLayout(rs.getString("layout"));
-                keyboard.setBacklight(rs.getString("backlight"));
-                keyboard.setConnectivity(rs.getString("connectivity"));
-                keyboard.setKeycapMaterial(rs.getString("keycap_material"));
-                keyboard.setCaseMaterial(rs.getString("case_material"));
-                keyboard.setDescription(rs.getString("description"));
-                keyboard.setViewCount(rs.getInt("view_count"));
-                keyboard.setLikeCount(rs.getInt("like_count"));
-                keyboard.setUserId(rs.getInt("user_id"));
-                keyboard.setUserNickname(rs.getString("user_nickname"));
-                keyboard.setCreatedDate(rs.getTimestamp("created_date"));
-                keyboard.setModifiedDate(rs.getTimestamp("modified_date"));
-                keyboard.setImageUrl(rs.getString("image_url"));
-                
-                keyboardList.add(keyboard);
+                keyboardList.add(mapKeyboardCard(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -305,15 +383,15 @@ public class KeyboardDAO {
      * @param page 페이지 번호 (1부터 시작)
      * @return 키보드 정보 목록
      */
-    public List<KeyboardDTO> getKeyboardsBySwitchType(String switchType, int page) {
-        List<KeyboardDTO> keyboardList = new ArrayList<>();
+    public List<KeyboardCardDTO> getKeyboardsBySwitchType(String switchType, int page) {
+        List<KeyboardCardDTO> keyboardList = new ArrayList<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT k.*, u.nickname AS user_nickname FROM keyboards k " +
+            String sql = "SELECT " + CARD_COLUMNS + ", u.nickname AS user_nickname FROM keyboards k " +
                         "LEFT JOIN users u ON k.user_id = u.user_id " +
                         "WHERE k.switch_type = ? " +
                         "ORDER BY k.created_date DESC LIMIT 12 OFFSET ?";
@@ -325,27 +403,7 @@ public class KeyboardDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                KeyboardDTO keyboard = new KeyboardDTO();
-                keyboard.setKeyboardId(rs.getInt("keyboard_id"));
-                keyboard.setName(rs.getString("name"));
-                keyboard.setBrand(rs.getString("brand"));
-                keyboard.setPrice(rs.getInt("price"));
-                keyboard.setSwitchType(rs.getString("switch_type"));
-                keyboard.setLayout(rs.getString("layout"));
-                keyboard.setBacklight(rs.getString("backlight"));
-                keyboard.setConnectivity(rs.getString("connectivity"));
-                keyboard.setKeycapMaterial(rs.getString("keycap_material"));
-                keyboard.setCaseMaterial(rs.getString("case_material"));
-                keyboard.setDescription(rs.getString("description"));
-                keyboard.setViewCount(rs.getInt("view_count"));
-                keyboard.setLikeCount(rs.getInt("like_count"));
-                keyboard.setUserId(rs.getInt("user_id"));
-                keyboard.setUserNickname(rs.getString("user_nickname"));
-                keyboard.setCreatedDate(rs.getTimestamp("created_date"));
-                keyboard.setModifiedDate(rs.getTimestamp("modified_date"));
-                keyboard.setImageUrl(rs.getString("image_url"));
-                
-                keyboardList.add(keyboard);
+                keyboardList.add(mapKeyboardCard(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -362,15 +420,15 @@ public class KeyboardDAO {
      * @param page 페이지 번호 (1부터 시작)
      * @return 키보드 정보 목록
      */
-    public List<KeyboardDTO> getKeyboardsByLayout(String layout, int page) {
-        List<KeyboardDTO> keyboardList = new ArrayList<>();
+    public List<KeyboardCardDTO> getKeyboardsByLayout(String layout, int page) {
+        List<KeyboardCardDTO> keyboardList = new ArrayList<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT k.*, u.nickname AS user_nickname FROM keyboards k " +
+            String sql = "SELECT " + CARD_COLUMNS + ", u.nickname AS user_nickname FROM keyboards k " +
                         "LEFT JOIN users u ON k.user_id = u.user_id " +
                         "WHERE k.layout = ? " +
                         "ORDER BY k.created_date DESC LIMIT 12 OFFSET ?";
@@ -382,27 +440,7 @@ public class KeyboardDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                KeyboardDTO keyboard = new KeyboardDTO();
-                keyboard.setKeyboardId(rs.getInt("keyboard_id"));
-                keyboard.setName(rs.getString("name"));
-                keyboard.setBrand(rs.getString("brand"));
-                keyboard.setPrice(rs.getInt("price"));
-                keyboard.setSwitchType(rs.getString("switch_type"));
-                keyboard.setLayout(rs.getString("layout"));
-                keyboard.setBacklight(rs.getString("backlight"));
-                keyboard.setConnectivity(rs.getString("connectivity"));
-                keyboard.setKeycapMaterial(rs.getString("keycap_material"));
-                keyboard.setCaseMaterial(rs.getString("case_material"));
-                keyboard.setDescription(rs.getString("description"));
-                keyboard.setViewCount(rs.getInt("view_count"));
-                keyboard.setLikeCount(rs.getInt("like_count"));
-                keyboard.setUserId(rs.getInt("user_id"));
-                keyboard.setUserNickname(rs.getString("user_nickname"));
-                keyboard.setCreatedDate(rs.getTimestamp("created_date"));
-                keyboard.setModifiedDate(rs.getTimestamp("modified_date"));
-                keyboard.setImageUrl(rs.getString("image_url"));
-                
-                keyboardList.add(keyboard);
+                keyboardList.add(mapKeyboardCard(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -420,15 +458,15 @@ public class KeyboardDAO {
      * @param page 페이지 번호 (1부터 시작)
      * @return 키보드 정보 목록
      */
-    public List<KeyboardDTO> getKeyboardsByPriceRange(int minPrice, int maxPrice, int page) {
-        List<KeyboardDTO> keyboardList = new ArrayList<>();
+    public List<KeyboardCardDTO> getKeyboardsByPriceRange(int minPrice, int maxPrice, int page) {
+        List<KeyboardCardDTO> keyboardList = new ArrayList<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT k.*, u.nickname AS user_nickname FROM keyboards k " +
+            String sql = "SELECT " + CARD_COLUMNS + ", u.nickname AS user_nickname FROM keyboards k " +
                         "LEFT JOIN users u ON k.user_id = u.user_id " +
                         "WHERE k.price BETWEEN ? AND ? " +
                         "ORDER BY k.price ASC LIMIT 12 OFFSET ?";
@@ -441,27 +479,7 @@ public class KeyboardDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                KeyboardDTO keyboard = new KeyboardDTO();
-                keyboard.setKeyboardId(rs.getInt("keyboard_id"));
-                keyboard.setName(rs.getString("name"));
-                keyboard.setBrand(rs.getString("brand"));
-                keyboard.setPrice(rs.getInt("price"));
-                keyboard.setSwitchType(rs.getString("switch_type"));
-                keyboard.setLayout(rs.getString("layout"));
-                keyboard.setBacklight(rs.getString("backlight"));
-                keyboard.setConnectivity(rs.getString("connectivity"));
-                keyboard.setKeycapMaterial(rs.getString("keycap_material"));
-                keyboard.setCaseMaterial(rs.getString("case_material"));
-                keyboard.setDescription(rs.getString("description"));
-                keyboard.setViewCount(rs.getInt("view_count"));
-                keyboard.setLikeCount(rs.getInt("like_count"));
-                keyboard.setUserId(rs.getInt("user_id"));
-                keyboard.setUserNickname(rs.getString("user_nickname"));
-                keyboard.setCreatedDate(rs.getTimestamp("created_date"));
-                keyboard.setModifiedDate(rs.getTimestamp("modified_date"));
-                keyboard.setImageUrl(rs.getString("image_url"));
-                
-                keyboardList.add(keyboard);
+                keyboardList.add(mapKeyboardCard(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -478,15 +496,15 @@ public class KeyboardDAO {
      * @param page 페이지 번호 (1부터 시작)
      * @return 키보드 정보 목록
      */
-    public List<KeyboardDTO> searchKeyboards(String keyword, int page) {
-        List<KeyboardDTO> keyboardList = new ArrayList<>();
+    public List<KeyboardCardDTO> searchKeyboards(String keyword, int page) {
+        List<KeyboardCardDTO> keyboardList = new ArrayList<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT k.*, u.nickname AS user_nickname FROM keyboards k " +
+            String sql = "SELECT " + CARD_COLUMNS + ", u.nickname AS user_nickname FROM keyboards k " +
                         "LEFT JOIN users u ON k.user_id = u.user_id " +
                         "WHERE k.name LIKE ? OR k.brand LIKE ? OR k.description LIKE ? " +
                         "ORDER BY k.created_date DESC LIMIT 12 OFFSET ?";
@@ -501,27 +519,7 @@ public class KeyboardDAO {
             rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                KeyboardDTO keyboard = new KeyboardDTO();
-                keyboard.setKeyboardId(rs.getInt("keyboard_id"));
-                keyboard.setName(rs.getString("name"));
-                keyboard.setBrand(rs.getString("brand"));
-                keyboard.setPrice(rs.getInt("price"));
-                keyboard.setSwitchType(rs.getString("switch_type"));
-                keyboard.setLayout(rs.getString("layout"));
-                keyboard.setBacklight(rs.getString("backlight"));
-                keyboard.setConnectivity(rs.getString("connectivity"));
-                keyboard.setKeycapMaterial(rs.getString("keycap_material"));
-                keyboard.setCaseMaterial(rs.getString("case_material"));
-                keyboard.setDescription(rs.getString("description"));
-                keyboard.setViewCount(rs.getInt("view_count"));
-                keyboard.setLikeCount(rs.getInt("like_count"));
-                keyboard.setUserId(rs.getInt("user_id"));
-                keyboard.setUserNickname(rs.getString("user_nickname"));
-                keyboard.setCreatedDate(rs.getTimestamp("created_date"));
-                keyboard.setModifiedDate(rs.getTimestamp("modified_date"));
-                keyboard.setImageUrl(rs.getString("image_url"));
-                
-                keyboardList.add(keyboard);
+                keyboardList.add(mapKeyboardCard(rs));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -537,28 +535,8 @@ public class KeyboardDAO {
      * @return 전체 키보드 수
      */
     public int getTotalCount() {
-        int count = 0;
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT COUNT(*) FROM keyboards";
-            
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                count = rs.getInt(1);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return count;
+        // 요청마다 COUNT(*)를 실행하지 않고 캐시된 건수 사용
+        return ListingCountCache.getInstance().getCount(Listing.KEYBOARD);
     }
     
     /**
@@ -568,6 +546,13 @@ public class KeyboardDAO {
      * @return 조건에 맞는 키보드 수
      */
     public int getCountByField(String field, String value) {
+        // 선택 목록 캐시가 값별 건수를 이미 보관하는 필드는 COUNT(*)를 실행하지 않음
+        Facet facet = facetOf(field);
+        if (facet != null) {
+            Integer cached = FacetValueCache.getInstance().getCounts(facet).get(value);
+            return cached != null ? cached : 0;
+        }
+        
         int count = 0;
         Connection conn = null;
         PreparedStatement pstmt = null;
@@ -630,8 +615,9 @@ public class KeyboardDAO {
     
     /**
      * 검색 결과 키보드 수 조회
+     * 일치하는 행을 끝까지 세지 않고 ListingCountCache.SEARCH_COUNT_CAP + 1건에서 멈춘다.
      * @param keyword 검색 키워드
-     * @return 검색 조건에 맞는 키보드 수
+     * @return 검색 조건에 맞는 키보드 수 (상한을 넘으면 SEARCH_COUNT_CAP + 1)
      */
     public int getSearchCount(String keyword) {
         int count = 0;
@@ -641,7 +627,8 @@ public class KeyboardDAO {
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT COUNT(*) FROM keyboards WHERE name LIKE ? OR brand LIKE ? OR description LIKE ?";
+            String sql = "SELECT COUNT(*) FROM (SELECT 1 FROM keyboards WHERE name LIKE ? OR brand LIKE ? OR description LIKE ? " +
+                        "LIMIT " + (ListingCountCache.SEARCH_COUNT_CAP + 1) + ") matched";
             
             pstmt = conn.prepareStatement(sql);
             String searchKeyword = "%" + keyword + "%";
@@ -668,28 +655,8 @@ public class KeyboardDAO {
      * @return 브랜드 목록
      */
     public List<String> getAllBrands() {
-        List<String> brands = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT DISTINCT brand FROM keyboards ORDER BY brand";
-            
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                brands.add(rs.getString("brand"));
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return brands;
+        // 요청마다 SELECT DISTINCT를 실행하지 않고 캐시된 목록 사용
+        return FacetValueCache.getInstance().getValues(Facet.KEYBOARD_BRAND);
     }
     
     /**
@@ -697,28 +664,8 @@ public class KeyboardDAO {
      * @return 스위치 타입 목록
      */
     public List<String> getAllSwitchTypes() {
-        List<String> switchTypes = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT DISTINCT switch_type FROM keyboards ORDER BY switch_type";
-            
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                switchTypes.add(rs.getString("switch_type"));
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return switchTypes;
+        // 요청마다 SELECT DISTINCT를 실행하지 않고 캐시된 목록 사용
+        return FacetValueCache.getInstance().getValues(Facet.KEYBOARD_SWITCH_TYPE);
     }
     
     /**
@@ -726,43 +673,36 @@ public class KeyboardDAO {
      * @return 레이아웃 목록
      */
     public List<String> getAllLayouts() {
-        List<String> layouts = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            conn = DBConnectionUtil.getConnection();
-            String sql = "SELECT DISTINCT layout FROM keyboards ORDER BY layout";
-            
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                layouts.add(rs.getString("layout"));
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBConnectionUtil.close(rs, pstmt, conn);
-        }
-        
-        return layouts;
+        // 요청마다 SELECT DISTINCT를 실행하지 않고 캐시된 목록 사용
+        return FacetValueCache.getInstance().getValues(Facet.KEYBOARD_LAYOUT);
     }
     
     /**
      * 조회수 증가
+     * 매 조회마다 UPDATE를 실행하지 않고 ViewCountBuffer에 모았다가 주기적으로 일괄 반영
      * @param keyboardId 키보드 ID
-     * @return 업데이트 성공 여부
+     * @return 항상 true (버퍼에 기록)
      */
     public boolean increaseViewCount(int keyboardId) {
+        ViewCountBuffer.getInstance().increment(EntityType.KEYBOARD, keyboardId);
+        return true;
+    }
+    
+    /**
+     * 좋아요 수 증가
+     * @param keyboardId 키보드 ID
+     * @return 업데이트 성공 여부
+     * @deprecated likeKeyboard(int, int) 사용 (likes 테이블과 LikeStore를 거치지 않아 사용자별 중복을 막지 못함)
+     */
+    @Deprecated
+    public boolean increaseLikeCount(int keyboardId) {
         Connection conn = null;
         PreparedStatement pstmt = null;
         int result = 0;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "UPDATE keyboards SET view_count = view_count + 1 WHERE keyboard_id = ?";
+            String sql = "UPDATE keyboards SET like_count = like_count + 1 WHERE keyboard_id = ?";
             
             pstmt = conn.prepareStatement(sql);
             pstmt.setInt(1, keyboardId);
@@ -778,18 +718,20 @@ public class KeyboardDAO {
     }
     
     /**
-     * 좋아요 수 증가
+     * 좋아요 수 감소
      * @param keyboardId 키보드 ID
      * @return 업데이트 성공 여부
+     * @deprecated unlikeKeyboard(int, int) 사용 (likes 테이블과 LikeStore를 거치지 않아 사용자별 중복을 막지 못함)
      */
-    public boolean increaseLikeCount(int keyboardId) {
+    @Deprecated
+    public boolean decreaseLikeCount(int keyboardId) {
         Connection conn = null;
         PreparedStatement pstmt = null;
         int result = 0;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "UPDATE keyboards SET like_count = like_count + 1 WHERE keyboard_id = ?";
+            String sql = "UPDATE keyboards SET like_count = GREATEST(like_count - 1, 0) WHERE keyboard_id = ?";
             
             pstmt = conn.prepareStatement(sql);
             pstmt.setInt(1, keyboardId);
@@ -805,29 +747,169 @@ public class KeyboardDAO {
     }
     
     /**
-     * 좋아요 수 감소
+     * 키보드 좋아요 (사용자당 한 번만 like_count에 반영)
      * @param keyboardId 키보드 ID
-     * @return 업데이트 성공 여부
+     * @param userId 사용자 ID
+     * @return 새로 좋아요가 기록되었으면 true (이미 누른 경우 false)
      */
-    public boolean decreaseLikeCount(int keyboardId) {
+    public boolean likeKeyboard(int keyboardId, int userId) {
+        return LikeStore.getInstance().like(EntityType.KEYBOARD, keyboardId, userId);
+    }
+    
+    /**
+     * 키보드 좋아요 취소
+     * @param keyboardId 키보드 ID
+     * @param userId 사용자 ID
+     * @return 좋아요가 취소되었으면 true (누르지 않은 경우 false)
+     */
+    public boolean unlikeKeyboard(int keyboardId, int userId) {
+        return LikeStore.getInstance().unlike(EntityType.KEYBOARD, keyboardId, userId);
+    }
+    
+    /**
+     * ID 목록으로 키보드 정보 조회 (카탈로그 색인 결과 조회용)
+     * @param keyboardIds 키보드 ID 목록
+     * @return 키보드 정보 목록 (keyboardIds 순서 유지)
+     */
+    public List<KeyboardCardDTO> getKeyboardsByIds(List<Integer> keyboardIds) {
+        List<KeyboardCardDTO> keyboardList = new ArrayList<>();
+        if (keyboardIds == null || keyboardIds.isEmpty()) {
+            return keyboardList;
+        }
+        
+        Map<Integer, KeyboardCardDTO> keyboardMap = new HashMap<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
-        int result = 0;
+        ResultSet rs = null;
         
         try {
             conn = DBConnectionUtil.getConnection();
-            String sql = "UPDATE keyboards SET like_count = GREATEST(like_count - 1, 0) WHERE keyboard_id = ?";
+            StringBuilder sqlBuilder = new StringBuilder();
+            sqlBuilder.append("SELECT ").append(CARD_COLUMNS).append(", u.nickname AS user_nickname FROM keyboards k ");
+            sqlBuilder.append("LEFT JOIN users u ON k.user_id = u.user_id ");
+            sqlBuilder.append("WHERE k.keyboard_id IN (");
+            for (int i = 0; i < keyboardIds.size(); i++) {
+                sqlBuilder.append(i == 0 ? "?" : ", ?");
+            }
+            sqlBuilder.append(")");
             
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, keyboardId);
+            pstmt = conn.prepareStatement(sqlBuilder.toString());
+            for (int i = 0; i < keyboardIds.size(); i++) {
+                pstmt.setInt(i + 1, keyboardIds.get(i));
+            }
             
-            result = pstmt.executeUpdate();
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                KeyboardCardDTO keyboard = mapKeyboardCard(rs);
+                keyboardMap.put(keyboard.getKeyboardId(), keyboard);
+            }
         } catch (SQLException e) {
             e.printStackTrace();
         } finally {
-            DBConnectionUtil.close(null, pstmt, conn);
+            DBConnectionUtil.close(rs, pstmt, conn);
         }
         
-        return result > 0;
+        for (Integer keyboardId : keyboardIds) {
+            KeyboardCardDTO keyboard = keyboardMap.get(keyboardId);
+            if (keyboard != null) {
+                keyboardList.add(keyboard);
+            }
+        }
+        
+        return keyboardList;
+    }
+    
+    /**
+     * 조회 결과의 현재 행을 KeyboardCardDTO로 변환 (CARD_COLUMNS로 조회한 결과)
+     * @param rs 조회 결과
+     * @return 키보드 카드 정보
+     * @throws SQLException 컬럼 조회 실패 시 예외 발생
+     */
+    private KeyboardCardDTO mapKeyboardCard(ResultSet rs) throws SQLException {
+        KeyboardCardDTO keyboard = new KeyboardCardDTO();
+        keyboard.setKeyboardId(rs.getInt("keyboard_id"));
+        keyboard.setName(rs.getString("name"));
+        keyboard.setBrand(rs.getString("brand"));
+        keyboard.setPrice(rs.getInt("price"));
+        keyboard.setSwitchType(rs.getString("switch_type"));
+        keyboard.setLayout(rs.getString("layout"));
+        keyboard.setConnectivity(rs.getString("connectivity"));
+        keyboard.setExcerpt(rs.getString("description_excerpt"));
+        keyboard.setViewCount(rs.getInt("view_count"));
+        keyboard.setLikeCount(rs.getInt("like_count"));
+        keyboard.setUserNickname(rs.getString("user_nickname"));
+        keyboard.setCreatedDate(rs.getTimestamp("created_date"));
+        keyboard.setImageUrl(rs.getString("image_url"));
+        
+        return keyboard;
+    }
+    
+    /**
+     * 선택 목록(브랜드, 스위치, 사이즈, 연결 방식) 기존 값 조회 (수정/삭제 전 확인용)
+     * @param conn 사용 중인 커넥션
+     * @param keyboardId 키보드 ID
+     * @return 선택 목록 값 배열 (없으면 null)
+     * @throws SQLException 조회 실패 시 예외 발생
+     */
+    private String[] getFacetValues(Connection conn, int keyboardId) throws SQLException {
+        String sql = "SELECT brand, switch_type, layout, connectivity FROM keyboards WHERE keyboard_id = ?";
+        
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, keyboardId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return new String[] {
+                        rs.getString("brand"), rs.getString("switch_type"), rs.getString("layout"), rs.getString("connectivity")
+                    };
+                }
+            }
+        }
+        
+        return null;
+    }
+    
+    /**
+     * 키보드 정보의 선택 목록 값 배열
+     * @param keyboard 키보드 정보
+     * @return 선택 목록 값 배열 (브랜드, 스위치, 사이즈, 연결 방식 순)
+     */
+    private String[] facetValuesOf(KeyboardDTO keyboard) {
+        return new String[] {
+            keyboard.getBrand(), keyboard.getSwitchType(), keyboard.getLayout(), keyboard.getConnectionType()
+        };
+    }
+    
+    /**
+     * 컬럼명에 해당하는 선택 목록
+     * @param field 컬럼명
+     * @return 선택 목록 (캐싱하지 않는 컬럼이면 null)
+     */
+    private Facet facetOf(String field) {
+        if ("brand".equals(field)) {
+            return Facet.KEYBOARD_BRAND;
+        } else if ("switch_type".equals(field)) {
+            return Facet.KEYBOARD_SWITCH_TYPE;
+        } else if ("layout".equals(field)) {
+            return Facet.KEYBOARD_LAYOUT;
+        } else if ("connectivity".equals(field)) {
+            return Facet.KEYBOARD_CONNECTIVITY;
+        }
+        return null;
+    }
+    
+    /**
+     * 선택 목록 캐시에 변경 반영
+     * @param oldValues 변경 전 값 (등록 시 null)
+     * @param newValues 변경 후 값 (삭제 시 null)
+     */
+    private void adjustFacets(String[] oldValues, String[] newValues) {
+        Facet[] facets = { Facet.KEYBOARD_BRAND, Facet.KEYBOARD_SWITCH_TYPE, Facet.KEYBOARD_LAYOUT, Facet.KEYBOARD_CONNECTIVITY };
+        
+        for (int i = 0; i < facets.length; i++) {
+            FacetValueCache.getInstance().adjust(facets[i],
+                    oldValues != null ? oldValues[i] : null, newValues != null ? newValues[i] : null);
+        }
     }
 }
\ No newline at end of file
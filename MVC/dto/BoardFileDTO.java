@@ -14,6 +14,8 @@ public class BoardFileDTO {
     private String fileType;     // 파일 타입(MIME)
     private Date uploadDate;     // 업로드 일시
     private boolean isDeleted;   // 삭제 여부
+    private String contentHash;  // 파일 내용 해시(SHA-256, BlobStore 저장 키)
+    private String thumbnailPath; // 목록용 썸네일 경로(이미지 파일만, 생성 전에는 null)
 
     // 기본 생성자
     public BoardFileDTO() {
@@ -97,6 +99,22 @@ public class BoardFileDTO {
         this.isDeleted = isDeleted;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getThumbnailPath() {
+        return thumbnailPath;
+    }
+
+    public void setThumbnailPath(String thumbnailPath) {
+        this.thumbnailPath = thumbnailPath;
+    }
+
     @Override
     public String toString() {
         return "BoardFileDTO{" +
@@ -108,6 +126,8 @@ public class BoardFileDTO {
                 ", fileType='" + fileType + '\'' +
                 ", uploadDate=" + uploadDate +
                 ", isDeleted=" + isDeleted +
+                ", contentHash='" + contentHash + '\'' +
+                ", thumbnailPath='" + thumbnailPath + '\'' +
                 '}';
     }
 }
\ No newline at end of file
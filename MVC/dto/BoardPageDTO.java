@@ -0,0 +1,49 @@
+package com.kirini.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 상세 화면에 필요한 정보(게시글, 댓글, 첨부 파일)를 한 번에 담는 DTO 클래스
+ */
+public class BoardPageDTO {
+    private BoardDTO board;                 // 게시글 정보 (없거나 삭제된 경우 null)
+    private List<CommentDTO> commentList;   // 댓글 목록
+    private List<BoardFileDTO> fileList;    // 첨부 파일 목록
+    
+    // 기본 생성자
+    public BoardPageDTO() {
+        this.commentList = new ArrayList<>();
+        this.fileList = new ArrayList<>();
+    }
+    
+    // Getter와 Setter
+    public BoardDTO getBoard() {
+        return board;
+    }
+    
+    public void setBoard(BoardDTO board) {
+        this.board = board;
+    }
+    
+    public List<CommentDTO> getCommentList() {
+        return commentList;
+    }
+    
+    public void setCommentList(List<CommentDTO> commentList) {
+        this.commentList = commentList;
+    }
+    
+    public List<BoardFileDTO> getFileList() {
+        return fileList;
+    }
+    
+    public void setFileList(List<BoardFileDTO> fileList) {
+        this.fileList = fileList;
+    }
+    
+    @Override
+    public String toString() {
+        return "BoardPageDTO [board=" + board + ", comments=" + commentList.size() + ", files=" + fileList.size() + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.kirini.dto;
+
+import java.util.Date;
+
+/**
+ * 게시글 목록 화면용 요약 정보를 담는 DTO 클래스
+ * 본문 전체 대신 작성/수정 시 저장해 둔 요약(content_excerpt)만 포함한다.
+ */
+public class BoardSummaryDTO {
+    private int boardId;          // 게시글 ID
+    private String title;         // 제목
+    private String excerpt;       // 본문 요약 (일반 텍스트, 출력 시 이스케이프)
+    private int userId;           // 작성자 ID
+    private String userNickname;  // 작성자 닉네임
+    private String boardType;     // 게시판 유형 (공지, 자유, 익명)
+    private int viewCount;        // 조회수
+    private int likeCount;        // 좋아요 수
+    private int commentCount;     // 댓글 수
+    private Date createdDate;     // 작성일
+    private Date modifiedDate;    // 수정일
+    private String fileName;      // 첨부 파일명 (첨부 표시용)
+
+    // 기본 생성자
+    public BoardSummaryDTO() {
+    }
+
+    // Getter와 Setter 메서드
+    public int getBoardId() {
+        return boardId;
+    }
+
+    public void setBoardId(int boardId) {
+        this.boardId = boardId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+
+    public String getUserNickname() {
+        return userNickname;
+    }
+
+    public void setUserNickname(String userNickname) {
+        this.userNickname = userNickname;
+    }
+
+    public String getBoardType() {
+        return boardType;
+    }
+
+    public void setBoardType(String boardType) {
+        this.boardType = boardType;
+    }
+
+    public int getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(int viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public int getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(int likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(int commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public Date getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Date createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public Date getModifiedDate() {
+        return modifiedDate;
+    }
+
+    public void setModifiedDate(Date modifiedDate) {
+        this.modifiedDate = modifiedDate;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardSummaryDTO [boardId=" + boardId + ", title=" + title + ", userNickname=" + userNickname
+                + ", boardType=" + boardType + ", viewCount=" + viewCount + ", createdDate=" + createdDate + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.kirini.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이징 조회 결과를 담는 DTO 클래스
+ * @param <T> 목록 항목 타입
+ */
+public class CursorPageDTO<T> {
+    private List<T> items;        // 현재 페이지 항목
+    private String nextCursor;    // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    
+    // 기본 생성자
+    public CursorPageDTO() {
+        this.items = new ArrayList<>();
+    }
+    
+    public CursorPageDTO(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+    
+    // Getter와 Setter
+    public List<T> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+    
+    @Override
+    public String toString() {
+        return "CursorPageDTO [items=" + items.size() + ", nextCursor=" + nextCursor + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.kirini.dto;
+
+import java.util.Date;
+
+/**
+ * 키보드 목록 화면의 카드 하나에 필요한 정보를 담는 DTO 클래스
+ * 상세 설명 전체 대신 등록/수정 시 저장해 둔 요약(description_excerpt)만 포함한다.
+ */
+public class KeyboardCardDTO {
+    private int keyboardId;        // 키보드 ID
+    private String name;           // 키보드 이름
+    private String brand;          // 브랜드
+    private int price;             // 가격
+    private String switchType;     // 스위치 타입 (적축, 갈축, 청축, 흑축 등)
+    private String layout;         // 배열 (텐키리스, 풀배열 등)
+    private String connectivity;   // 연결 방식 (유선, 무선, 블루투스 등)
+    private String excerpt;        // 상세 설명 요약 (일반 텍스트, 출력 시 이스케이프)
+    private int viewCount;         // 조회수
+    private int likeCount;         // 좋아요 수
+    private String userNickname;   // 등록자 닉네임
+    private Date createdDate;      // 등록일
+    private String imageUrl;       // 이미지 경로
+    
+    // 기본 생성자
+    public KeyboardCardDTO() {
+    }
+    
+    // Getter와 Setter 메서드
+    public int getKeyboardId() {
+        return keyboardId;
+    }
+    
+    public void setKeyboardId(int keyboardId) {
+        this.keyboardId = keyboardId;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getBrand() {
+        return brand;
+    }
+    
+    public void setBrand(String brand) {
+        this.brand = brand;
+    }
+    
+    public int getPrice() {
+        return price;
+    }
+    
+    public void setPrice(int price) {
+        this.price = price;
+    }
+    
+    public String getSwitchType() {
+        return switchType;
+    }
+    
+    public void setSwitchType(String switchType) {
+        this.switchType = switchType;
+    }
+    
+    public String getLayout() {
+        return layout;
+    }
+    
+    public void setLayout(String layout) {
+        this.layout = layout;
+    }
+    
+    public String getConnectivity() {
+        return connectivity;
+    }
+    
+    public void setConnectivity(String connectivity) {
+        this.connectivity = connectivity;
+    }
+    
+    public String getExcerpt() {
+        return excerpt;
+    }
+    
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+    
+    public int getViewCount() {
+        return viewCount;
+    }
+    
+    public void setViewCount(int viewCount) {
+        this.viewCount = viewCount;
+    }
+    
+    public int getLikeCount() {
+        return likeCount;
+    }
+    
+    public void setLikeCount(int likeCount) {
+        this.likeCount = likeCount;
+    }
+    
+    public String getUserNickname() {
+        return userNickname;
+    }
+    
+    public void setUserNickname(String userNickname) {
+        this.userNickname = userNickname;
+    }
+    
+    public Date getCreatedDate() {
+        return createdDate;
+    }
+    
+    public void setCreatedDate(Date createdDate) {
+        this.createdDate = createdDate;
+    }
+    
+    public String getImageUrl() {
+        return imageUrl;
+    }
+    
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+    
+    @Override
+    public String toString() {
+        return "KeyboardCardDTO [keyboardId=" + keyboardId + ", name=" + name + ", brand=" + brand + ", price=" + price
+                + ", switchType=" + switchType + ", layout=" + layout + ", likeCount=" + likeCount + "]";
+    }
+}
\ No newline at end of file
@@ -9,13 +9,26 @@ import javax.servlet.ServletContextListener;
 import javax.servlet.annotation.WebListener;
 
 import com.kirini.controller.BoardController;
+import com.kirini.controller.ChunkedUploadServlet;
 import com.kirini.controller.DictionaryController;
 import com.kirini.controller.FileDownloadServlet;
 import com.kirini.controller.FileUploadServlet;
+import com.kirini.controller.HandlerInvoker;
 import com.kirini.controller.KeyboardController;
+import com.kirini.controller.MetricsServlet;
 import com.kirini.controller.QnaController;
 import com.kirini.controller.UserController;
+import com.kirini.controller.ZipDownloadServlet;
+import com.kirini.util.AttachmentGarbageCollector;
+import com.kirini.util.BoardSearchIndex;
+import com.kirini.util.ChunkedUploadManager;
+import com.kirini.util.DBConnectionUtil;
+import com.kirini.util.ExcerptBackfill;
 import com.kirini.util.HandlerMapping;
+import com.kirini.util.KeyboardCatalogIndex;
+import com.kirini.util.ThumbnailGenerator;
+import com.kirini.util.UniqueViewStore;
+import com.kirini.util.ViewCountBuffer;
 
 /**
  * 웹 애플리케이션 시작 시 URL과 컨트롤러의 매핑 정보를 초기화하는 리스너
@@ -31,31 +44,36 @@ public class HandlerMappingListener implements ServletContextListener {
         HandlerMapping handlerMapping = HandlerMapping.getInstance();
         
         // URL과 컨트롤러 매핑 정보 설정
+        // 컨트롤러는 하나의 인스턴스를 "/x"와 "/x/*"에 함께 등록하고,
+        // 요청마다 리플렉션을 사용하지 않도록 시작 시 호출기(HandlerInvoker)로 감싸 둔다.
         Map<String, Object> mappings = new HashMap<>();
         
-        // Board 관련 URL 매핑
-        mappings.put("/board", new BoardController());
-        mappings.put("/board/*", new BoardController());
+        // Board 관련 URL 매핑 (처리 메서드별 라우트를 직접 등록, 예: GET /board/{id:int})
+        BoardController boardController = new BoardController();
+        boardController.registerRoutes(handlerMapping);
         
         // Dictionary 관련 URL 매핑
-        mappings.put("/dictionary", new DictionaryController());
-        mappings.put("/dictionary/*", new DictionaryController());
+        register(mappings, new DictionaryController(), "/dictionary", "/dictionary/*");
         
         // QnA 관련 URL 매핑
-        mappings.put("/qna", new QnaController());
-        mappings.put("/qna/*", new QnaController());
+        register(mappings, new QnaController(), "/qna", "/qna/*");
         
         // Keyboard 관련 URL 매핑
-        mappings.put("/keyboard", new KeyboardController());
-        mappings.put("/keyboard/*", new KeyboardController());
+        register(mappings, new KeyboardController(), "/keyboard", "/keyboard/*");
         
         // 파일 업로드/다운로드 관련 URL 매핑
-        mappings.put("/upload", new FileUploadServlet());
-        mappings.put("/download", new FileDownloadServlet());
+        register(mappings, new FileUploadServlet(), "/upload");
+        register(mappings, new FileDownloadServlet(), "/download");
+        register(mappings, new ZipDownloadServlet(), "/download/zip");
+        
+        // 분할(이어받기) 업로드 URL 매핑 (예: PUT /upload/chunked/{uploadId}/{index:int})
+        new ChunkedUploadServlet().registerRoutes(handlerMapping);
+        
+        // 요청/DAO 처리 시간 지표 (Prometheus 텍스트 형식)
+        register(mappings, new MetricsServlet(), "/metrics");
         
         // 사용자 관련 URL 매핑
-        mappings.put("/user", new UserController());
-        mappings.put("/user/*", new UserController());
+        register(mappings, new UserController(), "/user", "/user/*");
         
         // 매핑 정보 설정
         handlerMapping.setMappings(mappings);
@@ -64,10 +82,50 @@ public class HandlerMappingListener implements ServletContextListener {
         context.setAttribute("handlerMapping", handlerMapping);
         
         System.out.println("HandlerMappingListener - URL 매핑 정보 초기화 완료");
+        
+        // 요약 컬럼이 비어 있는 기존 글의 요약 생성,
+        // 게시글 검색 색인, 키보드 카탈로그 색인 생성 (완료 전까지는 DB 조회 사용)
+        Thread indexer = new Thread(() -> {
+            ExcerptBackfill.run();
+            BoardSearchIndex.getInstance().rebuild();
+            KeyboardCatalogIndex.getInstance().rebuild();
+        }, "kirini-search-indexer");
+        indexer.setDaemon(true);
+        indexer.start();
+        
+        // 삭제된 첨부 파일, DB 행이 없는 저장소 파일 정리 (주기 실행)
+        AttachmentGarbageCollector.getInstance().start();
     }
 
     @Override
     public void contextDestroyed(ServletContextEvent event) {
         System.out.println("HandlerMappingListener - 컨텍스트 종료");
+        
+        // 아직 반영되지 않은 조회수, 순 방문자 스케치 반영 (커넥션 풀 종료 전에 실행)
+        ViewCountBuffer.getInstance().shutdown();
+        UniqueViewStore.getInstance().shutdown();
+        
+        // 썸네일 생성 작업 스레드 종료 (남은 썸네일은 첫 요청 시 생성)
+        ThumbnailGenerator.getInstance().shutdown();
+        
+        // 분할 업로드 세션 정리 작업, 첨부 파일 정리 작업 종료
+        ChunkedUploadManager.getInstance().shutdown();
+        AttachmentGarbageCollector.getInstance().shutdown();
+        
+        // 커넥션 풀 종료
+        DBConnectionUtil.shutdown();
+    }
+    
+    /**
+     * 컨트롤러를 호출기로 감싸 URL 패턴에 등록
+     * @param mappings URL 매핑 정보
+     * @param controller 컨트롤러 객체
+     * @param urlPatterns 등록할 URL 패턴 목록
+     */
+    private void register(Map<String, Object> mappings, Object controller, String... urlPatterns) {
+        HandlerInvoker invoker = HandlerInvoker.of(controller);
+        for (String urlPattern : urlPatterns) {
+            mappings.put(urlPattern, invoker);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,541 @@
+package com.kirini.util;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 삭제된 첨부 파일과 DB에 행이 없는 저장소 파일을 주기적으로 정리하는 작업
+ *
+ * 1. 삭제 처리(is_deleted)된 지 보존 기간이 지난 board_files 행을 file_id 순으로 나누어 읽고,
+ *    다른 행이 참조하지 않는 파일을 지운 뒤 행을 삭제한다.
+ * 2. blobs 디렉토리를 순회하며(전체 목록을 메모리에 올리지 않음) 보존 기간보다 오래되었는데
+ *    board_files 행이 없는 파일과, 원본이 없는 썸네일을 지운다.
+ *
+ * 파일 삭제는 초당 FILES_PER_SECOND개로 제한하여 디스크 I/O를 점유하지 않도록 하고,
+ * 실행할 때마다 정리한 파일 수와 용량을 기록한다.
+ */
+public class AttachmentGarbageCollector {
+    
+    // 실행 주기 (6시간, 첫 실행은 시작 10분 후)
+    private static final long INITIAL_DELAY_MILLIS = 10 * 60 * 1000;
+    private static final long INTERVAL_MILLIS = 6 * 60 * 60 * 1000;
+    
+    // 한 번에 처리할 행/파일 수
+    private static final int BATCH_SIZE = 500;
+    
+    // 초당 최대 파일 삭제 수
+    private static final int FILES_PER_SECOND = 50;
+    
+    // 저장소 디렉토리 (BlobStore 기준)
+    private static final String BLOB_DIR = "blobs";
+    private static final String TEMP_DIR = "tmp";
+    
+    private static final AttachmentGarbageCollector instance = new AttachmentGarbageCollector(
+            Paths.get(FileConfigurationProperties.UPLOAD_BASE_DIR), FileConfigurationProperties.ATTACHMENT_RETENTION_MILLIS);
+    
+    private final Path baseDir;
+    private final long retentionMillis;
+    private final long deleteIntervalNanos = TimeUnit.SECONDS.toNanos(1) / FILES_PER_SECOND;
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Report lastReport;
+    
+    private ScheduledExecutorService scheduler;
+    
+    // 다음 파일을 삭제할 수 있는 시각 (System.nanoTime 기준, 작업 스레드에서만 사용)
+    private long nextDeleteTime;
+    
+    AttachmentGarbageCollector(Path baseDir, long retentionMillis) {
+        this.baseDir = baseDir;
+        this.retentionMillis = retentionMillis;
+    }
+    
+    public static AttachmentGarbageCollector getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 주기 실행 시작 (애플리케이션 시작 시 호출)
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kirini-attachment-gc");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }, INITIAL_DELAY_MILLIS, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * 주기 실행 종료 (애플리케이션 종료 시 호출, 진행 중인 정리는 중단)
+     */
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+    
+    /**
+     * 정리 작업 실행 (이미 실행 중이면 바로 반환)
+     * @return 실행 결과, 이미 실행 중이면 null
+     */
+    public Report run() {
+        if (!running.compareAndSet(false, true)) {
+            return null;
+        }
+        
+        try {
+            Report report = new Report();
+            long startTime = System.currentTimeMillis();
+            long cutoff = startTime - retentionMillis;
+            nextDeleteTime = System.nanoTime();
+            
+            purgeDeletedRows(cutoff, report);
+            sweepOrphanBlobs(cutoff, report);
+            
+            report.elapsedMillis = System.currentTimeMillis() - startTime;
+            lastReport = report;
+            System.out.println("AttachmentGarbageCollector - " + report);
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            running.set(false);
+        }
+    }
+    
+    /**
+     * 마지막 실행 결과
+     * @return 실행 결과 (아직 실행하지 않았으면 null)
+     */
+    public Report getLastReport() {
+        return lastReport;
+    }
+    
+    /**
+     * 1단계: 보존 기간이 지난 삭제 처리 행과 그 파일 정리 (file_id 기준 키셋 페이징)
+     */
+    private void purgeDeletedRows(long cutoff, Report report) throws InterruptedException {
+        int lastFileId = 0;
+        
+        while (true) {
+            List<DeletedFile> batch = new ArrayList<>();
+            Set<String> referencedHashes;
+            Set<String> referencedPaths;
+            
+            Connection conn = null;
+            try {
+                conn = DBConnectionUtil.getConnection();
+                loadDeletedFiles(conn, lastFileId, cutoff, batch);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                
+                Set<String> hashes = new HashSet<>();
+                Set<String> paths = new HashSet<>();
+                for (DeletedFile file : batch) {
+                    if (file.contentHash != null) {
+                        hashes.add(file.contentHash);
+                    } else if (file.savedFilePath != null) {
+                        paths.add(file.savedFilePath);
+                    }
+                }
+                // 삭제되지 않았거나 아직 보존 기간 안인 다른 행이 참조하는 파일은 남겨 둠
+                referencedHashes = findExisting(conn, "content_hash", hashes, cutoff);
+                referencedPaths = findExisting(conn, "saved_file_path", paths, cutoff);
+            } catch (SQLException e) {
+                e.printStackTrace();
+                return;
+            } finally {
+                DBConnectionUtil.close(null, null, conn);
+            }
+            
+            // 파일을 먼저 지우고 행을 삭제 (행 삭제에 실패해도 다음 실행에서 다시 처리)
+            List<Integer> fileIds = new ArrayList<>();
+            Set<String> releasedHashes = new HashSet<>();
+            for (DeletedFile file : batch) {
+                fileIds.add(file.fileId);
+                
+                if (file.contentHash != null) {
+                    if (!referencedHashes.contains(file.contentHash) && releasedHashes.add(file.contentHash)) {
+                        releaseBlob(file.contentHash, report);
+                    }
+                } else if (file.savedFilePath != null && !referencedPaths.contains(file.savedFilePath)) {
+                    deleteLegacyFile(file, report);
+                }
+            }
+            
+            report.rowsPurged += deleteRows(fileIds);
+            lastFileId = batch.get(batch.size() - 1).fileId;
+            
+            if (batch.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * 2단계: 저장소 파일 중 board_files 행이 없는 파일 정리
+     * 디렉토리를 순회하면서 BATCH_SIZE개씩 모아 DB에서 한 번에 확인한다.
+     */
+    private void sweepOrphanBlobs(long cutoff, Report report) throws InterruptedException {
+        Path blobDir = baseDir.resolve(BLOB_DIR);
+        if (!Files.isDirectory(blobDir)) {
+            return;
+        }
+        
+        Path tempDir = blobDir.resolve(TEMP_DIR);
+        List<Path> candidates = new ArrayList<>();
+        
+        try {
+            Files.walkFileTree(blobDir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    if (!attrs.isRegularFile() || attrs.lastModifiedTime().toMillis() >= cutoff) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    
+                    try {
+                        String fileName = file.getFileName().toString();
+                        if (file.getParent().equals(tempDir) || fileName.endsWith(".tmp")) {
+                            // 중단된 업로드, 썸네일 생성의 임시 파일
+                            deleteFile(file, report);
+                        } else if (BlobStore.isValidHash(fileName)) {
+                            candidates.add(file);
+                            if (candidates.size() >= BATCH_SIZE) {
+                                deleteUnreferenced(candidates, report);
+                                candidates.clear();
+                            }
+                        } else if (isOrphanThumbnail(file, fileName)) {
+                            deleteFile(file, report);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return FileVisitResult.TERMINATE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+                
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    // 순회 중 삭제된 파일 등은 건너뜀
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+        }
+        if (!candidates.isEmpty()) {
+            deleteUnreferenced(candidates, report);
+        }
+    }
+    
+    /**
+     * 후보 파일 중 board_files 행(삭제 처리된 행 포함)이 없는 파일 삭제
+     * 삭제 처리된 행은 1단계에서 보존 기간이 지난 것만 지웠으므로, 남아 있는 행은 아직 보존 대상이다.
+     */
+    private void deleteUnreferenced(List<Path> candidates, Report report) throws InterruptedException {
+        Set<String> hashes = new HashSet<>();
+        for (Path file : candidates) {
+            hashes.add(file.getFileName().toString());
+        }
+        
+        Set<String> referenced;
+        Connection conn = null;
+        try {
+            conn = DBConnectionUtil.getConnection();
+            referenced = findExisting(conn, "content_hash", hashes, 0);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return;
+        } finally {
+            DBConnectionUtil.close(null, null, conn);
+        }
+        
+        for (Path file : candidates) {
+            String hash = file.getFileName().toString();
+            if (!referenced.contains(hash)) {
+                report.orphanFiles++;
+                releaseBlob(hash, report);
+            }
+        }
+    }
+    
+    /**
+     * 원본이 없는 썸네일인지 확인 ({원본}_{크기}.jpg)
+     */
+    private static boolean isOrphanThumbnail(Path file, String fileName) {
+        int separator = fileName.lastIndexOf('_');
+        if (separator <= 0 || !fileName.endsWith(".jpg")) {
+            return false;
+        }
+        return !Files.exists(file.resolveSibling(fileName.substring(0, separator)));
+    }
+    
+    /**
+     * 저장소 파일 삭제 (BlobStore.release는 방금 다시 저장된 파일을 지우지 않음)
+     */
+    private void releaseBlob(String hash, Report report) throws InterruptedException {
+        Path file = BlobStore.getInstance().resolve(hash);
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            // 이미 삭제된 파일
+            return;
+        }
+        
+        throttle();
+        if (BlobStore.getInstance().release(hash)) {
+            report.filesDeleted++;
+            report.bytesReclaimed += size;
+        }
+    }
+    
+    /**
+     * 이전 방식(UUID 파일명)으로 저장된 파일 삭제
+     * 예전 업로드는 {게시판 종류}/ 아래에 저장하면서 경로에는 종류를 남기지 않았으므로 두 위치를 모두 확인한다.
+     */
+    private void deleteLegacyFile(DeletedFile file, Report report) throws InterruptedException {
+        deleteFile(baseDir.resolve(file.savedFilePath), report);
+        if (file.boardType != null) {
+            deleteFile(baseDir.resolve(file.boardType).resolve(file.savedFilePath), report);
+        }
+        ThumbnailGenerator.getInstance().deleteThumbnails(file.savedFilePath);
+    }
+    
+    private void deleteFile(Path file, Report report) throws InterruptedException {
+        // 업로드 디렉토리 밖의 경로는 지우지 않음
+        if (!file.normalize().startsWith(baseDir.normalize())) {
+            return;
+        }
+        
+        try {
+            long size = Files.size(file);
+            throttle();
+            if (Files.deleteIfExists(file)) {
+                report.filesDeleted++;
+                report.bytesReclaimed += size;
+            }
+        } catch (NoSuchFileException e) {
+            // 이미 삭제된 파일
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * 삭제 속도 제한 (초당 FILES_PER_SECOND개)
+     */
+    private void throttle() throws InterruptedException {
+        long now = System.nanoTime();
+        if (nextDeleteTime > now) {
+            TimeUnit.NANOSECONDS.sleep(nextDeleteTime - now);
+            now = nextDeleteTime;
+        }
+        nextDeleteTime = now + deleteIntervalNanos;
+    }
+    
+    /**
+     * 보존 기간이 지난 삭제 처리 행 조회
+     * deleted_date가 없는 예전 행은 업로드 일시를 기준으로 한다.
+     */
+    private static void loadDeletedFiles(Connection conn, int lastFileId, long cutoff, List<DeletedFile> batch)
+            throws SQLException {
+        String sql = "SELECT f.file_id, f.saved_file_path, f.content_hash, b.board_type " +
+                     "FROM board_files f LEFT JOIN boards b ON b.board_id = f.board_id " +
+                     "WHERE f.is_deleted = true AND f.file_id > ? AND COALESCE(f.deleted_date, f.upload_date) < ? " +
+                     "ORDER BY f.file_id LIMIT ?";
+        
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, lastFileId);
+            pstmt.setTimestamp(2, new Timestamp(cutoff));
+            pstmt.setInt(3, BATCH_SIZE);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    batch.add(new DeletedFile(rs.getInt("file_id"), rs.getString("saved_file_path"),
+                            rs.getString("content_hash"), rs.getString("board_type")));
+                }
+            }
+        }
+    }
+    
+    /**
+     * 값 목록 중 board_files에 있는 값 조회 (IN 목록으로 한 번에 확인)
+     * @param column 조회할 컬럼 (content_hash 또는 saved_file_path)
+     * @param values 확인할 값 목록
+     * @param cutoff 이 시각 이전에 삭제 처리된 행은 제외 (0이면 모든 행 확인)
+     */
+    private static Set<String> findExisting(Connection conn, String column, Collection<String> values, long cutoff)
+            throws SQLException {
+        Set<String> existing = new HashSet<>();
+        if (values.isEmpty()) {
+            return existing;
+        }
+        
+        StringBuilder sql = new StringBuilder("SELECT DISTINCT ").append(column)
+                .append(" FROM board_files WHERE ").append(column).append(" IN (");
+        for (int i = 0; i < values.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")");
+        if (cutoff > 0) {
+            sql.append(" AND (is_deleted = false OR COALESCE(deleted_date, upload_date) >= ?)");
+        }
+        
+        try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (String value : values) {
+                pstmt.setString(index++, value);
+            }
+            if (cutoff > 0) {
+                pstmt.setTimestamp(index, new Timestamp(cutoff));
+            }
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(rs.getString(1));
+                }
+            }
+        }
+        return existing;
+    }
+    
+    /**
+     * 정리한 행 삭제
+     * @return 삭제한 행 수
+     */
+    private static int deleteRows(List<Integer> fileIds) {
+        StringBuilder sql = new StringBuilder("DELETE FROM board_files WHERE is_deleted = true AND file_id IN (");
+        for (int i = 0; i < fileIds.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")");
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        try {
+            conn = DBConnectionUtil.getConnection();
+            pstmt = conn.prepareStatement(sql.toString());
+            for (int i = 0; i < fileIds.size(); i++) {
+                pstmt.setInt(i + 1, fileIds.get(i));
+            }
+            return pstmt.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        } finally {
+            DBConnectionUtil.close(null, pstmt, conn);
+        }
+    }
+    
+    /**
+     * 삭제 처리된 첨부 파일 행
+     */
+    private static class DeletedFile {
+        private final int fileId;
+        private final String savedFilePath;
+        private final String contentHash;
+        private final String boardType;
+        
+        DeletedFile(int fileId, String savedFilePath, String contentHash, String boardType) {
+            this.fileId = fileId;
+            this.savedFilePath = savedFilePath;
+            this.contentHash = contentHash;
+            this.boardType = boardType;
+        }
+    }
+    
+    /**
+     * 실행 결과
+     */
+    public static class Report {
+        private int rowsPurged;
+        private int orphanFiles;
+        private int filesDeleted;
+        private long bytesReclaimed;
+        private long elapsedMillis;
+        
+        /**
+         * 삭제한 board_files 행 수
+         * @return 행 수
+         */
+        public int getRowsPurged() {
+            return rowsPurged;
+        }
+        
+        /**
+         * DB 행이 없어 삭제 대상이 된 저장소 파일 수
+         * @return 파일 수
+         */
+        public int getOrphanFiles() {
+            return orphanFiles;
+        }
+        
+        /**
+         * 삭제한 파일 수 (원본이 없는 썸네일, 임시 파일 포함)
+         * @return 파일 수
+         */
+        public int getFilesDeleted() {
+            return filesDeleted;
+        }
+        
+        /**
+         * 확보한 디스크 용량 (바이트)
+         * @return 바이트 수
+         */
+        public long getBytesReclaimed() {
+            return bytesReclaimed;
+        }
+        
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+        
+        @Override
+        public String toString() {
+            return "rowsPurged=" + rowsPurged + ", orphanFiles=" + orphanFiles + ", filesDeleted=" + filesDeleted
+                    + ", bytesReclaimed=" + bytesReclaimed + ", elapsedMillis=" + elapsedMillis;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,296 @@
+package com.kirini.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.Part;
+
+/**
+ * 첨부 파일 내용을 SHA-256 해시 기준으로 한 번만 저장하는 저장소
+ * 같은 파일을 여러 게시판에 올려도 blobs/ab/cd/{해시} 파일 하나만 남고,
+ * 참조는 board_files의 content_hash 행(삭제되지 않은 행 수)으로 관리한다.
+ *
+ * 해시는 업로드 스트림을 임시 파일에 쓰는 동안 함께 계산하므로 파일을 다시 읽지 않는다.
+ * 참조가 없어진 파일은 release()로 지우되, 방금 저장(또는 중복 확인)된 파일은
+ * 다른 업로드가 board_files에 행을 추가하기 전일 수 있으므로 유예 시간이 지난 뒤에만 지운다.
+ * 유예 시간 기준은 메모리에 따로 기록하고 파일 수정 시각은 건드리지 않는다.
+ * (수정 시각은 다운로드의 ETag/Last-Modified로 쓰이므로 바뀌면 이어받기가 처음부터 다시 시작됨)
+ * 같은 해시의 저장과 삭제는 해시별 잠금으로 직렬화한다.
+ */
+public class BlobStore {
+    
+    // 저장 경로 (UPLOAD_BASE_DIR 기준 상대 경로, board_files.saved_file_path에 저장)
+    private static final String BLOB_DIR = "blobs";
+    
+    // 참조가 없어져도 바로 지우지 않는 유예 시간 (10분)
+    private static final long RELEASE_GRACE_MILLIS = 10 * 60 * 1000;
+    
+    // 유예 시간 기록이 이 수를 넘으면 지난 기록을 정리
+    private static final int GRACE_PRUNE_THRESHOLD = 1024;
+    
+    // 같은 해시의 저장/삭제를 직렬화하는 잠금 분할 수 (2의 거듭제곱)
+    private static final int LOCK_STRIPES = 64;
+    
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    
+    private static final BlobStore instance = new BlobStore(Paths.get(FileConfigurationProperties.UPLOAD_BASE_DIR));
+    
+    private final Path baseDir;
+    private final Path tempDir;
+    
+    // 해시 -> 마지막 저장(중복 확인 포함) 시각
+    // 재시작 후에는 기록이 없으므로 파일 수정 시각(처음 저장한 시각)을 기준으로 함
+    private final Map<String, Long> lastStored = new ConcurrentHashMap<>();
+    
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    
+    BlobStore(Path baseDir) {
+        this.baseDir = baseDir;
+        this.tempDir = baseDir.resolve(BLOB_DIR).resolve("tmp");
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+    
+    public static BlobStore getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 업로드 파일 저장
+     * @param part 업로드된 파일의 Part 객체
+     * @return 저장 결과
+     * @throws IOException 저장 실패 시 예외 발생
+     */
+    public Blob store(Part part) throws IOException {
+        try (InputStream in = part.getInputStream()) {
+            return store(in);
+        }
+    }
+    
+    /**
+     * 스트림 내용 저장 (같은 내용이 이미 있으면 새로 저장하지 않음)
+     * @param in 저장할 내용
+     * @return 저장 결과
+     * @throws IOException 저장 실패 시 예외 발생
+     */
+    public Blob store(InputStream in) throws IOException {
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "upload-", ".tmp");
+        
+        MessageDigest digest = newDigest();
+        try (InputStream input = new DigestInputStream(in, digest)) {
+            Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        
+        return store(temp, toHex(digest.digest()));
+    }
+    
+    /**
+     * 이미 해시를 계산한 파일을 저장소로 이동 (분할 업로드처럼 받는 동안 해시를 계산한 경우)
+     * 원본 파일은 저장소로 이동하거나, 같은 내용이 이미 있으면 삭제한다.
+     * @param source 저장할 파일 (저장소와 같은 파일 시스템에 있어야 이동으로 처리됨)
+     * @param hash 파일 내용의 SHA-256 해시 (소문자 16진수)
+     * @return 저장 결과
+     * @throws IOException 저장 실패 시 예외 발생
+     */
+    public Blob store(Path source, String hash) throws IOException {
+        if (!isValidHash(hash)) {
+            throw new IllegalArgumentException("잘못된 해시 형식입니다: " + hash);
+        }
+        
+        long size = Files.size(source);
+        Path target = resolve(hash);
+        boolean created = false;
+        
+        try {
+            synchronized (lockFor(hash)) {
+                if (!Files.exists(target)) {
+                    Files.createDirectories(target.getParent());
+                    moveIntoPlace(source, target);
+                    created = true;
+                }
+                // 이미 같은 내용이 있으면 원본 파일을 지우고 유예 시간 기준만 갱신
+                markStored(hash);
+            }
+        } finally {
+            Files.deleteIfExists(source);
+        }
+        
+        return new Blob(hash, getSavedFilePath(hash), size, created);
+    }
+    
+    /**
+     * 참조가 없어진 파일 삭제 (board_files에서 마지막 참조를 삭제 처리한 뒤 호출)
+     * 유예 시간 안에 저장된 파일은 지우지 않으며, 이후 정리 작업에서 다시 확인한다.
+     * @param hash 파일 해시
+     * @return 삭제 여부
+     */
+    public boolean release(String hash) {
+        if (!isValidHash(hash)) {
+            return false;
+        }
+        
+        Path target = resolve(hash);
+        try {
+            synchronized (lockFor(hash)) {
+                Long stored = lastStored.get(hash);
+                long storedTime = stored != null ? stored : Files.getLastModifiedTime(target).toMillis();
+                if (System.currentTimeMillis() - storedTime < RELEASE_GRACE_MILLIS) {
+                    return false;
+                }
+                
+                lastStored.remove(hash);
+                boolean deleted = Files.deleteIfExists(target);
+                if (deleted) {
+                    ThumbnailGenerator.getInstance().deleteThumbnails(getSavedFilePath(hash));
+                }
+                return deleted;
+            }
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+    
+    /**
+     * 해시에 해당하는 파일 경로
+     * @param hash 파일 해시
+     * @return 절대 경로
+     */
+    public Path resolve(String hash) {
+        return baseDir.resolve(getSavedFilePath(hash));
+    }
+    
+    /**
+     * board_files.saved_file_path에 저장하는 경로 (UPLOAD_BASE_DIR 기준)
+     * @param hash 파일 해시
+     * @return 상대 경로 (예: blobs/ab/cd/abcd...)
+     */
+    public static String getSavedFilePath(String hash) {
+        return BLOB_DIR + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+    }
+    
+    /**
+     * 저장소에 저장된 경로인지 확인 (이전 방식의 UUID 파일명 경로와 구분)
+     * @param savedFilePath 저장된 파일 경로
+     * @return 저장소 경로 여부
+     */
+    public static boolean isBlobPath(String savedFilePath) {
+        return savedFilePath != null && savedFilePath.startsWith(BLOB_DIR + "/");
+    }
+    
+    /**
+     * SHA-256 해시 문자열 형식 확인 (소문자 16진수 64자)
+     * @param hash 확인할 문자열
+     * @return 형식 일치 여부
+     */
+    public static boolean isValidHash(String hash) {
+        if (hash == null || hash.length() != 64) {
+            return false;
+        }
+        for (int i = 0; i < hash.length(); i++) {
+            char c = hash.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 유예 시간 기준 갱신 (기록이 많아지면 유예 시간이 지난 기록을 정리)
+     */
+    private void markStored(String hash) {
+        long now = System.currentTimeMillis();
+        lastStored.put(hash, now);
+        
+        if (lastStored.size() > GRACE_PRUNE_THRESHOLD) {
+            lastStored.values().removeIf(time -> now - time >= RELEASE_GRACE_MILLIS);
+        }
+    }
+    
+    private Object lockFor(String hash) {
+        // 해시 문자열 앞 두 글자(16진수)로 분할 선택
+        return locks[Integer.parseInt(hash.substring(0, 2), 16) & (LOCK_STRIPES - 1)];
+    }
+    
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 자바 플랫폼은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+    
+    /**
+     * 저장 결과
+     */
+    public static class Blob {
+        private final String hash;
+        private final String savedFilePath;
+        private final long size;
+        private final boolean created;
+        
+        Blob(String hash, String savedFilePath, long size, boolean created) {
+            this.hash = hash;
+            this.savedFilePath = savedFilePath;
+            this.size = size;
+            this.created = created;
+        }
+        
+        public String getHash() {
+            return hash;
+        }
+        
+        public String getSavedFilePath() {
+            return savedFilePath;
+        }
+        
+        public long getSize() {
+            return size;
+        }
+        
+        /**
+         * 새로 저장했는지 여부 (false면 같은 내용의 기존 파일 사용)
+         * @return 새로 저장 여부
+         */
+        public boolean isCreated() {
+            return created;
+        }
+    }
+}
\ No newline at end of file
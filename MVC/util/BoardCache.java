@@ -0,0 +1,392 @@
+package com.kirini.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.kirini.dto.BoardDTO;
+
+/**
+ * 자주 조회되는 게시글(BoardDTO)의 메모리 캐시
+ * 전체 크기(추정 바이트 수)를 기준으로 LRU 순서로 내보내며, 새 항목은 최근 조회 빈도가
+ * 내보낼 항목보다 높을 때만 들인다(TinyLFU). 한 번 보고 마는 글이 인기 글을 밀어내지 않는다.
+ *
+ * 게시글 ID별 버전(분할 카운터)으로 갱신을 감지한다.
+ *   - 조회하는 쪽은 DB를 읽기 전에 stamp()로 버전을 받아 두고, put() 시 버전이 바뀌었으면 저장하지 않는다.
+ *   - DB 변경은 beginWrite()/endWrite()로 감싸며, 그 사이에는 해당 분할의 항목을 내주지도 저장하지도 않는다.
+ *   - 수정/삭제는 끝날 때 항목을 제거하고, 좋아요/댓글 수 변경은 캐시된 항목에 같은 변경을 적용한다.
+ * 따라서 삭제가 끝난 뒤 시작한 조회는 캐시에서 삭제 전 게시글을 받지 않는다.
+ * 캐시 안의 객체는 밖으로 내주지 않고 항상 복사본을 반환한다.
+ */
+public class BoardCache {
+    
+    // 최대 크기 (추정 바이트 수, 32MB)
+    private static final long MAX_WEIGHT = 32L * 1024 * 1024;
+    
+    // 이보다 큰 게시글은 캐싱하지 않음 (1MB)
+    private static final long MAX_ENTRY_WEIGHT = 1024 * 1024;
+    
+    // 버전 분할 수 (2의 거듭제곱)
+    private static final int VERSION_STRIPES = 4096;
+    
+    private static final BoardCache instance = new BoardCache(MAX_WEIGHT);
+    
+    private final long maxWeight;
+    
+    // 접근 순서 LinkedHashMap (가장 오래 사용하지 않은 항목이 맨 앞)
+    private final LinkedHashMap<Integer, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long weight;
+    
+    private final FrequencySketch sketch = new FrequencySketch(8192);
+    
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicIntegerArray writers = new AtomicIntegerArray(VERSION_STRIPES);
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    
+    BoardCache(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+    
+    public static BoardCache getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 캐시된 게시글 조회
+     * @param boardId 게시글 ID
+     * @return 게시글 복사본 (없거나 수정/삭제 중이면 null)
+     */
+    public BoardDTO get(int boardId) {
+        synchronized (this) {
+            sketch.increment(boardId);
+            
+            if (writers.get(stripe(boardId)) == 0) {
+                Entry entry = entries.get(boardId);
+                if (entry != null) {
+                    hits.increment();
+                    return copy(entry.board);
+                }
+            }
+        }
+        
+        misses.increment();
+        return null;
+    }
+    
+    /**
+     * 현재 버전 조회 (DB에서 게시글을 읽기 전에 호출)
+     * @param boardId 게시글 ID
+     * @return 버전
+     */
+    public long stamp(int boardId) {
+        return versions.get(stripe(boardId));
+    }
+    
+    /**
+     * DB에서 읽은 게시글 저장 (stamp() 이후 수정/삭제가 있었으면 저장하지 않음)
+     * @param board 게시글
+     * @param stamp 읽기 전에 받은 버전
+     */
+    public void put(BoardDTO board, long stamp) {
+        int boardId = board.getBoardId();
+        long entryWeight = weigh(board);
+        if (entryWeight > MAX_ENTRY_WEIGHT) {
+            return;
+        }
+        
+        synchronized (this) {
+            int stripe = stripe(boardId);
+            if (writers.get(stripe) > 0 || versions.get(stripe) != stamp) {
+                return;
+            }
+            
+            Entry old = entries.remove(boardId);
+            if (old != null) {
+                weight -= old.weight;
+            } else if (!makeRoom(boardId, entryWeight)) {
+                rejections.increment();
+                return;
+            }
+            
+            entries.put(boardId, new Entry(copy(board), entryWeight));
+            weight += entryWeight;
+        }
+    }
+    
+    /**
+     * DB 변경 시작 (변경 전에 호출, 반드시 endWrite()와 짝을 맞출 것)
+     * @param boardId 게시글 ID
+     */
+    public synchronized void beginWrite(int boardId) {
+        int stripe = stripe(boardId);
+        writers.incrementAndGet(stripe);
+        versions.incrementAndGet(stripe);
+    }
+    
+    /**
+     * 수정/삭제 종료 (성공 여부와 관계없이 호출, 캐시된 항목 제거)
+     * @param boardId 게시글 ID
+     */
+    public synchronized void endWrite(int boardId) {
+        invalidate(boardId);
+        writers.decrementAndGet(stripe(boardId));
+    }
+    
+    /**
+     * 좋아요 수, 댓글 수 등 일부 변경 종료 (성공 여부와 관계없이 호출)
+     * 변경 중에는 조회 결과가 저장되지 않으므로, 캐시된 항목에 같은 변경을 적용해도 두 번 반영되지 않는다.
+     * @param boardId 게시글 ID
+     * @param patch 캐시된 항목에 적용할 변경 (DB 변경에 실패했으면 null)
+     */
+    public synchronized void endWrite(int boardId, Consumer<BoardDTO> patch) {
+        int stripe = stripe(boardId);
+        versions.incrementAndGet(stripe);
+        
+        Entry entry = entries.get(boardId);
+        if (entry != null && patch != null) {
+            patch.accept(entry.board);
+        }
+        writers.decrementAndGet(stripe);
+    }
+    
+    /**
+     * 항목 제거 (버전을 올려 진행 중인 조회가 다시 저장하지 않도록 함)
+     * @param boardId 게시글 ID
+     */
+    public synchronized void invalidate(int boardId) {
+        versions.incrementAndGet(stripe(boardId));
+        
+        Entry entry = entries.remove(boardId);
+        if (entry != null) {
+            weight -= entry.weight;
+        }
+    }
+    
+    /**
+     * 전체 비우기
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        entries.clear();
+        weight = 0;
+    }
+    
+    /**
+     * 현재 통계 조회
+     * @return 통계
+     */
+    public synchronized Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), rejections.sum(), entries.size(), weight);
+    }
+    
+    /**
+     * 새 항목을 넣을 공간 확보 (LRU 순서로 내보내되, 새 항목보다 자주 조회된 항목은 내보내지 않음)
+     * @param boardId 새 게시글 ID
+     * @param entryWeight 새 항목 크기
+     * @return 공간 확보 여부 (false면 새 항목을 들이지 않음)
+     */
+    private boolean makeRoom(int boardId, long entryWeight) {
+        if (weight + entryWeight <= maxWeight) {
+            return true;
+        }
+        
+        // 내보낼 항목을 먼저 정한 뒤, 새 항목의 빈도가 모두보다 높을 때만 실제로 내보냄
+        int candidateFrequency = sketch.frequency(boardId);
+        long freed = 0;
+        int victimCount = 0;
+        
+        Iterator<Map.Entry<Integer, Entry>> iterator = entries.entrySet().iterator();
+        while (weight - freed + entryWeight > maxWeight && iterator.hasNext()) {
+            Map.Entry<Integer, Entry> victim = iterator.next();
+            if (sketch.frequency(victim.getKey()) >= candidateFrequency) {
+                return false;
+            }
+            freed += victim.getValue().weight;
+            victimCount++;
+        }
+        
+        if (weight - freed + entryWeight > maxWeight) {
+            return false;
+        }
+        
+        iterator = entries.entrySet().iterator();
+        for (int i = 0; i < victimCount; i++) {
+            Entry victim = iterator.next().getValue();
+            iterator.remove();
+            weight -= victim.weight;
+            evictions.increment();
+        }
+        return true;
+    }
+    
+    private static int stripe(int boardId) {
+        int h = boardId * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (VERSION_STRIPES - 1);
+    }
+    
+    /**
+     * 게시글이 차지하는 메모리 추정 (문자열은 글자당 2바이트, 객체 머리 등 고정 비용 포함)
+     */
+    private static long weigh(BoardDTO board) {
+        return 160 + 2L * (length(board.getTitle()) + length(board.getContent()) + length(board.getUserNickname())
+                + length(board.getBoardType()) + length(board.getFileName()) + length(board.getFilePath()));
+    }
+    
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+    
+    private static BoardDTO copy(BoardDTO source) {
+        BoardDTO board = new BoardDTO();
+        board.setBoardId(source.getBoardId());
+        board.setTitle(source.getTitle());
+        board.setContent(source.getContent());
+        board.setUserId(source.getUserId());
+        board.setUserNickname(source.getUserNickname());
+        board.setBoardType(source.getBoardType());
+        board.setViewCount(source.getViewCount());
+        board.setLikeCount(source.getLikeCount());
+        board.setCommentCount(source.getCommentCount());
+        board.setCreatedDate(source.getCreatedDate());
+        board.setModifiedDate(source.getModifiedDate());
+        board.setDeleted(source.isDeleted());
+        board.setFileName(source.getFileName());
+        board.setFilePath(source.getFilePath());
+        return board;
+    }
+    
+    /**
+     * 캐시 항목 (게시글과 추정 크기)
+     */
+    private static class Entry {
+        private final BoardDTO board;
+        private final long weight;
+        
+        Entry(BoardDTO board, long weight) {
+            this.board = board;
+            this.weight = weight;
+        }
+    }
+    
+    /**
+     * 최근 조회 빈도 추정기 (Count-Min Sketch, 4비트 카운터)
+     * 조회 횟수가 표본 크기에 이르면 모든 카운터를 절반으로 줄여 오래된 인기도를 잊는다.
+     */
+    private static class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = { 0x97CB3127, 0xB3F6E1A5, 0x5BD1E995, 0x27D4EB2F };
+        
+        private final byte[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+        
+        FrequencySketch(int width) {
+            table = new byte[DEPTH][width];
+            mask = width - 1;
+            sampleSize = width * 10;
+        }
+        
+        void increment(int key) {
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = index(key, i);
+                if (table[i][index] < MAX_COUNT) {
+                    table[i][index]++;
+                    added = true;
+                }
+            }
+            
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+        
+        int frequency(int key) {
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, table[i][index(key, i)]);
+            }
+            return frequency;
+        }
+        
+        private int index(int key, int row) {
+            int h = key * SEEDS[row];
+            h ^= h >>> 15;
+            h *= 0x2C1B3C6D;
+            h ^= h >>> 12;
+            return h & mask;
+        }
+        
+        private void reset() {
+            for (byte[] row : table) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+            additions /= 2;
+        }
+    }
+    
+    /**
+     * 캐시 통계
+     */
+    public static class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long rejectionCount;
+        private final int size;
+        private final long weight;
+        
+        Stats(long hitCount, long missCount, long evictionCount, long rejectionCount, int size, long weight) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.rejectionCount = rejectionCount;
+            this.size = size;
+            this.weight = weight;
+        }
+        
+        public long getHitCount() {
+            return hitCount;
+        }
+        
+        public long getMissCount() {
+            return missCount;
+        }
+        
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+        
+        // 빈도가 낮아 들이지 않은 건수
+        public long getRejectionCount() {
+            return rejectionCount;
+        }
+        
+        public int getSize() {
+            return size;
+        }
+        
+        public long getWeight() {
+            return weight;
+        }
+        
+        public double getHitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+    }
+}
\ No newline at end of file
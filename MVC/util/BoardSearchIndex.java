@@ -0,0 +1,482 @@
+package com.kirini.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 검색용 메모리 역색인
+ * 형태소 분석기 없이도 한글 검색이 가능하도록 제목/내용/작성자 닉네임을 두 글자 단위(bigram)로 색인하고,
+ * 게시판 종류별로 후보를 좁힌 뒤 원문 포함 여부를 확인해 LIKE '%키워드%'와 같은 결과를 돌려준다.
+ * 한 번의 검색으로 정렬된 ID 목록과 정확한 전체 건수를 함께 계산한다.
+ * 시작 시 DB에서 전체를 색인하고(rebuild), 이후에는 BoardDAO의 등록/수정/삭제 시 함께 갱신한다.
+ */
+public class BoardSearchIndex {
+    
+    // 색인 필드
+    private static final int FIELD_TITLE = 0;
+    private static final int FIELD_CONTENT = 1;
+    private static final int FIELD_NICKNAME = 2;
+    
+    private static final BoardSearchIndex instance = new BoardSearchIndex();
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 현재 사용 중인 색인 데이터
+    private IndexData data = new IndexData();
+    
+    // 재색인 중 발생한 변경 (재색인 완료 후 새 색인에 다시 적용)
+    private List<Consumer<IndexData>> pendingChanges;
+    
+    private volatile boolean ready = false;
+    
+    private BoardSearchIndex() {}
+    
+    public static BoardSearchIndex getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 색인 사용 가능 여부 (초기 색인 완료 전에는 DB 검색 사용)
+     * @return 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * DB의 삭제되지 않은 전체 게시글로 색인 재생성
+     * 재색인 중에도 기존 색인으로 검색할 수 있으며, 그 사이의 변경은 완료 후 새 색인에 반영한다.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        IndexData newData = new IndexData();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        boolean success = false;
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            String sql = "SELECT board_id, board_type, title, content, user_nickname, created_date " +
+                         "FROM boards WHERE is_deleted = FALSE";
+            
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setFetchSize(500);
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                Timestamp createdDate = rs.getTimestamp("created_date");
+                newData.put(new Document(
+                        rs.getInt("board_id"),
+                        rs.getString("board_type"),
+                        rs.getString("title"),
+                        rs.getString("content"),
+                        rs.getString("user_nickname"),
+                        createdDate != null ? createdDate.getTime() : 0L));
+            }
+            success = true;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DBConnectionUtil.close(rs, pstmt, conn);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            if (success) {
+                for (Consumer<IndexData> change : pendingChanges) {
+                    change.accept(newData);
+                }
+                data = newData;
+                ready = true;
+                System.out.println("BoardSearchIndex - 게시글 " + newData.documents.size() + "건 색인 완료");
+            }
+            pendingChanges = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 게시글 색인 (등록 시 호출, 같은 ID가 있으면 교체)
+     * @param boardId 게시글 ID
+     * @param boardType 게시판 종류
+     * @param title 제목
+     * @param content 내용
+     * @param userNickname 작성자 닉네임
+     * @param createdDate 작성일
+     */
+    public void index(int boardId, String boardType, String title, String content, String userNickname, Date createdDate) {
+        Document document = new Document(boardId, boardType, title, content, userNickname,
+                createdDate != null ? createdDate.getTime() : System.currentTimeMillis());
+        mutate(indexData -> indexData.put(document));
+    }
+    
+    /**
+     * 게시글 제목/내용 갱신 (수정 시 호출)
+     * @param boardId 게시글 ID
+     * @param title 제목
+     * @param content 내용
+     */
+    public void update(int boardId, String title, String content) {
+        mutate(indexData -> {
+            Document old = indexData.documents.get(boardId);
+            if (old != null) {
+                indexData.put(new Document(boardId, old.boardType, title, content, old.nickname, old.createdTime));
+            }
+        });
+    }
+    
+    /**
+     * 게시글 색인 제거 (삭제 시 호출)
+     * @param boardId 게시글 ID
+     */
+    public void remove(int boardId) {
+        mutate(indexData -> indexData.remove(boardId));
+    }
+    
+    /**
+     * 게시글 검색
+     * 통합 검색(제목+내용)은 제목 일치(2점), 내용 일치(1점) 점수순으로, 그 외에는 최신순으로 정렬한다.
+     * @param boardType 게시판 종류
+     * @param searchType 검색 유형 (title, content, user, 그 외는 제목+내용)
+     * @param keyword 검색어
+     * @param page 페이지 번호
+     * @param pageSize 페이지당 게시글 수
+     * @return 현재 페이지의 게시글 ID 목록과 전체 검색 건수
+     */
+    public SearchResult search(String boardType, String searchType, String keyword, int page, int pageSize) {
+        String query = normalize(keyword);
+        List<Match> matches = new ArrayList<>();
+        
+        lock.readLock().lock();
+        try {
+            Partition partition = data.partitions.get(boardType);
+            if (partition != null && !query.isEmpty()) {
+                if ("title".equals(searchType)) {
+                    collect(partition, FIELD_TITLE, query, 1, matches);
+                } else if ("content".equals(searchType)) {
+                    collect(partition, FIELD_CONTENT, query, 1, matches);
+                } else if ("user".equals(searchType)) {
+                    collect(partition, FIELD_NICKNAME, query, 1, matches);
+                } else {
+                    collect(partition, FIELD_TITLE, query, 2, matches);
+                    collect(partition, FIELD_CONTENT, query, 1, matches);
+                    mergeScores(matches);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        Collections.sort(matches);
+        
+        int from = Math.max(page - 1, 0) * pageSize;
+        int to = Math.min(from + pageSize, matches.size());
+        
+        List<Integer> boardIds = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            boardIds.add(matches.get(i).document.boardId);
+        }
+        
+        return new SearchResult(boardIds, matches.size());
+    }
+    
+    /**
+     * 변경 적용 (재색인 중이면 완료 후 다시 적용하도록 기록)
+     */
+    private void mutate(Consumer<IndexData> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(data);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 한 필드에서 검색어를 포함하는 게시글 수집
+     * bigram 목록의 교집합으로 후보를 구한 뒤 원문 포함 여부로 최종 확인한다.
+     * (한 글자 검색어는 bigram이 없으므로 게시판 전체를 확인)
+     */
+    private void collect(Partition partition, int field, String query, int score, List<Match> matches) {
+        if (query.length() < 2) {
+            for (int i = 0; i < partition.allIds.size; i++) {
+                addIfMatches(partition.documents.get(partition.allIds.ids[i]), field, query, score, matches);
+            }
+            return;
+        }
+        
+        Set<Integer> bigrams = bigramsOf(query);
+        PostingList[] lists = new PostingList[bigrams.size()];
+        int count = 0;
+        for (int bigram : bigrams) {
+            PostingList list = partition.postings.get(postingKey(field, bigram));
+            if (list == null || list.size == 0) {
+                return;
+            }
+            lists[count++] = list;
+        }
+        
+        // 가장 짧은 목록을 기준으로 나머지 목록에서 이진 탐색
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        PostingList shortest = lists[0];
+        
+        for (int i = 0; i < shortest.size; i++) {
+            int boardId = shortest.ids[i];
+            boolean inAll = true;
+            for (int j = 1; j < lists.length && inAll; j++) {
+                inAll = lists[j].contains(boardId);
+            }
+            
+            if (inAll) {
+                addIfMatches(partition.documents.get(boardId), field, query, score, matches);
+            }
+        }
+    }
+    
+    private void addIfMatches(Document document, int field, String query, int score, List<Match> matches) {
+        if (document != null && document.field(field).contains(query)) {
+            matches.add(new Match(document, score));
+        }
+    }
+    
+    /**
+     * 제목과 내용에 모두 일치한 게시글의 점수를 합산하고 중복 제거
+     */
+    private void mergeScores(List<Match> matches) {
+        Map<Integer, Match> merged = new HashMap<>();
+        for (Match match : matches) {
+            Match existing = merged.get(match.document.boardId);
+            if (existing == null) {
+                merged.put(match.document.boardId, match);
+            } else {
+                existing.score += match.score;
+            }
+        }
+        
+        if (merged.size() != matches.size()) {
+            matches.clear();
+            matches.addAll(merged.values());
+        }
+    }
+    
+    /**
+     * 검색/색인용 문자열 정규화 (대소문자 구분 없음)
+     */
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 문자열의 중복 없는 bigram 목록 (두 글자를 하나의 int로 표현)
+     */
+    private static Set<Integer> bigramsOf(String text) {
+        Set<Integer> bigrams = new HashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            bigrams.add((text.charAt(i) << 16) | text.charAt(i + 1));
+        }
+        return bigrams;
+    }
+    
+    private static long postingKey(int field, int bigram) {
+        return ((long) field << 32) | (bigram & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * 검색 결과 (현재 페이지 ID 목록과 전체 건수)
+     */
+    public static class SearchResult {
+        private final List<Integer> boardIds;
+        private final int totalCount;
+        
+        public SearchResult(List<Integer> boardIds, int totalCount) {
+            this.boardIds = boardIds;
+            this.totalCount = totalCount;
+        }
+        
+        public List<Integer> getBoardIds() {
+            return boardIds;
+        }
+        
+        public int getTotalCount() {
+            return totalCount;
+        }
+    }
+    
+    /**
+     * 색인 데이터 (게시글 원문과 게시판 종류별 색인)
+     */
+    private static class IndexData {
+        private final Map<Integer, Document> documents = new HashMap<>();
+        private final Map<String, Partition> partitions = new HashMap<>();
+        
+        void put(Document document) {
+            remove(document.boardId);
+            documents.put(document.boardId, document);
+            partitions.computeIfAbsent(document.boardType, type -> new Partition()).add(document);
+        }
+        
+        void remove(int boardId) {
+            Document old = documents.remove(boardId);
+            if (old != null) {
+                Partition partition = partitions.get(old.boardType);
+                if (partition != null) {
+                    partition.remove(old);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 게시판 종류 하나의 색인 (필드별 bigram -> 게시글 ID 목록)
+     */
+    private static class Partition {
+        private final Map<Integer, Document> documents = new HashMap<>();
+        private final Map<Long, PostingList> postings = new HashMap<>();
+        private final PostingList allIds = new PostingList();
+        
+        void add(Document document) {
+            documents.put(document.boardId, document);
+            allIds.add(document.boardId);
+            for (int field = FIELD_TITLE; field <= FIELD_NICKNAME; field++) {
+                for (int bigram : bigramsOf(document.field(field))) {
+                    postings.computeIfAbsent(postingKey(field, bigram), key -> new PostingList()).add(document.boardId);
+                }
+            }
+        }
+        
+        void remove(Document document) {
+            documents.remove(document.boardId);
+            allIds.remove(document.boardId);
+            for (int field = FIELD_TITLE; field <= FIELD_NICKNAME; field++) {
+                for (int bigram : bigramsOf(document.field(field))) {
+                    long key = postingKey(field, bigram);
+                    PostingList list = postings.get(key);
+                    if (list != null) {
+                        list.remove(document.boardId);
+                        if (list.size == 0) {
+                            postings.remove(key);
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * 정렬된 게시글 ID 목록 (새 글은 ID가 커서 대부분 끝에 추가됨)
+     */
+    private static class PostingList {
+        private int[] ids = new int[4];
+        private int size = 0;
+        
+        void add(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+        
+        void remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+        
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+    
+    /**
+     * 색인된 게시글 (검색 확인용 소문자 원문 보관)
+     */
+    private static class Document {
+        private final int boardId;
+        private final String boardType;
+        private final String title;
+        private final String content;
+        private final String nickname;
+        private final long createdTime;
+        
+        Document(int boardId, String boardType, String title, String content, String nickname, long createdTime) {
+            this.boardId = boardId;
+            this.boardType = boardType;
+            this.title = normalize(title);
+            this.content = normalize(content);
+            this.nickname = normalize(nickname);
+            this.createdTime = createdTime;
+        }
+        
+        String field(int field) {
+            switch (field) {
+                case FIELD_TITLE:
+                    return title;
+                case FIELD_CONTENT:
+                    return content;
+                default:
+                    return nickname;
+            }
+        }
+    }
+    
+    /**
+     * 검색 결과 항목 (점수 높은 순, 같으면 최신순)
+     */
+    private static class Match implements Comparable<Match> {
+        private final Document document;
+        private int score;
+        
+        Match(Document document, int score) {
+            this.document = document;
+            this.score = score;
+        }
+        
+        @Override
+        public int compareTo(Match other) {
+            if (score != other.score) {
+                return Integer.compare(other.score, score);
+            }
+            if (document.createdTime != other.document.createdTime) {
+                return Long.compare(other.document.createdTime, document.createdTime);
+            }
+            return Integer.compare(other.document.boardId, document.boardId);
+        }
+    }
+}
\ No newline at end of file
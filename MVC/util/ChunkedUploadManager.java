@@ -0,0 +1,454 @@
+package com.kirini.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대용량 첨부 파일의 분할(이어받기) 업로드 세션 관리
+ * 세션을 만든 뒤 번호를 붙인 조각을 받아 chunks/{업로드 ID}.part 파일의 해당 위치에 바로 쓰고,
+ * 조각마다 SHA-256 체크섬을 확인한다. 연결이 끊기면 확정된 위치(getCommittedOffset)부터 다시 보내면 된다.
+ *
+ * 파일 전체의 해시는 앞에서부터 이어진 조각이 확정될 때마다 방금 쓴 구간(페이지 캐시)을 읽어 이어서 계산하므로,
+ * 완료 시 전체 파일을 다시 읽지 않고 바로 BlobStore로 옮긴다.
+ * 세션은 메모리에만 보관하므로 서버를 재시작하면 처음부터 다시 업로드해야 한다.
+ * 세션마다 만든 사용자를 기록하며, 사용자당 동시에 진행할 수 있는 세션 수를 제한한다.
+ */
+public class ChunkedUploadManager {
+    
+    // 조각 파일 저장 경로 (UPLOAD_BASE_DIR 기준, BlobStore와 같은 파일 시스템이어야 이동으로 처리됨)
+    private static final String CHUNK_DIR = "chunks";
+    
+    // 만료 세션 정리 주기 (10분)
+    private static final long CLEANUP_INTERVAL_MILLIS = 10 * 60 * 1000;
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final ChunkedUploadManager instance = new ChunkedUploadManager(
+            Paths.get(FileConfigurationProperties.UPLOAD_BASE_DIR), FileConfigurationProperties.CHUNK_SIZE,
+            FileConfigurationProperties.MAX_CHUNKED_FILE_SIZE, FileConfigurationProperties.CHUNKED_UPLOAD_EXPIRE_MILLIS,
+            FileConfigurationProperties.MAX_CHUNKED_UPLOADS_PER_USER);
+    
+    private final Path chunkDir;
+    private final int chunkSize;
+    private final long maxFileSize;
+    private final long expireMillis;
+    private final int maxUploadsPerUser;
+    
+    private final Map<String, ChunkedUpload> uploads = new ConcurrentHashMap<>();
+    
+    private final ScheduledExecutorService cleaner;
+    
+    ChunkedUploadManager(Path baseDir, int chunkSize, long maxFileSize, long expireMillis, int maxUploadsPerUser) {
+        this.chunkDir = baseDir.resolve(CHUNK_DIR);
+        this.chunkSize = chunkSize;
+        this.maxFileSize = maxFileSize;
+        this.expireMillis = expireMillis;
+        this.maxUploadsPerUser = maxUploadsPerUser;
+        
+        cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kirini-chunked-upload-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        cleaner.scheduleWithFixedDelay(() -> {
+            try {
+                cleanupExpired();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }, CLEANUP_INTERVAL_MILLIS, CLEANUP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    public static ChunkedUploadManager getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 업로드 세션 생성
+     * @param userId 업로드하는 사용자 ID
+     * @param boardId 게시글 ID
+     * @param originalFileName 원본 파일명
+     * @param fileSize 전체 파일 크기 (바이트)
+     * @return 생성된 세션 (사용자의 진행 중인 세션이 이미 최대 개수면 null)
+     * @throws IOException 조각 파일 생성 실패 시 예외 발생
+     */
+    public ChunkedUpload create(int userId, int boardId, String originalFileName, long fileSize) throws IOException {
+        if (fileSize <= 0 || fileSize > maxFileSize) {
+            throw new IllegalArgumentException("허용되지 않는 파일 크기입니다: " + fileSize);
+        }
+        
+        // 개수 확인과 등록 사이에 같은 사용자의 다른 요청이 끼어들지 않도록 잠금
+        synchronized (uploads) {
+            int active = 0;
+            for (ChunkedUpload upload : uploads.values()) {
+                if (upload.userId == userId) {
+                    active++;
+                }
+            }
+            if (active >= maxUploadsPerUser) {
+                return null;
+            }
+            
+            Files.createDirectories(chunkDir);
+            String uploadId = UUID.randomUUID().toString().replace("-", "");
+            Path partFile = Files.createFile(chunkDir.resolve(uploadId + ".part"));
+            
+            ChunkedUpload upload = new ChunkedUpload(uploadId, userId, boardId, originalFileName, fileSize, chunkSize, partFile);
+            uploads.put(uploadId, upload);
+            return upload;
+        }
+    }
+    
+    /**
+     * 업로드 세션 조회
+     * @param uploadId 업로드 ID
+     * @return 세션 (없거나 만료되었으면 null)
+     */
+    public ChunkedUpload get(String uploadId) {
+        return uploadId != null ? uploads.get(uploadId) : null;
+    }
+    
+    /**
+     * 조각 저장
+     * 받은 내용을 조각 위치에 바로 쓰면서 체크섬을 계산하고, 길이와 체크섬이 맞을 때만 확정한다.
+     * 확정되지 않은 조각은 같은 번호로 다시 보내면 덮어쓴다.
+     * @param uploadId 업로드 ID
+     * @param index 조각 번호 (0부터 시작)
+     * @param in 조각 내용
+     * @param sha256 조각 내용의 SHA-256 (16진수)
+     * @return 처리 결과
+     * @throws IOException 수신 또는 파일 쓰기 실패 시 예외 발생
+     */
+    public ChunkStatus writeChunk(String uploadId, int index, InputStream in, String sha256) throws IOException {
+        ChunkedUpload upload = get(uploadId);
+        if (upload == null) {
+            return ChunkStatus.NOT_FOUND;
+        }
+        if (index < 0 || index >= upload.chunkCount) {
+            return ChunkStatus.OUT_OF_RANGE;
+        }
+        if (!upload.beginChunk(index)) {
+            // 이미 확정된 조각은 다시 받지 않음 (응답을 받지 못한 클라이언트의 재전송)
+            return upload.isReceived(index) ? ChunkStatus.ALREADY_COMMITTED : ChunkStatus.IN_PROGRESS;
+        }
+        
+        try {
+            long position = (long) index * chunkSize;
+            long expected = upload.getChunkLength(index);
+            MessageDigest digest = BlobStore.newDigest();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long written = 0;
+            
+            try (FileChannel channel = FileChannel.open(upload.partFile, StandardOpenOption.WRITE)) {
+                int read;
+                // 조각 길이보다 1바이트 더 읽어 길이 초과를 확인
+                while ((read = in.read(buffer, 0, (int) Math.min(buffer.length, expected - written + 1))) > 0) {
+                    if (written + read > expected) {
+                        return ChunkStatus.LENGTH_MISMATCH;
+                    }
+                    digest.update(buffer, 0, read);
+                    
+                    ByteBuffer source = ByteBuffer.wrap(buffer, 0, read);
+                    while (source.hasRemaining()) {
+                        written += channel.write(source, position + written);
+                    }
+                }
+            }
+            
+            if (written != expected) {
+                return ChunkStatus.LENGTH_MISMATCH;
+            }
+            if (sha256 == null || !BlobStore.toHex(digest.digest()).equalsIgnoreCase(sha256.trim())) {
+                return ChunkStatus.CHECKSUM_MISMATCH;
+            }
+            
+            upload.commitChunk(index);
+            return ChunkStatus.COMMITTED;
+        } finally {
+            upload.endChunk(index);
+        }
+    }
+    
+    /**
+     * 업로드 완료 (모든 조각이 확정된 경우 파일을 BlobStore로 이동)
+     * @param uploadId 업로드 ID
+     * @return 저장 결과, 세션이 없거나 받지 못한 조각이 있으면 null
+     * @throws IOException 저장 실패 시 예외 발생
+     */
+    public BlobStore.Blob complete(String uploadId) throws IOException {
+        ChunkedUpload upload = get(uploadId);
+        if (upload == null) {
+            return null;
+        }
+        
+        String hash;
+        synchronized (upload) {
+            if (!upload.isComplete() || !upload.writing.isEmpty() || uploads.remove(uploadId) == null) {
+                return null;
+            }
+            hash = BlobStore.toHex(upload.fileDigest.digest());
+        }
+        
+        return BlobStore.getInstance().store(upload.partFile, hash);
+    }
+    
+    /**
+     * 업로드 취소 (세션과 조각 파일 삭제)
+     * @param uploadId 업로드 ID
+     * @return 취소 여부 (세션이 없으면 false)
+     */
+    public boolean abort(String uploadId) {
+        ChunkedUpload upload = uploadId != null ? uploads.remove(uploadId) : null;
+        if (upload == null) {
+            return false;
+        }
+        deletePartFile(upload.partFile);
+        return true;
+    }
+    
+    /**
+     * 정리 작업 종료 (애플리케이션 종료 시 호출)
+     */
+    public void shutdown() {
+        cleaner.shutdownNow();
+    }
+    
+    /**
+     * 만료된 세션과 세션이 없는 조각 파일(서버 재시작 전에 남은 파일) 삭제
+     */
+    void cleanupExpired() {
+        long now = System.currentTimeMillis();
+        
+        Iterator<ChunkedUpload> iterator = uploads.values().iterator();
+        while (iterator.hasNext()) {
+            ChunkedUpload upload = iterator.next();
+            if (upload.isExpired(now, expireMillis)) {
+                iterator.remove();
+                deletePartFile(upload.partFile);
+            }
+        }
+        
+        if (!Files.isDirectory(chunkDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(chunkDir, "*.part")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String uploadId = fileName.substring(0, fileName.length() - ".part".length());
+                if (!uploads.containsKey(uploadId)
+                        && now - Files.getLastModifiedTime(file).toMillis() > expireMillis) {
+                    deletePartFile(file);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    private static void deletePartFile(Path partFile) {
+        try {
+            Files.deleteIfExists(partFile);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * 조각 처리 결과
+     */
+    public enum ChunkStatus {
+        COMMITTED,          // 확정됨
+        ALREADY_COMMITTED,  // 이미 확정된 조각 (다시 쓰지 않음)
+        IN_PROGRESS,        // 같은 조각을 다른 요청이 받는 중
+        LENGTH_MISMATCH,    // 조각 길이 불일치
+        CHECKSUM_MISMATCH,  // 체크섬 불일치
+        OUT_OF_RANGE,       // 조각 번호 범위 초과
+        NOT_FOUND           // 세션 없음 (만료 또는 완료)
+    }
+    
+    /**
+     * 업로드 세션
+     * 조각 수신 상태는 세션 객체로 동기화하고, 조각 내용 쓰기는 잠금 없이 위치별로 수행한다.
+     */
+    public static class ChunkedUpload {
+        private final String uploadId;
+        private final int userId;
+        private final int boardId;
+        private final String originalFileName;
+        private final long fileSize;
+        private final int chunkSize;
+        private final int chunkCount;
+        private final Path partFile;
+        
+        // 확정된 조각, 받는 중인 조각
+        private final BitSet received = new BitSet();
+        private final BitSet writing = new BitSet();
+        
+        // 앞에서부터 이어서 확정된 조각 수와 그 범위까지의 파일 해시
+        private int committedChunks;
+        private MessageDigest fileDigest = BlobStore.newDigest();
+        
+        private long lastAccessTime = System.currentTimeMillis();
+        
+        ChunkedUpload(String uploadId, int userId, int boardId, String originalFileName, long fileSize, int chunkSize, Path partFile) {
+            this.uploadId = uploadId;
+            this.userId = userId;
+            this.boardId = boardId;
+            this.originalFileName = originalFileName;
+            this.fileSize = fileSize;
+            this.chunkSize = chunkSize;
+            this.chunkCount = (int) ((fileSize + chunkSize - 1) / chunkSize);
+            this.partFile = partFile;
+        }
+        
+        public String getUploadId() {
+            return uploadId;
+        }
+        
+        public int getUserId() {
+            return userId;
+        }
+        
+        public int getBoardId() {
+            return boardId;
+        }
+        
+        public String getOriginalFileName() {
+            return originalFileName;
+        }
+        
+        public long getFileSize() {
+            return fileSize;
+        }
+        
+        public int getChunkSize() {
+            return chunkSize;
+        }
+        
+        public int getChunkCount() {
+            return chunkCount;
+        }
+        
+        /**
+         * 앞에서부터 이어서 확정된 바이트 수 (이어받기 시작 위치)
+         * @return 확정된 위치
+         */
+        public synchronized long getCommittedOffset() {
+            return Math.min((long) committedChunks * chunkSize, fileSize);
+        }
+        
+        /**
+         * 다음에 보내야 할 조각 번호 (받지 않은 첫 번째 조각)
+         * @return 조각 번호 (모두 받았으면 조각 수)
+         */
+        public synchronized int getNextChunk() {
+            return Math.min(received.nextClearBit(0), chunkCount);
+        }
+        
+        /**
+         * 확정된 조각 수 (순서와 관계없이)
+         * @return 조각 수
+         */
+        public synchronized int getReceivedCount() {
+            return received.cardinality();
+        }
+        
+        public synchronized boolean isComplete() {
+            return committedChunks == chunkCount;
+        }
+        
+        synchronized boolean isExpired(long now, long expireMillis) {
+            return now - lastAccessTime > expireMillis && writing.isEmpty();
+        }
+        
+        synchronized boolean isReceived(int index) {
+            return received.get(index);
+        }
+        
+        long getChunkLength(int index) {
+            return Math.min(chunkSize, fileSize - (long) index * chunkSize);
+        }
+        
+        synchronized boolean beginChunk(int index) {
+            if (received.get(index) || writing.get(index)) {
+                return false;
+            }
+            writing.set(index);
+            lastAccessTime = System.currentTimeMillis();
+            return true;
+        }
+        
+        synchronized void endChunk(int index) {
+            writing.clear(index);
+            lastAccessTime = System.currentTimeMillis();
+        }
+        
+        /**
+         * 조각 확정 후 이어진 범위만큼 파일 해시 계산
+         * 읽기에 실패하면 해시를 이전 상태로 두고 조각도 확정하지 않으므로, 같은 조각을 다시 받으면 된다.
+         */
+        synchronized void commitChunk(int index) throws IOException {
+            received.set(index);
+            try {
+                advance();
+            } catch (IOException e) {
+                received.clear(index);
+                throw e;
+            }
+        }
+        
+        private void advance() throws IOException {
+            if (committedChunks >= chunkCount || !received.get(committedChunks)) {
+                return;
+            }
+            
+            MessageDigest digest;
+            try {
+                digest = (MessageDigest) fileDigest.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+            
+            int next = committedChunks;
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            try (FileChannel channel = FileChannel.open(partFile, StandardOpenOption.READ)) {
+                while (next < chunkCount && received.get(next)) {
+                    long position = (long) next * chunkSize;
+                    long end = position + getChunkLength(next);
+                    while (position < end) {
+                        buffer.clear();
+                        buffer.limit((int) Math.min(buffer.capacity(), end - position));
+                        int read = channel.read(buffer, position);
+                        if (read < 0) {
+                            throw new IOException("조각 파일이 예상보다 짧습니다: " + uploadId);
+                        }
+                        buffer.flip();
+                        digest.update(buffer);
+                        position += read;
+                    }
+                    next++;
+                }
+            }
+            
+            fileDigest = digest;
+            committedChunks = next;
+        }
+    }
+}
\ No newline at end of file
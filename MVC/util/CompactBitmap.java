@@ -0,0 +1,231 @@
+package com.kirini.util;
+
+import java.util.Arrays;
+
+/**
+ * 0 이상의 정수 집합을 압축해 담는 비트맵 (Roaring 방식)
+ * 값의 상위 16비트로 컨테이너를 나누고, 컨테이너 안의 하위 16비트 값은
+ * 4096개 이하이면 정렬된 char 배열(최대 8KB)로, 그보다 많으면 65536비트 비트맵(8KB)으로 보관한다.
+ * 좋아요를 누른 사용자처럼 드문드문한 집합은 값당 2바이트, 빽빽한 집합은 값당 1비트 남짓만 쓴다.
+ * 스레드에 안전하지 않으므로 호출하는 쪽에서 동기화할 것
+ */
+public final class CompactBitmap {
+    
+    // 배열 컨테이너 최대 크기 (넘으면 비트맵 컨테이너로 전환)
+    private static final int ARRAY_MAX = 4096;
+    
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int size;
+    
+    /**
+     * 값 추가
+     * @param value 값 (0 이상)
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(int value) {
+        char high = highBits(value);
+        int index = Arrays.binarySearch(keys, 0, size, high);
+        
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, high, new ArrayContainer());
+        }
+        
+        Container container = containers[index];
+        int before = container.cardinality;
+        containers[index] = container.add(lowBits(value));
+        return containers[index].cardinality > before;
+    }
+    
+    /**
+     * 값 삭제
+     * @param value 값
+     * @return 있던 값이 삭제되었으면 true
+     */
+    public boolean remove(int value) {
+        int index = Arrays.binarySearch(keys, 0, size, highBits(value));
+        if (index < 0) {
+            return false;
+        }
+        
+        Container container = containers[index];
+        int before = container.cardinality;
+        container = container.remove(lowBits(value));
+        
+        if (container.cardinality == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = container;
+        }
+        return container.cardinality < before;
+    }
+    
+    /**
+     * 값 포함 여부
+     * @param value 값
+     * @return 포함되어 있으면 true
+     */
+    public boolean contains(int value) {
+        int index = Arrays.binarySearch(keys, 0, size, highBits(value));
+        return index >= 0 && containers[index].contains(lowBits(value));
+    }
+    
+    /**
+     * 값 개수
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality;
+        }
+        return cardinality;
+    }
+    
+    /**
+     * 비어 있는지 여부
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    private void insertContainer(int index, char high, Container container) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = container;
+        size++;
+    }
+    
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+    
+    private static char highBits(int value) {
+        return (char) (value >>> 16);
+    }
+    
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+    
+    /**
+     * 상위 16비트가 같은 값들을 담는 컨테이너
+     * add/remove는 형태가 바뀌면 새 컨테이너를, 아니면 자기 자신을 반환한다.
+     */
+    private abstract static class Container {
+        int cardinality;
+        
+        abstract Container add(char value);
+        
+        abstract Container remove(char value);
+        
+        abstract boolean contains(char value);
+    }
+    
+    /**
+     * 정렬된 char 배열 컨테이너 (값이 ARRAY_MAX개 이하일 때)
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values = new char[4];
+        
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_MAX));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+        
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+        
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+        
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+    
+    /**
+     * 65536비트 비트맵 컨테이너 (값이 ARRAY_MAX개를 넘을 때)
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words = new long[1024];
+        
+        @Override
+        Container add(char value) {
+            long mask = 1L << value;
+            int word = value >>> 6;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+        
+        @Override
+        Container remove(char value) {
+            long mask = 1L << value;
+            int word = value >>> 6;
+            if ((words[word] & mask) != 0) {
+                words[word] &= ~mask;
+                cardinality--;
+            }
+            // 배열 컨테이너가 더 작아지는 크기로 줄면 되돌림
+            return cardinality <= ARRAY_MAX / 2 ? toArray() : this;
+        }
+        
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+        
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(cardinality, 4)];
+            for (int word = 0; word < words.length; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    array.values[array.cardinality++] = (char) ((word << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.kirini.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 요청 단위로 하나의 커넥션을 공유하기 위한 컨텍스트
+ * begin()으로 범위를 연 스레드에서는 DBConnectionUtil.getConnection()이 같은 커넥션을 돌려주며,
+ * 커넥션은 처음 필요할 때 풀에서 대여하고 end()에서 한 번만 반환한다.
+ * DAO가 호출하는 close()는 범위 안에서는 무시되므로 기존 DAO 코드를 수정할 필요가 없다.
+ */
+public class ConnectionContext {
+    
+    // 스레드(요청)별 컨텍스트
+    private static final ThreadLocal<ConnectionContext> CURRENT = new ThreadLocal<>();
+    
+    // 중첩된 begin() 호출 깊이 (예: DispatcherServlet -> FileUploadServlet)
+    private int depth = 0;
+    
+    // 풀에서 대여한 커넥션 (처음 사용할 때 대여)
+    private Connection pooledConnection;
+    
+    // DAO에 전달하는 close() 무시용 프록시
+    private Connection sharedConnection;
+    
+    private ConnectionContext() {}
+    
+    /**
+     * 현재 스레드에서 요청 범위 시작 (커넥션은 아직 대여하지 않음)
+     */
+    public static void begin() {
+        ConnectionContext context = CURRENT.get();
+        if (context == null) {
+            context = new ConnectionContext();
+            CURRENT.set(context);
+        }
+        context.depth++;
+    }
+    
+    /**
+     * 현재 스레드의 요청 범위 종료
+     * 가장 바깥쪽 범위가 끝날 때 대여한 커넥션을 풀에 반환한다.
+     */
+    public static void end() {
+        ConnectionContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        
+        if (--context.depth > 0) {
+            return;
+        }
+        
+        CURRENT.remove();
+        
+        if (context.pooledConnection != null) {
+            try {
+                context.pooledConnection.close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+    
+    /**
+     * 대여한 커넥션을 범위가 끝나기 전에 풀에 반환 (범위는 유지하며, 이후 DAO 호출 시 다시 대여)
+     * 파일 전송처럼 DB 조회를 마친 뒤 오래 걸리는 응답을 보내기 전에 호출한다.
+     */
+    public static void releaseConnection() {
+        ConnectionContext context = CURRENT.get();
+        if (context == null || context.pooledConnection == null) {
+            return;
+        }
+        
+        try {
+            context.pooledConnection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        context.pooledConnection = null;
+        context.sharedConnection = null;
+    }
+    
+    /**
+     * 현재 스레드에 요청 범위가 열려 있는지 확인
+     * @return 요청 범위 여부
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+    
+    /**
+     * 요청 범위에 묶인 커넥션 반환 (DBConnectionUtil에서 호출)
+     * @param pool 커넥션을 대여할 풀
+     * @return 요청 범위가 없으면 null, 있으면 요청 내에서 공유하는 커넥션
+     * @throws SQLException 커넥션 대여 실패 시 예외 발생
+     */
+    static Connection currentConnection(ConnectionPool pool) throws SQLException {
+        ConnectionContext context = CURRENT.get();
+        if (context == null) {
+            return null;
+        }
+        
+        // 이전 DAO 호출에서 연결 오류로 닫힌 경우 새로 대여
+        if (context.pooledConnection != null && context.pooledConnection.isClosed()) {
+            context.pooledConnection = null;
+            context.sharedConnection = null;
+        }
+        
+        if (context.pooledConnection == null) {
+            context.pooledConnection = pool.borrow();
+            context.sharedConnection = (Connection) Proxy.newProxyInstance(
+                    ConnectionContext.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    new SharedConnectionHandler(context.pooledConnection));
+        }
+        
+        return context.sharedConnection;
+    }
+    
+    /**
+     * close()를 무시하고 나머지 호출은 대여한 커넥션에 위임하는 핸들러
+     */
+    private static class SharedConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        
+        SharedConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    // DAO가 트랜잭션을 열어 둔 채 반환한 경우 다음 DAO 호출에 영향이 없도록 정리
+                    if (!connection.isClosed() && !connection.getAutoCommit()) {
+                        connection.rollback();
+                        connection.setAutoCommit(true);
+                    }
+                    return null;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
\ No newline at end of file
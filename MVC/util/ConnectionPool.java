@@ -0,0 +1,396 @@
+package com.kirini.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 최소/최대 크기가 정해진 JDBC 커넥션 풀
+ * 대여 요청은 공정(FIFO) 순서로 대기하며, 대여 시 유효성 검사와 주기적인 유휴 커넥션 정리를 수행한다.
+ * 대여한 커넥션의 close()는 물리 연결을 끊지 않고 풀에 반환하므로
+ * 기존 DAO 코드(DBConnectionUtil.close)를 수정하지 않고 그대로 사용할 수 있다.
+ */
+public class ConnectionPool {
+    
+    // 최근 반환된 커넥션은 유효성 검사(ping)를 생략하는 시간 (밀리초)
+    private static final long VALIDATION_BYPASS_MILLIS = 500;
+    
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    
+    // 동시에 대여 가능한 커넥션 수 (공정 모드로 대기 순서 보장)
+    private final Semaphore permits;
+    
+    // 유휴 커넥션 목록 (최근 반환된 커넥션을 먼저 재사용)
+    private final LinkedBlockingDeque<IdleConnection> idleConnections = new LinkedBlockingDeque<>();
+    
+    // 풀이 관리하는 물리 커넥션 수
+    private final AtomicInteger physicalCount = new AtomicInteger();
+    
+    // 유휴 커넥션 정리 스케줄러
+    private final ScheduledExecutorService evictor;
+    
+    private volatile boolean closed = false;
+    
+    /**
+     * 커넥션 풀 생성
+     * @param url JDBC URL
+     * @param user 사용자명
+     * @param password 비밀번호
+     * @param minSize 유지할 최소 커넥션 수
+     * @param maxSize 최대 커넥션 수
+     * @param borrowTimeoutMillis 커넥션 대여 최대 대기 시간 (밀리초)
+     * @param idleTimeoutMillis 유휴 커넥션을 정리하기까지의 시간 (밀리초)
+     * @param validationTimeoutSeconds 유효성 검사 제한 시간 (초)
+     */
+    public ConnectionPool(String url, String user, String password, int minSize, int maxSize,
+            long borrowTimeoutMillis, long idleTimeoutMillis, int validationTimeoutSeconds) {
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("커넥션 풀 크기 설정이 올바르지 않습니다: min=" + minSize + ", max=" + maxSize);
+        }
+        
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.permits = new Semaphore(maxSize, true);
+        
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kirini-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        long interval = Math.max(idleTimeoutMillis / 2, 1000);
+        evictor.scheduleWithFixedDelay(this::evictIdleConnections, interval, interval, TimeUnit.MILLISECONDS);
+        
+        // 최소 커넥션 미리 생성 (DB가 아직 준비되지 않았다면 이후 대여 시점에 생성)
+        fillToMinimum();
+    }
+    
+    /**
+     * 풀에서 커넥션 대여
+     * 사용 가능한 커넥션이 없으면 최대 borrowTimeoutMillis 동안 대기한다.
+     * @return 풀에 반환되는 Connection 객체 (close() 호출 시 반환)
+     * @throws SQLException 대기 시간 초과 또는 연결 실패 시 예외 발생
+     */
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("커넥션 풀이 종료되었습니다.");
+        }
+        
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("커넥션 대기 시간 초과 (" + borrowTimeoutMillis + "ms, 최대 " + maxSize + "개 사용 중)", "08001");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션 대기 중 인터럽트가 발생했습니다.", e);
+        }
+        
+        try {
+            IdleConnection idle;
+            while ((idle = idleConnections.pollFirst()) != null) {
+                if (isUsable(idle)) {
+                    return wrap(idle.connection);
+                }
+                discard(idle.connection);
+            }
+            
+            return wrap(createPhysicalConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+    
+    /**
+     * 대여한 커넥션 반환 (PooledConnectionHandler에서 호출)
+     * @param connection 물리 커넥션
+     * @param broken 연결 오류가 발생한 커넥션인지 여부
+     */
+    private void release(Connection connection, boolean broken) {
+        try {
+            if (closed || broken || connection.isClosed()) {
+                discard(connection);
+                return;
+            }
+            
+            // 다음 사용자를 위해 커넥션 상태 초기화
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            connection.clearWarnings();
+            
+            idleConnections.offerFirst(new IdleConnection(connection, System.currentTimeMillis()));
+        } catch (SQLException e) {
+            e.printStackTrace();
+            discard(connection);
+        } finally {
+            permits.release();
+        }
+    }
+    
+    /**
+     * 대여 가능한 상태인지 확인 (대여 시 유효성 검사)
+     */
+    private boolean isUsable(IdleConnection idle) {
+        try {
+            if (idle.connection.isClosed()) {
+                return false;
+            }
+            
+            if (System.currentTimeMillis() - idle.returnedAt < VALIDATION_BYPASS_MILLIS) {
+                return true;
+            }
+            
+            return idle.connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * 새로운 물리 커넥션 생성
+     */
+    private Connection createPhysicalConnection() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, user, password);
+        physicalCount.incrementAndGet();
+        return connection;
+    }
+    
+    /**
+     * 물리 커넥션 종료
+     */
+    private void discard(Connection connection) {
+        physicalCount.decrementAndGet();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * 최소 커넥션 수 유지
+     */
+    private void fillToMinimum() {
+        while (!closed && physicalCount.get() < minSize) {
+            if (!permits.tryAcquire()) {
+                return;
+            }
+            
+            try {
+                idleConnections.offerLast(new IdleConnection(createPhysicalConnection(), System.currentTimeMillis()));
+            } catch (SQLException e) {
+                System.err.println("ConnectionPool - 최소 커넥션 생성 실패: " + e.getMessage());
+                return;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+    
+    /**
+     * 오래 사용되지 않은 유휴 커넥션 정리 (최소 커넥션 수는 유지)
+     */
+    private void evictIdleConnections() {
+        try {
+            long now = System.currentTimeMillis();
+            Iterator<IdleConnection> iterator = idleConnections.descendingIterator();
+            
+            while (iterator.hasNext() && physicalCount.get() > minSize) {
+                IdleConnection idle = iterator.next();
+                if (now - idle.returnedAt >= idleTimeoutMillis && idleConnections.removeFirstOccurrence(idle)) {
+                    discard(idle.connection);
+                }
+            }
+            
+            fillToMinimum();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * 물리 커넥션을 풀 반환용 프록시로 감싸기
+     */
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new PooledConnectionHandler(connection));
+    }
+    
+    /**
+     * 풀 종료 (모든 유휴 커넥션을 닫고, 대여 중인 커넥션은 반환 시점에 닫음)
+     */
+    public void shutdown() {
+        closed = true;
+        evictor.shutdownNow();
+        
+        IdleConnection idle;
+        while ((idle = idleConnections.pollFirst()) != null) {
+            discard(idle.connection);
+        }
+    }
+    
+    /**
+     * 현재 유휴 커넥션 수
+     * @return 유휴 커넥션 수
+     */
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+    
+    /**
+     * 현재 대여 중인 커넥션 수
+     * @return 대여 중인 커넥션 수
+     */
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+    
+    /**
+     * 풀에서 대기 중인 유휴 커넥션
+     */
+    private static class IdleConnection {
+        private final Connection connection;
+        private final long returnedAt;
+        
+        IdleConnection(Connection connection, long returnedAt) {
+            this.connection = connection;
+            this.returnedAt = returnedAt;
+        }
+    }
+    
+    /**
+     * 대여된 커넥션의 호출을 물리 커넥션에 위임하고, close() 호출 시 풀에 반환하는 핸들러
+     * 한 번 반환된 프록시는 다시 사용할 수 없다.
+     */
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        private boolean returned = false;
+        private boolean broken = false;
+        
+        PooledConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            
+            switch (name) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(connection, broken);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + connection + (returned ? ", returned" : "") + "]";
+                default:
+                    break;
+            }
+            
+            if (returned) {
+                throw new SQLException("이미 풀에 반환된 커넥션입니다.");
+            }
+            
+            try {
+                Object result = method.invoke(connection, args);
+                
+                // 문장 실행 오류를 DAO 처리 시간 기록에 표시할 수 있도록 Statement도 감싸서 반환
+                if (result instanceof Statement && method.getReturnType().isInterface()) {
+                    return Proxy.newProxyInstance(
+                            ConnectionPool.class.getClassLoader(),
+                            new Class<?>[] { method.getReturnType() },
+                            new StatementHandler(result, (Connection) proxy));
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                
+                if (cause instanceof SQLException) {
+                    DaoCallTimer.markError();
+                    
+                    // SQLState 08xxx: 연결 자체에 문제가 있으므로 반환 시 폐기
+                    String sqlState = ((SQLException) cause).getSQLState();
+                    if (sqlState != null && sqlState.startsWith("08")) {
+                        broken = true;
+                    }
+                }
+                throw cause;
+            }
+        }
+    }
+    
+    /**
+     * Statement 호출을 그대로 위임하고, SQLException 발생 시 측정 중인 DAO 호출에 오류를 표시하는 핸들러
+     * getConnection()은 물리 커넥션 대신 대여한 커넥션 프록시를 반환하므로 close()해도 풀에 반환된다.
+     * (요청 범위 안에서 반환되면 ConnectionContext가 다음 DAO 호출 시 새로 대여함)
+     */
+    private static class StatementHandler implements InvocationHandler {
+        private final Object statement;
+        private final Connection connection;
+        
+        StatementHandler(Object statement, Connection connection) {
+            this.statement = statement;
+            this.connection = connection;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    DaoCallTimer.markError();
+                }
+                throw cause;
+            }
+        }
+    }
+}
\ No newline at end of file
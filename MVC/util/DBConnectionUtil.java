@@ -1,7 +1,6 @@
 package com.kirini.util;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -17,7 +16,17 @@ public class DBConnectionUtil {
     private static final String USER = "kirini_user";
     private static final String PASSWORD = "kirini1234";
     
-    // 정적 초기화 블록으로 드라이버 로드
+    // 커넥션 풀 설정
+    private static final int POOL_MIN_SIZE = 5;                      // 최소 유지 커넥션 수
+    private static final int POOL_MAX_SIZE = 20;                     // 최대 커넥션 수
+    private static final long POOL_BORROW_TIMEOUT = 5 * 1000;        // 대여 대기 시간 (5초)
+    private static final long POOL_IDLE_TIMEOUT = 10 * 60 * 1000;    // 유휴 커넥션 정리 시간 (10분)
+    private static final int POOL_VALIDATION_TIMEOUT = 2;            // 유효성 검사 제한 시간 (2초)
+    
+    // 애플리케이션 전체에서 공유하는 커넥션 풀
+    private static final ConnectionPool pool;
+    
+    // 정적 초기화 블록으로 드라이버 로드 및 커넥션 풀 생성
     static {
         try {
             Class.forName(DRIVER);
@@ -25,19 +34,45 @@ public class DBConnectionUtil {
             e.printStackTrace();
             throw new RuntimeException("DB 드라이버 로드 실패", e);
         }
+        
+        pool = new ConnectionPool(URL, USER, PASSWORD, POOL_MIN_SIZE, POOL_MAX_SIZE,
+                POOL_BORROW_TIMEOUT, POOL_IDLE_TIMEOUT, POOL_VALIDATION_TIMEOUT);
     }
     
     /**
      * 데이터베이스 연결 객체 반환
+     * 커넥션 풀에서 대여하며, close() 호출 시 연결을 끊지 않고 풀에 반환됨
+     * 요청 범위(ConnectionContext)가 열려 있으면 요청 내의 모든 DAO 호출이 같은 커넥션을 사용함
+     * 호출한 DAO 메서드의 처리 시간 측정을 시작하며, close() 호출 시 기록됨
      * @return Connection 객체
-     * @throws SQLException 연결 실패 시 예외 발생
+     * @throws SQLException 연결 실패 또는 대기 시간 초과 시 예외 발생
      */
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USER, PASSWORD);
+        DaoCallTimer.start();
+        
+        try {
+            Connection requestConnection = ConnectionContext.currentConnection(pool);
+            if (requestConnection != null) {
+                return requestConnection;
+            }
+            
+            return pool.borrow();
+        } catch (SQLException e) {
+            DaoCallTimer.markError();
+            throw e;
+        }
+    }
+    
+    /**
+     * 커넥션 풀 종료 (애플리케이션 종료 시 호출)
+     */
+    public static void shutdown() {
+        pool.shutdown();
     }
     
     /**
      * 자원 해제 (조회 사용 후)
+     * getConnection()에서 시작한 DAO 메서드 처리 시간 측정을 종료함
      * @param rs ResultSet 객체
      * @param pstmt PreparedStatement 객체
      * @param conn Connection 객체
@@ -66,5 +101,7 @@ public class DBConnectionUtil {
                 e.printStackTrace();
             }
         }
+        
+        DaoCallTimer.stop();
     }
 }
\ No newline at end of file
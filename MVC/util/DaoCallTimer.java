@@ -0,0 +1,88 @@
+package com.kirini.util;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+
+/**
+ * DAO 메서드 처리 시간 측정
+ * DAO는 메서드마다 DBConnectionUtil.getConnection()으로 시작해 DBConnectionUtil.close()로 끝나므로,
+ * 두 호출 사이를 측정하면 DAO 코드를 고치지 않고도 메서드별 처리 시간을 기록할 수 있다.
+ * 메서드 이름은 측정을 시작할 때 getConnection()을 호출한 스택 프레임에서 한 번 읽으며,
+ * 호출 위치가 정해져 있으므로 스택 전체가 아니라 위쪽 몇 프레임만 읽는다.
+ */
+class DaoCallTimer {
+    
+    // callerName() -> start() -> DBConnectionUtil.getConnection() -> 호출한 메서드
+    private static final int CALLER_FRAME_LIMIT = 4;
+    
+    private static final StackWalker WALKER = StackWalker.getInstance(Collections.emptySet(), CALLER_FRAME_LIMIT);
+    
+    // 측정 중인 호출 (DAO 메서드가 다른 DAO 메서드를 호출하는 경우를 위해 스택으로 관리)
+    private static final ThreadLocal<ArrayDeque<Call>> CALLS = ThreadLocal.withInitial(ArrayDeque::new);
+    
+    // close() 누락 등으로 스택이 비정상적으로 깊어지면 비우고 다시 시작
+    private static final int MAX_DEPTH = 32;
+    
+    private DaoCallTimer() {}
+    
+    /**
+     * 측정 시작 (DBConnectionUtil.getConnection()에서 호출)
+     */
+    static void start() {
+        ArrayDeque<Call> calls = CALLS.get();
+        if (calls.size() >= MAX_DEPTH) {
+            calls.clear();
+        }
+        calls.push(new Call(callerName(), System.nanoTime()));
+    }
+    
+    /**
+     * 측정 종료 및 기록 (DBConnectionUtil.close()에서 호출)
+     */
+    static void stop() {
+        Call call = CALLS.get().poll();
+        if (call != null) {
+            MetricsRegistry.getInstance().recordDaoCall(call.operation, System.nanoTime() - call.startTime, call.error);
+        }
+    }
+    
+    /**
+     * 측정 중인 호출에 오류 표시 (커넥션/문장 실행 중 SQLException 발생 시 호출)
+     */
+    static void markError() {
+        Call call = CALLS.get().peek();
+        if (call != null) {
+            call.error = true;
+        }
+    }
+    
+    /**
+     * getConnection()을 호출한 메서드 이름 (예: BoardDAO.getBoardById)
+     */
+    private static String callerName() {
+        return WALKER.walk(frames -> frames
+                .limit(CALLER_FRAME_LIMIT)
+                .filter(frame -> !frame.getClassName().equals(DaoCallTimer.class.getName())
+                        && !frame.getClassName().equals(DBConnectionUtil.class.getName()))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                })
+                .orElse("unknown"));
+    }
+    
+    /**
+     * 측정 중인 DAO 호출 하나
+     */
+    private static class Call {
+        private final String operation;
+        private final long startTime;
+        private boolean error;
+        
+        Call(String operation, long startTime) {
+            this.operation = operation;
+            this.startTime = startTime;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.kirini.util;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import com.kirini.dto.DictionaryDTO;
+
+/**
+ * 용어사전 전체를 메모리에 보관하는 캐시 (copy-on-write)
+ * 처음 조회할 때 DictionaryDAO가 전체를 한 번 읽어 DictionarySnapshot을 만들고,
+ * 이후 등록/수정/삭제가 커밋되면 바뀐 용어만 DB에서 다시 읽어 새 스냅샷으로 통째로 교체한다.
+ * 읽는 쪽은 현재 스냅샷을 꺼내 쓰기만 하므로 DB에 접근하지 않고 쓰기 작업과 경합하지도 않는다.
+ *
+ * 조회수는 스냅샷을 만든 뒤 ViewCountBuffer가 DB에 반영한 증가분을 따로 모아 두고 조회 시 더한다.
+ * 반영과 증가분 기록(flushViews)도 다시 읽기와 같은 잠금 안에서 하므로, 다시 읽은 행에는 기록된 증가분이
+ * 모두 포함되어 있고 그 뒤의 증가분은 읽은 다음에 기록된다. 따라서 다시 읽을 때 증가분을 지워도 잃거나 두 번 더하지 않는다.
+ */
+public class DictionaryCache {
+    
+    private static final DictionaryCache instance = new DictionaryCache();
+    
+    // 읽는 쪽은 잠금 없이 참조만 읽음 (교체는 아래 synchronized 메서드에서만)
+    private volatile DictionarySnapshot snapshot;
+    
+    // 용어 ID -> 스냅샷 생성 후 DB에 반영된 조회수 증가분
+    private final Map<Integer, Integer> flushedViews = new ConcurrentHashMap<>();
+    
+    private DictionaryCache() {
+    }
+    
+    public static DictionaryCache getInstance() {
+        return instance;
+    }
+    
+    /**
+     * DB 조회 함수
+     */
+    public interface Loader<T> {
+        T load() throws SQLException;
+    }
+    
+    /**
+     * 현재 스냅샷 조회 (아직 없으면 loader로 전체를 읽어 생성)
+     * @param loader 용어 ID -> 용어 정보 전체를 읽는 함수
+     * @return 스냅샷 (읽기에 실패하면 빈 스냅샷, 저장하지 않고 다음 조회 시 재시도)
+     */
+    public DictionarySnapshot getSnapshot(Loader<Map<Integer, DictionaryDTO>> loader) {
+        DictionarySnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        
+        synchronized (this) {
+            if (snapshot == null) {
+                try {
+                    flushedViews.clear();
+                    snapshot = DictionarySnapshot.build(loader.load());
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                    return DictionarySnapshot.build(Collections.<Integer, DictionaryDTO>emptyMap());
+                }
+            }
+            return snapshot;
+        }
+    }
+    
+    /**
+     * 등록/수정/삭제된 용어 반영 (커밋 후 호출)
+     * 다시 읽기와 교체를 한 잠금 안에서 하므로, 같은 용어를 동시에 수정해도 나중에 커밋된 값이 남는다.
+     * @param id 용어 ID
+     * @param loader 용어 하나를 DB에서 다시 읽는 함수 (삭제되었으면 null 반환)
+     */
+    public synchronized void refresh(int id, Loader<DictionaryDTO> loader) {
+        if (snapshot == null) {
+            // 아직 읽지 않았다면 다음 조회 시 DB에서 최신 값을 읽음
+            return;
+        }
+        
+        try {
+            DictionaryDTO dictionary = loader.load();
+            flushedViews.remove(id);
+            snapshot = dictionary != null ? snapshot.with(id, dictionary) : snapshot.without(id);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            // 변경 내용을 알 수 없으므로 전체를 다시 읽도록 함
+            snapshot = null;
+        }
+    }
+    
+    /**
+     * 조회수 증가분 DB 반영 (ViewCountBuffer에서 호출)
+     * flush 안에서 DB 반영과 addFlushedViews() 호출을 모두 마쳐야 한다.
+     * @param flush 증가분을 반영하고 성공 여부를 반환하는 작업
+     * @return 반영 성공 여부
+     */
+    public synchronized boolean flushViews(BooleanSupplier flush) {
+        return flush.getAsBoolean();
+    }
+    
+    /**
+     * 스냅샷 생성 후 DB에 반영된 조회수 증가분 기록 (flushViews() 안에서 반영 성공 시 호출)
+     * @param id 용어 ID
+     * @param delta 증가분
+     */
+    public synchronized void addFlushedViews(int id, int delta) {
+        if (snapshot != null) {
+            flushedViews.merge(id, delta, Integer::sum);
+        }
+    }
+    
+    /**
+     * 스냅샷의 조회수에 더해야 할 증가분 조회
+     * @param id 용어 ID
+     * @return 증가분
+     */
+    public int getFlushedViews(int id) {
+        return flushedViews.getOrDefault(id, 0);
+    }
+    
+    /**
+     * 캐시 초기화 (다음 조회 시 DB에서 전체를 다시 읽음)
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,352 @@
+package com.kirini.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.kirini.dto.DictionaryDTO;
+
+/**
+ * 용어사전 전체를 담는 변경 불가능한 스냅샷
+ * 용어명 순으로 정렬한 배열과 ID/용어명 맵, 카테고리별 위치 목록, 검색용 2글자 색인을 함께 만든다.
+ * 변경은 with()/without()으로 새 스냅샷을 만들어 DictionaryCache에서 통째로 교체하므로
+ * 읽는 쪽은 잠금 없이 사용할 수 있다. (담긴 DictionaryDTO는 수정하지 말 것)
+ */
+public final class DictionarySnapshot {
+    
+    // 용어명(대소문자 무시) -> ID 순 정렬 (목록 순서와 커서 기준)
+    private static final Comparator<Entry> ORDER =
+            Comparator.comparing((Entry entry) -> entry.term, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparingInt(entry -> entry.id);
+    
+    private static final int[] NO_POSITIONS = new int[0];
+    
+    private final Entry[] sorted;
+    private final Map<Integer, Entry> byId;
+    private final Map<String, Entry> byTerm;
+    private final Map<String, int[]> categoryPositions;
+    private final Map<String, int[]> bigramPositions;
+    
+    private DictionarySnapshot(Map<Integer, Entry> entries) {
+        sorted = entries.values().toArray(new Entry[0]);
+        Arrays.sort(sorted, ORDER);
+        byId = Collections.unmodifiableMap(entries);
+        
+        Map<String, Entry> terms = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, List<Integer>> categories = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, List<Integer>> bigrams = new HashMap<>();
+        
+        for (int position = 0; position < sorted.length; position++) {
+            Entry entry = sorted[position];
+            terms.putIfAbsent(entry.term, entry);
+            if (entry.category != null) {
+                categories.computeIfAbsent(entry.category, key -> new ArrayList<>()).add(position);
+            }
+            
+            // 같은 위치가 연달아 추가되지 않도록 마지막 값과 비교 (위치는 오름차순으로 추가됨)
+            for (String bigram : bigrams(entry)) {
+                List<Integer> positions = bigrams.computeIfAbsent(bigram, key -> new ArrayList<>());
+                if (positions.isEmpty() || positions.get(positions.size() - 1) != position) {
+                    positions.add(position);
+                }
+            }
+        }
+        
+        byTerm = terms;
+        categoryPositions = toArrays(categories, new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        bigramPositions = toArrays(bigrams, new HashMap<>());
+    }
+    
+    /**
+     * 스냅샷 생성
+     * @param dictionaries 용어 ID -> 용어 정보
+     * @return 스냅샷
+     */
+    public static DictionarySnapshot build(Map<Integer, DictionaryDTO> dictionaries) {
+        Map<Integer, Entry> entries = new LinkedHashMap<>();
+        for (Map.Entry<Integer, DictionaryDTO> dictionary : dictionaries.entrySet()) {
+            entries.put(dictionary.getKey(), new Entry(dictionary.getKey(), dictionary.getValue()));
+        }
+        return new DictionarySnapshot(entries);
+    }
+    
+    /**
+     * 용어 하나를 추가하거나 바꾼 새 스냅샷 생성
+     * @param id 용어 ID
+     * @param dictionary 용어 정보
+     * @return 새 스냅샷
+     */
+    public DictionarySnapshot with(int id, DictionaryDTO dictionary) {
+        Map<Integer, Entry> entries = new LinkedHashMap<>(byId);
+        entries.put(id, new Entry(id, dictionary));
+        return new DictionarySnapshot(entries);
+    }
+    
+    /**
+     * 용어 하나를 뺀 새 스냅샷 생성
+     * @param id 용어 ID
+     * @return 새 스냅샷 (없는 ID면 현재 스냅샷)
+     */
+    public DictionarySnapshot without(int id) {
+        if (!byId.containsKey(id)) {
+            return this;
+        }
+        Map<Integer, Entry> entries = new LinkedHashMap<>(byId);
+        entries.remove(id);
+        return new DictionarySnapshot(entries);
+    }
+    
+    /**
+     * ID로 조회
+     * @param id 용어 ID
+     * @return 항목 (없으면 null)
+     */
+    public Entry getById(int id) {
+        return byId.get(id);
+    }
+    
+    /**
+     * 용어명으로 조회 (대소문자 무시)
+     * @param term 용어명
+     * @return 항목 (없으면 null)
+     */
+    public Entry getByTerm(String term) {
+        return term != null ? byTerm.get(term) : null;
+    }
+    
+    /**
+     * 전체 용어 수
+     */
+    public int size() {
+        return sorted.length;
+    }
+    
+    /**
+     * 카테고리별 용어 수
+     * @param category 카테고리 (null이면 전체)
+     * @return 용어 수
+     */
+    public int countByCategory(String category) {
+        return category == null ? sorted.length : positionsOf(category).length;
+    }
+    
+    /**
+     * 용어명 순 목록 조회
+     * @param category 카테고리 (null이면 전체)
+     * @param offset 건너뛸 건수
+     * @param limit 최대 건수
+     * @return 항목 목록
+     */
+    public List<Entry> list(String category, int offset, int limit) {
+        List<Entry> result = new ArrayList<>();
+        
+        if (category == null) {
+            for (int i = Math.max(offset, 0); i < sorted.length && result.size() < limit; i++) {
+                result.add(sorted[i]);
+            }
+        } else {
+            int[] positions = positionsOf(category);
+            for (int i = Math.max(offset, 0); i < positions.length && result.size() < limit; i++) {
+                result.add(sorted[positions[i]]);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * (용어명, ID) 다음부터 용어명 순 목록 조회 (커서 페이징)
+     * @param term 이전 페이지 마지막 용어명 (첫 페이지는 null)
+     * @param id 이전 페이지 마지막 용어 ID
+     * @param limit 최대 건수
+     * @return 항목 목록
+     */
+    public List<Entry> listAfter(String term, int id, int limit) {
+        int start = 0;
+        if (term != null) {
+            // 커서 위치를 이진 탐색 (없는 항목이면 삽입 위치부터)
+            int found = Arrays.binarySearch(sorted, new Entry(id, term), ORDER);
+            start = found >= 0 ? found + 1 : -found - 1;
+        }
+        
+        List<Entry> result = new ArrayList<>();
+        for (int i = start; i < sorted.length && result.size() < limit; i++) {
+            result.add(sorted[i]);
+        }
+        return result;
+    }
+    
+    /**
+     * 용어명 또는 정의에 키워드가 포함된 항목 검색 (대소문자 무시, 용어명 순)
+     * 키워드의 2글자 조각마다 색인에서 위치 목록을 꺼내 교집합을 구한 뒤, 실제 포함 여부를 확인한다.
+     * @param keyword 검색 키워드
+     * @param category 카테고리 (null이면 전체)
+     * @param offset 건너뛸 건수
+     * @param limit 최대 건수
+     * @return 항목 목록
+     */
+    public List<Entry> search(String keyword, String category, int offset, int limit) {
+        List<Entry> result = new ArrayList<>();
+        int skipped = 0;
+        
+        for (int position : candidates(keyword, category)) {
+            Entry entry = sorted[position];
+            if (!entry.matches(keyword)) {
+                continue;
+            }
+            if (skipped++ < offset) {
+                continue;
+            }
+            result.add(entry);
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 검색 결과 수
+     * @param keyword 검색 키워드
+     * @param category 카테고리 (null이면 전체)
+     * @param max 이 건수에 이르면 더 세지 않음
+     * @return 검색 결과 수 (최대 max)
+     */
+    public int searchCount(String keyword, String category, int max) {
+        int count = 0;
+        for (int position : candidates(keyword, category)) {
+            if (sorted[position].matches(keyword) && ++count >= max) {
+                break;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * 키워드와 카테고리로 좁힌 후보 위치 (오름차순)
+     */
+    private int[] candidates(String keyword, String category) {
+        int[] candidates = null;
+        
+        String normalized = normalize(keyword);
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            int[] positions = bigramPositions.getOrDefault(normalized.substring(i, i + 2), NO_POSITIONS);
+            candidates = candidates == null ? positions : intersect(candidates, positions);
+            if (candidates.length == 0) {
+                return candidates;
+            }
+        }
+        
+        if (category != null) {
+            int[] positions = positionsOf(category);
+            candidates = candidates == null ? positions : intersect(candidates, positions);
+        }
+        
+        if (candidates == null) {
+            // 키워드가 한 글자 이하이고 카테고리 조건도 없으면 전체가 후보
+            candidates = new int[sorted.length];
+            for (int i = 0; i < candidates.length; i++) {
+                candidates[i] = i;
+            }
+        }
+        return candidates;
+    }
+    
+    private int[] positionsOf(String category) {
+        return categoryPositions.getOrDefault(category, NO_POSITIONS);
+    }
+    
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+    
+    private static List<String> bigrams(Entry entry) {
+        List<String> bigrams = new ArrayList<>();
+        for (String text : new String[] { entry.normalizedTerm, entry.normalizedDefinition }) {
+            for (int i = 0; i + 1 < text.length(); i++) {
+                bigrams.add(text.substring(i, i + 2));
+            }
+        }
+        return bigrams;
+    }
+    
+    private static <K> Map<K, int[]> toArrays(Map<K, List<Integer>> lists, Map<K, int[]> arrays) {
+        for (Map.Entry<K, List<Integer>> list : lists.entrySet()) {
+            int[] positions = new int[list.getValue().size()];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = list.getValue().get(i);
+            }
+            arrays.put(list.getKey(), positions);
+        }
+        return arrays;
+    }
+    
+    private static String normalize(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : "";
+    }
+    
+    /**
+     * 스냅샷 항목 (용어 ID와 용어 정보)
+     */
+    public static final class Entry {
+        private final int id;
+        private final DictionaryDTO dictionary;
+        private final String term;
+        private final String category;
+        private final String normalizedTerm;
+        private final String normalizedDefinition;
+        
+        Entry(int id, DictionaryDTO dictionary) {
+            this.id = id;
+            this.dictionary = dictionary;
+            this.term = dictionary.getTerm() != null ? dictionary.getTerm() : "";
+            this.category = dictionary.getCategory();
+            this.normalizedTerm = normalize(dictionary.getTerm());
+            this.normalizedDefinition = normalize(dictionary.getDefinition());
+        }
+        
+        // 커서 위치 탐색용
+        private Entry(int id, String term) {
+            this.id = id;
+            this.dictionary = null;
+            this.term = term;
+            this.category = null;
+            this.normalizedTerm = "";
+            this.normalizedDefinition = "";
+        }
+        
+        public int getId() {
+            return id;
+        }
+        
+        public DictionaryDTO getDictionary() {
+            return dictionary;
+        }
+        
+        private boolean matches(String keyword) {
+            String normalized = normalize(keyword);
+            return normalizedTerm.contains(normalized) || normalizedDefinition.contains(normalized);
+        }
+    }
+}
\ No newline at end of file
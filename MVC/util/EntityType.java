@@ -0,0 +1,36 @@
+package com.kirini.util;
+
+/**
+ * 조회수/좋아요 등 공통 카운터를 관리하는 엔티티 종류
+ * 엔티티별 테이블명과 기본키 컬럼명, 삭제 플래그(is_deleted) 사용 여부를 함께 보관한다.
+ */
+public enum EntityType {
+    BOARD("boards", "board_id", true),
+    KEYBOARD("keyboards", "keyboard_id", false),
+    DICTIONARY("dictionary", "dictionary_id", false);
+    
+    private final String tableName;
+    private final String idColumn;
+    private final boolean softDeleted;
+    
+    EntityType(String tableName, String idColumn, boolean softDeleted) {
+        this.tableName = tableName;
+        this.idColumn = idColumn;
+        this.softDeleted = softDeleted;
+    }
+    
+    public String getTableName() {
+        return tableName;
+    }
+    
+    public String getIdColumn() {
+        return idColumn;
+    }
+    
+    /**
+     * 삭제 시 행을 지우지 않고 is_deleted 플래그만 세우는지 여부
+     */
+    public boolean isSoftDeleted() {
+        return softDeleted;
+    }
+}
\ No newline at end of file
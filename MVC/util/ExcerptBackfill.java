@@ -0,0 +1,98 @@
+package com.kirini.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요약 컬럼이 비어 있는 기존 행에 ExcerptUtil로 만든 요약을 채우는 작업
+ * 요약 컬럼을 추가하기 전에 작성된 글은 content_excerpt/description_excerpt가 NULL이므로,
+ * 시작 시 한 번 ID 순으로 BATCH_SIZE개씩 읽어 작성/수정 시와 같은 방식으로 요약을 만든다.
+ * 모두 채워진 뒤에는 빈 행이 없어 쿼리 한 번으로 끝난다.
+ */
+public class ExcerptBackfill {
+    
+    // 한 번에 처리할 행 수
+    private static final int BATCH_SIZE = 500;
+    
+    private ExcerptBackfill() {
+    }
+    
+    /**
+     * 게시글 본문, 키보드 상세 설명의 빈 요약 채우기
+     */
+    public static void run() {
+        backfill("boards", "board_id", "content", "content_excerpt");
+        backfill("keyboards", "keyboard_id", "description", "description_excerpt");
+    }
+    
+    /**
+     * 테이블 하나의 빈 요약 채우기
+     * @param table 테이블명
+     * @param idColumn 기본키 컬럼명
+     * @param sourceColumn 원문 컬럼명
+     * @param excerptColumn 요약 컬럼명
+     */
+    private static void backfill(String table, String idColumn, String sourceColumn, String excerptColumn) {
+        String selectSql = "SELECT " + idColumn + ", " + sourceColumn + " FROM " + table
+                + " WHERE " + excerptColumn + " IS NULL AND " + idColumn + " > ? ORDER BY " + idColumn + " LIMIT " + BATCH_SIZE;
+        // 그 사이 작성/수정으로 채워진 요약은 덮어쓰지 않음
+        String updateSql = "UPDATE " + table + " SET " + excerptColumn + " = ? WHERE " + idColumn + " = ? AND "
+                + excerptColumn + " IS NULL";
+        
+        int lastId = 0;
+        int updated = 0;
+        
+        while (true) {
+            Map<Integer, String> excerpts = new LinkedHashMap<>();
+            Connection conn = null;
+            PreparedStatement pstmt = null;
+            ResultSet rs = null;
+            
+            try {
+                conn = DBConnectionUtil.getConnection();
+                
+                pstmt = conn.prepareStatement(selectSql);
+                pstmt.setInt(1, lastId);
+                rs = pstmt.executeQuery();
+                while (rs.next()) {
+                    // 원문이 없으면 빈 문자열로 채워 다시 읽지 않도록 함
+                    String excerpt = ExcerptUtil.excerpt(rs.getString(sourceColumn));
+                    excerpts.put(rs.getInt(idColumn), excerpt != null ? excerpt : "");
+                }
+                rs.close();
+                pstmt.close();
+                
+                if (excerpts.isEmpty()) {
+                    break;
+                }
+                
+                pstmt = conn.prepareStatement(updateSql);
+                for (Map.Entry<Integer, String> entry : excerpts.entrySet()) {
+                    pstmt.setString(1, entry.getValue());
+                    pstmt.setInt(2, entry.getKey());
+                    pstmt.addBatch();
+                    lastId = entry.getKey();
+                }
+                pstmt.executeBatch();
+                updated += excerpts.size();
+            } catch (SQLException e) {
+                e.printStackTrace();
+                return;
+            } finally {
+                DBConnectionUtil.close(rs, pstmt, conn);
+            }
+            
+            if (excerpts.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        
+        if (updated > 0) {
+            System.out.println("ExcerptBackfill - " + table + " 요약 " + updated + "건 생성");
+        }
+    }
+}
\ No newline at end of file
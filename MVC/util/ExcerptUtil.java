@@ -0,0 +1,55 @@
+package com.kirini.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * 목록 화면용 본문 요약(발췌문) 생성 유틸리티 클래스
+ * 글 작성/수정 시 한 번 만들어 excerpt 컬럼에 저장해 두면, 목록 조회는 긴 본문(TEXT) 대신
+ * 고정 길이의 요약만 읽으면 된다.
+ * 요약은 HTML이 아닌 일반 텍스트이며 &lt; 등의 엔티티도 문자로 되돌리므로, 화면에 출력할 때는
+ * 반드시 이스케이프할 것 (JSP는 c:out, 스크립트는 textContent)
+ */
+public class ExcerptUtil {
+    
+    // 요약 최대 길이 (문자 수, 말줄임표 제외)
+    public static final int MAX_LENGTH = 100;
+    
+    private static final String ELLIPSIS = "...";
+    
+    private static final Pattern TAG_PATTERN = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    
+    /**
+     * 본문 요약 생성 (HTML 태그 제거, 공백 정리 후 MAX_LENGTH자로 자름)
+     * @param text 본문
+     * @return 요약 (이스케이프되지 않은 일반 텍스트, 본문이 null이면 null)
+     */
+    public static String excerpt(String text) {
+        return excerpt(text, MAX_LENGTH);
+    }
+    
+    /**
+     * 본문 요약 생성
+     * @param text 본문
+     * @param maxLength 최대 길이 (문자 수, 말줄임표 제외)
+     * @return 요약 (본문이 null이면 null)
+     */
+    public static String excerpt(String text, int maxLength) {
+        if (text == null) {
+            return null;
+        }
+        
+        String plain = TAG_PATTERN.matcher(text).replaceAll(" ");
+        plain = plain.replace("&nbsp;", " ").replace("&lt;", "<").replace("&gt;", ">")
+                .replace("&quot;", "\"").replace("&#39;", "'").replace("&amp;", "&");
+        plain = WHITESPACE_PATTERN.matcher(plain).replaceAll(" ").trim();
+        
+        if (plain.codePointCount(0, plain.length()) <= maxLength) {
+            return plain;
+        }
+        
+        // 이모지 등 서로게이트 쌍이 잘리지 않도록 코드 포인트 단위로 자름
+        int end = plain.offsetByCodePoints(0, maxLength);
+        return plain.substring(0, end).trim() + ELLIPSIS;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,231 @@
+package com.kirini.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 브랜드, 스위치 종류, 사이즈, 연결 방식, 용어 카테고리 등 선택 목록 값을 캐싱하는 클래스
+ * 값별 사용 건수를 함께 보관하며, 처음 조회할 때 GROUP BY로 한 번 읽은 뒤에는
+ * DAO의 등록/수정/삭제 시 adjust()로 건수를 갱신하므로 요청마다 SELECT DISTINCT를 실행하지 않는다.
+ * 처음 읽는 중에 커밋된 쓰기가 두 번 반영되거나 동시 수정으로 변경 전 값이 어긋날 수 있으므로,
+ * ListingCountCache와 같이 REFRESH_INTERVAL마다 DB에서 다시 읽어 건수를 맞추고 0건이 된 값을 정리한다.
+ */
+public class FacetValueCache {
+    
+    // 전체 다시 읽기 주기 (10분)
+    private static final long REFRESH_INTERVAL = 10 * 60 * 1000;
+    
+    /**
+     * 캐싱 대상 (테이블, 컬럼, 화면에서 사용하는 속성명)
+     */
+    public enum Facet {
+        KEYBOARD_BRAND("keyboards", "brand", "brandList"),
+        KEYBOARD_SWITCH_TYPE("keyboards", "switch_type", "switchTypeList"),
+        KEYBOARD_LAYOUT("keyboards", "layout", "sizeList"),
+        KEYBOARD_CONNECTIVITY("keyboards", "connectivity", "connectionList"),
+        DICTIONARY_CATEGORY("dictionary", "category", "categories");
+        
+        private final String tableName;
+        private final String columnName;
+        private final String attributeName;
+        
+        Facet(String tableName, String columnName, String attributeName) {
+            this.tableName = tableName;
+            this.columnName = columnName;
+            this.attributeName = attributeName;
+        }
+        
+        public String getAttributeName() {
+            return attributeName;
+        }
+    }
+    
+    private static final FacetValueCache instance = new FacetValueCache();
+    
+    private final Map<Facet, FacetValues> facets = new EnumMap<>(Facet.class);
+    
+    private FacetValueCache() {
+        for (Facet facet : Facet.values()) {
+            facets.put(facet, new FacetValues(facet));
+        }
+    }
+    
+    public static FacetValueCache getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 값 목록 조회 (정렬된 읽기 전용 목록)
+     * @param facet 조회 대상
+     * @return 값 목록
+     */
+    public List<String> getValues(Facet facet) {
+        return facets.get(facet).values();
+    }
+    
+    /**
+     * 값별 사용 건수 조회
+     * @param facet 조회 대상
+     * @return 값별 건수 (정렬된 읽기 전용 맵)
+     */
+    public Map<String, Integer> getCounts(Facet facet) {
+        return facets.get(facet).counts();
+    }
+    
+    /**
+     * 한 화면에 필요한 값 목록을 한 번에 조회
+     * @param facetList 조회 대상 목록
+     * @return 속성명(예: brandList)별 값 목록
+     */
+    public Map<String, List<String>> getFacets(Facet... facetList) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        for (Facet facet : facetList) {
+            result.put(facet.getAttributeName(), getValues(facet));
+        }
+        return result;
+    }
+    
+    /**
+     * 값 변경 반영 (DAO 쓰기 작업 후 호출)
+     * 등록은 oldValue를 null로, 삭제는 newValue를 null로 전달한다.
+     * @param facet 변경 대상
+     * @param oldValue 변경 전 값
+     * @param newValue 변경 후 값
+     */
+    public void adjust(Facet facet, String oldValue, String newValue) {
+        facets.get(facet).adjust(oldValue, newValue);
+    }
+    
+    /**
+     * 캐시 초기화 (다음 조회 시 DB에서 다시 읽음)
+     */
+    public void invalidateAll() {
+        for (FacetValues values : facets.values()) {
+            values.invalidate();
+        }
+    }
+    
+    /**
+     * 대상 하나의 값별 건수
+     */
+    private static class FacetValues {
+        private final Facet facet;
+        
+        // DB 정렬(대소문자 구분 없는 collation)과 같은 순서로 보관, null이면 아직 읽지 않은 상태
+        private TreeMap<String, Integer> counts;
+        
+        // 조회용 스냅샷 (변경 시 새로 생성)
+        private volatile List<String> valuesSnapshot;
+        private volatile Map<String, Integer> countsSnapshot;
+        private volatile long loadedAt;
+        
+        FacetValues(Facet facet) {
+            this.facet = facet;
+        }
+        
+        List<String> values() {
+            List<String> values = valuesSnapshot;
+            if (values == null || isStale()) {
+                load();
+                values = valuesSnapshot;
+            }
+            return values != null ? values : Collections.<String>emptyList();
+        }
+        
+        Map<String, Integer> counts() {
+            Map<String, Integer> snapshot = countsSnapshot;
+            if (snapshot == null || isStale()) {
+                load();
+                snapshot = countsSnapshot;
+            }
+            return snapshot != null ? snapshot : Collections.<String, Integer>emptyMap();
+        }
+        
+        synchronized void adjust(String oldValue, String newValue) {
+            if (counts == null) {
+                // 아직 읽지 않았다면 다음 조회 시 DB에서 최신 값을 읽음
+                return;
+            }
+            
+            if (oldValue != null && oldValue.equals(newValue)) {
+                return;
+            }
+            
+            if (oldValue != null) {
+                Integer count = counts.get(oldValue);
+                if (count != null) {
+                    if (count <= 1) {
+                        counts.remove(oldValue);
+                    } else {
+                        counts.put(oldValue, count - 1);
+                    }
+                }
+            }
+            
+            if (newValue != null) {
+                counts.merge(newValue, 1, Integer::sum);
+            }
+            
+            publish();
+        }
+        
+        synchronized void invalidate() {
+            counts = null;
+            valuesSnapshot = null;
+            countsSnapshot = null;
+        }
+        
+        private boolean isStale() {
+            return System.currentTimeMillis() - loadedAt > REFRESH_INTERVAL;
+        }
+        
+        private synchronized void load() {
+            // 다른 스레드가 먼저 읽었으면 그 결과를 사용
+            if (counts != null && !isStale()) {
+                return;
+            }
+            
+            TreeMap<String, Integer> loaded = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            Connection conn = null;
+            PreparedStatement pstmt = null;
+            ResultSet rs = null;
+            
+            try {
+                conn = DBConnectionUtil.getConnection();
+                String sql = "SELECT " + facet.columnName + " AS value, COUNT(*) AS cnt FROM " + facet.tableName +
+                             " WHERE " + facet.columnName + " IS NOT NULL GROUP BY " + facet.columnName;
+                
+                pstmt = conn.prepareStatement(sql);
+                rs = pstmt.executeQuery();
+                
+                while (rs.next()) {
+                    loaded.merge(rs.getString("value"), rs.getInt("cnt"), Integer::sum);
+                }
+            } catch (SQLException e) {
+                e.printStackTrace();
+                // 조회 실패 시 캐싱하지 않음 (기존 목록 또는 빈 목록 반환 후 다음 조회 시 재시도)
+                return;
+            } finally {
+                DBConnectionUtil.close(rs, pstmt, conn);
+            }
+            
+            counts = loaded;
+            loadedAt = System.currentTimeMillis();
+            publish();
+        }
+        
+        private void publish() {
+            valuesSnapshot = Collections.unmodifiableList(new ArrayList<>(counts.keySet()));
+            countsSnapshot = Collections.unmodifiableMap(new TreeMap<>(counts));
+        }
+    }
+}
\ No newline at end of file
@@ -11,6 +11,21 @@ public class FileConfigurationProperties {
     // 최대 파일 크기 (10MB)
     public static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
     
+    // 분할 업로드 최대 파일 크기 (2GB)
+    public static final long MAX_CHUNKED_FILE_SIZE = 2L * 1024 * 1024 * 1024;
+    
+    // 분할 업로드 조각 크기 (4MB, 마지막 조각만 작을 수 있음)
+    public static final int CHUNK_SIZE = 4 * 1024 * 1024;
+    
+    // 분할 업로드 세션 유지 시간 (마지막 조각 수신 후 24시간)
+    public static final long CHUNKED_UPLOAD_EXPIRE_MILLIS = 24L * 60 * 60 * 1000;
+    
+    // 사용자당 동시에 진행할 수 있는 분할 업로드 세션 수
+    public static final int MAX_CHUNKED_UPLOADS_PER_USER = 3;
+    
+    // 삭제된 첨부 파일 보존 기간 (7일, 이후 AttachmentGarbageCollector가 파일과 행을 정리)
+    public static final long ATTACHMENT_RETENTION_MILLIS = 7L * 24 * 60 * 60 * 1000;
+    
     // 허용된 이미지 파일 확장자
     public static final String[] ALLOWED_IMAGE_EXTENSIONS = {"jpg", "jpeg", "png", "gif", "bmp", "webp"};
     
@@ -0,0 +1,265 @@
+package com.kirini.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 파일 다운로드(전송)를 위한 유틸리티 클래스
+ *
+ * - Range 요청(단일/다중 구간)에 206 Partial Content로 응답하여 이어받기를 지원
+ * - If-Range의 ETag/수정 시각이 다르면 전체 파일(200)로 응답
+ * - 컨테이너가 sendfile을 지원하면(Tomcat) 전송을 컨테이너에 맡기고,
+ *   지원하지 않으면 FileChannel.transferTo로 바이트 배열 복사 없이 전송
+ * - 2GB 이상의 파일도 setContentLengthLong으로 길이를 정확히 전달
+ */
+public class FileDownloadUtil {
+    
+    // Tomcat sendfile 요청 속성 (NIO/NIO2/APR 커넥터에서 지원)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    
+    // 한 요청에서 허용하는 최대 구간 수 (초과하면 Range를 무시하고 전체 파일 전송)
+    private static final int MAX_RANGES = 16;
+    
+    /**
+     * 파일 전송 (Range, If-Range 처리 포함)
+     * Content-Disposition, Cache-Control 등 추가 헤더는 호출 전에 설정한다.
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param file 전송할 파일
+     * @param contentType MIME 타입
+     * @throws IOException 입출력 처리 중 발생한 예외 (클라이언트 연결 종료 포함)
+     */
+    public static void sendFile(HttpServletRequest request, HttpServletResponse response, File file, String contentType)
+            throws IOException {
+        long length = file.length();
+        long lastModified = file.lastModified();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+        
+        response.setHeader("Accept-Ranges", "bytes");
+        response.setHeader("ETag", etag);
+        response.setDateHeader("Last-Modified", lastModified);
+        
+        List<long[]> ranges = null;
+        String rangeHeader = request.getHeader("Range");
+        if (rangeHeader != null && isIfRangeMatched(request, etag, lastModified)) {
+            ranges = parseRanges(rangeHeader, length);
+            
+            if (ranges != null && ranges.isEmpty()) {
+                // 요청한 구간이 모두 파일 범위 밖
+                response.setHeader("Content-Range", "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+        
+        if (ranges == null) {
+            // 전체 파일
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            transfer(request, response, file, 0, length);
+        } else if (ranges.size() == 1) {
+            // 단일 구간
+            long[] range = ranges.get(0);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType(contentType);
+            response.setHeader("Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + length);
+            response.setContentLengthLong(range[1] - range[0] + 1);
+            transfer(request, response, file, range[0], range[1] - range[0] + 1);
+        } else {
+            // 다중 구간 (multipart/byteranges)
+            sendMultipart(response, file, contentType, ranges, length);
+        }
+    }
+    
+    /**
+     * If-Range 조건 확인 (헤더가 없거나 ETag/수정 시각이 현재 파일과 같으면 Range 처리)
+     */
+    private static boolean isIfRangeMatched(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // 약한 ETag는 Range 요청에 사용할 수 없음 (강한 비교)
+            return ifRange.equals(etag);
+        }
+        
+        try {
+            long since = request.getDateHeader("If-Range");
+            return since >= 0 && since / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Range 헤더 해석 (bytes=0-499, 500-, -200 형식)
+     * 겹치거나 이어지는 구간은 하나로 합친다.
+     * @return 구간 목록 ([시작, 끝] - 끝 포함), 형식이 잘못되었거나 구간이 너무 많으면 null (Range 무시),
+     *         만족하는 구간이 없으면 빈 목록
+     */
+    private static List<long[]> parseRanges(String header, long length) {
+        if (!header.startsWith("bytes=")) {
+            return null;
+        }
+        
+        String[] specs = header.substring("bytes=".length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+        
+        List<long[]> ranges = new ArrayList<>();
+        for (String spec : specs) {
+            spec = spec.trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            
+            long start;
+            long end;
+            try {
+                if (dash == 0) {
+                    // 마지막 N바이트
+                    long suffix = Long.parseLong(spec.substring(1));
+                    if (suffix <= 0) {
+                        continue;
+                    }
+                    start = Math.max(0, length - suffix);
+                    end = length - 1;
+                } else {
+                    start = Long.parseLong(spec.substring(0, dash));
+                    end = dash == spec.length() - 1 ? length - 1 : Long.parseLong(spec.substring(dash + 1));
+                    if (end < start) {
+                        return null;
+                    }
+                    end = Math.min(end, length - 1);
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            
+            if (start < 0 || start >= length) {
+                // 파일 범위 밖의 구간은 제외
+                continue;
+            }
+            ranges.add(new long[] { start, end });
+        }
+        
+        if (ranges.size() <= 1) {
+            return ranges;
+        }
+        
+        // 시작 위치 순으로 정렬 후 겹치거나 이어지는 구간 병합
+        Collections.sort(ranges, (a, b) -> Long.compare(a[0], b[0]));
+        List<long[]> merged = new ArrayList<>();
+        long[] current = ranges.get(0);
+        for (int i = 1; i < ranges.size(); i++) {
+            long[] next = ranges.get(i);
+            if (next[0] <= current[1] + 1) {
+                current[1] = Math.max(current[1], next[1]);
+            } else {
+                merged.add(current);
+                current = next;
+            }
+        }
+        merged.add(current);
+        return merged;
+    }
+    
+    /**
+     * 다중 구간 응답 (multipart/byteranges)
+     * 각 구간 앞의 헤더까지 포함한 전체 길이를 미리 계산하여 Content-Length로 전달한다.
+     */
+    private static void sendMultipart(HttpServletResponse response, File file, String contentType,
+            List<long[]> ranges, long length) throws IOException {
+        String boundary = "KIRINI_" + UUID.randomUUID().toString().replace("-", "");
+        
+        List<byte[]> partHeaders = new ArrayList<>();
+        long totalLength = 0;
+        for (long[] range : ranges) {
+            String header = "\r\n--" + boundary + "\r\n"
+                    + "Content-Type: " + contentType + "\r\n"
+                    + "Content-Range: bytes " + range[0] + "-" + range[1] + "/" + length + "\r\n\r\n";
+            byte[] headerBytes = header.getBytes(StandardCharsets.ISO_8859_1);
+            partHeaders.add(headerBytes);
+            totalLength += headerBytes.length + (range[1] - range[0] + 1);
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        totalLength += closing.length;
+        
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(totalLength);
+        
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            for (int i = 0; i < ranges.size(); i++) {
+                long[] range = ranges.get(i);
+                out.write(partHeaders.get(i));
+                copy(channel, range[0], range[1] - range[0] + 1, target);
+            }
+        }
+        out.write(closing);
+        out.flush();
+    }
+    
+    /**
+     * 파일 구간 전송
+     * sendfile을 지원하는 컨테이너에서는 요청 속성만 설정하고 실제 전송은 컨테이너가 수행한다.
+     */
+    private static void transfer(HttpServletRequest request, HttpServletResponse response, File file,
+            long start, long count) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_START, Long.valueOf(start));
+            request.setAttribute(SENDFILE_END, Long.valueOf(start + count));
+            return;
+        }
+        
+        OutputStream out = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            copy(channel, start, count, Channels.newChannel(out));
+        }
+        out.flush();
+    }
+    
+    /**
+     * FileChannel.transferTo로 구간 복사 (한 번에 모두 전송되지 않을 수 있으므로 반복)
+     */
+    private static void copy(FileChannel channel, long position, long count, WritableByteChannel target)
+            throws IOException {
+        while (count > 0) {
+            long transferred = channel.transferTo(position, count, target);
+            if (transferred <= 0) {
+                throw new IOException("파일 전송 중 파일 크기가 변경되었습니다.");
+            }
+            position += transferred;
+            count -= transferred;
+        }
+    }
+}
\ No newline at end of file
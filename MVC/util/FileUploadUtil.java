@@ -34,11 +34,14 @@ public class FileUploadUtil {
     }
     
     /**
-     * 파일 업로드 처리
+     * 파일 업로드 처리 (UUID 파일명으로 매번 새로 저장)
+     * 게시판 첨부 파일은 같은 내용을 한 번만 저장하는 BlobStore.store()를 사용한다.
      * @param part 업로드된 파일의 Part 객체
      * @param uploadDir 업로드 디렉토리 경로
      * @return 저장된 파일의 경로 (실패 시 null 반환)
+     * @deprecated BlobStore.store(Part) 사용
      */
+    @Deprecated
     public static String uploadFile(Part part, String uploadDir) {
         try {
             if (part == null || part.getSize() == 0) {
@@ -0,0 +1,468 @@
+package com.kirini.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글/Q&A 본문의 용어사전 용어에 용어 상세 페이지 링크를 붙이는 클래스
+ * 모든 용어로 Aho-Corasick 오토마톤을 만들어 본문을 한 번만 훑어 용어 위치를 찾는다.
+ *   - 용어사전 스냅샷이 바뀌면(등록/수정/삭제) 다음 사용 시 오토마톤을 새로 만들어 통째로 교체한다.
+ *   - 찾은 위치는 (종류, ID, 수정일, 오토마톤 세대)별로 캐싱하므로 바뀌지 않은 글은 다시 훑지 않는다.
+ * 태그(속성값 포함), <script>/<style> 내용, 기존 링크(<a>...</a>) 안은 건너뛰며, 같은 용어는 처음 나온 곳에만 링크를 붙인다.
+ * 영문/숫자로 시작하거나 끝나는 용어는 단어 중간에서 찾지 않는다. ("ABS"가 "absolute"에 걸리지 않도록)
+ *
+ * 결과는 본문 전체를 HTML 이스케이프한 뒤 링크 태그만 넣은 것이므로, 화면에서는 이스케이프 없이 그대로 출력한다.
+ * (본문에 들어 있는 태그는 글자로 표시되며 실행되지 않음)
+ */
+public class GlossaryLinker {
+    
+    // 이보다 짧은 용어는 링크하지 않음 (한 글자 용어는 오탐이 많음)
+    private static final int MIN_TERM_LENGTH = 2;
+    
+    // 캐싱할 최대 본문 수
+    private static final int MAX_CACHED = 5000;
+    
+    /**
+     * 본문 종류 (캐시 키 구분용)
+     */
+    public enum Source {
+        BOARD, QNA
+    }
+    
+    private static final GlossaryLinker instance = new GlossaryLinker();
+    
+    private volatile Automaton automaton;
+    private long generation;
+    
+    // (종류, ID) -> 찾은 용어 위치 (접근 순서 LRU)
+    private final Map<String, Annotation> annotations = new LinkedHashMap<String, Annotation>(256, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+        
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Annotation> eldest) {
+            return size() > MAX_CACHED;
+        }
+    };
+    
+    private GlossaryLinker() {
+    }
+    
+    public static GlossaryLinker getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 본문의 용어에 링크를 붙인 HTML 반환
+     * @param dictionary 현재 용어사전 스냅샷
+     * @param source 본문 종류
+     * @param id 게시글/질문 ID
+     * @param modifiedDate 수정일 (캐시 확인용, 없으면 null)
+     * @param content 본문
+     * @param contextPath 링크 앞에 붙일 컨텍스트 경로
+     * @return 이스케이프한 본문에 링크를 붙인 HTML (본문이 null이면 null)
+     */
+    public String link(DictionarySnapshot dictionary, Source source, int id, Date modifiedDate, String content,
+            String contextPath) {
+        if (content == null) {
+            return null;
+        }
+        
+        Automaton current = automatonFor(dictionary);
+        String key = source + ":" + id;
+        long modifiedTime = modifiedDate != null ? modifiedDate.getTime() : 0;
+        int contentLength = content.length();
+        
+        Annotation annotation;
+        synchronized (annotations) {
+            annotation = annotations.get(key);
+        }
+        
+        if (annotation == null || annotation.generation != current.generation
+                || annotation.modifiedTime != modifiedTime || annotation.contentLength != contentLength) {
+            annotation = new Annotation(current.generation, modifiedTime, contentLength, current.scan(content));
+            synchronized (annotations) {
+                annotations.put(key, annotation);
+            }
+        }
+        
+        return render(content, annotation.spans, contextPath);
+    }
+    
+    /**
+     * 캐시된 위치 제거 (본문 수정/삭제 시 호출, 수정일이 바뀌면 자동으로 다시 훑으므로 선택 사항)
+     * @param source 본문 종류
+     * @param id 게시글/질문 ID
+     */
+    public void invalidate(Source source, int id) {
+        synchronized (annotations) {
+            annotations.remove(source + ":" + id);
+        }
+    }
+    
+    /**
+     * 스냅샷에 맞는 오토마톤 조회 (스냅샷이 바뀌었으면 새로 만들어 교체)
+     */
+    private Automaton automatonFor(DictionarySnapshot dictionary) {
+        Automaton current = automaton;
+        if (current != null && current.dictionary == dictionary) {
+            return current;
+        }
+        
+        synchronized (this) {
+            current = automaton;
+            if (current == null || current.dictionary != dictionary) {
+                current = new Automaton(dictionary, ++generation);
+                automaton = current;
+            }
+            return current;
+        }
+    }
+    
+    /**
+     * 본문을 이스케이프하면서 찾은 위치에 링크 태그를 넣어 재구성
+     */
+    private static String render(String content, int[] spans, String contextPath) {
+        StringBuilder sb = new StringBuilder(content.length() + content.length() / 8 + spans.length / 3 * 80);
+        int last = 0;
+        for (int i = 0; i < spans.length; i += 3) {
+            int start = spans[i];
+            int end = spans[i + 1];
+            escape(sb, content, last, start);
+            sb.append("<a href=\"");
+            escape(sb, contextPath, 0, contextPath.length());
+            sb.append("/dictionary/view?id=").append(spans[i + 2]).append("\" class=\"glossary-term\">");
+            escape(sb, content, start, end);
+            sb.append("</a>");
+            last = end;
+        }
+        escape(sb, content, last, content.length());
+        return sb.toString();
+    }
+    
+    /**
+     * HTML 특수 문자 이스케이프 (본문, 속성값 공용)
+     */
+    private static void escape(StringBuilder sb, String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '"':
+                    sb.append("&quot;");
+                    break;
+                case '\'':
+                    sb.append("&#39;");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+    }
+    
+    /**
+     * 캐싱된 용어 위치 (시작, 끝, 용어 ID 순의 3개씩 묶음)
+     */
+    private static class Annotation {
+        private final long generation;
+        private final long modifiedTime;
+        private final int contentLength;
+        private final int[] spans;
+        
+        Annotation(long generation, long modifiedTime, int contentLength, int[] spans) {
+            this.generation = generation;
+            this.modifiedTime = modifiedTime;
+            this.contentLength = contentLength;
+            this.spans = spans;
+        }
+    }
+    
+    /**
+     * 용어 전체로 만든 Aho-Corasick 오토마톤 (만든 뒤에는 변경하지 않음)
+     * 상태 0이 루트이며, 상태별 전이는 글자 순 정렬 배열로 보관한다.
+     */
+    private static class Automaton {
+        private final DictionarySnapshot dictionary;
+        private final long generation;
+        
+        private char[][] keys = new char[16][];
+        private int[][] targets = new int[16][];
+        private int[] childCounts = new int[16];
+        private int[] fail;
+        // 이 상태에서 끝나는 용어의 ID와 길이 (없으면 0)
+        private int[] termIds = new int[16];
+        private int[] termLengths = new int[16];
+        // 실패 링크를 따라가며 처음 만나는, 용어가 끝나는 상태 (없으면 0)
+        private int[] outputLinks;
+        private int stateCount = 1;
+        
+        Automaton(DictionarySnapshot dictionary, long generation) {
+            this.dictionary = dictionary;
+            this.generation = generation;
+            
+            keys[0] = new char[0];
+            targets[0] = new int[0];
+            
+            for (DictionarySnapshot.Entry entry : dictionary.list(null, 0, dictionary.size())) {
+                String term = entry.getDictionary().getTerm();
+                if (term != null && term.trim().length() >= MIN_TERM_LENGTH) {
+                    add(term.trim(), entry.getId());
+                }
+            }
+            buildFailLinks();
+        }
+        
+        /**
+         * 본문에서 용어 위치 찾기 (태그, <script>/<style> 내용, 기존 링크 안은 건너뜀)
+         * 같은 위치에서 시작하는 용어는 긴 것을, 겹치는 용어는 앞의 것을 고른다.
+         * 대소문자는 글자 단위로 무시하므로 찾은 위치는 항상 원문 기준이다.
+         * @param content 본문
+         * @return 시작, 끝, 용어 ID 순의 3개씩 묶음
+         */
+        int[] scan(String content) {
+            List<int[]> matches = new ArrayList<>();
+            int state = 0;
+            boolean inLink = false;
+            
+            for (int i = 0; i < content.length(); i++) {
+                char c = content.charAt(i);
+                
+                if (c == '<' && isTagStart(content, i + 1)) {
+                    // 태그 시작: 링크 안인지 확인하고 상태 초기화 (태그를 사이에 둔 용어는 찾지 않음)
+                    state = 0;
+                    if (isTag(content, i + 1, "a")) {
+                        inLink = true;
+                    } else if (isTag(content, i + 1, "/a")) {
+                        inLink = false;
+                    }
+                    
+                    int tagEnd = skipTag(content, i);
+                    if (isTag(content, i + 1, "script") || isTag(content, i + 1, "style")) {
+                        // 내용은 글이 아니므로 닫는 태그까지 건너뜀
+                        String closing = isTag(content, i + 1, "script") ? "</script" : "</style";
+                        int close = indexOfIgnoreCase(content, closing, tagEnd);
+                        tagEnd = close < 0 ? content.length() : skipTag(content, close);
+                    }
+                    i = tagEnd - 1;
+                    continue;
+                }
+                if (inLink) {
+                    continue;
+                }
+                
+                state = next(state, Character.toLowerCase(c));
+                for (int output = termIds[state] != 0 ? state : outputLinks[state]; output != 0; output = outputLinks[output]) {
+                    int start = i + 1 - termLengths[output];
+                    if (isWordBoundary(content, start, i + 1)) {
+                        matches.add(new int[] { start, i + 1, termIds[output] });
+                    }
+                }
+            }
+            
+            // 시작 위치 순, 같은 시작이면 긴 것 우선으로 정렬 후 겹치지 않게 고름
+            matches.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(b[1], a[1]));
+            
+            List<int[]> selected = new ArrayList<>();
+            Set<Integer> linkedTerms = new HashSet<>();
+            int lastEnd = 0;
+            for (int[] match : matches) {
+                if (match[0] >= lastEnd && linkedTerms.add(match[2])) {
+                    selected.add(match);
+                    lastEnd = match[1];
+                }
+            }
+            
+            int[] spans = new int[selected.size() * 3];
+            for (int i = 0; i < selected.size(); i++) {
+                System.arraycopy(selected.get(i), 0, spans, i * 3, 3);
+            }
+            return spans;
+        }
+        
+        private int next(int state, char c) {
+            while (true) {
+                int target = child(state, c);
+                if (target >= 0) {
+                    return target;
+                }
+                if (state == 0) {
+                    return 0;
+                }
+                state = fail[state];
+            }
+        }
+        
+        private int child(int state, char c) {
+            int index = Arrays.binarySearch(keys[state], 0, childCounts[state], c);
+            return index >= 0 ? targets[state][index] : -1;
+        }
+        
+        /**
+         * 태그 끝 다음 위치 (따옴표로 감싼 속성값 안의 '>'는 태그 끝으로 보지 않음)
+         * @param content 본문
+         * @param start '<' 위치
+         * @return '>' 다음 위치 (닫히지 않았으면 본문 길이)
+         */
+        private static int skipTag(String content, int start) {
+            char quote = 0;
+            for (int i = start + 1; i < content.length(); i++) {
+                char c = content.charAt(i);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    quote = c;
+                } else if (c == '>') {
+                    return i + 1;
+                }
+            }
+            return content.length();
+        }
+        
+        /**
+         * '<' 다음 글자가 태그 이름, 닫는 태그, 주석/선언의 시작인지 확인 ("a < b" 같은 글은 태그로 보지 않음)
+         */
+        private static boolean isTagStart(String content, int from) {
+            if (from >= content.length()) {
+                return false;
+            }
+            char c = content.charAt(from);
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '/' || c == '!';
+        }
+        
+        /**
+         * from 위치부터 주어진 이름의 태그인지 확인 (이름 뒤에 공백, '>', '/' 또는 본문 끝)
+         */
+        private static boolean isTag(String content, int from, String name) {
+            if (!content.regionMatches(true, from, name, 0, name.length())) {
+                return false;
+            }
+            int after = from + name.length();
+            if (after >= content.length()) {
+                return true;
+            }
+            char c = content.charAt(after);
+            return c == '>' || c == '/' || Character.isWhitespace(c);
+        }
+        
+        private static int indexOfIgnoreCase(String content, String target, int from) {
+            for (int i = from; i + target.length() <= content.length(); i++) {
+                if (content.regionMatches(true, i, target, 0, target.length())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        
+        /**
+         * 용어 추가 (글자 단위로 소문자로 바꿔 본문 검색과 같은 기준 사용)
+         */
+        private void add(String term, int termId) {
+            int state = 0;
+            for (int i = 0; i < term.length(); i++) {
+                char c = Character.toLowerCase(term.charAt(i));
+                int target = child(state, c);
+                if (target < 0) {
+                    target = newState();
+                    insertChild(state, c, target);
+                }
+                state = target;
+            }
+            if (termIds[state] == 0) {
+                termIds[state] = termId;
+                termLengths[state] = term.length();
+            }
+        }
+        
+        private int newState() {
+            if (stateCount == keys.length) {
+                int capacity = stateCount * 2;
+                keys = Arrays.copyOf(keys, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                childCounts = Arrays.copyOf(childCounts, capacity);
+                termIds = Arrays.copyOf(termIds, capacity);
+                termLengths = Arrays.copyOf(termLengths, capacity);
+            }
+            keys[stateCount] = new char[0];
+            targets[stateCount] = new int[0];
+            return stateCount++;
+        }
+        
+        private void insertChild(int state, char c, int target) {
+            int count = childCounts[state];
+            int insertAt = -Arrays.binarySearch(keys[state], 0, count, c) - 1;
+            if (count == keys[state].length) {
+                keys[state] = Arrays.copyOf(keys[state], Math.max(2, count * 2));
+                targets[state] = Arrays.copyOf(targets[state], Math.max(2, count * 2));
+            }
+            System.arraycopy(keys[state], insertAt, keys[state], insertAt + 1, count - insertAt);
+            System.arraycopy(targets[state], insertAt, targets[state], insertAt + 1, count - insertAt);
+            keys[state][insertAt] = c;
+            targets[state][insertAt] = target;
+            childCounts[state]++;
+        }
+        
+        /**
+         * 너비 우선으로 실패 링크와 출력 링크 계산
+         */
+        private void buildFailLinks() {
+            fail = new int[stateCount];
+            outputLinks = new int[stateCount];
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            
+            for (int i = 0; i < childCounts[0]; i++) {
+                queue.add(targets[0][i]);
+            }
+            
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int i = 0; i < childCounts[state]; i++) {
+                    char c = keys[state][i];
+                    int target = targets[state][i];
+                    
+                    int failState = fail[state];
+                    while (failState != 0 && child(failState, c) < 0) {
+                        failState = fail[failState];
+                    }
+                    int failTarget = child(failState, c);
+                    fail[target] = failTarget >= 0 && failTarget != target ? failTarget : 0;
+                    outputLinks[target] = termIds[fail[target]] != 0 ? fail[target] : outputLinks[fail[target]];
+                    
+                    queue.add(target);
+                }
+            }
+        }
+        
+        /**
+         * 영문/숫자 용어가 단어 중간에서 찾아진 것인지 확인
+         */
+        private static boolean isWordBoundary(String content, int start, int end) {
+            if (isWordChar(content.charAt(start)) && start > 0 && isWordChar(content.charAt(start - 1))) {
+                return false;
+            }
+            if (isWordChar(content.charAt(end - 1)) && end < content.length() && isWordChar(content.charAt(end))) {
+                return false;
+            }
+            return true;
+        }
+        
+        private static boolean isWordChar(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+        }
+    }
+}
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.kirini.util;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * URL 패턴과 핸들러(컨트롤러) 객체를 매핑하는 클래스
  * 싱글톤 패턴으로 구현되어 애플리케이션 전체에서 하나의 인스턴스만 사용
+ * 매핑 정보는 RouteTrie로 변환하여 경로 변수({id:int} 등)와 HTTP 메서드별 라우트를 한 번에 검색한다.
  */
 public class HandlerMapping {
     // 싱글톤 인스턴스
@@ -14,6 +17,12 @@ public class HandlerMapping {
     // URL 패턴과 핸들러 객체를 매핑하는 맵 (Thread-safe)
     private Map<String, Object> mappings = new ConcurrentHashMap<>();
     
+    // 컨트롤러가 직접 등록한 HTTP 메서드별 라우트
+    private final List<Route> routes = new ArrayList<>();
+    
+    // 매핑 정보와 라우트로 만든 검색 트리 (변경 시 새로 만들어 교체)
+    private volatile RouteTrie<Object> routeTrie = new RouteTrie<>();
+    
     // 생성자를 private으로 선언하여 외부에서 인스턴스 생성 방지
     private HandlerMapping() {}
     
@@ -29,9 +38,34 @@ public class HandlerMapping {
      * URL 패턴과 핸들러 매핑 정보 설정
      * @param mappings URL과 핸들러 객체의 매핑 정보
      */
-    public void setMappings(Map<String, Object> mappings) {
+    public synchronized void setMappings(Map<String, Object> mappings) {
         this.mappings.clear();
         this.mappings.putAll(mappings);
+        rebuild();
+    }
+    
+    /**
+     * HTTP 메서드별 라우트 등록 (애플리케이션 시작 시 컨트롤러에서 호출)
+     * @param method HTTP 메서드 (null이면 모든 메서드)
+     * @param pattern URL 패턴 (예: /board/{id:int}/edit)
+     * @param handler 핸들러 객체
+     * @throws IllegalArgumentException 패턴 형식이 잘못되었거나 같은 라우트가 이미 등록된 경우
+     */
+    public synchronized void addRoute(HttpMethod method, String pattern, Object handler) {
+        routeTrie.add(method, pattern, handler);
+        routes.add(new Route(method, pattern, handler));
+    }
+    
+    /**
+     * 요청 경로와 HTTP 메서드에 맞는 라우트 검색
+     * 정적 세그먼트, 숫자 경로 변수, 경로 변수, 와일드카드(/* 형식) 순으로 일치하는 라우트를 찾는다.
+     * @param method HTTP 메서드
+     * @param url 요청 URL
+     * @param end 검색에 사용할 URL의 끝 위치 (확장자 제외 등)
+     * @return 검색 결과 (일치하는 경로가 없으면 null)
+     */
+    public RouteMatch<Object> match(HttpMethod method, String url, int end) {
+        return routeTrie.match(method, url, end);
     }
     
     /**
@@ -41,24 +75,8 @@ public class HandlerMapping {
      * @return 매핑된 핸들러 객체, 없으면 null 반환
      */
     public Object getHandler(String url) {
-        // 1. 정확한 URL 매칭 시도
-        if (mappings.containsKey(url)) {
-            return mappings.get(url);
-        }
-        
-        // 2. 정확한 매칭이 없으면 와일드카드 매칭 시도
-        int lastSlashIndex = url.lastIndexOf('/');
-        if (lastSlashIndex > 0) {
-            String baseUrl = url.substring(0, lastSlashIndex);
-            String wildcardUrl = baseUrl + "/*";
-            
-            if (mappings.containsKey(wildcardUrl)) {
-                return mappings.get(wildcardUrl);
-            }
-        }
-        
-        // 3. 매칭되는 핸들러가 없을 경우
-        return null;
+        RouteMatch<Object> match = routeTrie.match(null, url);
+        return match != null ? match.getHandler() : null;
     }
     
     /**
@@ -68,4 +86,30 @@ public class HandlerMapping {
     public Map<String, Object> getMappings() {
         return new ConcurrentHashMap<>(mappings);
     }
+    
+    private void rebuild() {
+        RouteTrie<Object> trie = new RouteTrie<>();
+        for (Map.Entry<String, Object> entry : mappings.entrySet()) {
+            trie.add(null, entry.getKey(), entry.getValue());
+        }
+        for (Route route : routes) {
+            trie.add(route.method, route.pattern, route.handler);
+        }
+        routeTrie = trie;
+    }
+    
+    /**
+     * 컨트롤러가 등록한 라우트 (매핑 정보 변경 시 검색 트리를 다시 만들 때 사용)
+     */
+    private static class Route {
+        private final HttpMethod method;
+        private final String pattern;
+        private final Object handler;
+        
+        Route(HttpMethod method, String pattern, Object handler) {
+            this.method = method;
+            this.pattern = pattern;
+            this.handler = handler;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.kirini.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 프론트 컨트롤러에서 처리하는 HTTP 메서드
+ * 요청마다 문자열을 차례로 비교하지 않도록 이름으로 한 번에 찾는다.
+ */
+public enum HttpMethod {
+    GET,
+    POST,
+    PUT,
+    DELETE;
+    
+    private static final Map<String, HttpMethod> BY_NAME = new HashMap<>();
+    
+    static {
+        for (HttpMethod method : values()) {
+            BY_NAME.put(method.name(), method);
+        }
+    }
+    
+    /**
+     * 요청 메서드 이름으로 HttpMethod 조회
+     * @param name 요청 메서드 이름 (request.getMethod())
+     * @return HttpMethod (지원하지 않는 메서드면 null 반환)
+     */
+    public static HttpMethod resolve(String name) {
+        if (name == null) {
+            return null;
+        }
+        
+        HttpMethod method = BY_NAME.get(name);
+        if (method == null) {
+            // 서블릿 컨테이너는 대문자로 전달하지만 혹시 모를 소문자 요청 처리
+            method = BY_NAME.get(name.toUpperCase());
+        }
+        return method;
+    }
+}
\ No newline at end of file
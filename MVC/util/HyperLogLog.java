@@ -0,0 +1,136 @@
+package com.kirini.util;
+
+/**
+ * 서로 다른 값의 개수를 근사하는 HyperLogLog 스케치
+ * 64비트 해시의 상위 PRECISION비트로 레지스터를 고르고, 나머지 비트의 선행 0 개수 + 1 중 최댓값을 기록한다.
+ * 레지스터 512개(표준 오차 약 4.6%)를 6비트씩 묶어 저장하면 384바이트가 된다.
+ * 두 스케치는 레지스터별 최댓값으로 합칠 수 있어, 합치는 순서와 횟수에 관계없이 같은 결과가 나온다.
+ * 스레드에 안전하지 않으므로 호출하는 쪽에서 동기화할 것
+ */
+public final class HyperLogLog {
+    
+    // 레지스터 선택에 쓰는 해시 비트 수 (레지스터 2^9 = 512개)
+    private static final int PRECISION = 9;
+    
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    // 레지스터당 저장 비트 수 (최댓값 64 - PRECISION + 1 = 56 < 64)
+    private static final int REGISTER_BITS = 6;
+    
+    /**
+     * 저장 형식의 바이트 수 (512 * 6 / 8)
+     */
+    public static final int SERIALIZED_SIZE = REGISTER_COUNT * REGISTER_BITS / 8;
+    
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+    
+    private final byte[] registers = new byte[REGISTER_COUNT];
+    
+    /**
+     * 값 추가
+     * @param value 값 (문자열 해시로 기록)
+     * @return 레지스터가 바뀌었으면 true (바뀌지 않았으면 추정값도 그대로)
+     */
+    public boolean add(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (64 - PRECISION));
+        int rank = Math.min(Long.numberOfLeadingZeros(hash << PRECISION), 64 - PRECISION) + 1;
+        
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * 다른 스케치 합치기 (레지스터별 최댓값)
+     * @param other 합칠 스케치
+     */
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+    
+    /**
+     * 서로 다른 값의 개수 추정
+     * @return 추정 개수
+     */
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            // 값이 적을 때는 빈 레지스터 비율로 계산 (linear counting)
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+    
+    /**
+     * 저장 형식으로 변환 (레지스터를 6비트씩 이어 붙임)
+     * @return SERIALIZED_SIZE 바이트 배열
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[SERIALIZED_SIZE];
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            int bit = i * REGISTER_BITS;
+            int value = (registers[i] & 0x3F) << (bit & 7);
+            bytes[bit >>> 3] |= (byte) value;
+            if ((bit & 7) + REGISTER_BITS > 8) {
+                bytes[(bit >>> 3) + 1] |= (byte) (value >>> 8);
+            }
+        }
+        return bytes;
+    }
+    
+    /**
+     * 저장 형식에서 복원
+     * @param bytes toBytes()로 만든 바이트 배열
+     * @return 스케치 (형식이 맞지 않으면 빈 스케치)
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        HyperLogLog sketch = new HyperLogLog();
+        if (bytes == null || bytes.length != SERIALIZED_SIZE) {
+            return sketch;
+        }
+        
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            int bit = i * REGISTER_BITS;
+            int value = (bytes[bit >>> 3] & 0xFF) >>> (bit & 7);
+            if ((bit & 7) + REGISTER_BITS > 8) {
+                value |= (bytes[(bit >>> 3) + 1] & 0xFF) << (8 - (bit & 7));
+            }
+            sketch.registers[i] = (byte) (value & 0x3F);
+        }
+        return sketch;
+    }
+    
+    /**
+     * 64비트 문자열 해시 (FNV-1a 후 MurmurHash3 fmix64로 비트를 고르게 섞음)
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
\ No newline at end of file
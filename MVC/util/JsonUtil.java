@@ -0,0 +1,51 @@
+package com.kirini.util;
+
+/**
+ * JSON 응답 작성을 위한 유틸리티 클래스
+ */
+public class JsonUtil {
+    
+    private JsonUtil() {}
+    
+    /**
+     * 문자열을 JSON 문자열 값으로 변환 (큰따옴표 포함, 특수 문자 이스케이프)
+     * @param value 변환할 문자열
+     * @return JSON 문자열 값 (null이면 null 리터럴)
+     */
+    public static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        
+        StringBuilder sb = new StringBuilder(value.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+        return sb.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,450 @@
+package com.kirini.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 키보드 정보 목록의 필터/정렬/패싯 집계를 메모리에서 처리하는 카탈로그 색인
+ * 브랜드, 스위치, 사이즈(layout), 연결 방식(connectivity)은 값별 BitSet(키보드 ID가 비트 위치)으로,
+ * 가격은 가격순으로 정렬된 ID 배열로 보관하여 어떤 필터 조합이든 SQL 없이 비트 연산으로 계산한다.
+ * 패싯 건수는 해당 패싯을 제외한 나머지 조건으로 계산(disjunctive)하여 다른 값으로 바꿨을 때의 건수를 보여준다.
+ * 시작 시 DB에서 전체를 읽고(rebuild), 이후에는 KeyboardDAO의 등록/수정/삭제 시 함께 갱신한다.
+ */
+public class KeyboardCatalogIndex {
+    
+    // 패싯 이름 (요청 파라미터 이름과 동일)
+    public static final String FACET_BRAND = "brand";
+    public static final String FACET_SWITCH = "switch";
+    public static final String FACET_SIZE = "size";
+    public static final String FACET_CONNECTION = "connection";
+    
+    private static final String[] FACETS = { FACET_BRAND, FACET_SWITCH, FACET_SIZE, FACET_CONNECTION };
+    
+    private static final KeyboardCatalogIndex instance = new KeyboardCatalogIndex();
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 현재 사용 중인 색인 데이터
+    private CatalogData data = new CatalogData();
+    
+    // 재색인 중 발생한 변경 (재색인 완료 후 새 색인에 다시 적용)
+    private List<Consumer<CatalogData>> pendingChanges;
+    
+    private volatile boolean ready = false;
+    
+    private KeyboardCatalogIndex() {}
+    
+    public static KeyboardCatalogIndex getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 색인 사용 가능 여부 (초기 색인 완료 전에는 DB 조회 사용)
+     * @return 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * DB의 전체 키보드 정보로 색인 재생성
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        CatalogData newData = new CatalogData();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        boolean success = false;
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            String sql = "SELECT keyboard_id, name, brand, price, switch_type, layout, connectivity, description, created_date " +
+                         "FROM keyboards";
+            
+            pstmt = conn.prepareStatement(sql);
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                Timestamp createdDate = rs.getTimestamp("created_date");
+                newData.put(new Item(
+                        rs.getInt("keyboard_id"),
+                        rs.getString("name"),
+                        rs.getString("brand"),
+                        rs.getInt("price"),
+                        rs.getString("switch_type"),
+                        rs.getString("layout"),
+                        rs.getString("connectivity"),
+                        rs.getString("description"),
+                        createdDate != null ? createdDate.getTime() : 0L));
+            }
+            success = true;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DBConnectionUtil.close(rs, pstmt, conn);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            if (success) {
+                for (Consumer<CatalogData> change : pendingChanges) {
+                    change.accept(newData);
+                }
+                data = newData;
+                ready = true;
+                System.out.println("KeyboardCatalogIndex - 키보드 " + newData.items.size() + "건 색인 완료");
+            }
+            pendingChanges = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 키보드 색인 (등록 시 호출, 같은 ID가 있으면 교체)
+     * @param keyboardId 키보드 ID
+     * @param name 제품명
+     * @param brand 브랜드
+     * @param price 가격
+     * @param switchType 스위치 종류
+     * @param layout 사이즈(배열)
+     * @param connectivity 연결 방식
+     * @param description 설명
+     * @param createdDate 등록일
+     */
+    public void index(int keyboardId, String name, String brand, int price, String switchType,
+            String layout, String connectivity, String description, Date createdDate) {
+        Item item = new Item(keyboardId, name, brand, price, switchType, layout, connectivity, description,
+                createdDate != null ? createdDate.getTime() : System.currentTimeMillis());
+        mutate(catalog -> catalog.put(item));
+    }
+    
+    /**
+     * 키보드 정보 갱신 (수정 시 호출, 등록일은 유지)
+     * @param keyboardId 키보드 ID
+     * @param name 제품명
+     * @param brand 브랜드
+     * @param price 가격
+     * @param switchType 스위치 종류
+     * @param layout 사이즈(배열)
+     * @param connectivity 연결 방식
+     * @param description 설명
+     */
+    public void update(int keyboardId, String name, String brand, int price, String switchType,
+            String layout, String connectivity, String description) {
+        mutate(catalog -> {
+            Item old = catalog.items.get(keyboardId);
+            long createdTime = old != null ? old.createdTime : System.currentTimeMillis();
+            catalog.put(new Item(keyboardId, name, brand, price, switchType, layout, connectivity, description, createdTime));
+        });
+    }
+    
+    /**
+     * 키보드 색인 제거 (삭제 시 호출)
+     * @param keyboardId 키보드 ID
+     */
+    public void remove(int keyboardId) {
+        mutate(catalog -> catalog.remove(keyboardId));
+    }
+    
+    /**
+     * 필터 조합으로 키보드 검색 (패싯별 건수 포함)
+     * @param brand 브랜드 (null이면 전체)
+     * @param switchType 스위치 종류 (null이면 전체)
+     * @param size 사이즈 (null이면 전체)
+     * @param connection 연결 방식 (null이면 전체)
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @param keyword 검색어 (제품명, 브랜드, 설명)
+     * @param sortBy 정렬 (price_low, price_high, name, 그 외는 최신순)
+     * @param page 페이지 번호
+     * @param pageSize 페이지당 키보드 수
+     * @return 현재 페이지의 키보드 ID 목록, 전체 건수, 패싯별 건수
+     */
+    public SearchResult search(String brand, String switchType, String size, String connection,
+            int minPrice, int maxPrice, String keyword, String sortBy, int page, int pageSize) {
+        String[] selected = { brand, switchType, size, connection };
+        List<Item> matches = new ArrayList<>();
+        Map<String, Map<String, Integer>> facetCounts = new LinkedHashMap<>();
+        
+        lock.readLock().lock();
+        try {
+            // 패싯 이외의 조건 (가격, 검색어)
+            BitSet base = data.priceRange(minPrice, maxPrice);
+            if (keyword != null && !keyword.isEmpty()) {
+                String query = keyword.toLowerCase(Locale.ROOT);
+                for (int id = base.nextSetBit(0); id >= 0; id = base.nextSetBit(id + 1)) {
+                    if (!data.items.get(id).searchText.contains(query)) {
+                        base.clear(id);
+                    }
+                }
+            }
+            
+            // 패싯별 선택 값의 BitSet (선택하지 않은 패싯은 null)
+            BitSet[] selections = new BitSet[FACETS.length];
+            for (int i = 0; i < FACETS.length; i++) {
+                if (selected[i] != null && !selected[i].isEmpty()) {
+                    BitSet values = data.facets.get(i).get(selected[i]);
+                    selections[i] = values != null ? values : new BitSet();
+                }
+            }
+            
+            // 패싯 건수: 자기 자신을 제외한 나머지 조건으로 계산
+            for (int i = 0; i < FACETS.length; i++) {
+                BitSet others = (BitSet) base.clone();
+                for (int j = 0; j < FACETS.length; j++) {
+                    if (j != i && selections[j] != null) {
+                        others.and(selections[j]);
+                    }
+                }
+                
+                Map<String, Integer> counts = new TreeMap<>();
+                for (Map.Entry<String, BitSet> entry : data.facets.get(i).entrySet()) {
+                    BitSet value = (BitSet) entry.getValue().clone();
+                    value.and(others);
+                    counts.put(entry.getKey(), value.cardinality());
+                }
+                facetCounts.put(FACETS[i], counts);
+                
+                if (i == FACETS.length - 1) {
+                    // 마지막 패싯까지 적용하면 최종 결과
+                    if (selections[i] != null) {
+                        others.and(selections[i]);
+                    }
+                    for (int id = others.nextSetBit(0); id >= 0; id = others.nextSetBit(id + 1)) {
+                        matches.add(data.items.get(id));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        matches.sort(comparatorFor(sortBy));
+        
+        int from = Math.max(page - 1, 0) * pageSize;
+        int to = Math.min(from + pageSize, matches.size());
+        
+        List<Integer> keyboardIds = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            keyboardIds.add(matches.get(i).keyboardId);
+        }
+        
+        return new SearchResult(keyboardIds, matches.size(), facetCounts);
+    }
+    
+    /**
+     * 변경 적용 (재색인 중이면 완료 후 다시 적용하도록 기록)
+     */
+    private void mutate(Consumer<CatalogData> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(data);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private static Comparator<Item> comparatorFor(String sortBy) {
+        Comparator<Item> latest = Comparator.comparingLong((Item item) -> item.createdTime).reversed()
+                .thenComparing(Comparator.comparingInt((Item item) -> item.keyboardId).reversed());
+        
+        if ("price_low".equals(sortBy)) {
+            return Comparator.comparingInt((Item item) -> item.price).thenComparing(latest);
+        } else if ("price_high".equals(sortBy)) {
+            return Comparator.comparingInt((Item item) -> item.price).reversed().thenComparing(latest);
+        } else if ("name".equals(sortBy)) {
+            return Comparator.comparing((Item item) -> item.name).thenComparing(latest);
+        }
+        return latest;
+    }
+    
+    /**
+     * 검색 결과 (현재 페이지 ID 목록, 전체 건수, 패싯별 값 건수)
+     */
+    public static class SearchResult {
+        private final List<Integer> keyboardIds;
+        private final int totalCount;
+        private final Map<String, Map<String, Integer>> facetCounts;
+        
+        public SearchResult(List<Integer> keyboardIds, int totalCount, Map<String, Map<String, Integer>> facetCounts) {
+            this.keyboardIds = keyboardIds;
+            this.totalCount = totalCount;
+            this.facetCounts = facetCounts;
+        }
+        
+        public List<Integer> getKeyboardIds() {
+            return keyboardIds;
+        }
+        
+        public int getTotalCount() {
+            return totalCount;
+        }
+        
+        public Map<String, Map<String, Integer>> getFacetCounts() {
+            return facetCounts;
+        }
+    }
+    
+    /**
+     * 색인 데이터 (키보드 정보, 패싯별 값 BitSet, 가격순 ID 배열)
+     */
+    private static class CatalogData {
+        private final Map<Integer, Item> items = new HashMap<>();
+        private final List<Map<String, BitSet>> facets = new ArrayList<>();
+        private final BitSet all = new BitSet();
+        
+        // 가격순 정렬 (변경 후 처음 조회할 때 다시 정렬)
+        private int[] idsByPrice = new int[0];
+        private int[] sortedPrices = new int[0];
+        private boolean priceDirty = false;
+        
+        CatalogData() {
+            for (int i = 0; i < FACETS.length; i++) {
+                facets.add(new HashMap<>());
+            }
+        }
+        
+        void put(Item item) {
+            remove(item.keyboardId);
+            items.put(item.keyboardId, item);
+            all.set(item.keyboardId);
+            for (int i = 0; i < FACETS.length; i++) {
+                String value = item.facetValue(i);
+                if (value != null) {
+                    facets.get(i).computeIfAbsent(value, v -> new BitSet()).set(item.keyboardId);
+                }
+            }
+            priceDirty = true;
+        }
+        
+        void remove(int keyboardId) {
+            Item old = items.remove(keyboardId);
+            if (old == null) {
+                return;
+            }
+            
+            all.clear(keyboardId);
+            for (int i = 0; i < FACETS.length; i++) {
+                String value = old.facetValue(i);
+                BitSet values = value != null ? facets.get(i).get(value) : null;
+                if (values != null) {
+                    values.clear(keyboardId);
+                    if (values.isEmpty()) {
+                        facets.get(i).remove(value);
+                    }
+                }
+            }
+            priceDirty = true;
+        }
+        
+        /**
+         * 가격 범위에 속하는 키보드 BitSet (새로 생성하여 반환)
+         */
+        BitSet priceRange(int minPrice, int maxPrice) {
+            if (minPrice <= 0 && maxPrice == Integer.MAX_VALUE) {
+                return (BitSet) all.clone();
+            }
+            
+            int[] prices;
+            int[] ids;
+            synchronized (this) {
+                // 읽기 잠금은 여러 스레드가 함께 잡으므로 정렬 배열 교체는 별도로 동기화
+                if (priceDirty) {
+                    sortByPrice();
+                }
+                prices = sortedPrices;
+                ids = idsByPrice;
+            }
+            
+            BitSet result = new BitSet();
+            for (int i = lowerBound(prices, minPrice); i < prices.length && prices[i] <= maxPrice; i++) {
+                result.set(ids[i]);
+            }
+            return result;
+        }
+        
+        private void sortByPrice() {
+            Item[] sorted = items.values().toArray(new Item[0]);
+            Arrays.sort(sorted, Comparator.comparingInt((Item item) -> item.price));
+            
+            int[] newIds = new int[sorted.length];
+            int[] newPrices = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                newIds[i] = sorted[i].keyboardId;
+                newPrices[i] = sorted[i].price;
+            }
+            
+            idsByPrice = newIds;
+            sortedPrices = newPrices;
+            priceDirty = false;
+        }
+        
+        private static int lowerBound(int[] prices, int value) {
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+    
+    /**
+     * 색인된 키보드 정보
+     */
+    private static class Item {
+        private final int keyboardId;
+        private final String name;
+        private final int price;
+        private final String[] facetValues;
+        private final String searchText;
+        private final long createdTime;
+        
+        Item(int keyboardId, String name, String brand, int price, String switchType,
+                String layout, String connectivity, String description, long createdTime) {
+            this.keyboardId = keyboardId;
+            this.name = name != null ? name : "";
+            this.price = price;
+            this.facetValues = new String[] { brand, switchType, layout, connectivity };
+            this.searchText = (this.name + "\n" + (brand != null ? brand : "") + "\n"
+                    + (description != null ? description : "")).toLowerCase(Locale.ROOT);
+            this.createdTime = createdTime;
+        }
+        
+        String facetValue(int facet) {
+            return facetValues[facet];
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.kirini.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 처리 시간 분포를 기록하는 히스토그램 (마이크로초 단위)
+ * 2의 거듭제곱 구간마다 8개의 균등 구간으로 나누는 로그-선형 버킷을 사용하므로
+ * 분위수(p50/p90/p99) 오차는 12.5% 이내이며, 기록은 잠금 없이 배열 원소 하나만 증가시킨다.
+ */
+public class LatencyHistogram {
+    
+    // 2의 거듭제곱 구간 하나를 나누는 버킷 수 (2^3 = 8)
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    
+    // 기록 가능한 최대값 (2^38 - 1 마이크로초, 약 76시간) - 초과하면 마지막 버킷에 기록
+    private static final int MAX_EXPONENT = 37;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+    
+    /**
+     * 처리 시간 기록
+     * @param nanos 처리 시간 (나노초)
+     * @param error 오류 발생 여부
+     */
+    public void record(long nanos, boolean error) {
+        long micros = Math.max(0, nanos / 1000);
+        
+        buckets.incrementAndGet(bucketIndex(Math.min(micros, MAX_VALUE)));
+        sum.add(micros);
+        if (error) {
+            errors.increment();
+        }
+        
+        long currentMax = max.get();
+        while (micros > currentMax && !max.compareAndSet(currentMax, micros)) {
+            currentMax = max.get();
+        }
+    }
+    
+    /**
+     * 현재까지의 기록 조회 (기록과 동시에 호출해도 되며, 각 값은 조회 시점 기준의 근사치)
+     * @return 스냅샷
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        return new Snapshot(counts, count, sum.sum(), errors.sum(), max.get());
+    }
+    
+    /**
+     * 값이 속한 버킷 번호
+     * 0~7은 그대로 사용하고, 그 이상은 (지수, 상위 3비트)로 버킷을 정한다.
+     */
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+    
+    /**
+     * 버킷에 속하는 가장 큰 값
+     */
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+    
+    /**
+     * 히스토그램 스냅샷
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sumMicros;
+        private final long errorCount;
+        private final long maxMicros;
+        
+        Snapshot(long[] counts, long count, long sumMicros, long errorCount, long maxMicros) {
+            this.counts = counts;
+            this.count = count;
+            this.sumMicros = sumMicros;
+            this.errorCount = errorCount;
+            this.maxMicros = maxMicros;
+        }
+        
+        /**
+         * 분위수 조회 (해당 버킷의 상한값, 최대값을 넘지 않음)
+         * @param quantile 분위 (0.0 ~ 1.0, 예: 0.99)
+         * @return 처리 시간 (마이크로초), 기록이 없으면 0
+         */
+        public long getQuantile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+        
+        public long getCount() {
+            return count;
+        }
+        
+        public long getSumMicros() {
+            return sumMicros;
+        }
+        
+        public long getErrorCount() {
+            return errorCount;
+        }
+        
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+    }
+}
\ No newline at end of file
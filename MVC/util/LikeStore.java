@@ -0,0 +1,282 @@
+package com.kirini.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글/키보드별로 좋아요를 누른 사용자 집합을 관리하는 저장소
+ * 엔티티마다 좋아요를 누른 user_id 집합을 CompactBitmap으로 메모리에 보관하고,
+ * 좋아요/취소가 일어날 때마다 해당 행 하나만 likes 테이블에 기록한다. (like_count 갱신과 같은 트랜잭션)
+ * 비트맵은 엔티티 종류별로 처음 사용할 때 likes 테이블을 한 번 읽어 만든다.
+ * "이 사용자가 카드 12개 중 어디에 좋아요를 눌렀나"는 getLikedIds() 한 번으로 SQL 없이 확인한다.
+ *
+ * 필요한 스키마 변경:
+ *   CREATE TABLE likes (
+ *       entity_type VARCHAR(20) NOT NULL,
+ *       entity_id   INT NOT NULL,
+ *       user_id     INT NOT NULL,
+ *       created_date DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+ *       PRIMARY KEY (entity_type, entity_id, user_id)
+ *   );
+ */
+public class LikeStore {
+    
+    // 같은 (엔티티, 사용자)에 대한 좋아요/취소를 직렬화하는 잠금 분할 수 (2의 거듭제곱)
+    private static final int LOCK_STRIPES = 256;
+    
+    private static final LikeStore instance = new LikeStore();
+    
+    private final Map<EntityType, Table> tables = new EnumMap<>(EntityType.class);
+    
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    
+    private LikeStore() {
+        for (EntityType type : EntityType.values()) {
+            tables.put(type, new Table());
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+    
+    public static LikeStore getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 좋아요 (이미 누른 상태면 아무것도 하지 않음)
+     * @param type 엔티티 종류
+     * @param id 엔티티 ID
+     * @param userId 사용자 ID
+     * @return 새로 좋아요가 기록되어 like_count가 1 증가했으면 true
+     */
+    public boolean like(EntityType type, int id, int userId) {
+        return toggle(type, id, userId, true);
+    }
+    
+    /**
+     * 좋아요 취소 (누르지 않은 상태면 아무것도 하지 않음)
+     * @param type 엔티티 종류
+     * @param id 엔티티 ID
+     * @param userId 사용자 ID
+     * @return 좋아요가 삭제되어 like_count가 1 감소했으면 true
+     */
+    public boolean unlike(EntityType type, int id, int userId) {
+        return toggle(type, id, userId, false);
+    }
+    
+    /**
+     * 좋아요 여부 확인
+     * @param type 엔티티 종류
+     * @param id 엔티티 ID
+     * @param userId 사용자 ID
+     * @return 좋아요를 눌렀으면 true
+     */
+    public boolean hasLiked(EntityType type, int id, int userId) {
+        Table table = loadedTable(type);
+        return table != null && table.contains(id, userId);
+    }
+    
+    /**
+     * 목록 중 사용자가 좋아요를 누른 엔티티 ID 조회 (카드 목록 표시용)
+     * @param type 엔티티 종류
+     * @param userId 사용자 ID
+     * @param ids 엔티티 ID 목록
+     * @return 좋아요를 누른 엔티티 ID 집합 (ids 순서 유지, 읽기에 실패하면 빈 집합)
+     */
+    public Set<Integer> getLikedIds(EntityType type, int userId, Collection<Integer> ids) {
+        Set<Integer> likedIds = new LinkedHashSet<>();
+        Table table = loadedTable(type);
+        if (table == null) {
+            return likedIds;
+        }
+        
+        for (Integer id : ids) {
+            if (id != null && table.contains(id, userId)) {
+                likedIds.add(id);
+            }
+        }
+        return likedIds;
+    }
+    
+    /**
+     * 좋아요/취소 처리
+     * likes 행과 like_count를 한 트랜잭션으로 바꾸고, 커밋된 경우에만 메모리 비트맵에 반영한다.
+     * 중복 여부는 likes 테이블의 기본키가 최종 판단하므로, 비트맵을 읽지 못한 상태에서도 두 번 세지 않는다.
+     */
+    private boolean toggle(EntityType type, int id, int userId, boolean like) {
+        Table table = tables.get(type);
+        
+        synchronized (lockFor(type, id, userId)) {
+            loadedTable(type);
+            if (table.loaded && table.contains(id, userId) == like) {
+                // 이미 원하는 상태
+                return false;
+            }
+            
+            int changed = writeLike(type, id, userId, like);
+            if (changed < 0) {
+                return false;
+            }
+            
+            // 읽는 중이었다면 읽기가 끝난 뒤 반영 (읽기가 커밋 전 행을 못 봤을 수 있음)
+            synchronized (table) {
+                if (table.loaded) {
+                    table.set(id, userId, like);
+                }
+            }
+            return changed > 0;
+        }
+    }
+    
+    /**
+     * likes 행 추가/삭제와 like_count 갱신
+     * @return 바뀐 행 수 (이미 같은 상태면 0, 엔티티가 없거나 삭제되었거나 실패하면 -1)
+     */
+    private int writeLike(EntityType type, int id, int userId, boolean like) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            conn.setAutoCommit(false);
+            
+            String sql = like
+                    ? "INSERT IGNORE INTO likes (entity_type, entity_id, user_id) VALUES (?, ?, ?)"
+                    : "DELETE FROM likes WHERE entity_type = ? AND entity_id = ? AND user_id = ?";
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, type.name());
+            pstmt.setInt(2, id);
+            pstmt.setInt(3, userId);
+            int changed = pstmt.executeUpdate();
+            pstmt.close();
+            
+            if (changed > 0) {
+                sql = "UPDATE " + type.getTableName() + " SET like_count = "
+                        + (like ? "like_count + 1" : "GREATEST(like_count - 1, 0)")
+                        + " WHERE " + type.getIdColumn() + " = ?"
+                        + (type.isSoftDeleted() ? " AND is_deleted = FALSE" : "");
+                pstmt = conn.prepareStatement(sql);
+                pstmt.setInt(1, id);
+                if (pstmt.executeUpdate() == 0) {
+                    // 없거나 삭제된 엔티티에는 좋아요를 남기지 않음
+                    // (Connector/J는 기본적으로 일치한 행 수를 반환하므로 like_count가 그대로 0이어도 0이 아님)
+                    conn.rollback();
+                    return -1;
+                }
+            }
+            
+            conn.commit();
+            return changed;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    ex.printStackTrace();
+                }
+            }
+            return -1;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                }
+            }
+            DBConnectionUtil.close(null, pstmt, conn);
+        }
+    }
+    
+    /**
+     * 엔티티 종류별 비트맵 조회 (아직 없으면 likes 테이블에서 읽어 생성)
+     * @return 비트맵 묶음 (읽기에 실패하면 null, 다음 호출 시 재시도)
+     */
+    private Table loadedTable(EntityType type) {
+        Table table = tables.get(type);
+        if (table.loaded) {
+            return table;
+        }
+        
+        synchronized (table) {
+            if (!table.loaded) {
+                Connection conn = null;
+                PreparedStatement pstmt = null;
+                ResultSet rs = null;
+                
+                try {
+                    conn = DBConnectionUtil.getConnection();
+                    String sql = "SELECT entity_id, user_id FROM likes WHERE entity_type = ?";
+                    
+                    pstmt = conn.prepareStatement(sql);
+                    pstmt.setString(1, type.name());
+                    rs = pstmt.executeQuery();
+                    
+                    table.bitmaps.clear();
+                    while (rs.next()) {
+                        table.set(rs.getInt("entity_id"), rs.getInt("user_id"), true);
+                    }
+                    table.loaded = true;
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                    table.bitmaps.clear();
+                    return null;
+                } finally {
+                    DBConnectionUtil.close(rs, pstmt, conn);
+                }
+            }
+            return table;
+        }
+    }
+    
+    private Object lockFor(EntityType type, int id, int userId) {
+        int hash = (type.ordinal() * 31 + id) * 31 + userId;
+        hash ^= (hash >>> 16);
+        return locks[hash & (LOCK_STRIPES - 1)];
+    }
+    
+    /**
+     * 엔티티 종류 하나의 비트맵 묶음 (엔티티 ID -> 좋아요를 누른 사용자 집합)
+     * 비트맵 하나는 그 비트맵 객체로 동기화한다.
+     */
+    private static class Table {
+        private final Map<Integer, CompactBitmap> bitmaps = new ConcurrentHashMap<>();
+        private volatile boolean loaded;
+        
+        private boolean contains(int id, int userId) {
+            CompactBitmap bitmap = bitmaps.get(id);
+            if (bitmap == null) {
+                return false;
+            }
+            synchronized (bitmap) {
+                return bitmap.contains(userId);
+            }
+        }
+        
+        private void set(int id, int userId, boolean like) {
+            if (like) {
+                CompactBitmap bitmap = bitmaps.computeIfAbsent(id, key -> new CompactBitmap());
+                synchronized (bitmap) {
+                    bitmap.add(userId);
+                }
+            } else {
+                CompactBitmap bitmap = bitmaps.get(id);
+                if (bitmap != null) {
+                    synchronized (bitmap) {
+                        bitmap.remove(userId);
+                    }
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,199 @@
+package com.kirini.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목록 화면 페이지 수 계산용 전체 건수 캐시
+ * 검색 조건이 없는 목록의 건수를 파티션(게시판 종류 등)별로 보관한다.
+ * 처음 조회할 때 GROUP BY로 한 번 읽고, 이후에는 DAO의 등록/삭제 시 increment()/decrement()로
+ * 갱신하므로 목록 요청마다 COUNT(*)를 실행하지 않는다.
+ * 다른 경로로 데이터가 바뀌어도 어긋난 채로 남지 않도록 일정 시간이 지나면 다시 읽는다.
+ *
+ * 검색 결과 건수는 조건마다 다르므로 캐싱하지 않고, DAO에서 SEARCH_COUNT_CAP건까지만 세도록 한다.
+ */
+public class ListingCountCache {
+    
+    // 검색 결과 건수 상한 (이보다 많으면 "1000+"로 표시)
+    public static final int SEARCH_COUNT_CAP = 1000;
+    
+    // 전체 다시 읽기 주기 (10분)
+    private static final long REFRESH_INTERVAL = 10 * 60 * 1000;
+    
+    /**
+     * 건수를 보관하는 목록 (테이블, 조건, 파티션 컬럼)
+     */
+    public enum Listing {
+        BOARD("boards", "is_deleted = FALSE", "board_type"),
+        KEYBOARD("keyboards", null);
+        
+        private final String tableName;
+        private final String condition;
+        private final String[] partitionColumns;
+        
+        Listing(String tableName, String condition, String... partitionColumns) {
+            this.tableName = tableName;
+            this.condition = condition;
+            this.partitionColumns = partitionColumns;
+        }
+    }
+    
+    private static final ListingCountCache instance = new ListingCountCache();
+    
+    private final Map<Listing, PartitionCounts> listings = new EnumMap<>(Listing.class);
+    
+    private ListingCountCache() {
+        for (Listing listing : Listing.values()) {
+            listings.put(listing, new PartitionCounts(listing));
+        }
+    }
+    
+    public static ListingCountCache getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 건수 조회
+     * @param listing 조회 대상
+     * @param partition 파티션 컬럼 순서대로의 값 (null이거나 생략한 값은 전체)
+     * @return 건수
+     */
+    public int getCount(Listing listing, String... partition) {
+        return listings.get(listing).count(partition);
+    }
+    
+    /**
+     * 등록 반영 (DAO 쓰기 작업 후 호출)
+     * @param listing 변경 대상
+     * @param partition 등록된 행의 파티션 값
+     */
+    public void increment(Listing listing, String... partition) {
+        listings.get(listing).adjust(partition, 1);
+    }
+    
+    /**
+     * 삭제 반영 (DAO 쓰기 작업 후 호출)
+     * @param listing 변경 대상
+     * @param partition 삭제된 행의 파티션 값
+     */
+    public void decrement(Listing listing, String... partition) {
+        listings.get(listing).adjust(partition, -1);
+    }
+    
+    /**
+     * 검색 건수가 상한에 걸렸는지 확인 (DAO가 상한 + 1건까지 센 경우)
+     * @param count 검색 건수
+     * @return 상한 초과 여부
+     */
+    public static boolean isCapped(int count) {
+        return count > SEARCH_COUNT_CAP;
+    }
+    
+    /**
+     * 목록 하나의 파티션별 건수
+     */
+    private static class PartitionCounts {
+        private final Listing listing;
+        
+        // 파티션 값 목록 -> 건수, null이면 아직 읽지 않은 상태
+        private Map<List<String>, Integer> counts;
+        private long loadedAt;
+        
+        PartitionCounts(Listing listing) {
+            this.listing = listing;
+        }
+        
+        synchronized int count(String[] partition) {
+            if (counts == null || System.currentTimeMillis() - loadedAt > REFRESH_INTERVAL) {
+                load();
+            }
+            if (counts == null) {
+                return 0;
+            }
+            
+            int total = 0;
+            for (Map.Entry<List<String>, Integer> entry : counts.entrySet()) {
+                if (matches(entry.getKey(), partition)) {
+                    total += entry.getValue();
+                }
+            }
+            return total;
+        }
+        
+        synchronized void adjust(String[] partition, int delta) {
+            if (counts == null) {
+                // 아직 읽지 않았다면 다음 조회 시 DB에서 최신 값을 읽음
+                return;
+            }
+            
+            List<String> key = Arrays.asList(Arrays.copyOf(partition, listing.partitionColumns.length));
+            int count = counts.getOrDefault(key, 0) + delta;
+            if (count > 0) {
+                counts.put(key, count);
+            } else {
+                counts.remove(key);
+            }
+        }
+        
+        private boolean matches(List<String> key, String[] partition) {
+            for (int i = 0; i < partition.length && i < key.size(); i++) {
+                if (partition[i] != null && !partition[i].equals(key.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private void load() {
+            Map<List<String>, Integer> loaded = new HashMap<>();
+            Connection conn = null;
+            PreparedStatement pstmt = null;
+            ResultSet rs = null;
+            
+            try {
+                conn = DBConnectionUtil.getConnection();
+                String columns = String.join(", ", listing.partitionColumns);
+                
+                StringBuilder sqlBuilder = new StringBuilder("SELECT ");
+                if (!columns.isEmpty()) {
+                    sqlBuilder.append(columns).append(", ");
+                }
+                sqlBuilder.append("COUNT(*) FROM ").append(listing.tableName);
+                if (listing.condition != null) {
+                    sqlBuilder.append(" WHERE ").append(listing.condition);
+                }
+                if (!columns.isEmpty()) {
+                    sqlBuilder.append(" GROUP BY ").append(columns);
+                }
+                
+                pstmt = conn.prepareStatement(sqlBuilder.toString());
+                rs = pstmt.executeQuery();
+                
+                int columnCount = listing.partitionColumns.length;
+                while (rs.next()) {
+                    String[] key = new String[columnCount];
+                    for (int i = 0; i < columnCount; i++) {
+                        key[i] = rs.getString(i + 1);
+                    }
+                    loaded.put(Arrays.asList(key), rs.getInt(columnCount + 1));
+                }
+            } catch (SQLException e) {
+                e.printStackTrace();
+                // 조회 실패 시 캐싱하지 않음 (다음 조회 시 재시도)
+                return;
+            } finally {
+                DBConnectionUtil.close(rs, pstmt, conn);
+            }
+            
+            counts = loaded;
+            loadedAt = System.currentTimeMillis();
+        }
+    }
+}
\ No newline at end of file
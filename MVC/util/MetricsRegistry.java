@@ -0,0 +1,174 @@
+package com.kirini.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 라우트별 요청 처리 시간과 DAO 메서드별 처리 시간을 모으는 레지스트리
+ * 값은 LatencyHistogram에 잠금 없이 기록하고, /metrics 요청 시 Prometheus 텍스트 형식으로 출력한다.
+ */
+public class MetricsRegistry {
+    
+    private static final MetricsRegistry instance = new MetricsRegistry();
+    
+    // 출력하는 분위수
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99 };
+    
+    // 요청 처리 시간 ("GET /board/{id:int}" 형식의 키)
+    private final Map<String, Series> requestSeries = new ConcurrentHashMap<>();
+    
+    // DAO 메서드 처리 시간 ("BoardDAO.getBoardById" 형식의 키)
+    private final Map<String, Series> daoSeries = new ConcurrentHashMap<>();
+    
+    private MetricsRegistry() {}
+    
+    public static MetricsRegistry getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 요청 처리 시간 기록 (DispatcherServlet에서 호출)
+     * @param method HTTP 메서드
+     * @param route 라우트 URL 패턴 (일치하는 라우트가 없으면 "unmatched")
+     * @param nanos 처리 시간 (나노초)
+     * @param error 오류(5xx 응답 또는 예외) 여부
+     */
+    public void recordRequest(String method, String route, long nanos, boolean error) {
+        String key = method + " " + route;
+        Series series = requestSeries.get(key);
+        if (series == null) {
+            series = requestSeries.computeIfAbsent(key,
+                    k -> new Series("method=\"" + escape(method) + "\",route=\"" + escape(route) + "\""));
+        }
+        series.histogram.record(nanos, error);
+    }
+    
+    /**
+     * DAO 메서드 처리 시간 기록 (커넥션 대여부터 반환까지)
+     * @param operation DAO 메서드 (예: BoardDAO.getBoardById)
+     * @param nanos 처리 시간 (나노초)
+     * @param error SQL 오류 발생 여부
+     */
+    public void recordDaoCall(String operation, long nanos, boolean error) {
+        Series series = daoSeries.get(operation);
+        if (series == null) {
+            series = daoSeries.computeIfAbsent(operation,
+                    k -> new Series("operation=\"" + escape(operation) + "\""));
+        }
+        series.histogram.record(nanos, error);
+    }
+    
+    /**
+     * Prometheus 텍스트 형식으로 출력
+     * @param writer 출력 대상
+     * @throws IOException 출력 중 발생한 예외
+     */
+    public void writePrometheus(Writer writer) throws IOException {
+        writeFamily(writer, "kirini_http_request", "HTTP 요청 처리 시간", requestSeries);
+        writeFamily(writer, "kirini_dao_call", "DAO 메서드 처리 시간 (커넥션 대여부터 반환까지)", daoSeries);
+        writeBoardCache(writer, BoardCache.getInstance().getStats());
+        writer.flush();
+    }
+    
+    /**
+     * Prometheus 텍스트 형식 문자열 반환 (수집 서버 없이 현재 값을 확인할 때 사용)
+     * @return 출력 내용
+     */
+    public String scrape() {
+        StringWriter writer = new StringWriter();
+        try {
+            writePrometheus(writer);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return writer.toString();
+    }
+    
+    /**
+     * 기록 초기화
+     */
+    public void reset() {
+        requestSeries.clear();
+        daoSeries.clear();
+    }
+    
+    private void writeFamily(Writer writer, String prefix, String help, Map<String, Series> seriesMap)
+            throws IOException {
+        // 출력 순서를 고정하기 위해 키 순으로 정렬
+        Map<String, Series> sorted = new TreeMap<>(seriesMap);
+        if (sorted.isEmpty()) {
+            return;
+        }
+        
+        String duration = prefix + "_duration_seconds";
+        writer.write("# HELP " + duration + " " + help + "\n");
+        writer.write("# TYPE " + duration + " summary\n");
+        StringBuilder maxLines = new StringBuilder();
+        StringBuilder errorLines = new StringBuilder();
+        
+        for (Series series : sorted.values()) {
+            LatencyHistogram.Snapshot snapshot = series.histogram.snapshot();
+            
+            for (double quantile : QUANTILES) {
+                writer.write(duration + "{" + series.labels + ",quantile=\"" + quantile + "\"} "
+                        + seconds(snapshot.getQuantile(quantile)) + "\n");
+            }
+            writer.write(duration + "_sum{" + series.labels + "} " + seconds(snapshot.getSumMicros()) + "\n");
+            writer.write(duration + "_count{" + series.labels + "} " + snapshot.getCount() + "\n");
+            
+            maxLines.append(duration).append("_max{").append(series.labels).append("} ")
+                    .append(seconds(snapshot.getMaxMicros())).append('\n');
+            errorLines.append(prefix).append("_errors_total{").append(series.labels).append("} ")
+                    .append(snapshot.getErrorCount()).append('\n');
+        }
+        
+        writer.write("# HELP " + duration + "_max 최대 처리 시간\n");
+        writer.write("# TYPE " + duration + "_max gauge\n");
+        writer.write(maxLines.toString());
+        writer.write("# HELP " + prefix + "_errors_total 오류 건수\n");
+        writer.write("# TYPE " + prefix + "_errors_total counter\n");
+        writer.write(errorLines.toString());
+    }
+    
+    private void writeBoardCache(Writer writer, BoardCache.Stats stats) throws IOException {
+        writeMetric(writer, "kirini_board_cache_hits_total", "counter", "게시글 캐시 적중 건수", stats.getHitCount());
+        writeMetric(writer, "kirini_board_cache_misses_total", "counter", "게시글 캐시 미적중 건수", stats.getMissCount());
+        writeMetric(writer, "kirini_board_cache_evictions_total", "counter", "게시글 캐시 내보낸 건수", stats.getEvictionCount());
+        writeMetric(writer, "kirini_board_cache_rejections_total", "counter", "조회 빈도가 낮아 캐시에 들이지 않은 건수", stats.getRejectionCount());
+        writeMetric(writer, "kirini_board_cache_entries", "gauge", "캐시된 게시글 수", stats.getSize());
+        writeMetric(writer, "kirini_board_cache_weight_bytes", "gauge", "캐시된 게시글 추정 크기", stats.getWeight());
+    }
+    
+    private void writeMetric(Writer writer, String name, String type, String help, long value) throws IOException {
+        writer.write("# HELP " + name + " " + help + "\n");
+        writer.write("# TYPE " + name + " " + type + "\n");
+        writer.write(name + " " + value + "\n");
+    }
+    
+    private static String seconds(long micros) {
+        return Double.toString(micros / 1_000_000.0);
+    }
+    
+    /**
+     * 레이블 값 이스케이프 (역슬래시, 큰따옴표, 줄바꿈)
+     */
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+    
+    /**
+     * 레이블과 히스토그램 (레이블 문자열은 처음 한 번만 생성)
+     */
+    private static class Series {
+        private final String labels;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        
+        Series(String labels) {
+            this.labels = labels;
+        }
+    }
+}
\ No newline at end of file
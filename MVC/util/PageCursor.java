@@ -0,0 +1,86 @@
+package com.kirini.util;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 키셋(커서) 페이징에 사용하는 연속 토큰
+ * 마지막으로 조회한 행의 정렬 키와 ID를 URL에 안전한 문자열로 인코딩한다.
+ * (예: 게시글은 created_date + board_id, 용어사전은 term + dictionary_id)
+ */
+public class PageCursor {
+    private final String key;   // 정렬 키 (날짜는 밀리초 값)
+    private final int id;       // 같은 정렬 키를 구분하기 위한 ID
+    
+    private PageCursor(String key, int id) {
+        this.key = key;
+        this.id = id;
+    }
+    
+    /**
+     * 날짜 정렬 키로 커서 토큰 생성
+     * @param date 마지막 행의 날짜
+     * @param id 마지막 행의 ID
+     * @return 커서 토큰
+     */
+    public static String encode(Date date, int id) {
+        return encode(Long.toString(date.getTime()), id);
+    }
+    
+    /**
+     * 문자열 정렬 키로 커서 토큰 생성
+     * @param key 마지막 행의 정렬 키
+     * @param id 마지막 행의 ID
+     * @return 커서 토큰
+     */
+    public static String encode(String key, int id) {
+        String raw = id + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 커서 토큰 해석
+     * @param token 커서 토큰
+     * @return 해석된 커서 (토큰이 비어 있거나 올바르지 않으면 null 반환 - 첫 페이지)
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator <= 0) {
+                return null;
+            }
+            
+            return new PageCursor(raw.substring(separator + 1), Integer.parseInt(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            // Base64 또는 숫자 형식 오류 (NumberFormatException 포함)
+            return null;
+        }
+    }
+    
+    public String getKey() {
+        return key;
+    }
+    
+    public int getId() {
+        return id;
+    }
+    
+    /**
+     * 날짜 정렬 키를 Timestamp로 변환
+     * @return 정렬 키의 Timestamp (날짜 형식이 아니면 null 반환)
+     */
+    public Timestamp getTimestamp() {
+        try {
+            return new Timestamp(Long.parseLong(key));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
\ No newline at end of file
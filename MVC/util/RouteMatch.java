@@ -0,0 +1,123 @@
+package com.kirini.util;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.servlet.ServletRequest;
+
+/**
+ * RouteTrie 검색 결과
+ * 경로 변수는 요청 경로의 위치만 보관하고, 값을 읽을 때 변환한다.
+ *
+ * @param <T> 핸들러 타입
+ */
+public class RouteMatch<T> {
+    
+    /**
+     * DispatcherServlet이 검색 결과를 저장하는 요청 속성명
+     */
+    public static final String ATTRIBUTE = RouteMatch.class.getName();
+    
+    private final T handler;
+    private final String pattern;
+    private final String path;
+    private final String[] paramNames;
+    private final int[] bounds;
+    private final List<HttpMethod> allowedMethods;
+    
+    RouteMatch(T handler, String pattern, String path, String[] paramNames, int[] bounds, List<HttpMethod> allowedMethods) {
+        this.handler = handler;
+        this.pattern = pattern;
+        this.path = path;
+        this.paramNames = paramNames;
+        this.bounds = bounds;
+        this.allowedMethods = allowedMethods;
+    }
+    
+    /**
+     * 현재 요청의 검색 결과 조회
+     * @param request 요청 객체
+     * @return 검색 결과 (라우터를 거치지 않은 요청이면 null)
+     */
+    public static RouteMatch<?> of(ServletRequest request) {
+        return (RouteMatch<?>) request.getAttribute(ATTRIBUTE);
+    }
+    
+    /**
+     * 일치한 핸들러
+     * @return 핸들러 (경로는 일치하지만 HTTP 메서드가 다르면 null)
+     */
+    public T getHandler() {
+        return handler;
+    }
+    
+    /**
+     * 일치한 라우트의 URL 패턴
+     * @return URL 패턴 (예: /board/{id:int})
+     */
+    public String getPattern() {
+        return pattern;
+    }
+    
+    /**
+     * 경로가 일치한 라우트에서 처리할 수 있는 HTTP 메서드 (405 응답의 Allow 헤더용)
+     * @return HTTP 메서드 목록 (핸들러가 있는 결과는 빈 목록)
+     */
+    public List<HttpMethod> getAllowedMethods() {
+        return allowedMethods != null ? Collections.unmodifiableList(allowedMethods) : Collections.<HttpMethod>emptyList();
+    }
+    
+    /**
+     * 경로 변수 값 조회
+     * @param name 변수명 (나머지 경로는 "*")
+     * @return 변수 값 (없으면 null)
+     */
+    public String getParameter(String name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return null;
+        }
+        return path.substring(bounds[index * 2], bounds[index * 2 + 1]);
+    }
+    
+    /**
+     * 숫자 경로 변수 값 조회 ({id:int} 형식은 검색 시 int 범위인지 이미 확인함)
+     * @param name 변수명
+     * @param defaultValue 변수가 없거나 숫자가 아닐 때 반환할 값
+     * @return 변수 값
+     */
+    public int getIntParameter(String name, int defaultValue) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return defaultValue;
+        }
+        
+        int from = bounds[index * 2];
+        int to = bounds[index * 2 + 1];
+        if (from == to || to - from > 10) {
+            return defaultValue;
+        }
+        
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            char c = path.charAt(i);
+            if (c < '0' || c > '9') {
+                return defaultValue;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value <= Integer.MAX_VALUE ? (int) value : defaultValue;
+    }
+    
+    private int indexOf(String name) {
+        if (handler == null) {
+            return -1;
+        }
+        for (int i = 0; i < paramNames.length; i++) {
+            if (paramNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
\ No newline at end of file
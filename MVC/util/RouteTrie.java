@@ -0,0 +1,343 @@
+package com.kirini.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * URL 경로를 세그먼트 단위 트리로 관리하는 라우터
+ * 요청 경로를 한 번 훑으면서 핸들러, HTTP 메서드, 경로 변수 위치를 함께 찾으며
+ * 경로를 잘라 새 문자열을 만들지 않고 위치(시작/끝 인덱스)만 기록한다.
+ *
+ * 지원하는 세그먼트 형식 (우선순위 순)
+ *   board        정적 세그먼트
+ *   {id:int}     숫자 경로 변수
+ *   {name}       경로 변수 (빈 세그먼트 제외)
+ *   *            나머지 경로 전체 (마지막 세그먼트에만 사용 가능, 변수명 "*")
+ *
+ * 라우트 등록은 애플리케이션 시작 시에만 수행하고, 이후에는 조회만 한다.
+ *
+ * @param <T> 핸들러 타입
+ */
+public class RouteTrie<T> {
+    
+    // HttpMethod별 핸들러 슬롯 뒤에 "모든 메서드" 슬롯을 하나 더 둔다
+    private static final int ANY_METHOD = HttpMethod.values().length;
+    
+    private final Node root = new Node();
+    
+    // 한 라우트가 가지는 경로 변수의 최대 개수 (위치 기록용 배열 크기)
+    private int maxParams;
+    
+    /**
+     * 라우트 등록
+     * @param method HTTP 메서드 (null이면 모든 메서드)
+     * @param pattern URL 패턴 (예: /board/{id:int}/edit)
+     * @param handler 핸들러 객체
+     * @throws IllegalArgumentException 패턴 형식이 잘못되었거나 같은 라우트가 이미 등록된 경우
+     */
+    public synchronized void add(HttpMethod method, String pattern, T handler) {
+        if (pattern == null || !pattern.startsWith("/")) {
+            throw new IllegalArgumentException("URL 패턴은 /로 시작해야 합니다: " + pattern);
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("핸들러가 없습니다: " + pattern);
+        }
+        
+        Node node = root;
+        List<String> paramNames = new ArrayList<>();
+        String[] segments = pattern.substring(1).split("/");
+        
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                // "/board/"처럼 끝이 /인 패턴은 "/board"와 같게 취급
+                if (i == segments.length - 1) {
+                    break;
+                }
+                throw new IllegalArgumentException("빈 세그먼트가 포함된 URL 패턴입니다: " + pattern);
+            }
+            
+            if (segment.equals("*")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("*는 마지막 세그먼트에만 사용할 수 있습니다: " + pattern);
+                }
+                if (node.catchAllChild == null) {
+                    node.catchAllChild = new Node();
+                }
+                node = node.catchAllChild;
+                paramNames.add("*");
+            } else if (segment.startsWith("{") && segment.endsWith("}")) {
+                String name = segment.substring(1, segment.length() - 1);
+                boolean intType = false;
+                int colon = name.indexOf(':');
+                if (colon >= 0) {
+                    String type = name.substring(colon + 1);
+                    if (!type.equals("int")) {
+                        throw new IllegalArgumentException("지원하지 않는 경로 변수 타입입니다: " + pattern);
+                    }
+                    name = name.substring(0, colon);
+                    intType = true;
+                }
+                if (name.isEmpty() || paramNames.contains(name)) {
+                    throw new IllegalArgumentException("경로 변수명이 없거나 중복되었습니다: " + pattern);
+                }
+                
+                if (intType) {
+                    if (node.intChild == null) {
+                        node.intChild = new Node();
+                    }
+                    node = node.intChild;
+                } else {
+                    if (node.varChild == null) {
+                        node.varChild = new Node();
+                    }
+                    node = node.varChild;
+                }
+                paramNames.add(name);
+            } else {
+                node = node.staticChild(segment);
+            }
+        }
+        
+        int slot = method != null ? method.ordinal() : ANY_METHOD;
+        if (node.handlers[slot] != null) {
+            throw new IllegalArgumentException("이미 등록된 라우트입니다: "
+                    + (method != null ? method.name() : "*") + " " + pattern);
+        }
+        
+        // 같은 위치의 라우트는 경로 변수명도 같아야 함 (메서드만 다른 라우트)
+        String[] names = paramNames.toArray(new String[0]);
+        if (node.pattern != null && !Arrays.equals(node.paramNames, names)) {
+            throw new IllegalArgumentException("경로 변수명이 기존 라우트(" + node.pattern + ")와 다릅니다: " + pattern);
+        }
+        
+        node.handlers[slot] = handler;
+        if (node.pattern == null) {
+            node.pattern = pattern;
+            node.paramNames = names;
+        }
+        maxParams = Math.max(maxParams, names.length);
+    }
+    
+    /**
+     * 요청 경로에 맞는 라우트 검색
+     * @param method HTTP 메서드 (null이면 등록된 아무 핸들러)
+     * @param path 요청 경로 (컨텍스트 경로 제외, /로 시작)
+     * @return 검색 결과 (경로가 일치하는 라우트가 없으면 null,
+     *         경로는 일치하지만 메서드가 다르면 핸들러가 없는 결과 반환)
+     */
+    public RouteMatch<T> match(HttpMethod method, String path) {
+        return match(method, path, path.length());
+    }
+    
+    /**
+     * 요청 경로의 앞부분(end 이전)만 사용하여 라우트 검색 (확장자 등을 잘라내지 않고 검색할 때 사용)
+     * @param method HTTP 메서드 (null이면 등록된 아무 핸들러)
+     * @param path 요청 경로 (컨텍스트 경로 제외, /로 시작)
+     * @param end 검색에 사용할 경로의 끝 위치
+     * @return 검색 결과 (경로가 일치하는 라우트가 없으면 null)
+     */
+    public RouteMatch<T> match(HttpMethod method, String path, int end) {
+        if (path == null || end < 1 || end > path.length() || path.charAt(0) != '/') {
+            return null;
+        }
+        
+        Search search = new Search(method, path, end, new int[maxParams * 2]);
+        Node found = search.find(root, 1, 0);
+        
+        if (found != null) {
+            return new RouteMatch<>(handlerOf(found, method), found.pattern, path,
+                    found.paramNames, search.bounds, null);
+        }
+        if (search.methodMismatch != null) {
+            return new RouteMatch<>(null, search.methodMismatch.pattern, path,
+                    search.methodMismatch.paramNames, new int[0], allowedMethods(search.methodMismatch));
+        }
+        return null;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private T handlerOf(Node node, HttpMethod method) {
+        if (method != null) {
+            Object handler = node.handlers[method.ordinal()];
+            return (T) (handler != null ? handler : node.handlers[ANY_METHOD]);
+        }
+        
+        // 메서드를 지정하지 않으면 "모든 메서드" 핸들러를 우선 사용
+        for (int slot = ANY_METHOD; slot >= 0; slot--) {
+            if (node.handlers[slot] != null) {
+                return (T) node.handlers[slot];
+            }
+        }
+        return null;
+    }
+    
+    private static List<HttpMethod> allowedMethods(Node node) {
+        List<HttpMethod> allowed = new ArrayList<>();
+        for (HttpMethod method : HttpMethod.values()) {
+            if (node.handlers[method.ordinal()] != null || node.handlers[ANY_METHOD] != null) {
+                allowed.add(method);
+            }
+        }
+        return allowed;
+    }
+    
+    /**
+     * 트리 노드 (세그먼트 하나)
+     */
+    private static final class Node {
+        private static final String[] NO_KEYS = new String[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        
+        // 정적 세그먼트 자식 (자식 수가 적으므로 배열을 차례로 비교)
+        private String[] staticKeys = NO_KEYS;
+        private Node[] staticChildren = NO_CHILDREN;
+        
+        private Node intChild;
+        private Node varChild;
+        private Node catchAllChild;
+        
+        // HttpMethod 순서(ordinal)별 핸들러 + 모든 메서드 슬롯
+        private final Object[] handlers = new Object[ANY_METHOD + 1];
+        private String pattern;
+        private String[] paramNames;
+        
+        Node staticChild(String key) {
+            for (int i = 0; i < staticKeys.length; i++) {
+                if (staticKeys[i].equals(key)) {
+                    return staticChildren[i];
+                }
+            }
+            
+            Node child = new Node();
+            staticKeys = Arrays.copyOf(staticKeys, staticKeys.length + 1);
+            staticChildren = Arrays.copyOf(staticChildren, staticChildren.length + 1);
+            staticKeys[staticKeys.length - 1] = key;
+            staticChildren[staticChildren.length - 1] = child;
+            return child;
+        }
+        
+        boolean hasHandler() {
+            return pattern != null;
+        }
+        
+        boolean supports(HttpMethod method) {
+            return method == null || handlers[method.ordinal()] != null || handlers[ANY_METHOD] != null;
+        }
+    }
+    
+    /**
+     * 검색 한 번의 상태 (경로 변수 위치, 메서드가 맞지 않아 건너뛴 라우트)
+     */
+    private static final class Search {
+        private final HttpMethod method;
+        private final String path;
+        private final int end;
+        private final int[] bounds;
+        private Node methodMismatch;
+        
+        Search(HttpMethod method, String path, int end, int[] bounds) {
+            this.method = method;
+            this.path = path;
+            this.end = end;
+            this.bounds = bounds;
+        }
+        
+        /**
+         * pos 위치의 세그먼트부터 검색 (정적 > 숫자 변수 > 변수 > 나머지 경로 순으로 시도하고, 실패하면 되돌아감)
+         */
+        Node find(Node node, int pos, int paramIndex) {
+            if (pos >= end) {
+                Node terminal = accept(node);
+                if (terminal != null) {
+                    return terminal;
+                }
+                // "/board/*"는 "/board"와 "/board/"에도 일치
+                if (node.catchAllChild != null) {
+                    bounds[paramIndex * 2] = end;
+                    bounds[paramIndex * 2 + 1] = end;
+                    return accept(node.catchAllChild);
+                }
+                return null;
+            }
+            
+            int segmentEnd = path.indexOf('/', pos);
+            if (segmentEnd < 0 || segmentEnd > end) {
+                segmentEnd = end;
+            }
+            int next = segmentEnd < end ? segmentEnd + 1 : end;
+            int length = segmentEnd - pos;
+            
+            String[] keys = node.staticKeys;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].length() == length && path.regionMatches(pos, keys[i], 0, length)) {
+                    Node found = find(node.staticChildren[i], next, paramIndex);
+                    if (found != null) {
+                        return found;
+                    }
+                    break;
+                }
+            }
+            
+            if (node.intChild != null && isInt(pos, segmentEnd)) {
+                bounds[paramIndex * 2] = pos;
+                bounds[paramIndex * 2 + 1] = segmentEnd;
+                Node found = find(node.intChild, next, paramIndex + 1);
+                if (found != null) {
+                    return found;
+                }
+            }
+            
+            if (node.varChild != null && length > 0) {
+                bounds[paramIndex * 2] = pos;
+                bounds[paramIndex * 2 + 1] = segmentEnd;
+                Node found = find(node.varChild, next, paramIndex + 1);
+                if (found != null) {
+                    return found;
+                }
+            }
+            
+            if (node.catchAllChild != null) {
+                bounds[paramIndex * 2] = pos;
+                bounds[paramIndex * 2 + 1] = end;
+                return accept(node.catchAllChild);
+            }
+            return null;
+        }
+        
+        private Node accept(Node node) {
+            if (!node.hasHandler()) {
+                return null;
+            }
+            if (node.supports(method)) {
+                return node;
+            }
+            // 메서드만 다른 경우 다른 라우트를 계속 찾고, 끝까지 없으면 405 응답에 사용
+            if (methodMismatch == null) {
+                methodMismatch = node;
+            }
+            return null;
+        }
+        
+        /**
+         * int 범위의 0 이상 정수인지 확인
+         */
+        private boolean isInt(int from, int to) {
+            int length = to - from;
+            if (length == 0 || length > 10) {
+                return false;
+            }
+            
+            long value = 0;
+            for (int i = from; i < to; i++) {
+                char c = path.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+                value = value * 10 + (c - '0');
+            }
+            return value <= Integer.MAX_VALUE;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,409 @@
+package com.kirini.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import com.kirini.dto.DictionaryDTO;
+
+/**
+ * 용어사전 자동완성 색인
+ * 용어명(소문자) 접두사 트라이와 한글 초성 트라이를 함께 두고, 각 노드에 조회수 상위 TOP_K개 용어를 미리 계산해 둔다.
+ * 입력 중인 접두사로 노드 하나만 찾으면 바로 결과를 반환하므로 용어 수와 관계없이 빠르다.
+ *   - "ㅅㅌㅂ"처럼 초성만 입력하면 초성 트라이에서 찾는다. ("스테빌라이저" -> "ㅅㅌㅂㄹㅇㅈ")
+ *   - "스테ㅂ"처럼 마지막 글자가 초성이면 "스테" 다음 글자 중 초성이 ㅂ인 노드들의 결과를 합친다.
+ * 처음 사용할 때 용어사전 스냅샷으로 만들고, 이후에는 DictionaryDAO의 등록/수정/삭제 시 put()/remove()로 갱신한다.
+ * 순위에 쓰는 조회수는 색인에 넣을 때의 값이다.
+ */
+public class TermAutocomplete {
+    
+    // 노드마다 보관하는 상위 용어 수 (한 번에 반환할 수 있는 최대 건수)
+    public static final int TOP_K = 10;
+    
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    
+    // 조회수 내림차순, 용어명 순, ID 순
+    private static final Comparator<Suggestion> RANK =
+            Comparator.comparingInt((Suggestion suggestion) -> suggestion.viewCount).reversed()
+                    .thenComparing(suggestion -> suggestion.term, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparingInt(suggestion -> suggestion.id);
+    
+    private static final TermAutocomplete instance = new TermAutocomplete();
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 용어 ID -> 색인된 용어 (수정/삭제 시 기존 키를 찾기 위해 보관)
+    private final Map<Integer, Suggestion> suggestions = new HashMap<>();
+    
+    private Node termRoot = new Node();
+    private Node chosungRoot = new Node();
+    private volatile boolean loaded;
+    
+    private TermAutocomplete() {
+    }
+    
+    public static TermAutocomplete getInstance() {
+        return instance;
+    }
+    
+    public boolean isLoaded() {
+        return loaded;
+    }
+    
+    /**
+     * 전체 색인 생성
+     * 쓰기 잠금을 잡은 뒤 스냅샷을 받으므로, 생성 중에 커밋된 변경은 스냅샷이나 뒤이은 put()/remove()에 반영된다.
+     * @param snapshotSupplier 현재 용어사전 스냅샷을 반환하는 함수
+     */
+    public void load(Supplier<DictionarySnapshot> snapshotSupplier) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            
+            DictionarySnapshot snapshot = snapshotSupplier.get();
+            suggestions.clear();
+            termRoot = new Node();
+            chosungRoot = new Node();
+            
+            for (DictionarySnapshot.Entry entry : snapshot.list(null, 0, snapshot.size())) {
+                insert(new Suggestion(entry.getId(), entry.getDictionary()));
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 용어 추가 또는 변경 (아직 색인을 만들지 않았다면 무시)
+     * @param id 용어 ID
+     * @param dictionary 용어 정보
+     */
+    public void put(int id, DictionaryDTO dictionary) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Suggestion old = suggestions.get(id);
+            if (old != null) {
+                delete(old);
+            }
+            insert(new Suggestion(id, dictionary));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 용어 제거 (아직 색인을 만들지 않았다면 무시)
+     * @param id 용어 ID
+     */
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            Suggestion old = loaded ? suggestions.get(id) : null;
+            if (old != null) {
+                delete(old);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 자동완성 후보 조회
+     * @param query 입력 중인 문자열
+     * @param limit 최대 건수 (TOP_K 이하)
+     * @return 조회수 순 후보 목록
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        String normalized = normalize(query).trim();
+        int size = Math.max(0, Math.min(limit, TOP_K));
+        if (normalized.isEmpty() || size == 0) {
+            return new ArrayList<>();
+        }
+        
+        lock.readLock().lock();
+        try {
+            if (isChosungOnly(normalized)) {
+                return top(find(chosungRoot, normalized), size);
+            }
+            
+            Node node = find(termRoot, normalized);
+            char last = normalized.charAt(normalized.length() - 1);
+            if (node == null && isChosung(last)) {
+                // 마지막 글자만 초성으로 입력 중이면 그 초성으로 시작하는 다음 글자들의 결과를 합침
+                Node parent = find(termRoot, normalized.substring(0, normalized.length() - 1));
+                return parent != null ? mergeChildren(parent, last, size) : new ArrayList<>();
+            }
+            return top(node, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 문자열을 초성 키로 변환 (한글 음절은 초성으로, 나머지는 소문자 그대로)
+     * @param text 문자열
+     * @return 초성 키
+     */
+    public static String toChosung(String text) {
+        String normalized = normalize(text);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                sb.append(CHOSUNG[(c - HANGUL_BEGIN) / (21 * 28)]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+    
+    private void insert(Suggestion suggestion) {
+        suggestions.put(suggestion.id, suggestion);
+        insert(termRoot, suggestion.key, suggestion);
+        insert(chosungRoot, suggestion.chosungKey, suggestion);
+    }
+    
+    private void delete(Suggestion suggestion) {
+        suggestions.remove(suggestion.id);
+        delete(termRoot, suggestion.key, suggestion);
+        delete(chosungRoot, suggestion.chosungKey, suggestion);
+    }
+    
+    private static void insert(Node root, String key, Suggestion suggestion) {
+        Node node = root;
+        node.offer(suggestion);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            node.offer(suggestion);
+        }
+        node.terminals.add(suggestion);
+    }
+    
+    private static void delete(Node root, String key, Suggestion suggestion) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        path[key.length()].terminals.remove(suggestion);
+        
+        // 깊은 노드부터 상위 목록을 다시 계산하고, 비게 된 노드는 부모에서 떼어냄
+        for (int depth = key.length(); depth >= 0; depth--) {
+            Node node = path[depth];
+            if (node.contains(suggestion)) {
+                node.recompute();
+            }
+            if (depth > 0 && node.isEmpty()) {
+                path[depth - 1].removeChild(key.charAt(depth - 1));
+            }
+        }
+    }
+    
+    private static Node find(Node root, String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+    
+    private static List<Suggestion> top(Node node, int limit) {
+        List<Suggestion> result = new ArrayList<>();
+        if (node != null) {
+            for (int i = 0; i < node.topCount && result.size() < limit; i++) {
+                result.add(node.top[i]);
+            }
+        }
+        return result;
+    }
+    
+    private static List<Suggestion> mergeChildren(Node parent, char chosung, int limit) {
+        List<Suggestion> merged = new ArrayList<>();
+        for (int i = 0; i < parent.childCount; i++) {
+            char c = parent.keys[i];
+            if (c == chosung || (c >= HANGUL_BEGIN && c <= HANGUL_END && CHOSUNG[(c - HANGUL_BEGIN) / (21 * 28)] == chosung)) {
+                merged.addAll(top(parent.children[i], limit));
+            }
+        }
+        merged.sort(RANK);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+    
+    private static boolean isChosungOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!isChosung(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isChosung(char c) {
+        return Arrays.binarySearch(CHOSUNG, c) >= 0;
+    }
+    
+    private static String normalize(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : "";
+    }
+    
+    /**
+     * 트라이 노드 (자식은 글자 순 정렬 배열로 보관)
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        
+        // 이 노드까지의 접두사로 시작하는 용어 중 상위 TOP_K개 (RANK 순)
+        private final Suggestion[] top = new Suggestion[TOP_K];
+        private int topCount;
+        
+        // 키가 이 노드에서 끝나는 용어
+        private final List<Suggestion> terminals = new ArrayList<>(1);
+        
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            return index >= 0 ? children[index] : null;
+        }
+        
+        Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            
+            int insertAt = -index - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertAt, keys, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            keys[insertAt] = key;
+            children[insertAt] = new Node();
+            childCount++;
+            return children[insertAt];
+        }
+        
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(keys, index + 1, keys, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+        
+        boolean isEmpty() {
+            return childCount == 0 && terminals.isEmpty();
+        }
+        
+        boolean contains(Suggestion suggestion) {
+            for (int i = 0; i < topCount; i++) {
+                if (top[i] == suggestion) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        /**
+         * 상위 목록에 후보 추가 (순위가 TOP_K 밖이면 무시)
+         */
+        void offer(Suggestion suggestion) {
+            if (topCount == TOP_K && RANK.compare(suggestion, top[TOP_K - 1]) >= 0) {
+                return;
+            }
+            
+            int insertAt = topCount < TOP_K ? topCount : TOP_K - 1;
+            while (insertAt > 0 && RANK.compare(suggestion, top[insertAt - 1]) < 0) {
+                top[insertAt] = top[insertAt - 1];
+                insertAt--;
+            }
+            top[insertAt] = suggestion;
+            if (topCount < TOP_K) {
+                topCount++;
+            }
+        }
+        
+        /**
+         * 이 노드에서 끝나는 용어와 자식들의 상위 목록으로 다시 계산
+         */
+        void recompute() {
+            Arrays.fill(top, null);
+            topCount = 0;
+            for (Suggestion suggestion : terminals) {
+                offer(suggestion);
+            }
+            for (int i = 0; i < childCount; i++) {
+                Node child = children[i];
+                for (int j = 0; j < child.topCount; j++) {
+                    offer(child.top[j]);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 자동완성 후보 (용어 ID, 용어명, 조회수)
+     */
+    public static final class Suggestion {
+        private final int id;
+        private final String term;
+        private final String category;
+        private final int viewCount;
+        private final String key;
+        private final String chosungKey;
+        
+        Suggestion(int id, DictionaryDTO dictionary) {
+            this.id = id;
+            this.term = dictionary.getTerm() != null ? dictionary.getTerm() : "";
+            this.category = dictionary.getCategory();
+            this.viewCount = dictionary.getViewCount();
+            this.key = normalize(term);
+            this.chosungKey = toChosung(term);
+        }
+        
+        public int getId() {
+            return id;
+        }
+        
+        public String getTerm() {
+            return term;
+        }
+        
+        public String getCategory() {
+            return category;
+        }
+        
+        public int getViewCount() {
+            return viewCount;
+        }
+    }
+}
\ No newline at end of file
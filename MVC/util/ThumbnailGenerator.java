@@ -0,0 +1,305 @@
+package com.kirini.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 이미지 첨부 파일의 썸네일(미리보기) 생성기
+ * 업로드 직후 작업 큐에 등록하면 제한된 수의 작업 스레드가 고정 크기(160, 480px)의 JPEG 썸네일을
+ * 원본 옆({저장 경로}_{크기}.jpg)에 만든다. 큐가 가득 차서 등록하지 못한 경우에는
+ * 다운로드 서블릿이 썸네일을 처음 요청받을 때 getOrCreate()로 생성한다.
+ *
+ * 원본은 필요한 해상도까지만 서브샘플링하여 읽으므로 큰 사진도 전체 크기로 디코딩하지 않는다.
+ */
+public class ThumbnailGenerator {
+    
+    // 목록용 썸네일 크기 (긴 변 기준, 픽셀)
+    public static final int SMALL = 160;
+    
+    // 상세 화면용 썸네일 크기 (긴 변 기준, 픽셀)
+    public static final int MEDIUM = 480;
+    
+    private static final int[] SIZES = { MEDIUM, SMALL };
+    
+    // 작업 스레드 수와 대기 작업 수 (초과분은 첫 요청 시 생성)
+    private static final int WORKER_COUNT = 2;
+    private static final int QUEUE_CAPACITY = 100;
+    
+    private static final float JPEG_QUALITY = 0.85f;
+    
+    private static final ThumbnailGenerator instance = new ThumbnailGenerator(Paths.get(FileConfigurationProperties.UPLOAD_BASE_DIR));
+    
+    private final Path baseDir;
+    
+    private final ThreadPoolExecutor workers;
+    
+    // 생성 중인 원본 경로 (같은 파일을 동시에 여러 번 생성하지 않도록)
+    private final Map<String, Boolean> inProgress = new ConcurrentHashMap<>();
+    
+    ThumbnailGenerator(Path baseDir) {
+        this.baseDir = baseDir;
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "kirini-thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    public static ThumbnailGenerator getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 썸네일 생성 작업 등록 (이미지 파일이 아니면 무시)
+     * @param savedFilePath 원본 저장 경로 (UPLOAD_BASE_DIR 기준)
+     * @param originalFileName 원본 파일명 (확장자로 이미지 여부 판단)
+     * @param onCreated 생성 완료 시 목록용 썸네일 경로를 받아 처리 (DB 기록 등, null 가능)
+     * @return 작업 등록 여부 (큐가 가득 찬 경우 false)
+     */
+    public boolean submit(String savedFilePath, String originalFileName, Consumer<String> onCreated) {
+        if (savedFilePath == null || !FileUploadUtil.isImageFile(originalFileName)) {
+            return false;
+        }
+        
+        try {
+            workers.execute(() -> {
+                try {
+                    if (createAll(savedFilePath) && onCreated != null) {
+                        onCreated.accept(getThumbnailPath(savedFilePath, SMALL));
+                    }
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * 썸네일 조회 (없으면 그 자리에서 생성)
+     * @param savedFilePath 원본 저장 경로 (UPLOAD_BASE_DIR 기준)
+     * @param size 썸네일 크기 (SMALL 또는 MEDIUM)
+     * @return 썸네일 파일, 원본을 읽을 수 없거나 다른 요청이 생성 중이면 null
+     */
+    public File getOrCreate(String savedFilePath, int size) {
+        Path thumbnail = baseDir.resolve(getThumbnailPath(savedFilePath, size));
+        if (Files.isRegularFile(thumbnail) || createAll(savedFilePath)) {
+            return thumbnail.toFile();
+        }
+        return null;
+    }
+    
+    /**
+     * 지원하는 썸네일 크기인지 확인
+     * @param size 크기
+     * @return 지원 여부
+     */
+    public static boolean isSupportedSize(int size) {
+        return size == SMALL || size == MEDIUM;
+    }
+    
+    /**
+     * 썸네일 저장 경로 (UPLOAD_BASE_DIR 기준)
+     * @param savedFilePath 원본 저장 경로
+     * @param size 썸네일 크기
+     * @return 썸네일 경로 (예: blobs/ab/cd/abcd..._160.jpg)
+     */
+    public static String getThumbnailPath(String savedFilePath, int size) {
+        return savedFilePath + "_" + size + ".jpg";
+    }
+    
+    /**
+     * 원본에 딸린 썸네일 삭제 (원본 파일을 지울 때 호출)
+     * @param savedFilePath 원본 저장 경로 (UPLOAD_BASE_DIR 기준)
+     */
+    public void deleteThumbnails(String savedFilePath) {
+        for (int size : SIZES) {
+            try {
+                Files.deleteIfExists(baseDir.resolve(getThumbnailPath(savedFilePath, size)));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+    
+    /**
+     * 작업 스레드 종료 (애플리케이션 종료 시 호출, 대기 중인 작업은 버림)
+     */
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+    
+    /**
+     * 모든 크기의 썸네일 생성 (이미 다른 스레드가 생성 중이면 끝날 때까지 기다리지 않고 결과만 확인)
+     * @param savedFilePath 원본 저장 경로
+     * @return 모든 크기의 썸네일이 있으면 true
+     */
+    private boolean createAll(String savedFilePath) {
+        if (inProgress.putIfAbsent(savedFilePath, Boolean.TRUE) != null) {
+            return false;
+        }
+        
+        try {
+            if (exists(savedFilePath)) {
+                return true;
+            }
+            
+            BufferedImage source = read(baseDir.resolve(savedFilePath), SIZES[0]);
+            if (source == null) {
+                return false;
+            }
+            
+            // 큰 크기부터 줄여 가며 이전 결과를 다음 크기의 원본으로 사용
+            for (int size : SIZES) {
+                source = resize(source, size);
+                write(source, baseDir.resolve(getThumbnailPath(savedFilePath, size)));
+            }
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        } finally {
+            inProgress.remove(savedFilePath);
+        }
+    }
+    
+    private boolean exists(String savedFilePath) {
+        for (int size : SIZES) {
+            if (!Files.isRegularFile(baseDir.resolve(getThumbnailPath(savedFilePath, size)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 원본 이미지 읽기 (긴 변이 목표 크기의 2배 이상 남도록 서브샘플링)
+     * @param file 원본 파일
+     * @param targetSize 가장 큰 썸네일 크기
+     * @return 이미지, 지원하지 않는 형식이면 null
+     */
+    private static BufferedImage read(Path file, int targetSize) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longest / (targetSize * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                
+                // GIF 등 여러 장인 경우 첫 장만 사용
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    
+    /**
+     * 긴 변이 size가 되도록 축소 (원본이 더 작으면 크기 유지)
+     * 투명 배경은 흰색으로 채우고, 2배 이상 줄일 때는 절반씩 나누어 줄여 계단 현상을 줄인다.
+     */
+    private static BufferedImage resize(BufferedImage source, int size) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) size / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        
+        return current;
+    }
+    
+    /**
+     * JPEG로 저장 (임시 파일에 쓴 뒤 이동하므로 읽는 쪽에서 쓰다 만 파일을 보지 않음)
+     */
+    private static void write(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), "thumb-", ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
\ No newline at end of file
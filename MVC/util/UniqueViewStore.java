@@ -0,0 +1,444 @@
+package com.kirini.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+import com.kirini.dto.UserDTO;
+
+/**
+ * 게시글/키보드/용어별 순 방문자 수를 HyperLogLog 스케치로 근사하는 저장소
+ * view_count는 새로고침과 봇 요청까지 모두 세므로, 방문자(사용자 ID 또는 세션) 단위로 중복을 뺀 값을 따로 센다.
+ * 스케치는 엔티티당 384바이트로 unique_views 테이블에 저장하고, 최근 조회된 스케치만 메모리에 둔다.
+ * 바뀐 스케치는 FLUSH_INTERVAL_MILLIS마다 모아서 한 번에 저장한다. (write-behind)
+ * 저장되지 않은 스케치로 분할이 가득 차면 주기를 기다리지 않고 바로 저장해 밀어낼 수 있게 한다.
+ * 존재하는 엔티티를 읽은 뒤에만 기록할 것 (없는 ID로 스케치가 만들어지지 않도록)
+ *
+ * 필요한 스키마 변경:
+ *   CREATE TABLE unique_views (
+ *       entity_type VARCHAR(20) NOT NULL,
+ *       entity_id   INT NOT NULL,
+ *       registers   VARBINARY(384) NOT NULL,
+ *       PRIMARY KEY (entity_type, entity_id)
+ *   );
+ */
+public class UniqueViewStore {
+    
+    // 잠금 분할 수 (2의 거듭제곱)
+    private static final int STRIPE_COUNT = 16;
+    
+    // 분할별 메모리에 둘 최대 스케치 수 (전체 약 16,000개, 8MB 남짓)
+    private static final int MAX_SKETCHES_PER_STRIPE = 1024;
+    
+    // 저장 실패가 이어져 이 수에 이르면 새 스케치를 만들지 않음 (메모리 상한)
+    private static final int HARD_MAX_SKETCHES_PER_STRIPE = MAX_SKETCHES_PER_STRIPE * 2;
+    
+    // DB 저장 주기 (밀리초)
+    private static final long FLUSH_INTERVAL_MILLIS = 30000;
+    
+    // 한 번에 실행할 배치 크기
+    private static final int BATCH_SIZE = 500;
+    
+    // 비로그인 방문자 식별값을 보관하는 세션 속성명
+    private static final String VISITOR_KEY_ATTRIBUTE = "uniqueViewVisitorKey";
+    
+    private static final UniqueViewStore instance = new UniqueViewStore();
+    
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    
+    private final ScheduledExecutorService flusher;
+    
+    // 용량 초과로 요청한 즉시 저장이 대기 중인지 여부
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    
+    private UniqueViewStore() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+        
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kirini-uniqueview-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        flusher.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    public static UniqueViewStore getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 요청의 방문자 식별값
+     * 로그인 사용자는 사용자 ID, 비로그인 방문자는 처음 방문한 IP와 User-Agent를 세션에 기록해 계속 사용한다.
+     * 쿠키를 보내지 않는 봇은 요청마다 세션이 새로 생기지만 IP와 User-Agent가 같으므로 한 번만 세어진다.
+     * @param request HTTP 요청
+     * @return 방문자 식별값
+     */
+    public static String visitorKey(HttpServletRequest request) {
+        HttpSession session = request.getSession();
+        UserDTO user = (UserDTO) session.getAttribute("user");
+        if (user != null) {
+            return "u:" + user.getUserId();
+        }
+        
+        String key = (String) session.getAttribute(VISITOR_KEY_ATTRIBUTE);
+        if (key == null) {
+            String userAgent = request.getHeader("User-Agent");
+            key = "a:" + request.getRemoteAddr() + "|" + (userAgent != null ? userAgent : "");
+            session.setAttribute(VISITOR_KEY_ATTRIBUTE, key);
+        }
+        return key;
+    }
+    
+    /**
+     * 조회 기록 (같은 방문자의 재조회는 추정값을 바꾸지 않음)
+     * @param type 엔티티 종류
+     * @param id 엔티티 ID
+     * @param visitorKey 방문자 식별값 (visitorKey(request))
+     * @return 기록 후 순 방문자 수 추정값
+     */
+    public long recordView(EntityType type, int id, String visitorKey) {
+        long key = toKey(type, id);
+        Stripe stripe = stripeFor(key);
+        
+        synchronized (stripe) {
+            Sketch sketch = sketchFor(stripe, key);
+            if (sketch == null) {
+                // 메모리 상한: 이번 조회는 기록하지 않고 저장된 값만 사용
+                return storedEstimate(type, id);
+            }
+            if (sketch.registers.add(visitorKey)) {
+                sketch.dirty = true;
+            }
+            if (sketch.loaded) {
+                return sketch.registers.estimate();
+            }
+        }
+        return load(type, id);
+    }
+    
+    /**
+     * 순 방문자 수 추정값 조회
+     * @param type 엔티티 종류
+     * @param id 엔티티 ID
+     * @return 순 방문자 수 추정값
+     */
+    public long getUniqueViews(EntityType type, int id) {
+        long key = toKey(type, id);
+        Stripe stripe = stripeFor(key);
+        
+        synchronized (stripe) {
+            Sketch sketch = stripe.get(key);
+            if (sketch != null && sketch.loaded) {
+                return sketch.registers.estimate();
+            }
+        }
+        return load(type, id);
+    }
+    
+    /**
+     * 바뀐 스케치를 DB에 저장
+     * 저장 전에 DB의 스케치를 아직 합치지 않은 항목은 먼저 읽어 합치고, 저장에 실패하면 다음 주기에 재시도한다.
+     */
+    public synchronized void flush() {
+        // DB 값을 합치지 못한 채 바뀐 스케치는 덮어쓰지 않도록 먼저 읽음
+        List<Long> unloaded = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (Map.Entry<Long, Sketch> entry : stripe.entrySet()) {
+                    if (entry.getValue().dirty && !entry.getValue().loaded) {
+                        unloaded.add(entry.getKey());
+                    }
+                }
+            }
+        }
+        for (long key : unloaded) {
+            load(EntityType.values()[(int) (key >>> 32)], (int) key);
+        }
+        
+        Map<Long, byte[]> batch = new TreeMap<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (Map.Entry<Long, Sketch> entry : stripe.entrySet()) {
+                    Sketch sketch = entry.getValue();
+                    if (sketch.dirty && sketch.loaded) {
+                        batch.put(entry.getKey(), sketch.registers.toBytes());
+                        sketch.dirty = false;
+                    }
+                }
+            }
+        }
+        
+        if (batch.isEmpty() || writeSketches(batch)) {
+            // 저장된 스케치는 이제 밀어낼 수 있으므로 한도까지 줄임
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.trim();
+                }
+            }
+            return;
+        }
+        
+        // 저장 실패: 그사이 메모리에서 밀려났을 수 있으므로 저장하려던 값을 다시 합쳐 둠
+        for (Map.Entry<Long, byte[]> entry : batch.entrySet()) {
+            Stripe stripe = stripeFor(entry.getKey());
+            synchronized (stripe) {
+                Sketch sketch = stripe.get(entry.getKey());
+                if (sketch == null) {
+                    sketch = new Sketch();
+                    sketch.loaded = true;
+                    stripe.put(entry.getKey(), sketch);
+                }
+                sketch.registers.merge(HyperLogLog.fromBytes(entry.getValue()));
+                sketch.dirty = true;
+            }
+        }
+    }
+    
+    /**
+     * 저장소 종료 (남은 스케치를 모두 저장, 컨텍스트 종료 시 커넥션 풀보다 먼저 호출)
+     */
+    public void shutdown() {
+        flusher.shutdownNow();
+        flush();
+    }
+    
+    /**
+     * DB에 저장된 스케치를 메모리 스케치에 합침
+     * 합치기는 레지스터별 최댓값이므로 그사이 기록된 조회와 순서에 관계없이 같은 결과가 된다.
+     * @return 순 방문자 수 추정값 (읽기에 실패하면 메모리 스케치만의 추정값)
+     */
+    private long load(EntityType type, int id) {
+        HyperLogLog stored = null;
+        try {
+            stored = readSketch(type, id);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        long key = toKey(type, id);
+        Stripe stripe = stripeFor(key);
+        
+        synchronized (stripe) {
+            Sketch sketch = sketchFor(stripe, key);
+            if (sketch == null) {
+                return stored != null ? stored.estimate() : 0;
+            }
+            if (stored != null && !sketch.loaded) {
+                sketch.registers.merge(stored);
+                sketch.loaded = true;
+            }
+            return sketch.registers.estimate();
+        }
+    }
+    
+    /**
+     * 메모리 스케치 조회 (없으면 생성, 호출하는 쪽에서 분할 잠금을 잡을 것)
+     * 저장되지 않은 스케치 때문에 한도를 넘으면 즉시 저장을 요청한다.
+     * @return 스케치 (저장 실패가 이어져 메모리 상한에 이르렀으면 null)
+     */
+    private Sketch sketchFor(Stripe stripe, long key) {
+        Sketch sketch = stripe.get(key);
+        if (sketch != null) {
+            return sketch;
+        }
+        
+        if (stripe.size() >= MAX_SKETCHES_PER_STRIPE) {
+            requestFlush();
+            if (stripe.size() >= HARD_MAX_SKETCHES_PER_STRIPE) {
+                return null;
+            }
+        }
+        
+        sketch = new Sketch();
+        stripe.put(key, sketch);
+        return sketch;
+    }
+    
+    /**
+     * 다음 주기를 기다리지 않고 저장 실행 (이미 요청되어 있으면 무시)
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        
+        try {
+            flusher.execute(() -> {
+                try {
+                    flush();
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                } finally {
+                    flushRequested.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 종료 중이면 실행하지 않음
+            flushRequested.set(false);
+        }
+    }
+    
+    /**
+     * 메모리에 두지 않고 DB에 저장된 스케치의 추정값만 조회
+     */
+    private long storedEstimate(EntityType type, int id) {
+        try {
+            return readSketch(type, id).estimate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+    
+    /**
+     * DB에 저장된 스케치 조회
+     * @return 스케치 (저장된 적이 없으면 빈 스케치)
+     */
+    private HyperLogLog readSketch(EntityType type, int id) throws SQLException {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            String sql = "SELECT registers FROM unique_views WHERE entity_type = ? AND entity_id = ?";
+            
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, type.name());
+            pstmt.setInt(2, id);
+            rs = pstmt.executeQuery();
+            
+            return rs.next() ? HyperLogLog.fromBytes(rs.getBytes("registers")) : new HyperLogLog();
+        } finally {
+            DBConnectionUtil.close(rs, pstmt, conn);
+        }
+    }
+    
+    /**
+     * 스케치를 배치 INSERT ... ON DUPLICATE KEY UPDATE로 한 트랜잭션에서 저장
+     * @param batch 키별 저장 형식 스케치 (키 순 정렬)
+     * @return 저장 성공 여부
+     */
+    private boolean writeSketches(Map<Long, byte[]> batch) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            conn.setAutoCommit(false);
+            
+            String sql = "INSERT INTO unique_views (entity_type, entity_id, registers) VALUES (?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE registers = VALUES(registers)";
+            pstmt = conn.prepareStatement(sql);
+            
+            int count = 0;
+            for (Map.Entry<Long, byte[]> entry : batch.entrySet()) {
+                long key = entry.getKey();
+                pstmt.setString(1, EntityType.values()[(int) (key >>> 32)].name());
+                pstmt.setInt(2, (int) key);
+                pstmt.setBytes(3, entry.getValue());
+                pstmt.addBatch();
+                
+                if (++count % BATCH_SIZE == 0) {
+                    pstmt.executeBatch();
+                }
+            }
+            
+            if (count % BATCH_SIZE != 0) {
+                pstmt.executeBatch();
+            }
+            
+            conn.commit();
+            return true;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    ex.printStackTrace();
+                }
+            }
+            return false;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                }
+            }
+            DBConnectionUtil.close(null, pstmt, conn);
+        }
+    }
+    
+    private static long toKey(EntityType type, int id) {
+        return ((long) type.ordinal() << 32) | (id & 0xFFFFFFFFL);
+    }
+    
+    private Stripe stripeFor(long key) {
+        int hash = Long.hashCode(key);
+        hash ^= (hash >>> 16);
+        return stripes[hash & (STRIPE_COUNT - 1)];
+    }
+    
+    /**
+     * 엔티티 하나의 스케치 (loaded: DB 값을 합쳤는지, dirty: 저장 후 바뀌었는지)
+     */
+    private static class Sketch {
+        private final HyperLogLog registers = new HyperLogLog();
+        private boolean loaded;
+        private boolean dirty;
+    }
+    
+    /**
+     * 잠금 분할 단위 (최근 조회 순 LRU, 저장되지 않은 스케치는 밀어내지 않음)
+     */
+    private static class Stripe extends LinkedHashMap<Long, Sketch> {
+        private static final long serialVersionUID = 1L;
+        
+        private Stripe() {
+            super(16, 0.75f, true);
+        }
+        
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Sketch> eldest) {
+            return size() > MAX_SKETCHES_PER_STRIPE && !eldest.getValue().dirty;
+        }
+        
+        /**
+         * 오래 조회되지 않은 순으로 저장된 스케치를 밀어내 한도 이하로 줄임
+         */
+        private void trim() {
+            Iterator<Sketch> iterator = values().iterator();
+            while (size() > MAX_SKETCHES_PER_STRIPE && iterator.hasNext()) {
+                if (!iterator.next().dirty) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+package com.kirini.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회수 증가분을 메모리에 모았다가 주기적으로 DB에 반영하는 버퍼 (write-behind)
+ * 상세 페이지 조회마다 같은 행에 UPDATE를 실행하면 인기 글에서 행 잠금 경합이 생기므로,
+ * 증가분을 엔티티별로 합산해 두고 FLUSH_INTERVAL_MILLIS마다 한 번의 배치 UPDATE로 반영한다.
+ * 화면에 표시하는 조회수는 getPendingDelta()로 아직 반영되지 않은 증가분을 더해 사용한다.
+ */
+public class ViewCountBuffer {
+    
+    // 잠금 분할 수 (2의 거듭제곱)
+    private static final int STRIPE_COUNT = 16;
+    
+    // DB 반영 주기 (밀리초)
+    private static final long FLUSH_INTERVAL_MILLIS = 5000;
+    
+    // 한 번에 실행할 배치 크기
+    private static final int BATCH_SIZE = 500;
+    
+    private static final ViewCountBuffer instance = new ViewCountBuffer();
+    
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    
+    private final ScheduledExecutorService flusher;
+    
+    private ViewCountBuffer() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+        
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kirini-viewcount-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        flusher.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    public static ViewCountBuffer getInstance() {
+        return instance;
+    }
+    
+    /**
+     * 조회수 1 증가 (DB에는 다음 반영 주기에 적용)
+     * @param type 엔티티 종류
+     * @param id 엔티티 ID
+     */
+    public void increment(EntityType type, int id) {
+        long key = toKey(type, id);
+        Stripe stripe = stripeFor(key);
+        
+        synchronized (stripe) {
+            stripe.pending.merge(key, 1, Integer::sum);
+        }
+    }
+    
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분 조회 (반영 중인 증가분 포함)
+     * @param type 엔티티 종류
+     * @param id 엔티티 ID
+     * @return DB 값에 더해야 할 증가분
+     */
+    public int getPendingDelta(EntityType type, int id) {
+        long key = toKey(type, id);
+        Stripe stripe = stripeFor(key);
+        
+        synchronized (stripe) {
+            return stripe.pending.getOrDefault(key, 0) + stripe.inFlight.getOrDefault(key, 0);
+        }
+    }
+    
+    /**
+     * 모아 둔 증가분을 DB에 반영
+     * 반영에 실패하면 증가분을 다시 버퍼에 합쳐 다음 주기에 재시도한다.
+     */
+    public synchronized void flush() {
+        Map<Long, Integer> batch = new HashMap<>();
+        
+        // 분할별로 모아 둔 증가분을 반영 중 목록으로 옮김 (조회 중에도 값이 사라지지 않도록 유지)
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.pending.isEmpty()) {
+                    continue;
+                }
+                stripe.inFlight = stripe.pending;
+                stripe.pending = new HashMap<>();
+                batch.putAll(stripe.inFlight);
+            }
+        }
+        
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        // 캐시된 게시글은 반영 전 조회수를 갖고 있으므로, 반영하는 동안 내주거나 저장하지 않고
+        // 반영이 끝나면 같은 증가분을 더함 (좋아요/댓글 수 변경과 같은 방식)
+        BoardCache boardCache = BoardCache.getInstance();
+        Map<Integer, Integer> boardDeltas = new HashMap<>();
+        boolean hasDictionaryDeltas = false;
+        for (Map.Entry<Long, Integer> entry : batch.entrySet()) {
+            long key = entry.getKey();
+            if ((int) (key >>> 32) == EntityType.BOARD.ordinal()) {
+                boardDeltas.put((int) key, entry.getValue());
+                boardCache.beginWrite((int) key);
+            } else if ((int) (key >>> 32) == EntityType.DICTIONARY.ordinal()) {
+                hasDictionaryDeltas = true;
+            }
+        }
+        
+        boolean success = false;
+        try {
+            if (hasDictionaryDeltas) {
+                // 용어사전 캐시가 반영과 증가분 기록 사이에 행을 다시 읽지 않도록 캐시 잠금 안에서 반영
+                success = DictionaryCache.getInstance().flushViews(() -> writeAndSettle(batch));
+            } else {
+                success = writeAndSettle(batch);
+            }
+        } finally {
+            // 반영 중 목록을 비운 뒤에 캐시를 열어야 조회수가 두 번 더해지지 않음
+            for (Map.Entry<Integer, Integer> entry : boardDeltas.entrySet()) {
+                int delta = entry.getValue();
+                boardCache.endWrite(entry.getKey(), success ? b -> b.setViewCount(b.getViewCount() + delta) : null);
+            }
+        }
+    }
+    
+    /**
+     * 증가분을 DB에 반영하고 반영 중 목록 정리
+     * 실패하면 증가분을 다시 버퍼에 합치고, 성공하면 용어사전 증가분을 DictionaryCache에 기록한다.
+     * @param batch 키별 증가분
+     * @return 반영 성공 여부
+     */
+    private boolean writeAndSettle(Map<Long, Integer> batch) {
+        boolean success = writeDeltas(batch);
+        
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (!success) {
+                    for (Map.Entry<Long, Integer> entry : stripe.inFlight.entrySet()) {
+                        stripe.pending.merge(entry.getKey(), entry.getValue(), Integer::sum);
+                    }
+                } else {
+                    // 용어사전 스냅샷은 교체 비용이 크므로 반영된 증가분만 따로 기록
+                    for (Map.Entry<Long, Integer> entry : stripe.inFlight.entrySet()) {
+                        long key = entry.getKey();
+                        if ((int) (key >>> 32) == EntityType.DICTIONARY.ordinal()) {
+                            DictionaryCache.getInstance().addFlushedViews((int) key, entry.getValue());
+                        }
+                    }
+                }
+                stripe.inFlight = new HashMap<>();
+            }
+        }
+        
+        return success;
+    }
+    
+    /**
+     * 버퍼 종료 (남은 증가분을 모두 반영, 컨텍스트 종료 시 커넥션 풀보다 먼저 호출)
+     */
+    public void shutdown() {
+        flusher.shutdownNow();
+        flush();
+    }
+    
+    /**
+     * 증가분을 엔티티별 배치 UPDATE로 한 트랜잭션에서 반영
+     * ID 순으로 정렬해 갱신하므로 다른 트랜잭션과 잠금 순서가 엇갈리지 않는다.
+     * @param batch 키별 증가분
+     * @return 반영 성공 여부
+     */
+    private boolean writeDeltas(Map<Long, Integer> batch) {
+        Map<EntityType, TreeMap<Integer, Integer>> deltasByType = new EnumMap<>(EntityType.class);
+        for (Map.Entry<Long, Integer> entry : batch.entrySet()) {
+            long key = entry.getKey();
+            EntityType type = EntityType.values()[(int) (key >>> 32)];
+            deltasByType.computeIfAbsent(type, t -> new TreeMap<>()).put((int) key, entry.getValue());
+        }
+        
+        Connection conn = null;
+        
+        try {
+            conn = DBConnectionUtil.getConnection();
+            conn.setAutoCommit(false);
+            
+            for (Map.Entry<EntityType, TreeMap<Integer, Integer>> typeEntry : deltasByType.entrySet()) {
+                EntityType type = typeEntry.getKey();
+                String sql = "UPDATE " + type.getTableName() + " SET view_count = view_count + ? WHERE "
+                        + type.getIdColumn() + " = ?";
+                
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    int count = 0;
+                    for (Map.Entry<Integer, Integer> entry : typeEntry.getValue().entrySet()) {
+                        pstmt.setInt(1, entry.getValue());
+                        pstmt.setInt(2, entry.getKey());
+                        pstmt.addBatch();
+                        
+                        if (++count % BATCH_SIZE == 0) {
+                            pstmt.executeBatch();
+                        }
+                    }
+                    
+                    if (count % BATCH_SIZE != 0) {
+                        pstmt.executeBatch();
+                    }
+                }
+            }
+            
+            conn.commit();
+            return true;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    ex.printStackTrace();
+                }
+            }
+            return false;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                }
+            }
+            DBConnectionUtil.close(null, null, conn);
+        }
+    }
+    
+    private static long toKey(EntityType type, int id) {
+        return ((long) type.ordinal() << 32) | (id & 0xFFFFFFFFL);
+    }
+    
+    private Stripe stripeFor(long key) {
+        int hash = Long.hashCode(key);
+        hash ^= (hash >>> 16);
+        return stripes[hash & (STRIPE_COUNT - 1)];
+    }
+    
+    /**
+     * 잠금 분할 단위 (pending: 새로 쌓이는 증가분, inFlight: DB에 반영 중인 증가분)
+     */
+    private static class Stripe {
+        private Map<Long, Integer> pending = new HashMap<>();
+        private Map<Long, Integer> inFlight = new HashMap<>();
+    }
+}
\ No newline at end of file
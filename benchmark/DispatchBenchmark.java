@@ -0,0 +1,139 @@
+package com.kirini.benchmark;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.kirini.controller.Controller;
+import com.kirini.controller.HandlerInvoker;
+import com.kirini.util.HttpMethod;
+
+/**
+ * DispatcherServlet 호출 방식 비교 벤치마크 (JMH)
+ * reflective: 기존 방식 (요청마다 getMethod() 검색 + Method.invoke, 메서드 이름 문자열 비교)
+ * invoker: HandlerInvoker 방식 (시작 시 연결해 둔 직접 호출 / MethodHandle)
+ *
+ * 배포(WAR) 소스에 jmh 의존성이 들어가지 않도록 MVC/ 밖의 별도 소스 경로(benchmark/)에 둔다.
+ *
+ * 실행 예 (jmh-core, jmh-generator-annprocess 1.37, javax.servlet-api 4.0.1):
+ *   javac -cp "jmh-core.jar:jmh-generator-annprocess.jar:servlet-api.jar" -d classes \
+ *         MVC/controller/Controller.java MVC/controller/HandlerInvoker.java MVC/util/HttpMethod.java \
+ *         benchmark/DispatchBenchmark.java
+ *   java -cp "classes:jmh-core.jar:jopt-simple.jar:commons-math3.jar:servlet-api.jar" org.openjdk.jmh.Main DispatchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatchBenchmark {
+    
+    // controller: Controller 인터페이스 구현체, servlet: Controller를 구현하지 않은 HttpServlet
+    @Param({ "controller", "servlet" })
+    private String handlerType;
+    
+    private Object handler;
+    private HandlerInvoker invoker;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    
+    @Setup
+    public void setup() {
+        handler = "controller".equals(handlerType) ? new SampleController() : new SampleServlet();
+        invoker = HandlerInvoker.of(handler);
+        
+        // 호출 대상은 요청/응답 객체를 사용하지 않으므로 메서드 이름만 돌려주는 프록시 사용
+        request = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { HttpServletRequest.class },
+                (proxy, method, args) -> "getMethod".equals(method.getName()) ? "GET" : null);
+        response = (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { HttpServletResponse.class },
+                (proxy, method, args) -> null);
+    }
+    
+    @Benchmark
+    public void reflective(Blackhole blackhole) throws Exception {
+        String method = request.getMethod();
+        String methodName;
+        if ("GET".equalsIgnoreCase(method)) {
+            methodName = "doGet";
+        } else if ("POST".equalsIgnoreCase(method)) {
+            methodName = "doPost";
+        } else {
+            return;
+        }
+        
+        Method target = handler.getClass().getMethod(methodName, HttpServletRequest.class, HttpServletResponse.class);
+        target.invoke(handler, request, response);
+        blackhole.consume(handler);
+    }
+    
+    @Benchmark
+    public void invoker(Blackhole blackhole) throws Exception {
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        if (method == null || !invoker.supports(method)) {
+            return;
+        }
+        
+        invoker.invoke(method, request, response);
+        blackhole.consume(handler);
+    }
+    
+    /**
+     * Controller 인터페이스 구현 예제
+     */
+    public static class SampleController implements Controller {
+        private int count;
+        
+        @Override
+        public void doGet(HttpServletRequest request, HttpServletResponse response) {
+            count++;
+        }
+        
+        @Override
+        public void doPost(HttpServletRequest request, HttpServletResponse response) {
+            count--;
+        }
+    }
+    
+    /**
+     * Controller를 구현하지 않은 서블릿 예제 (FileUploadServlet과 같은 형태)
+     * 기존 방식은 getMethod()가 public 메서드만 찾으므로 비교를 위해 public으로 재정의한다.
+     */
+    public static class SampleServlet extends HttpServlet {
+        private static final long serialVersionUID = 1L;
+        private int count;
+        
+        @Override
+        public void doGet(HttpServletRequest request, HttpServletResponse response)
+                throws ServletException, IOException {
+            count++;
+        }
+        
+        @Override
+        public void doPost(HttpServletRequest request, HttpServletResponse response)
+                throws ServletException, IOException {
+            count--;
+        }
+    }
+}
\ No newline at end of file